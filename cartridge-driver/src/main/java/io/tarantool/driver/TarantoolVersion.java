@@ -2,6 +2,8 @@ package io.tarantool.driver;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Represents the Tarantool server version
@@ -10,6 +12,8 @@ import java.util.Objects;
  */
 public class TarantoolVersion implements Serializable {
     private static final long serialVersionUID = 87703595811996764L;
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^Tarantool (\\d+)\\.(\\d+)");
+
     private final String fullVersion;
 
     /**
@@ -33,6 +37,22 @@ public class TarantoolVersion implements Serializable {
         return new TarantoolVersion(versionString.trim());
     }
 
+    /**
+     * Check if the server version is equal to or newer than the specified one
+     * @param major major version number
+     * @param minor minor version number
+     * @return true, if the version is equal or newer. False, if it is older or cannot be determined
+     */
+    public boolean isAtLeast(int major, int minor) {
+        Matcher matcher = VERSION_PATTERN.matcher(fullVersion);
+        if (!matcher.find()) {
+            return false;
+        }
+        int actualMajor = Integer.parseInt(matcher.group(1));
+        int actualMinor = Integer.parseInt(matcher.group(2));
+        return actualMajor > major || actualMajor == major && actualMinor >= minor;
+    }
+
     @Override
     public String toString() {
         return fullVersion;
@@ -1,5 +1,6 @@
 package io.tarantool.driver.api;
 
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.mappers.DefaultMessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
@@ -105,6 +106,56 @@ public interface MessagePackMapperBuilder {
     <V extends Value, O> MessagePackMapperBuilder withObjectConverter(Class<O> objectClass, Class<V> valueClass,
                                                                       ObjectConverter<O, V> converter);
 
+    /**
+     * Configure the mapper with the tuple converters generated for the classes annotated with
+     * {@link io.tarantool.driver.mappers.entity.TupleEntity}. The converters are discovered with
+     * {@link java.util.ServiceLoader} and registered both for the conversion of {@code MP_ARRAY} entities to the
+     * annotated classes and for the conversion of the annotated classes to {@code MP_ARRAY} entities. The
+     * {@code MP_ARRAY} entities are converted to the annotated classes only when the target class is specified.
+     * The converters are generated by the annotation processor from the {@code io.tarantool:cartridge-driver-processor}
+     * artifact
+     *
+     * @return builder
+     * @see io.tarantool.driver.mappers.entity.TupleEntity
+     */
+    MessagePackMapperBuilder withGeneratedTupleConverters();
+
+    /**
+     * Configure the mapper with a tuple converter for the specified entity class, derived at runtime from the class
+     * fields and constructors. The converter is registered in the same way as the generated converters. The tuple
+     * positions of all mapped fields must be specified with {@link io.tarantool.driver.mappers.entity.TupleField}
+     *
+     * @param entityClass entity class
+     * @param <T>         entity type
+     * @return builder
+     * @see io.tarantool.driver.mappers.entity.RuntimeTupleConverterFactory
+     */
+    <T> MessagePackMapperBuilder withRuntimeTupleConverter(Class<T> entityClass);
+
+    /**
+     * Configure the mapper with a tuple converter for the specified entity class, derived at runtime from the class
+     * fields and constructors. The positions of the fields are resolved by their names in the space format
+     *
+     * @param entityClass entity class
+     * @param metadata    space metadata
+     * @param <T>         entity type
+     * @return builder
+     * @see io.tarantool.driver.mappers.entity.RuntimeTupleConverterFactory
+     */
+    <T> MessagePackMapperBuilder withRuntimeTupleConverter(Class<T> entityClass, TarantoolSpaceMetadata metadata);
+
+    /**
+     * Configure the mapper to deduplicate the decoded strings through a bounded cache keyed by the string bytes.
+     * The repeated values of the low-cardinality fields are decoded into the same {@link String} instances, which
+     * reduces the allocations and the memory retained by the decoded results. The cache is shared by all copies of
+     * the mapper
+     *
+     * @param cacheSize number of cached strings, rounded up to the power of 2
+     * @return builder
+     * @see io.tarantool.driver.mappers.converters.value.StringInternCache
+     */
+    MessagePackMapperBuilder withStringInternCache(int cacheSize);
+
     /**
      * Build the mapper instance
      *
@@ -1,12 +1,15 @@
 package io.tarantool.driver.api;
 
 import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.batch.TarantoolBatch;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.transaction.TarantoolTransaction;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
 
 import java.util.Collection;
 
@@ -79,4 +82,39 @@ public interface TarantoolClient<T extends Packable, R extends Collection<T>>
      * @return returns true if the establishing process has been started, else false
      */
     boolean refresh();
+
+    /**
+     * Create a batch of requests, which will be sent over a single connection with a single buffer flush. Useful
+     * for reducing the latency when several independent requests are needed at once.
+     *
+     * @return new batch instance
+     * @throws TarantoolClientException if the client is not connected
+     */
+    TarantoolBatch batch() throws TarantoolClientException;
+
+    /**
+     * Start an interactive transaction with the default isolation level. Supported only by the clients working
+     * with a standalone Tarantool server.
+     *
+     * @return new transaction instance
+     * @throws TarantoolClientException if the client is not connected or the server does not support transactions
+     * @see #transaction(TarantoolTransactionIsolation)
+     */
+    default TarantoolTransaction<T, R> transaction() throws TarantoolClientException {
+        return transaction(TarantoolTransactionIsolation.DEFAULT);
+    }
+
+    /**
+     * Start an interactive transaction. Supported only by the clients working with a standalone Tarantool server.
+     *
+     * @param isolation transaction isolation level
+     * @return new transaction instance
+     * @throws TarantoolClientException if the client is not connected, the client or the server does not support
+     *                                  transactions, or the server cannot start a transaction because
+     *                                  memtx_use_mvcc_engine is disabled
+     */
+    default TarantoolTransaction<T, R> transaction(TarantoolTransactionIsolation isolation)
+            throws TarantoolClientException {
+        throw new TarantoolClientException("Interactive transactions are not supported by this client");
+    }
 }
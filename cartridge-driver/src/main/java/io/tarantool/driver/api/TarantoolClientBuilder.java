@@ -3,6 +3,8 @@ package io.tarantool.driver.api;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicyFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.mappers.DefaultMessagePackMapper;
@@ -219,6 +221,17 @@ public interface TarantoolClientBuilder extends TarantoolClientConfigurator<Tara
      */
     TarantoolClientBuilder withEventLoopThreadsNumber(int eventLoopThreadsNumber);
 
+    /**
+     * Specify the policy determining the number of tuples requested by a cursor in each batch. By default, each
+     * batch contains 100 tuples. Use {@link AdaptiveCursorBatchSizePolicy#builder()} for adjusting the batch size to
+     * the tuple size and request latency.
+     *
+     * @param factory factory creating a policy instance for each cursor
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     * @see TarantoolClientConfig#setCursorBatchSizePolicyFactory(CursorBatchSizePolicyFactory)
+     */
+    TarantoolClientBuilder withCursorBatchSizePolicy(CursorBatchSizePolicyFactory factory);
+
     /**
      * Build the configured Tarantool client instance. Call this when you have specified all necessary settings.
      *
@@ -3,6 +3,8 @@ package io.tarantool.driver.api;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicyFactory;
+import io.tarantool.driver.api.cursor.FixedCursorBatchSizePolicy;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
@@ -25,6 +27,7 @@ public class TarantoolClientConfig {
     private static final int DEFAULT_REQUEST_TIMEOUT = 2000; // milliseconds
     private static final int DEFAULT_CONNECTIONS = 1;
     private static final int DEFAULT_CURSOR_BATCH_SIZE = 100;
+    private static final int DEFAULT_CURSOR_PREFETCH_BATCHES = 2;
     private static final int DEFAULT_EVENT_LOOP_THREADS_NUMBER = 0;
 
     private TarantoolCredentials credentials;
@@ -37,6 +40,8 @@ public class TarantoolClientConfig {
             DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
     private ConnectionSelectionStrategyFactory connectionSelectionStrategyFactory =
             TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory.INSTANCE;
+    private CursorBatchSizePolicyFactory cursorBatchSizePolicyFactory =
+            mapper -> new FixedCursorBatchSizePolicy(DEFAULT_CURSOR_BATCH_SIZE);
     private final AtomicBoolean isSecure = new AtomicBoolean(false);
     private SslContext sslContext;
 
@@ -62,6 +67,7 @@ public class TarantoolClientConfig {
         this.isSecure.set(config.isSecure.get());
         this.sslContext = config.getSslContext();
         this.eventLoopThreadsNumber = config.getEventLoopThreadsNumber();
+        this.cursorBatchSizePolicyFactory = config.getCursorBatchSizePolicyFactory();
     }
 
     /**
@@ -240,6 +246,35 @@ public class TarantoolClientConfig {
         return DEFAULT_CURSOR_BATCH_SIZE;
     }
 
+    /**
+     * Get factory of the policies determining the number of tuples requested by a cursor in each batch.
+     * The default policy requests {@link #getCursorBatchSize()} tuples.
+     *
+     * @return cursor batch size policy factory
+     */
+    public CursorBatchSizePolicyFactory getCursorBatchSizePolicyFactory() {
+        return cursorBatchSizePolicyFactory;
+    }
+
+    /**
+     * Set factory of the policies determining the number of tuples requested by a cursor in each batch,
+     * for example, {@link io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy}
+     *
+     * @param cursorBatchSizePolicyFactory cursor batch size policy factory
+     */
+    public void setCursorBatchSizePolicyFactory(CursorBatchSizePolicyFactory cursorBatchSizePolicyFactory) {
+        this.cursorBatchSizePolicyFactory = cursorBatchSizePolicyFactory;
+    }
+
+    /**
+     * How many batches will be requested from server in advance by an asynchronous cursor.
+     *
+     * @return default number of prefetched batches for an asynchronous cursor.
+     */
+    public int getCursorPrefetchBatches() {
+        return DEFAULT_CURSOR_PREFETCH_BATCHES;
+    }
+
     /**
      * Create a builder instance.
      *
@@ -418,6 +453,20 @@ public class TarantoolClientConfig {
             return this;
         }
 
+        /**
+         * Specify the policy determining the number of tuples requested by a cursor in each batch.
+         * By default, each batch contains 100 tuples.
+         *
+         * @param factory factory creating a policy instance for each cursor, for example,
+         *                {@link io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy#builder()}
+         * @return builder
+         */
+        public Builder withCursorBatchSizePolicy(CursorBatchSizePolicyFactory factory) {
+            Assert.notNull(factory, "Cursor batch size policy factory must not be null");
+            config.setCursorBatchSizePolicyFactory(factory);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClientConfig} instance
          *
@@ -0,0 +1,111 @@
+package io.tarantool.driver.api.batch;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects several independent requests and sends them to the same Tarantool server connection at once, with
+ * a single buffer flush. Each added item returns its own future, which is completed after the batch is executed.
+ * The whole batch is completed through the future returned by {@link #execute()}.
+ * <p>
+ * A batch instance is not thread-safe and can be executed only once.
+ * <pre>
+ * <code>
+ * TarantoolBatch batch = client.batch();
+ * CompletableFuture&lt;List&lt;?&gt;&gt; first = batch.call("get_user", Collections.singletonList(1));
+ * CompletableFuture&lt;Long&gt; second = batch.callForSingleResult("count_orders", Collections.emptyList(),
+ *     Long.class);
+ * TarantoolBatchResult result = batch.execute().get();
+ * </code>
+ * </pre>
+ */
+public interface TarantoolBatch {
+    /**
+     * Add a call of a function defined on Tarantool instance. The mapper specified in the client configuration will
+     * be used for arguments and result values conversion.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @return item result future
+     * @throws TarantoolClientException if the batch has been already executed or the request cannot be created
+     */
+    CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Add a call of a function defined on Tarantool instance. The call result is interpreted as a single value
+     * converted to the specified class with the mapper specified in the client configuration.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @param resultClass  target result class
+     * @param <S>          target result type
+     * @return item result future
+     * @throws TarantoolClientException if the batch has been already executed or the request cannot be created
+     */
+    <S> CompletableFuture<S> callForSingleResult(String functionName, List<?> arguments, Class<S> resultClass)
+            throws TarantoolClientException;
+
+    /**
+     * Add a call of a function defined on Tarantool instance. The call result is interpreted as a single value.
+     *
+     * @param functionName    function name, must not be null or empty
+     * @param arguments       list of function arguments
+     * @param argumentsMapper mapper for arguments object-to-MessagePack entity conversion
+     * @param resultMapper    mapper for result value MessagePack entity-to-object conversion
+     * @param <S>             target result type
+     * @return item result future
+     * @throws TarantoolClientException if the batch has been already executed or the request cannot be created
+     */
+    <S> CompletableFuture<S> callForSingleResult(String functionName,
+                                                 List<?> arguments,
+                                                 MessagePackObjectMapper argumentsMapper,
+                                                 CallResultMapper<S, SingleValueCallResult<S>> resultMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Add an evaluation of a Lua expression on Tarantool instance. The mapper specified in the client configuration
+     * will be used for arguments and result values conversion.
+     *
+     * @param expression Lua expression, must not be null or empty
+     * @param arguments  list of expression arguments
+     * @return item result future
+     * @throws TarantoolClientException if the batch has been already executed or the request cannot be created
+     */
+    CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Add a prepared request. Allows to include the space operations and any other protocol requests into the batch.
+     *
+     * @param request      the request
+     * @param resultMapper the mapper for response body
+     * @param <S>          target result type
+     * @return item result future
+     * @throws TarantoolClientException if the batch has been already executed
+     */
+    <S> CompletableFuture<S> request(TarantoolRequest request, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Get the number of items added to the batch
+     *
+     * @return number of items
+     */
+    int size();
+
+    /**
+     * Send all batch items to the same server connection with a single flush. The returned future is completed
+     * when all items are completed, either successfully or exceptionally. It is completed exceptionally only if
+     * the connection cannot be acquired.
+     *
+     * @return future with the results of all items
+     * @throws TarantoolClientException if the batch has been already executed
+     */
+    CompletableFuture<TarantoolBatchResult> execute() throws TarantoolClientException;
+}
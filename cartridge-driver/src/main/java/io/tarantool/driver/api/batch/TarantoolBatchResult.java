@@ -0,0 +1,47 @@
+package io.tarantool.driver.api.batch;
+
+/**
+ * Result of a {@link TarantoolBatch} execution. Contains the results and the errors of all batch items in the order
+ * in which they were added to the batch. A failure of one item does not affect the other items.
+ */
+public interface TarantoolBatchResult {
+    /**
+     * Get the number of items in the batch
+     *
+     * @return number of items
+     */
+    int size();
+
+    /**
+     * Check if the item has been completed successfully
+     *
+     * @param index item index, starting from 0
+     * @return true, if the item has no error
+     */
+    boolean isSuccessful(int index);
+
+    /**
+     * Check if at least one of the batch items has failed
+     *
+     * @return true, if some items have errors
+     */
+    boolean hasErrors();
+
+    /**
+     * Get the result of the item. The result type is determined by the result mapper specified when the item was
+     * added to the batch.
+     *
+     * @param index item index, starting from 0
+     * @param <S>   item result type
+     * @return item result or null, if the item has failed
+     */
+    <S> S get(int index);
+
+    /**
+     * Get the error of the item
+     *
+     * @param index item index, starting from 0
+     * @return the error or null, if the item has been completed successfully
+     */
+    Throwable getError(int index);
+}
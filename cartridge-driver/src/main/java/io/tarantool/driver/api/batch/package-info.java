@@ -0,0 +1,4 @@
+/**
+ * Pipelined execution of several requests over a single connection.
+ */
+package io.tarantool.driver.api.batch;
@@ -0,0 +1,48 @@
+package io.tarantool.driver.api.columnar;
+
+import java.util.BitSet;
+
+/**
+ * Column containing boolean values stored as a bitmap
+ */
+public class BooleanColumn extends TarantoolColumn {
+
+    private final BitSet values;
+
+    /**
+     * Basic constructor
+     *
+     * @param name   field name, may be null
+     * @param size   number of rows
+     * @param values rows containing {@code true} values
+     * @param nulls  rows containing null values
+     */
+    public BooleanColumn(String name, int size, BitSet values, BitSet nulls) {
+        super(name, size, nulls);
+        this.values = values;
+    }
+
+    /**
+     * Get the value in the specified row
+     *
+     * @param row row number, starting from 0
+     * @return value, false if the value is null
+     */
+    public boolean getBoolean(int row) {
+        return values.get(row);
+    }
+
+    /**
+     * Get all column values as a bitmap. The returned bitmap must not be modified.
+     *
+     * @return bitmap with the rows containing {@code true} values
+     */
+    public BitSet getValues() {
+        return values;
+    }
+
+    @Override
+    public Boolean getObject(int row) {
+        return isNull(row) ? null : values.get(row);
+    }
+}
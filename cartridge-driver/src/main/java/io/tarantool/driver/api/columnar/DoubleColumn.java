@@ -0,0 +1,48 @@
+package io.tarantool.driver.api.columnar;
+
+import java.util.BitSet;
+
+/**
+ * Column containing numeric values stored as an array of primitive {@code double} values
+ */
+public class DoubleColumn extends TarantoolColumn {
+
+    private final double[] values;
+
+    /**
+     * Basic constructor
+     *
+     * @param name   field name, may be null
+     * @param values column values, contain 0 in the rows with null values
+     * @param nulls  rows containing null values
+     */
+    public DoubleColumn(String name, double[] values, BitSet nulls) {
+        super(name, values.length, nulls);
+        this.values = values;
+    }
+
+    /**
+     * Get the value in the specified row
+     *
+     * @param row row number, starting from 0
+     * @return value, 0 if the value is null
+     */
+    public double getDouble(int row) {
+        return values[row];
+    }
+
+    /**
+     * Get all column values for iterating over them without any intermediate objects. The returned array must
+     * not be modified.
+     *
+     * @return column values, containing 0 in the rows with null values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public Double getObject(int row) {
+        return isNull(row) ? null : values[row];
+    }
+}
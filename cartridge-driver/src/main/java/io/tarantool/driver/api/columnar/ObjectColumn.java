@@ -0,0 +1,57 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.value.Value;
+
+import java.util.BitSet;
+
+/**
+ * Column containing the values which have no primitive representation, for example, decimals, arrays and maps,
+ * or the values of different types. The values are converted to Java objects on access.
+ */
+public class ObjectColumn extends TarantoolColumn {
+
+    private final Value[] values;
+    private final MessagePackValueMapper mapper;
+
+    /**
+     * Basic constructor
+     *
+     * @param name   field name, may be null
+     * @param values column values
+     * @param nulls  rows containing null values
+     * @param mapper mapper for converting the values to Java objects
+     */
+    public ObjectColumn(String name, Value[] values, BitSet nulls, MessagePackValueMapper mapper) {
+        super(name, values.length, nulls);
+        this.values = values;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Get the value in the specified row without conversion
+     *
+     * @param row row number, starting from 0
+     * @return MessagePack value
+     */
+    public Value getValue(int row) {
+        return values[row];
+    }
+
+    /**
+     * Get the value in the specified row converted to the target type
+     *
+     * @param row         row number, starting from 0
+     * @param targetClass target type class
+     * @param <O>         target type
+     * @return value, may be null
+     */
+    public <O> O getObject(int row, Class<O> targetClass) {
+        return isNull(row) ? null : mapper.fromValue(values[row], targetClass);
+    }
+
+    @Override
+    public Object getObject(int row) {
+        return isNull(row) ? null : mapper.fromValue(values[row]);
+    }
+}
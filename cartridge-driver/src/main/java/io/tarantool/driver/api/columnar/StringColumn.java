@@ -0,0 +1,76 @@
+package io.tarantool.driver.api.columnar;
+
+import java.util.BitSet;
+
+/**
+ * Column containing dictionary-encoded string values. Each distinct string is decoded and stored once, and the rows
+ * contain the string codes, which are the positions of the strings in the dictionary.
+ */
+public class StringColumn extends TarantoolColumn {
+
+    /**
+     * The code of the rows containing null values
+     */
+    public static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private final String[] dictionary;
+
+    /**
+     * Basic constructor
+     *
+     * @param name       field name, may be null
+     * @param codes      string codes, {@link #NULL_CODE} in the rows with null values
+     * @param dictionary distinct column values
+     * @param nulls      rows containing null values
+     */
+    public StringColumn(String name, int[] codes, String[] dictionary, BitSet nulls) {
+        super(name, codes.length, nulls);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Get the value in the specified row
+     *
+     * @param row row number, starting from 0
+     * @return value, may be null
+     */
+    public String getString(int row) {
+        int code = codes[row];
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    /**
+     * Get the code of the value in the specified row
+     *
+     * @param row row number, starting from 0
+     * @return position of the value in the dictionary or {@link #NULL_CODE} if the value is null
+     */
+    public int getCode(int row) {
+        return codes[row];
+    }
+
+    /**
+     * Get the codes for all rows. The returned array must not be modified.
+     *
+     * @return positions of the values in the dictionary, {@link #NULL_CODE} in the rows with null values
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Get the distinct column values. The returned array must not be modified.
+     *
+     * @return distinct values in the order of their first appearance
+     */
+    public String[] getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public String getObject(int row) {
+        return getString(row);
+    }
+}
@@ -0,0 +1,72 @@
+package io.tarantool.driver.api.columnar;
+
+import java.util.BitSet;
+
+/**
+ * Basic class for the columns of {@link TarantoolColumnarResult}. A column contains the values of one tuple field
+ * for all rows of the result.
+ */
+public abstract class TarantoolColumn {
+
+    private final String name;
+    private final int size;
+    private final BitSet nulls;
+
+    /**
+     * Basic constructor
+     *
+     * @param name  field name, may be null if the field is not present in the format
+     * @param size  number of rows
+     * @param nulls rows containing null values
+     */
+    protected TarantoolColumn(String name, int size, BitSet nulls) {
+        this.name = name;
+        this.size = size;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Get the name of the tuple field represented by this column
+     *
+     * @return field name or null, if the field is not present in the format
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of rows in the column
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the column contains null value in the specified row
+     *
+     * @param row row number, starting from 0
+     * @return true, if the value is null
+     */
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Get the number of rows containing null values
+     *
+     * @return number of null values
+     */
+    public int getNullCount() {
+        return nulls.cardinality();
+    }
+
+    /**
+     * Get the value in the specified row as an object
+     *
+     * @param row row number, starting from 0
+     * @return value, may be null
+     */
+    public abstract Object getObject(int row);
+}
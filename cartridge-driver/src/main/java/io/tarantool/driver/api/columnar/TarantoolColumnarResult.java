@@ -0,0 +1,62 @@
+package io.tarantool.driver.api.columnar;
+
+import java.util.List;
+
+/**
+ * Result of a tuple operation decoded into columns. Each column contains the values of one tuple field stored in
+ * primitive arrays where possible, which takes considerably less memory than the list of tuples and allows
+ * scanning the values of a field sequentially.
+ */
+public interface TarantoolColumnarResult {
+    /**
+     * Get the number of rows (tuples) in the result
+     *
+     * @return number of rows
+     */
+    int size();
+
+    /**
+     * Get the number of columns, which is the maximum of the number of fields in the space format and the tuple
+     * length
+     *
+     * @return number of columns
+     */
+    int getColumnCount();
+
+    /**
+     * Get all columns
+     *
+     * @return columns in the order of the tuple fields
+     */
+    List<TarantoolColumn> getColumns();
+
+    /**
+     * Get a column by the field position
+     *
+     * @param fieldPosition field position, starting from 0
+     * @return column
+     * @throws IndexOutOfBoundsException if the position is out of the column count
+     */
+    TarantoolColumn getColumn(int fieldPosition);
+
+    /**
+     * Get a column by the field name
+     *
+     * @param fieldName field name, must not be null
+     * @return column
+     * @throws io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException if the field is not found
+     */
+    TarantoolColumn getColumn(String fieldName);
+
+    /**
+     * Get a column of the specified type by the field name
+     *
+     * @param fieldName   field name, must not be null
+     * @param columnClass expected column type, for example, {@link LongColumn}
+     * @param <C>         column type
+     * @return column
+     * @throws io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException if the field is not found
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the column has another type
+     */
+    <C extends TarantoolColumn> C getColumn(String fieldName, Class<C> columnClass);
+}
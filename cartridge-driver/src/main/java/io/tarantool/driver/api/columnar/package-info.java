@@ -0,0 +1,4 @@
+/**
+ * Contains the columnar representation of the tuple results
+ */
+package io.tarantool.driver.api.columnar;
@@ -3,6 +3,7 @@ package io.tarantool.driver.api.conditions;
 import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -56,6 +57,7 @@ public final class Conditions implements Serializable {
     private long limit = MAX_LIMIT; // 0 is unlimited
     private long offset; // 0 is no offset
     private Packable startTuple;
+    private Packable endTuple;
 
     private Conditions(boolean descending) {
         this.descending = descending;
@@ -66,6 +68,7 @@ public final class Conditions implements Serializable {
         this.limit = conditions.limit;
         this.offset = conditions.offset;
         this.startTuple = conditions.startTuple;
+        this.endTuple = conditions.endTuple;
         this.conditions.addAll(conditions.conditions);
     }
 
@@ -265,6 +268,45 @@ public final class Conditions implements Serializable {
         return startTuple;
     }
 
+    /**
+     * Stop collecting tuples into result at the specified tuple. The tuples which follow the specified tuple in the
+     * order of the selected index will not be added to the result. Supported only for the standalone spaces, see
+     * {@link #toEndKeyValues(TarantoolMetadataOperations, TarantoolSpaceMetadata)}.
+     *
+     * @param tuple last tuple value of the result
+     * @return this {@link Conditions} instance
+     */
+    public Conditions endAt(TarantoolTuple tuple) {
+        this.endTuple = tuple;
+        return this;
+    }
+
+    /**
+     * Stop collecting tuples into result at the specified tuple. The tuples which follow the specified tuple in the
+     * order of the selected index will not be added to the result. Supported only for the standalone spaces, see
+     * {@link #toEndKeyValues(TarantoolMetadataOperations, TarantoolSpaceMetadata)}.
+     *
+     * @param tuple          last tuple value of the result
+     * @param tupleConverter converter of the specified tuple type into a MessagePack array
+     * @param <T>            tuple type
+     * @return this {@link Conditions} instance
+     */
+    public <T> Conditions endAt(T tuple, ObjectConverter<T, ArrayValue> tupleConverter) {
+        Assert.notNull(tupleConverter, "Tuple to ArrayValue converter should not be null");
+
+        this.endTuple = new StartTupleWrapper<>(tuple, tupleConverter);
+        return this;
+    }
+
+    /**
+     * Get the specified tuple to stop at
+     *
+     * @return tuple or null if not specified
+     */
+    public Packable getEndTuple() {
+        return endTuple;
+    }
+
     /**
      * Create new Conditions instance with filter by the specified index
      *
@@ -735,6 +777,9 @@ public final class Conditions implements Serializable {
         if (offset > 0) {
             throw new TarantoolClientException("Offset is not supported");
         }
+        if (endTuple != null) {
+            throw new TarantoolClientException("'endAt' is not supported for the proxy operations");
+        }
 
         final Map<String, List<IndexValueCondition>> indexConditions = new HashMap<>();
         final Map<Integer, List<FieldValueCondition>> fieldConditions = new HashMap<>();
@@ -807,12 +852,136 @@ public final class Conditions implements Serializable {
         return conditionsList.stream().map(c -> c.toList(operations, spaceMetadata)).collect(Collectors.toList());
     }
 
+    /**
+     * Convert the conditions into an index query for the standalone server.
+     * <p>
+     * If the start tuple is specified, the query continues the iteration from the key of the start tuple in the
+     * selected index (keyset pagination), see {@link #isStartAfterSupported(TarantoolMetadataOperations,
+     * TarantoolSpaceMetadata)}.
+     *
+     * @param operations    metadata operations
+     * @param spaceMetadata space metadata
+     * @return index query
+     * @throws TarantoolClientException if the conditions cannot be converted into an index query
+     */
     public TarantoolIndexQuery toIndexQuery(TarantoolMetadataOperations operations,
                                             TarantoolSpaceMetadata spaceMetadata) {
+        TarantoolIndexQuery query = toBaseIndexQuery(operations, spaceMetadata);
         if (startTuple != null) {
-            throw new TarantoolClientException("'startAfter' is not supported");
+            return startAfterIndexQuery(query, operations, spaceMetadata);
+        }
+        return query;
+    }
+
+    /**
+     * Check if the iteration can be continued after a tuple in the index query for the standalone server. It is
+     * possible for the unique TREE indexes if the iteration goes over a range of keys, but not over the tuples
+     * equal to a key.
+     *
+     * @param operations    metadata operations
+     * @param spaceMetadata space metadata
+     * @return true if {@link #startAfter(TarantoolTuple)} may be used with
+     * {@link #toIndexQuery(TarantoolMetadataOperations, TarantoolSpaceMetadata)}
+     */
+    public boolean isStartAfterSupported(TarantoolMetadataOperations operations,
+                                         TarantoolSpaceMetadata spaceMetadata) {
+        TarantoolIndexQuery query;
+        try {
+            query = toBaseIndexQuery(operations, spaceMetadata);
+        } catch (TarantoolClientException e) {
+            return false;
+        }
+        Optional<TarantoolIndexMetadata> indexMetadata =
+                operations.getIndexById(spaceMetadata.getSpaceName(), query.getIndexId());
+        return indexMetadata.isPresent() && startAfterIteratorType(query, indexMetadata.get()).isPresent();
+    }
+
+    /**
+     * Get the key of the end tuple in the index selected for the query on the standalone server. The end tuple
+     * is supported in the same cases as the start tuple, see {@link #isStartAfterSupported(
+     * TarantoolMetadataOperations, TarantoolSpaceMetadata)}.
+     *
+     * @param operations    metadata operations
+     * @param spaceMetadata space metadata
+     * @return index key values
+     * @throws TarantoolClientException if the end tuple is not specified or not supported for the query
+     */
+    public List<?> toEndKeyValues(TarantoolMetadataOperations operations,
+                                  TarantoolSpaceMetadata spaceMetadata) {
+        if (endTuple == null) {
+            throw new TarantoolClientException("End tuple is not specified");
+        }
+        TarantoolIndexQuery query = toBaseIndexQuery(operations, spaceMetadata);
+        TarantoolIndexMetadata indexMetadata = operations.getIndexById(spaceMetadata.getSpaceName(), query.getIndexId())
+                .orElseThrow(() -> new TarantoolClientException(
+                        "Index with id %d is not found in space %s", query.getIndexId(), spaceMetadata.getSpaceName()));
+        if (!startAfterIteratorType(query, indexMetadata).isPresent()) {
+            throw new TarantoolClientException("'endAt' is not supported for iterator %s over index %s",
+                    query.getIteratorType().getStringCode(), indexMetadata.getIndexName());
+        }
+        return tupleKeyValues(endTuple, indexMetadata);
+    }
+
+    private static List<Object> tupleKeyValues(Packable tuple, TarantoolIndexMetadata indexMetadata) {
+        StartTupleKey tupleKey = new StartTupleKey(tuple, indexMetadata.getIndexName());
+        List<Object> keyValues = new ArrayList<>(indexMetadata.getIndexParts().size());
+        for (TarantoolIndexPartMetadata part : indexMetadata.getIndexParts()) {
+            keyValues.add(new StartTupleKeyPart(tupleKey, part.getFieldIndex()));
+        }
+        return keyValues;
+    }
+
+    private TarantoolIndexQuery startAfterIndexQuery(TarantoolIndexQuery query,
+                                                     TarantoolMetadataOperations operations,
+                                                     TarantoolSpaceMetadata spaceMetadata) {
+        TarantoolIndexMetadata indexMetadata = operations.getIndexById(spaceMetadata.getSpaceName(), query.getIndexId())
+                .orElseThrow(() -> new TarantoolClientException(
+                        "Index with id %d is not found in space %s", query.getIndexId(), spaceMetadata.getSpaceName()));
+        TarantoolIteratorType iteratorType = startAfterIteratorType(query, indexMetadata)
+                .orElseThrow(() -> new TarantoolClientException(
+                        "'startAfter' is not supported for iterator %s over index %s",
+                        query.getIteratorType().getStringCode(), indexMetadata.getIndexName()));
+
+        return new TarantoolIndexQuery(indexMetadata.getIndexId())
+                .withIteratorType(iteratorType)
+                .withKeyValues(tupleKeyValues(startTuple, indexMetadata));
+    }
+
+    /**
+     * The iteration may be continued from a key only in the ordered indexes, where the key identifies a single
+     * tuple. The iterator must go over a range which has no bound on the continuation side, so that it is enough
+     * to switch to the strict comparison with the start key.
+     */
+    private static Optional<TarantoolIteratorType> startAfterIteratorType(TarantoolIndexQuery query,
+                                                                         TarantoolIndexMetadata indexMetadata) {
+        if (indexMetadata.getIndexType() != TarantoolIndexType.TREE || !indexMetadata.isUnique()) {
+            return Optional.empty();
+        }
+        for (TarantoolIndexPartMetadata part : indexMetadata.getIndexParts()) {
+            String path = part.getPath();
+            if (path != null && (path.indexOf('.') >= 0 || path.indexOf('[') >= 0)) {
+                return Optional.empty();
+            }
         }
+        switch (query.getIteratorType()) {
+            case ITER_EQ:
+                return query.getKeyValues().isEmpty() ? Optional.of(TarantoolIteratorType.ITER_GT) : Optional.empty();
+            case ITER_REQ:
+                return query.getKeyValues().isEmpty() ? Optional.of(TarantoolIteratorType.ITER_LT) : Optional.empty();
+            case ITER_ALL:
+            case ITER_GE:
+            case ITER_GT:
+                return Optional.of(TarantoolIteratorType.ITER_GT);
+            case ITER_LE:
+            case ITER_LT:
+                return Optional.of(TarantoolIteratorType.ITER_LT);
+            default:
+                return Optional.empty();
+        }
+    }
 
+    private TarantoolIndexQuery toBaseIndexQuery(TarantoolMetadataOperations operations,
+                                                 TarantoolSpaceMetadata spaceMetadata) {
         final Map<String, List<IndexValueCondition>> indexConditions = new HashMap<>();
         final Map<String, TarantoolIndexMetadata> selectedIndexes = new HashMap<>();
         final Map<String, List<FieldValueCondition>> fieldConditions = new HashMap<>();
@@ -996,6 +1165,56 @@ public final class Conditions implements Serializable {
         }
     }
 
+    /**
+     * Start or end tuple packed once for extracting all index key parts from it
+     */
+    private static final class StartTupleKey implements Serializable {
+
+        private static final long serialVersionUID = 20221020L;
+
+        private final Packable tuple;
+        private final String indexName;
+        private transient ArrayValue packedTuple;
+
+        StartTupleKey(Packable tuple, String indexName) {
+            this.tuple = tuple;
+            this.indexName = indexName;
+        }
+
+        Value getField(int fieldPosition, MessagePackObjectMapper mapper) {
+            if (packedTuple == null) {
+                Value value = tuple.toMessagePackValue(mapper);
+                if (!value.isArrayValue()) {
+                    throw new TarantoolClientException("Start or end tuple must be packed into a MessagePack array");
+                }
+                packedTuple = value.asArrayValue();
+            }
+            if (fieldPosition >= packedTuple.size()) {
+                throw new TarantoolClientException(
+                        "Start or end tuple does not contain field %d of index %s", fieldPosition, indexName);
+            }
+            return packedTuple.get(fieldPosition);
+        }
+    }
+
+    private static final class StartTupleKeyPart implements Packable {
+
+        private static final long serialVersionUID = 20221020L;
+
+        private final StartTupleKey key;
+        private final int fieldPosition;
+
+        StartTupleKeyPart(StartTupleKey key, int fieldPosition) {
+            this.key = key;
+            this.fieldPosition = fieldPosition;
+        }
+
+        @Override
+        public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+            return key.getField(fieldPosition, mapper);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1009,11 +1228,12 @@ public final class Conditions implements Serializable {
                 getLimit() == that.getLimit() &&
                 getOffset() == that.getOffset()
                 && conditions.equals(that.conditions) &&
-                Objects.equals(getStartTuple(), that.getStartTuple());
+                Objects.equals(getStartTuple(), that.getStartTuple()) &&
+                Objects.equals(getEndTuple(), that.getEndTuple());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(conditions, isDescending(), getLimit(), getOffset(), getStartTuple());
+        return Objects.hash(conditions, isDescending(), getLimit(), getOffset(), getStartTuple(), getEndTuple());
     }
 }
@@ -43,6 +43,27 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper);
 
+    /**
+     * Write a prepared request to the Tarantool server without flushing the buffer. The request will be actually
+     * sent only after {@link #flush()} is called, which allows to send several requests with a single system call.
+     * The default implementation sends the request immediately.
+     *
+     * @param request      the request
+     * @param resultMapper the mapper for response body
+     * @param <T>          result type
+     * @return result future
+     */
+    default <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper);
+    }
+
+    /**
+     * Flush all requests written with {@link #writeRequest(TarantoolRequest, MessagePackValueMapper)} to the
+     * Tarantool server. The default implementation does nothing.
+     */
+    default void flush() {
+    }
+
     /**
      * Get the Netty channel baking this connection
      *
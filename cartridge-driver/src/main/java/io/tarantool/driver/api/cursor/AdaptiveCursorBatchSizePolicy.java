@@ -0,0 +1,221 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch size policy adjusting the number of requested tuples to the size of tuples and the request latency.
+ * <p>
+ * After each batch the average tuple size is estimated by serializing the first and the last tuple of the batch, and
+ * the batch size is set so that the response size is close to the target response size. If a request takes longer
+ * than the latency budget, the batch size is decreased proportionally. The batch size is decreased immediately, but
+ * increased at most twice per batch, and is always kept within the minimum and maximum bounds.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * TarantoolClientConfig config = TarantoolClientConfig.builder()
+ *     .withCursorBatchSizePolicy(AdaptiveCursorBatchSizePolicy.builder()
+ *         .withMaxBatchSize(5000)
+ *         .withTargetResponseSize(512 * 1024)
+ *         .build())
+ *     .build();
+ * </code>
+ * </pre>
+ */
+public final class AdaptiveCursorBatchSizePolicy implements CursorBatchSizePolicy {
+
+    public static final int DEFAULT_MIN_BATCH_SIZE = 10;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+    public static final int DEFAULT_INITIAL_BATCH_SIZE = 100;
+    public static final long DEFAULT_TARGET_RESPONSE_SIZE = 1024 * 1024; // bytes
+    public static final long DEFAULT_LATENCY_BUDGET = 100; // milliseconds
+
+    private static final double MAX_GROWTH_FACTOR = 2.0;
+    private static final double TUPLE_SIZE_SMOOTHING = 0.5;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetResponseSize;
+    private final long latencyBudgetNanos;
+    private final MessagePackObjectMapper mapper;
+
+    private int batchSize;
+    private double averageTupleSize;
+
+    private AdaptiveCursorBatchSizePolicy(Builder builder, MessagePackObjectMapper mapper) {
+        this.minBatchSize = builder.minBatchSize;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.targetResponseSize = builder.targetResponseSize;
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(builder.latencyBudget);
+        this.mapper = mapper;
+        this.batchSize = Math.min(Math.max(builder.initialBatchSize, minBatchSize), maxBatchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void onBatchFetched(Collection<? extends Packable> batch, long requestedSize, long latencyNanos) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long sampleSize = estimateTupleSize(batch);
+        if (sampleSize > 0) {
+            averageTupleSize = averageTupleSize == 0 ? sampleSize :
+                    averageTupleSize * (1 - TUPLE_SIZE_SMOOTHING) + sampleSize * TUPLE_SIZE_SMOOTHING;
+        }
+
+        double target = averageTupleSize > 0 ? targetResponseSize / averageTupleSize : maxBatchSize;
+        if (latencyBudgetNanos > 0 && latencyNanos > latencyBudgetNanos) {
+            target = Math.min(target, batch.size() * (double) latencyBudgetNanos / latencyNanos);
+        }
+        if (batch.size() < requestedSize) {
+            // the last batch of the query or of the limit, it does not show whether a bigger batch fits
+            target = Math.min(target, batchSize);
+        }
+        target = Math.min(target, batchSize * MAX_GROWTH_FACTOR);
+        batchSize = (int) Math.min(Math.max(target, minBatchSize), maxBatchSize);
+    }
+
+    private long estimateTupleSize(Collection<? extends Packable> batch) {
+        Iterator<? extends Packable> iterator = batch.iterator();
+        Packable first = iterator.next();
+        Packable last = first;
+        int count = 1;
+        if (batch.size() > 1) {
+            while (iterator.hasNext()) {
+                last = iterator.next();
+            }
+            count = 2;
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(first.toMessagePackValue(mapper));
+            if (count > 1) {
+                packer.packValue(last.toMessagePackValue(mapper));
+            }
+            return packer.getTotalWrittenBytes() / count;
+        } catch (IOException | MessagePackException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Create a builder for the factory of the policy instances
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the factory producing {@link AdaptiveCursorBatchSizePolicy} instances with the specified settings
+     */
+    public static final class Builder {
+
+        private int minBatchSize = DEFAULT_MIN_BATCH_SIZE;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private int initialBatchSize = DEFAULT_INITIAL_BATCH_SIZE;
+        private long targetResponseSize = DEFAULT_TARGET_RESPONSE_SIZE;
+        private long latencyBudget = DEFAULT_LATENCY_BUDGET;
+
+        /**
+         * Basic constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specify the minimum number of tuples in a batch. Default is 10
+         *
+         * @param minBatchSize a positive number
+         * @return builder
+         */
+        public Builder withMinBatchSize(int minBatchSize) {
+            Assert.state(minBatchSize > 0, "Minimum batch size must be greater than 0");
+            this.minBatchSize = minBatchSize;
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of tuples in a batch. Default is 10000
+         *
+         * @param maxBatchSize a positive number
+         * @return builder
+         */
+        public Builder withMaxBatchSize(int maxBatchSize) {
+            Assert.state(maxBatchSize > 0, "Maximum batch size must be greater than 0");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specify the number of tuples in the first batch. Default is 100
+         *
+         * @param initialBatchSize a positive number
+         * @return builder
+         */
+        public Builder withInitialBatchSize(int initialBatchSize) {
+            Assert.state(initialBatchSize > 0, "Initial batch size must be greater than 0");
+            this.initialBatchSize = initialBatchSize;
+            return this;
+        }
+
+        /**
+         * Specify the desired size of a batch response. Default is 1 MiB
+         *
+         * @param targetResponseSize size in bytes, must be greater than 0
+         * @return builder
+         */
+        public Builder withTargetResponseSize(long targetResponseSize) {
+            Assert.state(targetResponseSize > 0, "Target response size must be greater than 0");
+            this.targetResponseSize = targetResponseSize;
+            return this;
+        }
+
+        /**
+         * Specify the maximum desired time of a batch request. Default is 100 milliseconds
+         *
+         * @param latencyBudget time in milliseconds, 0 means that the latency is not taken into account
+         * @return builder
+         */
+        public Builder withLatencyBudget(long latencyBudget) {
+            Assert.state(latencyBudget >= 0, "Latency budget must not be negative");
+            this.latencyBudget = latencyBudget;
+            return this;
+        }
+
+        /**
+         * Build the factory of the policy instances
+         *
+         * @return factory creating a policy instance for each cursor
+         */
+        public CursorBatchSizePolicyFactory build() {
+            Assert.state(minBatchSize <= maxBatchSize, "Minimum batch size must not exceed maximum batch size");
+            Builder settings = copy();
+            return mapper -> new AdaptiveCursorBatchSizePolicy(settings, mapper);
+        }
+
+        private Builder copy() {
+            Builder copy = new Builder();
+            copy.minBatchSize = minBatchSize;
+            copy.maxBatchSize = maxBatchSize;
+            copy.initialBatchSize = initialBatchSize;
+            copy.targetResponseSize = targetResponseSize;
+            copy.latencyBudget = latencyBudget;
+            return copy;
+        }
+    }
+}
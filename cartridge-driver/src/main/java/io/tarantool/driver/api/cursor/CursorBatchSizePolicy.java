@@ -0,0 +1,28 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+
+/**
+ * Determines the number of tuples requested by a cursor in each batch. An instance is created for each cursor, so
+ * the implementations may keep the state of the cursor requests, but they are not required to be thread-safe.
+ */
+public interface CursorBatchSizePolicy {
+
+    /**
+     * Get the number of tuples to be requested in the next batch
+     *
+     * @return a positive number
+     */
+    int getBatchSize();
+
+    /**
+     * Called by the cursor after each batch has been fetched
+     *
+     * @param batch         fetched tuples
+     * @param requestedSize number of tuples requested in the batch
+     * @param latencyNanos  time spent on the batch request, in nanoseconds
+     */
+    void onBatchFetched(Collection<? extends Packable> batch, long requestedSize, long latencyNanos);
+}
@@ -0,0 +1,18 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+/**
+ * Creates the batch size policy instances for cursors, see {@link CursorBatchSizePolicy}
+ */
+@FunctionalInterface
+public interface CursorBatchSizePolicyFactory {
+
+    /**
+     * Create a batch size policy for a new cursor
+     *
+     * @param mapper mapper used for converting the tuples to MessagePack entities
+     * @return new policy instance
+     */
+    CursorBatchSizePolicy create(MessagePackObjectMapper mapper);
+}
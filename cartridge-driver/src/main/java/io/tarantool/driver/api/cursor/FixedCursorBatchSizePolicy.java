@@ -0,0 +1,33 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collection;
+
+/**
+ * Batch size policy requesting the same number of tuples in each batch
+ */
+public final class FixedCursorBatchSizePolicy implements CursorBatchSizePolicy {
+
+    private final int batchSize;
+
+    /**
+     * Basic constructor
+     *
+     * @param batchSize number of tuples in a batch, must be greater than 0
+     */
+    public FixedCursorBatchSizePolicy(int batchSize) {
+        Assert.state(batchSize > 0, "Batch size must be greater than 0");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void onBatchFetched(Collection<? extends Packable> batch, long requestedSize, long latencyNanos) {
+    }
+}
@@ -0,0 +1,63 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous cursor implementation that uses server 'limit' and 'offset' methods under the hood. Since the offset
+ * of each batch is known in advance, the prefetched batches are requested concurrently.
+ * <p>
+ * Note: it is possible to use this class with standalone server only.
+ * <p>
+ * See {@link TarantoolAsyncCursor} for more details on asynchronous cursors.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class OffsetAsyncCursor<T extends Packable, R extends Collection<T>> extends TarantoolAsyncCursorBase<T> {
+
+    private final TarantoolSpaceOperations<T, R> space;
+    private final Conditions initConditions;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private long spaceOffset;
+    private volatile boolean exhausted;
+
+    public OffsetAsyncCursor(TarantoolSpaceOperations<T, R> space,
+                             Conditions conditions,
+                             int batchSize,
+                             int prefetchBatches) {
+        super(prefetchBatches);
+        this.space = space;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.spaceOffset = 0;
+    }
+
+    @Override
+    protected CompletableFuture<Collection<T>> fetchNextBatch(CompletableFuture<Collection<T>> previousBatch) {
+        long limit = TarantoolCursorBase.calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        if (limit <= 0 || exhausted) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Conditions conditions = new Conditions(initConditions)
+                .withLimit(limit)
+                .withOffset(spaceOffset);
+        spaceOffset += limit;
+
+        return space.select(conditions).thenApply(result -> {
+            if (result.size() < limit) {
+                // the following batches will be empty, so they should not be requested
+                exhausted = true;
+            }
+            return result;
+        });
+    }
+}
@@ -15,6 +15,8 @@ import java.util.concurrent.ExecutionException;
  * methods under the hood.
  * <p>
  * Note: it is possible to use this class with standalone server only.
+ * The server skips all previously fetched tuples for each batch, so it is
+ * used only for the queries not supported by {@link StartAfterCursor}.
  * <p>
  * See {@link TarantoolCursor} for more details on cursors.
  *
@@ -25,8 +27,7 @@ public class OffsetCursor<T extends Packable, R extends Collection<T>> extends T
     private final TarantoolSpaceOperations<T, R> space;
     private final Conditions initConditions;
 
-    // size of a batch for single invocation of client
-    private final long batchSize;
+    private final CursorBatchSizePolicy batchSizePolicy;
     private long spaceOffset;
 
     private Iterator<T> resultIter = Collections.emptyIterator();
@@ -35,10 +36,23 @@ public class OffsetCursor<T extends Packable, R extends Collection<T>> extends T
     public OffsetCursor(TarantoolSpaceOperations<T, R> space,
                         Conditions conditions,
                         int batchSize)  {
+        this(space, conditions, new FixedCursorBatchSizePolicy(batchSize));
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param space           space for performing the select requests
+     * @param conditions      query with options
+     * @param batchSizePolicy determines the number of tuples requested in each batch
+     */
+    public OffsetCursor(TarantoolSpaceOperations<T, R> space,
+                        Conditions conditions,
+                        CursorBatchSizePolicy batchSizePolicy) {
         this.space = space;
         this.initConditions = conditions;
         this.spaceOffset = 0;
-        this.batchSize = batchSize;
+        this.batchSizePolicy = batchSizePolicy;
     }
 
     /**
@@ -48,7 +62,7 @@ public class OffsetCursor<T extends Packable, R extends Collection<T>> extends T
      */
     @Override
     protected void fetchNextTuples() throws TarantoolClientException {
-        long limit = calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        long limit = calcLimit(initConditions.getLimit(), batchSizePolicy.getBatchSize(), spaceOffset);
 
         if (limit <= 0) {
             return;
@@ -59,10 +73,10 @@ public class OffsetCursor<T extends Packable, R extends Collection<T>> extends T
                 .withOffset(spaceOffset);
 
         try {
-            resultIter = space
-                    .select(conditions)
-                    .get()
-                    .iterator();
+            long startTime = System.nanoTime();
+            R tuples = space.select(conditions).get();
+            batchSizePolicy.onBatchFetched(tuples, limit, System.nanoTime() - startTime);
+            resultIter = tuples.iterator();
         } catch (InterruptedException | ExecutionException e) {
             throw new TarantoolClientException(e);
         }
@@ -84,4 +98,10 @@ public class OffsetCursor<T extends Packable, R extends Collection<T>> extends T
         return currentValue;
     }
 
+    @Override
+    protected void releaseTuples() {
+        resultIter = Collections.emptyIterator();
+        currentValue = null;
+    }
+
 }
@@ -0,0 +1,32 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+
+/**
+ * Publisher implementation that uses server 'limit' and 'offset' methods under the hood.
+ * <p>
+ * Note: it is possible to use this class with standalone server only. The server skips all previously fetched
+ * tuples for each batch, so it is used only for the queries not supported by {@link StartAfterPublisher}.
+ * <p>
+ * See {@link TarantoolPublisher} for more details on publishers.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class OffsetPublisher<T extends Packable, R extends Collection<T>> extends TarantoolPublisherBase<T, R> {
+
+    public OffsetPublisher(TarantoolSpaceOperations<T, R> space, Conditions conditions, int maxBatchSize) {
+        super(space, conditions, maxBatchSize);
+    }
+
+    @Override
+    protected Conditions makeBatchConditions(Conditions initConditions, long limit, long fetched, T lastTuple) {
+        return new Conditions(initConditions)
+                .withLimit(limit)
+                .withOffset(initConditions.getOffset() + fetched);
+    }
+}
@@ -0,0 +1,99 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous cursor implementation that uses 'cluster' select method under the hood. Designed to work with
+ * cluster client, also used with standalone server for the queries supporting the keyset pagination, see
+ * {@link StartAfterCursor}.
+ * <p>
+ * Each batch starts after the last tuple of the previous one, so the next batch is requested as soon as the
+ * previous one is received, without waiting for the caller to process it.
+ * <p>
+ * See {@link TarantoolAsyncCursor} for more details on asynchronous cursors.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class StartAfterAsyncCursor<T extends Packable, R extends Collection<T>>
+        extends TarantoolAsyncCursorBase<T> {
+
+    private final TarantoolSpaceOperations<T, R> space;
+    private final Conditions initConditions;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private final MessagePackMapper mapper;
+
+    // updated sequentially in the batch completion callbacks
+    private long spaceOffset;
+    private long lastLimit;
+
+    public StartAfterAsyncCursor(TarantoolSpaceOperations<T, R> space,
+                                 Conditions conditions,
+                                 int batchSize,
+                                 int prefetchBatches,
+                                 MessagePackMapper mapper) {
+        super(prefetchBatches);
+        this.space = space;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.spaceOffset = 0;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected CompletableFuture<Collection<T>> fetchNextBatch(CompletableFuture<Collection<T>> previousBatch) {
+        if (previousBatch == null) {
+            return select(null);
+        }
+        return previousBatch.thenCompose(previous -> {
+            if (previous.isEmpty() || previous.size() < lastLimit) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return select(lastElement(previous));
+        });
+    }
+
+    private CompletableFuture<Collection<T>> select(T lastTuple) {
+        long limit = TarantoolCursorBase.calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        if (limit <= 0) {
+            lastLimit = 0;
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Conditions conditions = new Conditions(initConditions)
+                .withLimit(limit);
+        if (lastTuple != null) {
+            conditions.startAfter(lastTuple, mapper::toValue);
+        }
+        spaceOffset += limit;
+        lastLimit = limit;
+
+        // the batch is only read, so the future of the result collection may be used as is, without a new stage
+        CompletableFuture<? extends Collection<T>> result = space.select(conditions);
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Collection<T>> batch = (CompletableFuture<Collection<T>>) result;
+        return batch;
+    }
+
+    private T lastElement(Collection<T> batch) {
+        if (batch instanceof List) {
+            List<T> list = (List<T>) batch;
+            return list.get(list.size() - 1);
+        }
+        T last = null;
+        for (T tuple : batch) {
+            last = tuple;
+        }
+        return last;
+    }
+}
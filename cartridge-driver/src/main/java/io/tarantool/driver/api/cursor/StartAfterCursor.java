@@ -15,6 +15,10 @@ import java.util.concurrent.ExecutionException;
  * Cursor implementation that uses 'cluster' select method
  * under the hood. Designed to work with cluster client.
  * <p>
+ * With standalone server it is used when the query iterates over a range
+ * of a unique TREE index, so each batch is selected starting after the key
+ * of the last fetched tuple instead of skipping the previous tuples with offset.
+ * <p>
  * See {@link TarantoolCursor} for more details on cursors.
  *
  * @author Vladimir Rogach
@@ -24,8 +28,7 @@ public class StartAfterCursor<T extends Packable, R extends Collection<T>> exten
     private final TarantoolSpaceOperations<T, R> space;
     private final Conditions initConditions;
 
-    // size of a batch for single invocation of client
-    private final long batchSize;
+    private final CursorBatchSizePolicy batchSizePolicy;
     private long spaceOffset;
 
     private final MessagePackMapper mapper;
@@ -38,16 +41,31 @@ public class StartAfterCursor<T extends Packable, R extends Collection<T>> exten
                             Conditions conditions,
                             int batchSize,
                             MessagePackMapper mapper) {
+        this(space, conditions, new FixedCursorBatchSizePolicy(batchSize), mapper);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param space           space for performing the select requests
+     * @param conditions      query with options
+     * @param batchSizePolicy determines the number of tuples requested in each batch
+     * @param mapper          mapper for converting the key of the last fetched tuple
+     */
+    public StartAfterCursor(TarantoolSpaceOperations<T, R> space,
+                            Conditions conditions,
+                            CursorBatchSizePolicy batchSizePolicy,
+                            MessagePackMapper mapper) {
         this.space = space;
         this.initConditions = conditions;
-        this.batchSize = batchSize;
+        this.batchSizePolicy = batchSizePolicy;
         this.spaceOffset = 0;
         this.mapper = mapper;
     }
 
     @Override
     protected void fetchNextTuples() throws TarantoolClientException {
-        long limit = calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        long limit = calcLimit(initConditions.getLimit(), batchSizePolicy.getBatchSize(), spaceOffset);
         if (limit <= 0) {
             return;
         }
@@ -60,10 +78,10 @@ public class StartAfterCursor<T extends Packable, R extends Collection<T>> exten
         }
 
         try {
-            resultIter = space
-                    .select(conditions)
-                    .get()
-                    .iterator();
+            long startTime = System.nanoTime();
+            R tuples = space.select(conditions).get();
+            batchSizePolicy.onBatchFetched(tuples, limit, System.nanoTime() - startTime);
+            resultIter = tuples.iterator();
         } catch (InterruptedException | ExecutionException e) {
             throw new TarantoolClientException(e);
         }
@@ -88,4 +106,10 @@ public class StartAfterCursor<T extends Packable, R extends Collection<T>> exten
         return currentValue;
     }
 
+    @Override
+    protected void releaseTuples() {
+        resultIter = Collections.emptyIterator();
+        currentValue = null;
+    }
+
 }
@@ -0,0 +1,42 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+
+/**
+ * Publisher implementation that starts each batch after the last tuple of the previous one. Designed to work with
+ * cluster client, also used with standalone server for the queries supporting the keyset pagination, see
+ * {@link StartAfterCursor}.
+ * <p>
+ * See {@link TarantoolPublisher} for more details on publishers.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class StartAfterPublisher<T extends Packable, R extends Collection<T>>
+        extends TarantoolPublisherBase<T, R> {
+
+    private final MessagePackMapper mapper;
+
+    public StartAfterPublisher(TarantoolSpaceOperations<T, R> space,
+                               Conditions conditions,
+                               int maxBatchSize,
+                               MessagePackMapper mapper) {
+        super(space, conditions, maxBatchSize);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected Conditions makeBatchConditions(Conditions initConditions, long limit, long fetched, T lastTuple) {
+        Conditions conditions = new Conditions(initConditions)
+                .withLimit(limit);
+        if (lastTuple != null) {
+            conditions.startAfter(lastTuple, mapper::toValue);
+        }
+        return conditions;
+    }
+}
@@ -0,0 +1,53 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous cursor interface which allows forward-only iteration through query results by batches.
+ * <p>
+ * Unlike {@link TarantoolCursor}, the next batches are requested from the server in background while the caller
+ * processes the current one, so the network transfer and the results processing overlap.
+ * <pre>
+ * <code>
+ * TarantoolAsyncCursor&lt;TarantoolTuple&gt; cursor = space.asyncCursor(Conditions.any(), 1000, 2);
+ * Collection&lt;TarantoolTuple&gt; batch;
+ * while (!(batch = cursor.nextBatch().get()).isEmpty()) {
+ *     process(batch);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @param <T> tuple type
+ */
+public interface TarantoolAsyncCursor<T extends Packable> extends AutoCloseable {
+
+    /**
+     * Get the next batch of tuples. The returned future completes with an empty collection when there are no more
+     * tuples matching the query.
+     *
+     * @return a future with the next batch of tuples
+     * @throws TarantoolClientException if the cursor is closed or the request cannot be sent
+     */
+    CompletableFuture<Collection<T>> nextBatch() throws TarantoolClientException;
+
+    /**
+     * Pass all remaining batches to the specified action without blocking the caller thread. The action is
+     * invoked sequentially, in the order of batches. The cursor is closed when all batches have been processed,
+     * or if the request or the action has failed.
+     *
+     * @param action batch consumer
+     * @return a future completed when all batches have been processed
+     */
+    CompletableFuture<Void> forEachBatch(Consumer<? super Collection<T>> action);
+
+    /**
+     * Stop prefetching the batches. The batches that have been requested but not yet received are cancelled.
+     */
+    @Override
+    void close();
+}
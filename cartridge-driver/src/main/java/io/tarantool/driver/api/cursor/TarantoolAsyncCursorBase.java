@@ -0,0 +1,138 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Generic asynchronous cursor implementation keeping the specified number of batches requested ahead of the
+ * batch returned to the caller.
+ *
+ * @param <T> tuple type
+ */
+public abstract class TarantoolAsyncCursorBase<T extends Packable> implements TarantoolAsyncCursor<T> {
+
+    private final int prefetchBatches;
+    private final Deque<CompletableFuture<Collection<T>>> batches = new ArrayDeque<>();
+    private CompletableFuture<Collection<T>> lastBatch;
+    private boolean closed;
+
+    /**
+     * Basic constructor
+     *
+     * @param prefetchBatches number of batches to be requested ahead, 0 means that the batches are requested only
+     *                        when {@link #nextBatch()} is called
+     */
+    protected TarantoolAsyncCursorBase(int prefetchBatches) {
+        if (prefetchBatches < 0) {
+            throw new IllegalArgumentException("Number of prefetched batches must not be negative");
+        }
+        this.prefetchBatches = prefetchBatches;
+    }
+
+    /**
+     * Request the batch following the specified one. The implementations must complete the returned future with an
+     * empty collection if there are no more tuples.
+     *
+     * @param previousBatch the future of the previously requested batch or null if it is the first batch
+     * @return a future with the next batch of tuples
+     */
+    protected abstract CompletableFuture<Collection<T>> fetchNextBatch(
+            CompletableFuture<Collection<T>> previousBatch);
+
+    @Override
+    public synchronized CompletableFuture<Collection<T>> nextBatch() throws TarantoolClientException {
+        if (closed) {
+            throw new TarantoolClientException("The cursor is closed");
+        }
+        if (batches.isEmpty()) {
+            requestBatch();
+        }
+        CompletableFuture<Collection<T>> batch = batches.poll();
+        while (batches.size() < prefetchBatches) {
+            requestBatch();
+        }
+        return batch;
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachBatch(Consumer<? super Collection<T>> action) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        processBatches(action, result);
+        return result;
+    }
+
+    /**
+     * Process the batches which are already received in a loop, and continue in the completion callback of the
+     * first batch which is not, so that the stack does not grow with the number of batches.
+     */
+    private void processBatches(Consumer<? super Collection<T>> action, CompletableFuture<Void> result) {
+        try {
+            while (true) {
+                CompletableFuture<Collection<T>> batch = nextBatch();
+                if (!batch.isDone()) {
+                    batch.whenComplete((tuples, ex) -> {
+                        if (processBatch(tuples, ex, action, result)) {
+                            processBatches(action, result);
+                        }
+                    });
+                    return;
+                }
+                Collection<T> tuples = null;
+                Throwable error = null;
+                try {
+                    tuples = batch.join();
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+                if (!processBatch(tuples, error, action, result)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            close();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private boolean processBatch(Collection<T> tuples, Throwable error, Consumer<? super Collection<T>> action,
+                                 CompletableFuture<Void> result) {
+        if (error != null) {
+            close();
+            result.completeExceptionally(error);
+            return false;
+        }
+        if (tuples.isEmpty()) {
+            close();
+            result.complete(null);
+            return false;
+        }
+        try {
+            action.accept(tuples);
+        } catch (RuntimeException e) {
+            close();
+            result.completeExceptionally(e);
+            return false;
+        }
+        return true;
+    }
+
+    private void requestBatch() {
+        lastBatch = fetchNextBatch(lastBatch);
+        batches.add(lastBatch);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (CompletableFuture<Collection<T>> batch : batches) {
+            batch.cancel(false);
+        }
+        batches.clear();
+    }
+}
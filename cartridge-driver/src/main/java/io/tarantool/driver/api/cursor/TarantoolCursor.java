@@ -12,7 +12,7 @@ import io.tarantool.driver.protocol.Packable;
  *
  * @author Vladimir Rogach
  */
-public interface TarantoolCursor<T extends Packable> {
+public interface TarantoolCursor<T extends Packable> extends AutoCloseable {
 
     /**
      * Fetch next element.
@@ -27,4 +27,12 @@ public interface TarantoolCursor<T extends Packable> {
      * @throws TarantoolSpaceOperationException when no data is available
      */
     T get() throws TarantoolSpaceOperationException;
+
+    /**
+     * Release the fetched tuples and stop the iteration. The next calls of {@link #next()} will fail.
+     * The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+    }
 }
@@ -19,6 +19,8 @@ public abstract class TarantoolCursorBase<T extends Packable, R extends Collecti
     protected abstract boolean advanceIterator();
     protected abstract T getCurrentValue();
 
+    private boolean closed;
+
     /**
      * If batchSize is less than condition limit
      * we need to recalculate limit for each batch.
@@ -40,6 +42,9 @@ public abstract class TarantoolCursorBase<T extends Packable, R extends Collecti
 
     @Override
     public boolean next() throws TarantoolClientException {
+        if (closed) {
+            throw new TarantoolClientException("The cursor is closed");
+        }
         if (!advanceIterator()) {
             fetchNextTuples();
             return advanceIterator();
@@ -55,4 +60,16 @@ public abstract class TarantoolCursorBase<T extends Packable, R extends Collecti
         }
         return getCurrentValue();
     }
+
+    @Override
+    public void close() {
+        closed = true;
+        releaseTuples();
+    }
+
+    /**
+     * Release the fetched tuples when the cursor is closed. The default implementation does nothing.
+     */
+    protected void releaseTuples() {
+    }
 }
@@ -0,0 +1,152 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over the tuples matching a query, which are fetched with a cursor. The cursor is created lazily on
+ * the first traversal, so the stream pipeline may be built without performing any requests.
+ * <p>
+ * If the query partitions are specified, see
+ * {@link io.tarantool.driver.api.space.TarantoolSpaceOperations#partitions(Conditions, int)}, the spliterator
+ * may be split by them before the traversal has started, and each partition is scanned with its own cursor.
+ * Closing the spliterator closes the cursors of all spliterators split from it.
+ *
+ * @param <T> tuple type
+ */
+public class TarantoolCursorSpliterator<T extends Packable> implements Spliterator<T>, AutoCloseable {
+
+    private final Conditions conditions;
+    private final Function<Conditions, TarantoolCursor<T>> cursorFactory;
+    private final TarantoolPartitionSpliterator<T> partitions;
+    private TarantoolCursor<T> cursor;
+    private boolean closed;
+
+    /**
+     * Create a spliterator which cannot be split
+     *
+     * @param conditions    query with options
+     * @param cursorFactory creates a cursor for scanning the query
+     */
+    public TarantoolCursorSpliterator(Conditions conditions,
+                                      Function<Conditions, TarantoolCursor<T>> cursorFactory) {
+        this(conditions, cursorFactory, Collections.singletonList(conditions));
+    }
+
+    /**
+     * Create a spliterator which may be split by the query partitions
+     *
+     * @param conditions      query with options
+     * @param cursorFactory   creates a cursor for scanning the query or its partition
+     * @param queryPartitions partitions of the query
+     */
+    public TarantoolCursorSpliterator(Conditions conditions,
+                                      Function<Conditions, TarantoolCursor<T>> cursorFactory,
+                                      List<Conditions> queryPartitions) {
+        this.conditions = conditions;
+        this.cursorFactory = cursorFactory;
+        this.partitions = queryPartitions.size() > 1 ?
+                new TarantoolPartitionSpliterator<>(queryPartitions, cursorFactory) : null;
+    }
+
+    /**
+     * Create a stream over the tuples matching the query. The partitions are requested only if the stream is
+     * parallel, when its terminal operation starts and before the traversal, so the stream workers do not wait for
+     * them. Closing the stream closes the cursors.
+     *
+     * @param conditions    query with options
+     * @param cursorFactory creates a cursor for scanning the query or its partition
+     * @param partitioner   splits the query into partitions
+     * @param <T>           tuple type
+     * @return stream of tuples
+     */
+    public static <T extends Packable> Stream<T> stream(
+            Conditions conditions,
+            Function<Conditions, TarantoolCursor<T>> cursorFactory,
+            Function<Conditions, CompletableFuture<List<Conditions>>> partitioner) {
+        AtomicReference<Stream<T>> stream = new AtomicReference<>();
+        AtomicReference<TarantoolCursorSpliterator<T>> spliterator = new AtomicReference<>();
+        stream.set(StreamSupport.<T>stream(() -> {
+            List<Conditions> queryPartitions = Collections.singletonList(conditions);
+            if (stream.get().isParallel()) {
+                try {
+                    queryPartitions = partitioner.apply(conditions).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new TarantoolClientException(e);
+                }
+            }
+            spliterator.set(new TarantoolCursorSpliterator<>(conditions, cursorFactory, queryPartitions));
+            return spliterator.get();
+        }, NONNULL, false).onClose(() -> {
+            TarantoolCursorSpliterator<T> current = spliterator.get();
+            if (current != null) {
+                current.close();
+            }
+        }));
+        return stream.get();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        if (partitions != null) {
+            return partitions.tryAdvance(action);
+        }
+        if (cursor == null) {
+            cursor = cursorFactory.apply(conditions);
+        }
+        if (cursor.next()) {
+            action.accept(cursor.get());
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (closed || partitions == null) {
+            return null;
+        }
+        return partitions.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    /**
+     * Close the cursors and stop the traversal
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (cursor != null) {
+            cursor.close();
+            cursor = null;
+        }
+        if (partitions != null) {
+            partitions.close();
+        }
+    }
+}
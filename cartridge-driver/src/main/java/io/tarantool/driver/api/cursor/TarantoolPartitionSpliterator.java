@@ -0,0 +1,117 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator over the partitions of a query, see
+ * {@link io.tarantool.driver.api.space.TarantoolSpaceOperations#partitions(Conditions, int)}. Each partition is
+ * scanned with its own cursor, and the spliterator is split by the partition boundaries, so the partitions are
+ * processed in parallel by a parallel stream.
+ * <p>
+ * The spliterators split from one root share its state, so closing any of them closes the open cursors of all
+ * partitions and stops their traversal.
+ *
+ * @param <T> tuple type
+ */
+public class TarantoolPartitionSpliterator<T extends Packable> implements Spliterator<T>, AutoCloseable {
+
+    private final List<Conditions> partitions;
+    private final Function<Conditions, TarantoolCursor<T>> cursorFactory;
+    private int currentPartition;
+    private final int endPartition;
+    private TarantoolCursor<T> cursor;
+    private final Set<TarantoolCursor<T>> openCursors;
+    private final AtomicBoolean closed;
+
+    /**
+     * Basic constructor
+     *
+     * @param partitions    query partitions
+     * @param cursorFactory creates a cursor for scanning a partition
+     */
+    public TarantoolPartitionSpliterator(List<Conditions> partitions,
+                                         Function<Conditions, TarantoolCursor<T>> cursorFactory) {
+        this(partitions, cursorFactory, 0, partitions.size(), ConcurrentHashMap.newKeySet(), new AtomicBoolean());
+    }
+
+    private TarantoolPartitionSpliterator(List<Conditions> partitions,
+                                          Function<Conditions, TarantoolCursor<T>> cursorFactory,
+                                          int startPartition,
+                                          int endPartition,
+                                          Set<TarantoolCursor<T>> openCursors,
+                                          AtomicBoolean closed) {
+        this.partitions = partitions;
+        this.cursorFactory = cursorFactory;
+        this.currentPartition = startPartition;
+        this.endPartition = endPartition;
+        this.openCursors = openCursors;
+        this.closed = closed;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!closed.get()) {
+            if (cursor == null) {
+                if (currentPartition >= endPartition) {
+                    return false;
+                }
+                cursor = cursorFactory.apply(partitions.get(currentPartition++));
+                openCursors.add(cursor);
+            }
+            if (cursor.next()) {
+                action.accept(cursor.get());
+                return true;
+            }
+            openCursors.remove(cursor);
+            cursor.close();
+            cursor = null;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int remaining = endPartition - currentPartition;
+        if (remaining < 2) {
+            return null;
+        }
+        int middle = currentPartition + remaining / 2;
+        Spliterator<T> prefix = new TarantoolPartitionSpliterator<>(
+                partitions, cursorFactory, currentPartition, middle, openCursors, closed);
+        currentPartition = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    /**
+     * Close the open cursors of all partitions split from the same root and skip the remaining partitions
+     */
+    @Override
+    public void close() {
+        if (closed.getAndSet(true)) {
+            return;
+        }
+        for (TarantoolCursor<T> openCursor : openCursors) {
+            openCursor.close();
+        }
+        openCursors.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.protocol.Packable;
+
+/**
+ * Publisher of query results driven by the subscriber demand. The interface follows the semantics of the Reactive
+ * Streams <code>Publisher</code> and <code>java.util.concurrent.Flow.Publisher</code>, so it can be adapted to a
+ * reactive library with thin wrappers delegating the subscriber and subscription methods.
+ * <p>
+ * The tuples are requested from the server in batches sized by the outstanding demand, but no more than the
+ * maximum batch size, so no more than one batch is held in memory for a subscriber. No threads are blocked while
+ * waiting for the server responses.
+ * <p>
+ * Each subscription executes the query independently.
+ *
+ * @param <T> tuple type
+ */
+public interface TarantoolPublisher<T extends Packable> {
+
+    /**
+     * Start executing the query for the specified subscriber. The tuples are not requested until the subscriber
+     * signals the demand with {@link TarantoolSubscription#request(long)}.
+     *
+     * @param subscriber subscriber receiving the tuples
+     */
+    void subscribe(TarantoolSubscriber<? super T> subscriber);
+}
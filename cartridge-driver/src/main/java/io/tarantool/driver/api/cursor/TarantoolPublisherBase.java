@@ -0,0 +1,225 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generic publisher implementation which performs the select requests with TarantoolSpaceOperations. Only one
+ * request is in progress for a subscription at a time, and its limit is the outstanding demand bounded by the
+ * maximum batch size.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public abstract class TarantoolPublisherBase<T extends Packable, R extends Collection<T>>
+        implements TarantoolPublisher<T> {
+
+    private final TarantoolSpaceOperations<T, R> space;
+    private final Conditions initConditions;
+    private final long maxBatchSize;
+
+    /**
+     * Basic constructor
+     *
+     * @param space        space for performing the select requests
+     * @param conditions   query with options
+     * @param maxBatchSize maximum number of tuples requested from server at once
+     */
+    protected TarantoolPublisherBase(TarantoolSpaceOperations<T, R> space, Conditions conditions, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        this.space = space;
+        this.initConditions = conditions;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Make the conditions for the next batch
+     *
+     * @param initConditions conditions specified for the query
+     * @param limit          batch size
+     * @param fetched        number of tuples already fetched
+     * @param lastTuple      last fetched tuple, null for the first batch
+     * @return conditions for the select request
+     */
+    protected abstract Conditions makeBatchConditions(Conditions initConditions, long limit, long fetched,
+                                                      T lastTuple);
+
+    @Override
+    public void subscribe(TarantoolSubscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+        Subscription subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class Subscription implements TarantoolSubscription {
+
+        private final TarantoolSubscriber<? super T> subscriber;
+
+        // guarded by this
+        private long demand;
+        private boolean fetching;
+        private boolean finished;
+        private CompletableFuture<R> inFlight;
+
+        // number of fetchNextBatch calls to be processed by the thread draining them
+        private final AtomicInteger pendingFetches = new AtomicInteger();
+
+        // accessed only by the thread owning the fetching flag
+        private long fetched;
+        private T lastTuple;
+
+        Subscription(TarantoolSubscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (finish()) {
+                    subscriber.onError(new IllegalArgumentException(
+                            "The number of requested tuples must be positive, got " + n));
+                }
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            fetchNextBatch();
+        }
+
+        @Override
+        public void cancel() {
+            CompletableFuture<R> request;
+            synchronized (this) {
+                finished = true;
+                request = inFlight;
+                inFlight = null;
+            }
+            if (request != null) {
+                request.cancel(false);
+            }
+        }
+
+        private synchronized boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            return true;
+        }
+
+        private synchronized boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * The requests are sent in a loop, so that the batches completed immediately and the calls from the
+         * subscriber callbacks do not grow the stack. Only one thread sends the requests at a time, the calls
+         * made meanwhile are counted and make it check the demand again.
+         */
+        private void fetchNextBatch() {
+            if (pendingFetches.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                sendNextRequest();
+            } while (pendingFetches.decrementAndGet() != 0);
+        }
+
+        private void sendNextRequest() {
+            long size;
+            synchronized (this) {
+                if (finished || fetching || demand == 0) {
+                    return;
+                }
+                fetching = true;
+                size = Math.min(demand, maxBatchSize);
+            }
+
+            long limit = TarantoolCursorBase.calcLimit(initConditions.getLimit(), size, fetched);
+            if (limit <= 0) {
+                if (finish()) {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+
+            CompletableFuture<R> request;
+            try {
+                request = space.select(makeBatchConditions(initConditions, limit, fetched, lastTuple));
+            } catch (RuntimeException e) {
+                if (finish()) {
+                    subscriber.onError(e);
+                }
+                return;
+            }
+            synchronized (this) {
+                if (finished) {
+                    request.cancel(false);
+                    return;
+                }
+                inFlight = request;
+            }
+            request.whenComplete((tuples, ex) -> processBatch(tuples, ex, limit));
+        }
+
+        private void processBatch(R tuples, Throwable ex, long limit) {
+            synchronized (this) {
+                inFlight = null;
+            }
+            if (ex != null) {
+                if (finish()) {
+                    subscriber.onError(ex instanceof CompletionException && ex.getCause() != null ?
+                            ex.getCause() : ex);
+                }
+                return;
+            }
+
+            for (T tuple : tuples) {
+                synchronized (this) {
+                    if (finished) {
+                        return;
+                    }
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+                lastTuple = tuple;
+                try {
+                    subscriber.onNext(tuple);
+                } catch (RuntimeException e) {
+                    // the subscriber has violated the specification, treat the subscription as cancelled
+                    if (finish()) {
+                        subscriber.onError(e);
+                    }
+                    return;
+                }
+            }
+            fetched += tuples.size();
+
+            if (tuples.size() < limit) {
+                if (finish()) {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            if (isFinished()) {
+                return;
+            }
+            synchronized (this) {
+                fetching = false;
+            }
+            fetchNextBatch();
+        }
+    }
+}
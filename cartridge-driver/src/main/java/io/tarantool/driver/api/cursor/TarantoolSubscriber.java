@@ -0,0 +1,36 @@
+package io.tarantool.driver.api.cursor;
+
+/**
+ * Receives the tuples from {@link TarantoolPublisher}. The methods are invoked sequentially, following the
+ * semantics of the Reactive Streams <code>Subscriber</code>.
+ *
+ * @param <T> tuple type
+ */
+public interface TarantoolSubscriber<T> {
+
+    /**
+     * Invoked once after {@link TarantoolPublisher#subscribe(TarantoolSubscriber)} is called
+     *
+     * @param subscription subscription for requesting the tuples or cancelling the query
+     */
+    void onSubscribe(TarantoolSubscription subscription);
+
+    /**
+     * Invoked for each tuple, no more times than requested
+     *
+     * @param item next tuple
+     */
+    void onNext(T item);
+
+    /**
+     * Invoked when the query has failed. No other methods are invoked after it.
+     *
+     * @param throwable the error
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Invoked when all tuples have been received. No other methods are invoked after it.
+     */
+    void onComplete();
+}
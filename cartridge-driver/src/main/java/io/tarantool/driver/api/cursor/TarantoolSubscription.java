@@ -0,0 +1,22 @@
+package io.tarantool.driver.api.cursor;
+
+/**
+ * Links {@link TarantoolSubscriber} with the query execution, following the semantics of the Reactive Streams
+ * <code>Subscription</code>.
+ */
+public interface TarantoolSubscription {
+
+    /**
+     * Request the specified number of tuples. The demand is accumulated, {@link Long#MAX_VALUE} means unbounded
+     * demand.
+     *
+     * @param n number of tuples, must be positive
+     */
+    void request(long n);
+
+    /**
+     * Stop the query execution. The request which is in progress is cancelled, and no more tuples are passed to
+     * the subscriber.
+     */
+    void cancel();
+}
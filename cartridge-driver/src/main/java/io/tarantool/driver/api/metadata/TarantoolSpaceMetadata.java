@@ -1,6 +1,10 @@
 package io.tarantool.driver.api.metadata;
 
+import io.tarantool.driver.api.tuple.TarantoolTupleSchema;
+
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -64,4 +68,33 @@ public interface TarantoolSpaceMetadata extends Serializable {
      * @return field name or null if this field not found in format metadata
      */
     Optional<String> getFieldNameByPosition(int fieldPosition);
+
+    /**
+     * Get the names of fields forming the sharding key, as specified in the DDL schema. If the sharding key is not
+     * specified, the primary key is used for computing bucket IDs.
+     *
+     * @return list of field names, may be empty
+     */
+    default List<String> getShardingKey() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the sharding function specified in the DDL schema. It is either a name of the callable function
+     * (for example, <code>vshard.router.bucket_id_mpcrc32</code>), or the function body in Lua.
+     *
+     * @return sharding function name or body, or empty value if the default function is used
+     */
+    default Optional<String> getShardingFunction() {
+        return Optional.empty();
+    }
+
+    /**
+     * Get the space format compiled for fast access to the tuple fields
+     *
+     * @return tuple schema
+     */
+    default TarantoolTupleSchema getTupleSchema() {
+        return new TarantoolTupleSchema(this);
+    }
 }
@@ -0,0 +1,645 @@
+package io.tarantool.driver.api.proxy;
+
+import io.tarantool.driver.api.space.options.ReadMode;
+
+import java.util.Optional;
+
+/**
+ * Provides methods for function names in a Tarantool instance or a Tarantool Cartridge role for CRUD operations.
+ *
+ * @author Sergey Volgin
+ * @author Alexey Kuzin
+ */
+public final class ProxyOperationsMappingConfig {
+
+    public static final String CRUD_PREFIX = "crud.";
+    public static final String SCHEMA_FUNCTION = "ddl.get_schema";
+    public static final String DELETE_FUNCTION = CRUD_PREFIX + "delete";
+    public static final String INSERT_FUNCTION = CRUD_PREFIX + "insert";
+    public static final String INSERT_MANY_FUNCTION = CRUD_PREFIX + "insert_many";
+    public static final String REPLACE_FUNCTION = CRUD_PREFIX + "replace";
+    public static final String REPLACE_MANY_FUNCTION = CRUD_PREFIX + "replace_many";
+    public static final String SELECT_FUNCTION = CRUD_PREFIX + "select";
+    public static final String GET_FUNCTION = CRUD_PREFIX + "get";
+    public static final String COUNT_FUNCTION = CRUD_PREFIX + "count";
+    public static final String LEN_FUNCTION = CRUD_PREFIX + "len";
+    public static final String MIN_FUNCTION = CRUD_PREFIX + "min";
+    public static final String MAX_FUNCTION = CRUD_PREFIX + "max";
+    public static final String UPDATE_FUNCTION = CRUD_PREFIX + "update";
+    public static final String UPSERT_FUNCTION = CRUD_PREFIX + "upsert";
+    public static final String UPSERT_MANY_FUNCTION = CRUD_PREFIX + "upsert_many";
+    public static final String TRUNCATE_FUNCTION = CRUD_PREFIX + "truncate";
+    public static final String BUCKET_COUNT_FUNCTION = "vshard.router.bucket_count";
+    public static final String ROUTER_INFO_FUNCTION = "vshard.router.info";
+    public static final String STORAGE_BUCKETS_INFO_FUNCTION = "vshard.storage.buckets_info";
+    public static final String STORAGE_CALL_FUNCTION = "vshard.storage.call";
+
+    private final String schemaFunctionName;
+    private final String deleteFunctionName;
+    private final String insertFunctionName;
+    private final String insertManyFunctionName;
+    private final String replaceFunctionName;
+    private final String replaceManyFunctionName;
+    private final String updateFunctionName;
+    private final String upsertFunctionName;
+    private final String upsertManyFunctionName;
+    private final String selectFunctionName;
+    private final String getFunctionName;
+    private final String countFunctionName;
+    private final String lenFunctionName;
+    private final String minFunctionName;
+    private final String maxFunctionName;
+    private final String truncateFunctionName;
+    private final String bucketCountFunctionName;
+    private final boolean storageRoutingEnabled;
+    private final String routerInfoFunctionName;
+    private final String storageBucketsInfoFunctionName;
+    private final String storageCallFunctionName;
+    private final ReadMode defaultReadMode;
+    private final Boolean defaultPreferReplica;
+    private final Boolean defaultBalance;
+
+    /**
+     * Get API function name for getting the spaces and indexes schema. The default value is
+     * <code>ddl.get_schema</code>.
+     *
+     * See <a href="https://github.com/tarantool/ddl/blob/eaa24b8931b3abba850e37a287091b67512e5d6c/ddl.lua#L127">
+     * the DDL module API</a> for details on the desired schema metadata format.
+     *
+     * @return a callable API function name
+     */
+    public String getGetSchemaFunctionName() {
+        return schemaFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the delete operation. The default value is <code>crud.delete</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getDeleteFunctionName() {
+        return deleteFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the insert operation. The default value is <code>crud.insert</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getInsertFunctionName() {
+        return insertFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the insert_many operation.
+     * The default value is <code>crud.insert_many</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getInsertManyFunctionName() {
+        return insertManyFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the replace operation. The default value is <code>crud.replace</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getReplaceFunctionName() {
+        return replaceFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the replace_many operation.
+     * The default value is <code>crud.replace_many</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getReplaceManyFunctionName() {
+        return replaceManyFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the update operation. The default value is <code>crud.update</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getUpdateFunctionName() {
+        return updateFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the upsert operation. The default value is <code>crud.upsert</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getUpsertFunctionName() {
+        return upsertFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the upsert_many operation. The default value is
+     * <code>crud.upsert_many</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getUpsertManyFunctionName() {
+        return upsertManyFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the select operation. The default value is <code>crud.select</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getSelectFunctionName() {
+        return selectFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the get operation. The default value is <code>crud.get</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getGetFunctionName() {
+        return getFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the count operation. The default value is <code>crud.count</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getCountFunctionName() {
+        return countFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the len operation. The default value is <code>crud.len</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getLenFunctionName() {
+        return lenFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the min operation. The default value is <code>crud.min</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getMinFunctionName() {
+        return minFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the max operation. The default value is <code>crud.max</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getMaxFunctionName() {
+        return maxFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the select operation. The default value is <code>crud.truncate</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getTruncateFunctionName() {
+        return truncateFunctionName;
+    }
+
+    /**
+     * Get API function name for getting the total bucket count in the cluster. It is used for computing the
+     * bucket IDs on the client side. The default value is <code>vshard.router.bucket_count</code>.
+     *
+     * @return a callable API function name, or null if the bucket IDs are not computed on the client side
+     */
+    public String getBucketCountFunctionName() {
+        return bucketCountFunctionName;
+    }
+
+    /**
+     * Check if the single-key read operations are sent directly to the storage instances owning the buckets,
+     * bypassing the routers. Disabled by default.
+     *
+     * @return true if the direct storage routing is enabled
+     */
+    public boolean isStorageRoutingEnabled() {
+        return storageRoutingEnabled;
+    }
+
+    /**
+     * Get API function name for getting the cluster topology from a router. It is used for the direct storage
+     * routing. The default value is <code>vshard.router.info</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getRouterInfoFunctionName() {
+        return routerInfoFunctionName;
+    }
+
+    /**
+     * Get API function name for getting the buckets stored on a storage instance. It is used for the direct
+     * storage routing. The default value is <code>vshard.storage.buckets_info</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getStorageBucketsInfoFunctionName() {
+        return storageBucketsInfoFunctionName;
+    }
+
+    /**
+     * Get API function name for calling a function on a storage instance with the bucket reference held. It is
+     * used for the direct storage routing. The default value is <code>vshard.storage.call</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getStorageCallFunctionName() {
+        return storageCallFunctionName;
+    }
+
+    /**
+     * Get the instance role used for the read operations if it is not specified in the operation options.
+     * If it is not set, the crud default is used, which means reading from the replicaset masters.
+     *
+     * @return default read mode
+     */
+    public Optional<ReadMode> getDefaultReadMode() {
+        return Optional.ofNullable(defaultReadMode);
+    }
+
+    /**
+     * Get whether the replicas are preferred for the read operations if it is not specified in the operation
+     * options.
+     *
+     * @return default prefer_replica option value
+     */
+    public Optional<Boolean> getDefaultPreferReplica() {
+        return Optional.ofNullable(defaultPreferReplica);
+    }
+
+    /**
+     * Get whether the read load is balanced between the replicaset instances if it is not specified in the
+     * operation options.
+     *
+     * @return default balance option value
+     */
+    public Optional<Boolean> getDefaultBalance() {
+        return Optional.ofNullable(defaultBalance);
+    }
+
+    private ProxyOperationsMappingConfig(String schemaFunctionName, String deleteFunctionName,
+                                         String insertFunctionName, String insertManyFunctionName,
+                                         String replaceFunctionName, String replaceManyFunctionName,
+                                         String updateFunctionName, String upsertFunctionName,
+                                         String upsertManyFunctionName, String selectFunctionName,
+                                         String getFunctionName, String countFunctionName, String lenFunctionName,
+                                         String minFunctionName, String maxFunctionName,
+                                         String truncateFunctionName, String bucketCountFunctionName,
+                                         boolean storageRoutingEnabled, String routerInfoFunctionName,
+                                         String storageBucketsInfoFunctionName, String storageCallFunctionName,
+                                         ReadMode defaultReadMode, Boolean defaultPreferReplica,
+                                         Boolean defaultBalance) {
+        this.schemaFunctionName = schemaFunctionName;
+        this.deleteFunctionName = deleteFunctionName;
+        this.insertFunctionName = insertFunctionName;
+        this.insertManyFunctionName = insertManyFunctionName;
+        this.replaceFunctionName = replaceFunctionName;
+        this.replaceManyFunctionName = replaceManyFunctionName;
+        this.updateFunctionName = updateFunctionName;
+        this.upsertFunctionName = upsertFunctionName;
+        this.upsertManyFunctionName = upsertManyFunctionName;
+        this.selectFunctionName = selectFunctionName;
+        this.getFunctionName = getFunctionName;
+        this.countFunctionName = countFunctionName;
+        this.lenFunctionName = lenFunctionName;
+        this.minFunctionName = minFunctionName;
+        this.maxFunctionName = maxFunctionName;
+        this.truncateFunctionName = truncateFunctionName;
+        this.bucketCountFunctionName = bucketCountFunctionName;
+        this.storageRoutingEnabled = storageRoutingEnabled;
+        this.routerInfoFunctionName = routerInfoFunctionName;
+        this.storageBucketsInfoFunctionName = storageBucketsInfoFunctionName;
+        this.storageCallFunctionName = storageCallFunctionName;
+        this.defaultReadMode = defaultReadMode;
+        this.defaultPreferReplica = defaultPreferReplica;
+        this.defaultBalance = defaultBalance;
+    }
+
+    /**
+     * Create new {@link Builder} instance
+     *
+     * @return new config builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the {@link ProxyOperationsMappingConfig}
+     */
+    public static final class Builder {
+
+        private String schemaFunctionName = SCHEMA_FUNCTION;
+        private String deleteFunctionName = DELETE_FUNCTION;
+        private String insertFunctionName = INSERT_FUNCTION;
+        private String insertManyFunctionName = INSERT_MANY_FUNCTION;
+        private String replaceFunctionName = REPLACE_FUNCTION;
+        private String replaceManyFunctionName = REPLACE_MANY_FUNCTION;
+        private String updateFunctionName = UPDATE_FUNCTION;
+        private String upsertFunctionName = UPSERT_FUNCTION;
+        private String upsertManyFunctionName = UPSERT_MANY_FUNCTION;
+        private String selectFunctionName = SELECT_FUNCTION;
+        private String getFunctionName = GET_FUNCTION;
+        private String countFunctionName = COUNT_FUNCTION;
+        private String lenFunctionName = LEN_FUNCTION;
+        private String minFunctionName = MIN_FUNCTION;
+        private String maxFunctionName = MAX_FUNCTION;
+        private String truncateFunctionName = TRUNCATE_FUNCTION;
+        private String bucketCountFunctionName = BUCKET_COUNT_FUNCTION;
+        private boolean storageRoutingEnabled;
+        private String routerInfoFunctionName = ROUTER_INFO_FUNCTION;
+        private String storageBucketsInfoFunctionName = STORAGE_BUCKETS_INFO_FUNCTION;
+        private String storageCallFunctionName = STORAGE_CALL_FUNCTION;
+        private ReadMode defaultReadMode;
+        private Boolean defaultPreferReplica;
+        private Boolean defaultBalance;
+
+        /**
+         * Set API function name for getting the spaces and indexes schema.
+         *
+         * See <a href="https://github.com/tarantool/ddl/blob/eaa24b8931b3abba850e37a287091b67512e5d6c/ddl.lua#L127">
+         * the DDL module API</a> for details on the desired schema metadata format.
+         *
+         * @param schemaFunctionName name for stored function returning spaces and indexes schema
+         * @return a callable API function name
+         */
+        public Builder withSchemaFunctionName(String schemaFunctionName) {
+            this.schemaFunctionName = schemaFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the delete operation
+         *
+         * @param deleteFunctionName name for stored function performing delete operation
+         * @return a callable API function name
+         */
+        public Builder withDeleteFunctionName(String deleteFunctionName) {
+            this.deleteFunctionName = deleteFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the insert operation
+         *
+         * @param insertFunctionName name for stored function performing insert operation
+         * @return a callable API function name
+         */
+        public Builder withInsertFunctionName(String insertFunctionName) {
+            this.insertFunctionName = insertFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the insert_many operation
+         *
+         * @param insertManyFunctionName name for stored function performing insert_many operation
+         * @return a callable API function name
+         */
+        public Builder withInsertManyFunctionName(String insertManyFunctionName) {
+            this.insertManyFunctionName = insertManyFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the replace operation
+         *
+         * @param replaceFunctionName name for stored function performing replace operation
+         * @return a callable API function name
+         */
+        public Builder withReplaceFunctionName(String replaceFunctionName) {
+            this.replaceFunctionName = replaceFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the replace_many operation
+         *
+         * @param replaceManyFunctionName name for stored function performing replace_many operation
+         * @return a callable API function name
+         */
+        public Builder withReplaceManyFunctionName(String replaceManyFunctionName) {
+            this.replaceManyFunctionName = replaceManyFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the update operation
+         *
+         * @param updateFunctionName name for stored function performing update operation
+         * @return a callable API function name
+         */
+        public Builder withUpdateFunctionName(String updateFunctionName) {
+            this.updateFunctionName = updateFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the upsert operation
+         *
+         * @param upsertFunctionName name for stored function performing upsert operation
+         * @return a callable API function name
+         */
+        public Builder withUpsertFunctionName(String upsertFunctionName) {
+            this.upsertFunctionName = upsertFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the upsert_many operation
+         *
+         * @param upsertManyFunctionName name for stored function performing upsert_many operation
+         * @return a callable API function name
+         */
+        public Builder withUpsertManyFunctionName(String upsertManyFunctionName) {
+            this.upsertManyFunctionName = upsertManyFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the select operation
+         *
+         * @param selectFunctionName name for stored function performing select operation
+         * @return a callable API function name
+         */
+        public Builder withSelectFunctionName(String selectFunctionName) {
+            this.selectFunctionName = selectFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the get operation
+         *
+         * @param getFunctionName name for stored function performing get operation
+         * @return a callable API function name
+         */
+        public Builder withGetFunctionName(String getFunctionName) {
+            this.getFunctionName = getFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the count operation
+         *
+         * @param countFunctionName name for stored function performing count operation
+         * @return a callable API function name
+         */
+        public Builder withCountFunctionName(String countFunctionName) {
+            this.countFunctionName = countFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the len operation
+         *
+         * @param lenFunctionName name for stored function performing len operation
+         * @return a callable API function name
+         */
+        public Builder withLenFunctionName(String lenFunctionName) {
+            this.lenFunctionName = lenFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the min operation
+         *
+         * @param minFunctionName name for stored function performing min operation
+         * @return a callable API function name
+         */
+        public Builder withMinFunctionName(String minFunctionName) {
+            this.minFunctionName = minFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the max operation
+         *
+         * @param maxFunctionName name for stored function performing max operation
+         * @return a callable API function name
+         */
+        public Builder withMaxFunctionName(String maxFunctionName) {
+            this.maxFunctionName = maxFunctionName;
+            return this;
+        }
+
+        /**
+         * Get API function name for performing the truncate operation
+         *
+         * @param truncateFunctionName name for stored function performing select operation
+         * @return a callable API function name
+         */
+        public Builder withTruncateFunctionName(String truncateFunctionName) {
+            this.truncateFunctionName = truncateFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for getting the total bucket count in the cluster. The bucket count is used for
+         * computing the bucket IDs on the client side, pass null for disabling that.
+         *
+         * @param bucketCountFunctionName name for stored function returning the bucket count
+         * @return a callable API function name
+         */
+        public Builder withBucketCountFunctionName(String bucketCountFunctionName) {
+            this.bucketCountFunctionName = bucketCountFunctionName;
+            return this;
+        }
+
+        /**
+         * Enable sending the single-key read operations directly to the storage instances owning the buckets.
+         * The bucket-to-replicaset map is loaded from the cluster in background and is updated when the buckets
+         * are moved. Until the bucket location is known, the operations are sent through the routers.
+         * <p>
+         * The storage instances must be reachable from the client by the URIs known to the routers, and the
+         * client user must have the permissions for calling the storage functions.
+         *
+         * @param storageRoutingEnabled true for enabling the direct storage routing
+         * @return a callable API function name
+         */
+        public Builder withStorageRouting(boolean storageRoutingEnabled) {
+            this.storageRoutingEnabled = storageRoutingEnabled;
+            return this;
+        }
+
+        /**
+         * Set API function name for getting the cluster topology from a router
+         *
+         * @param routerInfoFunctionName name for stored function returning the router info
+         * @return a callable API function name
+         */
+        public Builder withRouterInfoFunctionName(String routerInfoFunctionName) {
+            this.routerInfoFunctionName = routerInfoFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for getting the buckets stored on a storage instance
+         *
+         * @param storageBucketsInfoFunctionName name for stored function returning the storage buckets info
+         * @return a callable API function name
+         */
+        public Builder withStorageBucketsInfoFunctionName(String storageBucketsInfoFunctionName) {
+            this.storageBucketsInfoFunctionName = storageBucketsInfoFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for calling a function on a storage instance with the bucket reference held
+         *
+         * @param storageCallFunctionName name for stored function performing the storage call
+         * @return a callable API function name
+         */
+        public Builder withStorageCallFunctionName(String storageCallFunctionName) {
+            this.storageCallFunctionName = storageCallFunctionName;
+            return this;
+        }
+
+        /**
+         * Set the default read routing policy, which is used for the read operations if it is not specified in
+         * the operation options. For example, <code>withDefaultReadRouting(ReadMode.READ, true, true)</code>
+         * spreads the reads among the replicas, so that the read throughput grows with the replica count.
+         *
+         * @param mode          instance role used for the read operations
+         * @param preferReplica whether the replicas are preferred over the master
+         * @param balance       whether the load is balanced between the replicaset instances
+         * @return this builder instance
+         */
+        public Builder withDefaultReadRouting(ReadMode mode, boolean preferReplica, boolean balance) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Read mode should not be null");
+            }
+            this.defaultReadMode = mode;
+            this.defaultPreferReplica = preferReplica;
+            this.defaultBalance = balance;
+            return this;
+        }
+
+        /**
+         * Build a new {@link ProxyOperationsMappingConfig} instance
+         *
+         * @return new config instance
+         */
+        public ProxyOperationsMappingConfig build() {
+            return new ProxyOperationsMappingConfig(schemaFunctionName, deleteFunctionName, insertFunctionName,
+                    insertManyFunctionName, replaceFunctionName, replaceManyFunctionName, updateFunctionName,
+                    upsertFunctionName, upsertManyFunctionName, selectFunctionName, getFunctionName,
+                    countFunctionName, lenFunctionName, minFunctionName, maxFunctionName, truncateFunctionName,
+                    bucketCountFunctionName, storageRoutingEnabled, routerInfoFunctionName,
+                    storageBucketsInfoFunctionName, storageCallFunctionName, defaultReadMode, defaultPreferReplica,
+                    defaultBalance);
+        }
+    }
+}
@@ -0,0 +1,593 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursorSpliterator;
+import io.tarantool.driver.api.cursor.TarantoolPartitionSpliterator;
+import io.tarantool.driver.api.cursor.TarantoolPublisher;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.options.CountOptions;
+import io.tarantool.driver.api.space.options.DeleteManyOptions;
+import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
+import io.tarantool.driver.api.space.options.InsertManyOptions;
+import io.tarantool.driver.api.space.options.InsertOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
+import io.tarantool.driver.api.space.options.ReplaceManyOptions;
+import io.tarantool.driver.api.space.options.ReplaceOptions;
+import io.tarantool.driver.api.space.options.SelectOptions;
+import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
+import io.tarantool.driver.api.space.options.UpsertOptions;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Tarantool space operations interface (create, insert, replace, delete...)
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ * @author Alexey Kuzin
+ */
+public interface TarantoolSpaceOperations<T extends Packable, R extends Collection<T>> {
+
+    /**
+     * Delete a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @return a future that will contain removed tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> delete(Conditions conditions) throws TarantoolClientException;
+
+    /**
+     * Delete a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @param options    operation options
+     * @return a future that will contain removed tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> delete(Conditions conditions, DeleteOptions options) throws TarantoolClientException {
+        return delete(conditions);
+    }
+
+    /**
+     * Delete several tuples by their primary keys at once. The keys of the tuples which do not exist are skipped.
+     * The proxy client deletes the tuples independently and, if some of them fail, completes the future with
+     * {@link io.tarantool.driver.exceptions.TarantoolBatchOperationException} containing the removed tuples and
+     * the errors by keys. The standalone client deletes all tuples in one interactive transaction, which requires
+     * Tarantool 2.10 or newer with memtx_use_mvcc_engine enabled.
+     *
+     * @param keys primary key values of the tuples
+     * @return a future that will contain all removed tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> deleteMany(Collection<List<?>> keys) throws TarantoolClientException;
+
+    /**
+     * Delete several tuples by their primary keys at once. The keys of the tuples which do not exist are skipped.
+     * The proxy client deletes the tuples independently and, if some of them fail, completes the future with
+     * {@link io.tarantool.driver.exceptions.TarantoolBatchOperationException} containing the removed tuples and
+     * the errors by keys. The standalone client deletes all tuples in one interactive transaction, which requires
+     * Tarantool 2.10 or newer with memtx_use_mvcc_engine enabled.
+     *
+     * @param keys    primary key values of the tuples
+     * @param options operation options
+     * @return a future that will contain all removed tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> deleteMany(Collection<List<?>> keys, DeleteManyOptions options)
+            throws TarantoolClientException {
+        return deleteMany(keys);
+    }
+
+    /**
+     * Inserts tuple into the space, if no tuple with same unique keys exists. Otherwise throw duplicate key error.
+     *
+     * @param tuple new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    CompletableFuture<R> insert(T tuple) throws TarantoolClientException;
+
+    /**
+     * Inserts tuple into the space, if no tuple with same unique keys exists. Otherwise throw duplicate key error.
+     *
+     * @param tuple   new data
+     * @param options operation options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    default CompletableFuture<R> insert(T tuple, InsertOptions options) throws TarantoolClientException {
+        return insert(tuple);
+    }
+
+    /**
+     * Inserts several tuples into the space at once. If writing of any tuple fails,
+     * all tuples will not be saved.
+     *
+     * @param tuples new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    CompletableFuture<R> insertMany(Collection<T> tuples) throws TarantoolClientException;
+
+    /**
+     * Inserts several tuples into the space at once. If writing of any tuple fails,
+     * all tuples will not be saved.
+     *
+     * @param tuples new data
+     * @param options operation options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    default CompletableFuture<R> insertMany(Collection<T> tuples, InsertManyOptions options)
+            throws TarantoolClientException {
+        return insertMany(tuples);
+    }
+
+    /**
+     * Insert a tuple into the space or replace an existing one.
+     *
+     * @param tuple new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    CompletableFuture<R> replace(T tuple) throws TarantoolClientException;
+
+    /**
+     * Insert a tuple into the space or replace an existing one.
+     *
+     * @param tuple   new data
+     * @param options operation options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    default CompletableFuture<R> replace(T tuple, ReplaceOptions options) throws TarantoolClientException {
+        return replace(tuple);
+    }
+
+    /**
+     * Insert or replace several tuples into the space at once. If writing of any tuple fails,
+     * all tuples will not be saved.
+     *
+     * @param tuples new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    CompletableFuture<R> replaceMany(Collection<T> tuples) throws TarantoolClientException;
+
+    /**
+     * Insert or replace several tuples into the space at once. If writing of any tuple fails,
+     * all tuples will not be saved, but this behavior can be changed with the options.
+     *
+     * @param tuples new data
+     * @param options operation options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if request failed
+     */
+    default CompletableFuture<R> replaceMany(Collection<T> tuples, ReplaceManyOptions options)
+            throws TarantoolClientException {
+        return replaceMany(tuples);
+    }
+
+    /**
+     * Get a tuple by the primary key value. Unlike {@link #select(Conditions)}, the key values are passed directly to
+     * the primary index, without building a query plan.
+     *
+     * @param key primary key field values, in the order of the primary index parts
+     * @return a future that will contain the found tuple or empty value once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Optional<T>> get(List<?> key) throws TarantoolClientException;
+
+    /**
+     * Get a tuple by the primary key value with the specified options.
+     *
+     * @param key     primary key field values, in the order of the primary index parts
+     * @param options operation options
+     * @return a future that will contain the found tuple or empty value once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Optional<T>> get(List<?> key, GetOptions options) throws TarantoolClientException {
+        return get(key);
+    }
+
+    /**
+     * Select tuples matching the specified query with options.
+     *
+     * @param conditions query with options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> select(Conditions conditions) throws TarantoolClientException;
+
+    /**
+     * Select tuples matching the specified query with specified conditions and options.
+     *
+     * @param conditions specified conditions
+     * @param options    operation options
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> select(Conditions conditions, SelectOptions options) throws TarantoolClientException {
+        return select(conditions);
+    }
+
+    /**
+     * Count the tuples matching the specified conditions. The tuples are counted on the server side, so they are
+     * not transferred to the client. The limit and offset of the conditions are ignored.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the number of matching tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException;
+
+    /**
+     * Count the tuples matching the specified conditions with the specified options.
+     *
+     * @param conditions query with options
+     * @param options    operation options
+     * @return a future that will contain the number of matching tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Long> count(Conditions conditions, CountOptions options)
+            throws TarantoolClientException {
+        return count(conditions);
+    }
+
+    /**
+     * Get the total number of tuples in the space. Unlike {@link #count(Conditions)}, the index is not traversed,
+     * so the operation is performed in constant time.
+     *
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Long> len() throws TarantoolClientException;
+
+    /**
+     * Get the total number of tuples in the space with the specified options.
+     *
+     * @param options operation options
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Long> len(LenOptions options) throws TarantoolClientException {
+        return len();
+    }
+
+    /**
+     * Get the tuple with the minimal key in the specified index.
+     *
+     * @param indexName index name
+     * @return a future that will contain the found tuple or empty value if the space is empty once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Optional<T>> min(String indexName) throws TarantoolClientException;
+
+    /**
+     * Get the tuple with the minimal key in the specified index with the specified options.
+     *
+     * @param indexName index name
+     * @param options   operation options
+     * @return a future that will contain the found tuple or empty value if the space is empty once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Optional<T>> min(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return min(indexName);
+    }
+
+    /**
+     * Get the tuple with the maximal key in the specified index.
+     *
+     * @param indexName index name
+     * @return a future that will contain the found tuple or empty value if the space is empty once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Optional<T>> max(String indexName) throws TarantoolClientException;
+
+    /**
+     * Get the tuple with the maximal key in the specified index with the specified options.
+     *
+     * @param indexName index name
+     * @param options   operation options
+     * @return a future that will contain the found tuple or empty value if the space is empty once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Optional<T>> max(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return max(indexName);
+    }
+
+    /**
+     * Update a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @param tuple      tuple with new field values
+     * @return a future that will contain corresponding tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> update(Conditions conditions, T tuple);
+
+    /**
+     * Update a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @param tuple      tuple with new field values
+     * @param options    operation options
+     * @return a future that will contain corresponding tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> update(Conditions conditions, T tuple, UpdateOptions options) {
+        return update(conditions, tuple);
+    }
+
+    /**
+     * Update a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @param operations the list update operations
+     * @return a future that will contain corresponding tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> update(Conditions conditions, TupleOperations operations);
+
+    /**
+     * Update a tuple. Only a single primary index value condition is supported.
+     *
+     * @param conditions query with options
+     * @param operations the list update operations
+     * @param options    operation options
+     * @return a future that will contain corresponding tuple once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> update(Conditions conditions, TupleOperations operations, UpdateOptions options) {
+        return update(conditions, operations);
+    };
+
+    /**
+     * Update tuple if it would be found elsewhere try to insert tuple. Only a single primary index value condition
+     * is supported.
+     *
+     * @param conditions query with options
+     * @param tuple      new data that will be insert if tuple will be not found
+     * @param operations the list of update operations to be performed if the tuple exists
+     * @return a future that will empty list
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> upsert(Conditions conditions, T tuple, TupleOperations operations);
+
+    /**
+     * Update tuple if it would be found elsewhere try to insert tuple. Only a single primary index value condition
+     * is supported.
+     *
+     * @param conditions query with options
+     * @param tuple      new data that will be insert if tuple will be not found
+     * @param operations the list of update operations to be performed if the tuple exists
+     * @param options    operation options
+     * @return a future that will empty list
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> upsert(Conditions conditions, T tuple, TupleOperations operations,
+                                        UpsertOptions options) {
+        return upsert(conditions, tuple, operations);
+    };
+
+    /**
+     * Upsert several tuples at once. Each tuple is inserted if there is no tuple with the same primary key,
+     * otherwise the corresponding operations are applied to the existing tuple. If writing of any tuple fails,
+     * all tuples will not be saved. The standalone client requires Tarantool 2.10 or newer with
+     * memtx_use_mvcc_engine enabled for this operation.
+     *
+     * @param tuplesOperationData tuples and the update operations
+     * @return a future that will contain an empty result once all tuples are written, as upsert does not
+     *         return the tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData)
+            throws TarantoolClientException;
+
+    /**
+     * Upsert several tuples at once. Each tuple is inserted if there is no tuple with the same primary key,
+     * otherwise the corresponding operations are applied to the existing tuple. If writing of any tuple fails,
+     * all tuples will not be saved. The standalone client requires Tarantool 2.10 or newer with
+     * memtx_use_mvcc_engine enabled for this operation.
+     *
+     * @param tuplesOperationData tuples and the update operations
+     * @param options             operation options
+     * @return a future that will contain an empty result once all tuples are written, as upsert does not
+     *         return the tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData,
+                                            UpsertManyOptions options) throws TarantoolClientException {
+        return upsertMany(tuplesOperationData);
+    }
+
+    /**
+     * Truncate space if space would be found. Otherwise, throw space not found error.
+     *
+     * @return a future that will contain void.
+     * @throws TarantoolClientException in case if request failed
+     */
+    CompletableFuture<Void> truncate() throws TarantoolClientException;
+
+    /**
+     * Get metadata associated with this space
+     *
+     * @return space metadata
+     */
+    TarantoolSpaceMetadata getMetadata();
+
+    /**
+     * Cursor is an iterator-like object that is able to scroll through
+     * results of a query. Unlike a single cursor loads new tuples
+     * dynamically issuing requests to server.
+     * <p>
+     * Select will fetch tuples matching the specified query.
+     * Each request to server will fetch no more than 'batch size' tuples.
+     *
+     * @param conditions query with options
+     * @param batchSize  size of a batch of single client request
+     * @return cursor that can iterate through all corresponding tuples
+     */
+    TarantoolCursor<T> cursor(Conditions conditions, int batchSize);
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#cursor(Conditions, int)}
+     * but the number of tuples requested in each batch is determined by the specified policy,
+     * for example, {@link io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy}.
+     *
+     * @param conditions      query with options
+     * @param batchSizePolicy batch size policy instance, must not be shared with other cursors
+     * @return cursor that can iterate through all corresponding tuples
+     */
+    TarantoolCursor<T> cursor(Conditions conditions, CursorBatchSizePolicy batchSizePolicy);
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#cursor(Conditions, int)}
+     * but uses the batch size policy specified in the client configuration,
+     * which requests the default number of tuples in each batch unless configured otherwise.
+     *
+     * @param conditions query with options
+     * @return cursor that can iterate through all corresponding tuples
+     */
+    TarantoolCursor<T> cursor(Conditions conditions);
+
+    /**
+     * Asynchronous cursor returns the results of a query in batches, each batch is represented by a future.
+     * Unlike {@link TarantoolSpaceOperations#cursor(Conditions, int)}, it does not block the caller thread and
+     * requests the next batches from server in advance, while the current batch is being processed.
+     * <p>
+     * Each request to server will fetch no more than 'batch size' tuples.
+     *
+     * @param conditions      query with options
+     * @param batchSize       size of a batch of single client request
+     * @param prefetchBatches number of batches requested in advance
+     * @return asynchronous cursor that can iterate through all corresponding tuples
+     */
+    TarantoolAsyncCursor<T> asyncCursor(Conditions conditions, int batchSize, int prefetchBatches);
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#asyncCursor(Conditions, int, int)}
+     * but uses the default batch size and number of prefetched batches.
+     *
+     * @param conditions query with options
+     * @return asynchronous cursor that can iterate through all corresponding tuples
+     */
+    TarantoolAsyncCursor<T> asyncCursor(Conditions conditions);
+
+    /**
+     * Publisher executes the query when a subscriber requests the tuples. Each request to server fetches no more
+     * tuples than the subscriber has requested and not more than 'max batch size', and the next request is sent
+     * only when there is outstanding demand, so the memory used for a subscription is bounded.
+     *
+     * @param conditions   query with options
+     * @param maxBatchSize maximum size of a batch of single client request
+     * @return publisher of all corresponding tuples
+     */
+    TarantoolPublisher<T> publisher(Conditions conditions, int maxBatchSize);
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#publisher(Conditions, int)}
+     * but uses the default batch size as the maximum batch size.
+     *
+     * @param conditions query with options
+     * @return publisher of all corresponding tuples
+     */
+    TarantoolPublisher<T> publisher(Conditions conditions);
+
+    /**
+     * Split the query into partitions, which do not intersect and may be scanned independently. For the cluster
+     * spaces the partitions are ranges of bucket IDs, for the standalone spaces they are ranges of the index keys
+     * with boundaries sampled from the space. If the query cannot be split, a single partition with the specified
+     * conditions is returned.
+     *
+     * @param conditions     query with options
+     * @param partitionCount maximum number of partitions, must be positive
+     * @return a future with the conditions for each partition
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<List<Conditions>> partitions(Conditions conditions, int partitionCount)
+            throws TarantoolClientException;
+
+    /**
+     * Scan all partitions of the query concurrently, each with its own asynchronous cursor, see
+     * {@link #partitions(Conditions, int)}. The batches of one partition are passed to the consumer sequentially,
+     * but the batches of different partitions may be passed concurrently from different threads.
+     *
+     * @param conditions    query with options
+     * @param parallelism   maximum number of partitions scanned concurrently
+     * @param batchConsumer consumer accepting the partition number and a batch of tuples from it
+     * @return a future completed when all partitions have been scanned
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Void> parallelScan(Conditions conditions,
+                                                 int parallelism,
+                                                 BiConsumer<Integer, Collection<T>> batchConsumer)
+            throws TarantoolClientException {
+        return partitions(conditions, parallelism).thenCompose(partitions -> {
+            CompletableFuture<?>[] scans = new CompletableFuture<?>[partitions.size()];
+            for (int i = 0; i < partitions.size(); i++) {
+                int partition = i;
+                scans[i] = asyncCursor(partitions.get(i))
+                        .forEachBatch(batch -> batchConsumer.accept(partition, batch));
+            }
+            return CompletableFuture.allOf(scans);
+        });
+    }
+
+    /**
+     * Get a parallel stream of the tuples matching the query. The stream is split by the query partitions, see
+     * {@link #partitions(Conditions, int)}, and each partition is scanned with its own cursor. The stream
+     * operations block on the cursor requests.
+     *
+     * @param conditions  query with options
+     * @param parallelism maximum number of partitions
+     * @return parallel stream of tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default Stream<T> parallelStream(Conditions conditions, int parallelism) throws TarantoolClientException {
+        List<Conditions> partitions;
+        try {
+            partitions = partitions(conditions, parallelism).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException(e);
+        }
+        return StreamSupport.stream(new TarantoolPartitionSpliterator<>(partitions, this::cursor), true);
+    }
+
+    /**
+     * Get a stream of the tuples matching the query. The tuples are fetched lazily with a cursor, see
+     * {@link #cursor(Conditions)}, when the stream terminal operation is performed. If the stream is made parallel,
+     * it is split by the query partitions, see {@link #partitions(Conditions, int)}, which are requested when the
+     * terminal operation starts. Closing the stream closes the cursors. The stream operations block on the cursor
+     * requests.
+     *
+     * @param conditions query with options
+     * @return stream of tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default Stream<T> stream(Conditions conditions) throws TarantoolClientException {
+        return TarantoolCursorSpliterator.stream(
+                conditions, this::cursor, c -> partitions(c, ForkJoinPool.getCommonPoolParallelism()));
+    }
+}
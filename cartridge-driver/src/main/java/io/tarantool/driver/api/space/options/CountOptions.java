@@ -0,0 +1,7 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Marker interface for space count operation options
+ */
+public interface CountOptions extends OperationWithReadRoutingOptions {
+}
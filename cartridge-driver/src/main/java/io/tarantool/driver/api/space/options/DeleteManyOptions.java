@@ -0,0 +1,7 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Marker interface for space delete_many operation options
+ */
+public interface DeleteManyOptions extends OperationWithTimeoutOptions {
+}
@@ -0,0 +1,7 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Marker interface for space get operation options
+ */
+public interface GetOptions extends OperationWithReadRoutingOptions, OperationWithFieldsOptions {
+}
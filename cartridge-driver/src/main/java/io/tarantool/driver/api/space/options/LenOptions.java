@@ -0,0 +1,7 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Marker interface for space len operation options
+ */
+public interface LenOptions extends OperationWithTimeoutOptions {
+}
@@ -0,0 +1,7 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Marker interface for space min and max operation options
+ */
+public interface MinMaxOptions extends OperationWithTimeoutOptions {
+}
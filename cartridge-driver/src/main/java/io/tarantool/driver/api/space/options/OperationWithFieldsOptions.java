@@ -0,0 +1,16 @@
+package io.tarantool.driver.api.space.options;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base interface for operation options that may restrict the set of tuple fields returned in the result.
+ */
+public interface OperationWithFieldsOptions extends OperationWithTimeoutOptions {
+    /**
+     * Return the names of the fields which are returned in the result tuples.
+     *
+     * @return list of field names
+     */
+    Optional<List<String>> getFields();
+}
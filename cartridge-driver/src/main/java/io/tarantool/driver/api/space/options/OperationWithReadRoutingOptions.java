@@ -0,0 +1,29 @@
+package io.tarantool.driver.api.space.options;
+
+import java.util.Optional;
+
+/**
+ * Base interface for read operation options that may specify which replicaset instances are used for reading.
+ */
+public interface OperationWithReadRoutingOptions extends OperationWithBucketIdOptions {
+    /**
+     * Return the instance role used for performing the operation.
+     *
+     * @return read mode
+     */
+    Optional<ReadMode> getMode();
+
+    /**
+     * Return whether the replicas are preferred over the master for performing the operation.
+     *
+     * @return true if the replicas are preferred
+     */
+    Optional<Boolean> getPreferReplica();
+
+    /**
+     * Return whether the read load is balanced between the replicaset instances.
+     *
+     * @return true if the load is balanced
+     */
+    Optional<Boolean> getBalance();
+}
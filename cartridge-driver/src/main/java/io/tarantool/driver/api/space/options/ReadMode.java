@@ -0,0 +1,30 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Instance role used for performing a read operation in a sharded cluster
+ */
+public enum ReadMode {
+    /**
+     * The operation may be performed on a replica
+     */
+    READ("read"),
+    /**
+     * The operation is performed on the replicaset master
+     */
+    WRITE("write");
+
+    private final String value;
+
+    ReadMode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Get the option value passed to the server
+     *
+     * @return mode name
+     */
+    public String value() {
+        return value;
+    }
+}
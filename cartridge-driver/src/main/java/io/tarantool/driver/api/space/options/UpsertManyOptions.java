@@ -0,0 +1,24 @@
+package io.tarantool.driver.api.space.options;
+
+import java.util.Optional;
+
+/**
+ * Marker interface for space upsert_many operation options
+ */
+public interface UpsertManyOptions extends OperationWithTimeoutOptions {
+    /**
+     * Return whether all changes should not be saved if any tuple upsert
+     * was unsuccesful.
+     *
+     * @return true, if the operation should rollback on error
+     */
+    Optional<Boolean> getRollbackOnError();
+
+    /**
+     * Return whether the operation should be interrupted if any tuple upsert
+     * was unsuccesful.
+     *
+     * @return true, if the operation should stop on error
+     */
+    Optional<Boolean> getStopOnError();
+}
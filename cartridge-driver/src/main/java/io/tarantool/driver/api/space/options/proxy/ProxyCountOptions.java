@@ -0,0 +1,26 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.CountOptions;
+
+/**
+ * Represent options for count cluster proxy operation
+ */
+public final class ProxyCountOptions extends ProxyReadOptions<ProxyCountOptions> implements CountOptions {
+
+    private ProxyCountOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyCountOptions create() {
+        return new ProxyCountOptions();
+    }
+
+    @Override
+    protected ProxyCountOptions self() {
+        return this;
+    }
+}
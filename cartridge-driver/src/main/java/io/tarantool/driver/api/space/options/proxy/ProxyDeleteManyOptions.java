@@ -0,0 +1,27 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.DeleteManyOptions;
+
+/**
+ * Represent options for delete_many cluster proxy operation
+ */
+public final class ProxyDeleteManyOptions extends ProxyBaseOptions<ProxyDeleteManyOptions>
+    implements DeleteManyOptions {
+
+    private ProxyDeleteManyOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyDeleteManyOptions create() {
+        return new ProxyDeleteManyOptions();
+    }
+
+    @Override
+    protected ProxyDeleteManyOptions self() {
+        return this;
+    }
+}
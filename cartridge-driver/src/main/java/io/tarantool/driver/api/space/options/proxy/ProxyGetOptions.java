@@ -0,0 +1,26 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.GetOptions;
+
+/**
+ * Represent options for get cluster proxy operation
+ */
+public final class ProxyGetOptions extends ProxyProjectionOptions<ProxyGetOptions> implements GetOptions {
+
+    private ProxyGetOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyGetOptions create() {
+        return new ProxyGetOptions();
+    }
+
+    @Override
+    protected ProxyGetOptions self() {
+        return this;
+    }
+}
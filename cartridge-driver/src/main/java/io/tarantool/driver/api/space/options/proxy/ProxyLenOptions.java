@@ -0,0 +1,26 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.LenOptions;
+
+/**
+ * Represent options for len cluster proxy operations
+ */
+public final class ProxyLenOptions extends ProxyBaseOptions<ProxyLenOptions> implements LenOptions {
+
+    private ProxyLenOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyLenOptions create() {
+        return new ProxyLenOptions();
+    }
+
+    @Override
+    protected ProxyLenOptions self() {
+        return this;
+    }
+}
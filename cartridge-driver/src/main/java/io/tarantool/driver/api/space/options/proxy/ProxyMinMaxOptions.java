@@ -0,0 +1,26 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.MinMaxOptions;
+
+/**
+ * Represent options for min and max cluster proxy operations
+ */
+public final class ProxyMinMaxOptions extends ProxyBaseOptions<ProxyMinMaxOptions> implements MinMaxOptions {
+
+    private ProxyMinMaxOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyMinMaxOptions create() {
+        return new ProxyMinMaxOptions();
+    }
+
+    @Override
+    protected ProxyMinMaxOptions self() {
+        return this;
+    }
+}
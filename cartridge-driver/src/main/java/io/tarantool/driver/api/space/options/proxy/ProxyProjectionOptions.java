@@ -0,0 +1,50 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.OperationWithFieldsOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represent options for proxy read functions returning tuples, which may contain only a subset of fields.
+ */
+abstract class ProxyProjectionOptions<B extends ProxyProjectionOptions<B>> extends ProxyReadOptions<B>
+        implements OperationWithFieldsOptions {
+
+    public static final String FIELDS = "fields";
+
+    /**
+     * Specifies the fields returned in the result tuples. The result tuples contain only these fields, in the
+     * specified order, so the fields not needed by the application are not transferred and decoded.
+     *
+     * @param fields field names
+     * @return this options instance
+     */
+    public B withFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("Fields should not be empty");
+        }
+        addOption(FIELDS, Collections.unmodifiableList(new ArrayList<>(fields)));
+        return self();
+    }
+
+    /**
+     * Specifies the fields returned in the result tuples.
+     *
+     * @param fields field names
+     * @return this options instance
+     * @see #withFields(List)
+     */
+    public B withFields(String... fields) {
+        return withFields(Arrays.asList(fields));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<List<String>> getFields() {
+        return getOption(FIELDS, List.class).map(fields -> (List<String>) fields);
+    }
+}
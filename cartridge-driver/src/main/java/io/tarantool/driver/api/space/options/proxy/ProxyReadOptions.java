@@ -0,0 +1,71 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import io.tarantool.driver.api.space.options.OperationWithReadRoutingOptions;
+import io.tarantool.driver.api.space.options.ReadMode;
+
+import java.util.Optional;
+
+/**
+ * Represent options for proxy read functions, which may be performed on the replicas.
+ * The options which are not specified are taken from the client proxy operations mapping config.
+ *
+ * @see io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig
+ */
+abstract class ProxyReadOptions<B extends ProxyReadOptions<B>> extends ProxyBucketIdOptions<B>
+        implements OperationWithReadRoutingOptions {
+
+    public static final String MODE = "mode";
+    public static final String PREFER_REPLICA = "prefer_replica";
+    public static final String BALANCE = "balance";
+
+    /**
+     * Specifies the instance role used for performing the operation. By default, crud performs the reads on the
+     * replicaset masters.
+     *
+     * @param mode read mode
+     * @return this options instance
+     */
+    public B withMode(ReadMode mode) {
+        addOption(MODE, mode);
+        return self();
+    }
+
+    /**
+     * Specifies whether the operation is performed on a replica if there is any available one.
+     * Applicable only in the {@link ReadMode#READ} mode.
+     *
+     * @param preferReplica true for preferring the replicas
+     * @return this options instance
+     */
+    public B withPreferReplica(boolean preferReplica) {
+        addOption(PREFER_REPLICA, preferReplica);
+        return self();
+    }
+
+    /**
+     * Specifies whether the operations are spread among the replicaset instances in round-robin manner.
+     * Applicable only in the {@link ReadMode#READ} mode.
+     *
+     * @param balance true for balancing the load
+     * @return this options instance
+     */
+    public B withBalance(boolean balance) {
+        addOption(BALANCE, balance);
+        return self();
+    }
+
+    @Override
+    public Optional<ReadMode> getMode() {
+        return getOption(MODE, ReadMode.class);
+    }
+
+    @Override
+    public Optional<Boolean> getPreferReplica() {
+        return getOption(PREFER_REPLICA, Boolean.class);
+    }
+
+    @Override
+    public Optional<Boolean> getBalance() {
+        return getOption(BALANCE, Boolean.class);
+    }
+}
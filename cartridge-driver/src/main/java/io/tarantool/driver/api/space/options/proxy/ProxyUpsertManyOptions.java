@@ -0,0 +1,66 @@
+package io.tarantool.driver.api.space.options.proxy;
+
+import java.util.Optional;
+
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
+
+/**
+ * Represent options for upsert_many cluster proxy operation
+ */
+public final class ProxyUpsertManyOptions extends ProxyBaseOptions<ProxyUpsertManyOptions>
+    implements UpsertManyOptions {
+
+    public static final String ROLLBACK_ON_ERROR = "rollback_on_error";
+    public static final String STOP_ON_ERROR = "stop_on_error";
+
+    private ProxyUpsertManyOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyUpsertManyOptions create() {
+        return new ProxyUpsertManyOptions();
+    }
+
+    /**
+     * Specifies whether to not save any changes in the space if any tuple upsert operation
+     * is unsuccesful. Default value is <code>true</code>.
+     *
+     * @param rollbackOnError should rollback batch on error
+     * @return this options instance
+     */
+    public ProxyUpsertManyOptions withRollbackOnError(boolean rollbackOnError) {
+        addOption(ROLLBACK_ON_ERROR, rollbackOnError);
+        return self();
+    }
+
+    /**
+     * Specifies whether to not try to upsert more tuples into the space if any tuple upsert
+     * operation is unsuccesful. Default value is <code>true</code>.
+     *
+     * @param stopOnError should stop batch on error
+     * @return this options instance
+     */
+    public ProxyUpsertManyOptions withStopOnError(boolean stopOnError) {
+        addOption(STOP_ON_ERROR, stopOnError);
+        return self();
+    }
+
+    @Override
+    protected ProxyUpsertManyOptions self() {
+        return this;
+    }
+
+    @Override
+    public Optional<Boolean> getRollbackOnError() {
+        return getOption(ROLLBACK_ON_ERROR, Boolean.class);
+    }
+
+    @Override
+    public Optional<Boolean> getStopOnError() {
+        return getOption(STOP_ON_ERROR, Boolean.class);
+    }
+}
@@ -0,0 +1,99 @@
+package io.tarantool.driver.api.transaction;
+
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interactive transaction bound to a single IPROTO stream. All operations performed through this interface are
+ * executed by the server sequentially within one transaction, which is started when the transaction instance is
+ * created. Requires Tarantool 2.10 or newer with memtx_use_mvcc_engine enabled.
+ * <p>
+ * The operations are pipelined: it is not necessary to wait for the result of the previous operation before
+ * sending the next one. Closing an active transaction rolls it back.
+ * <pre>
+ * <code>
+ * try (TarantoolTransaction&lt;TarantoolTuple, TarantoolResult&lt;TarantoolTuple&gt;&gt; tx = client.transaction()) {
+ *     tx.space("accounts").update(Conditions.indexEquals("primary", from), debit);
+ *     tx.space("accounts").update(Conditions.indexEquals("primary", to), credit);
+ *     tx.commit().get();
+ * }
+ * </code>
+ * </pre>
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ */
+public interface TarantoolTransaction<T extends Packable, R extends Collection<T>> extends AutoCloseable {
+    /**
+     * Provides CRUD and other operations for a Tarantool space within this transaction
+     *
+     * @param spaceName name of the space, must not be null or empty
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the space is not found
+     */
+    TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException;
+
+    /**
+     * Provides CRUD and other operations for a Tarantool space within this transaction
+     *
+     * @param spaceId ID of the space, must be greater than 0
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the space is not found
+     */
+    TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException;
+
+    /**
+     * Execute a function defined on Tarantool instance within this transaction. The mapper specified in the client
+     * configuration will be used for arguments and result values conversion.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @return some result
+     * @throws TarantoolClientException if the transaction is finished or the request cannot be created
+     */
+    CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Evaluate a Lua expression on Tarantool instance within this transaction. The mapper specified in the client
+     * configuration will be used for arguments and result values conversion.
+     *
+     * @param expression Lua expression, must not be null or empty
+     * @param arguments  list of expression arguments
+     * @return some result
+     * @throws TarantoolClientException if the transaction is finished or the request cannot be created
+     */
+    CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Commit the transaction. The future is completed exceptionally if the transaction could not be started or
+     * committed.
+     *
+     * @return a future that completes when the transaction is committed
+     */
+    CompletableFuture<Void> commit();
+
+    /**
+     * Roll back the transaction
+     *
+     * @return a future that completes when the transaction is rolled back
+     */
+    CompletableFuture<Void> rollback();
+
+    /**
+     * Check if the transaction is neither committed nor rolled back
+     *
+     * @return true, if the transaction is active
+     */
+    boolean isActive();
+
+    /**
+     * Roll back the transaction if it is still active
+     */
+    @Override
+    void close();
+}
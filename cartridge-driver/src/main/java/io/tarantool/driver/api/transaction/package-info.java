@@ -0,0 +1,4 @@
+/**
+ * Interactive transactions API for standalone Tarantool servers.
+ */
+package io.tarantool.driver.api.transaction;
@@ -1,6 +1,7 @@
 package io.tarantool.driver.api.tuple;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.tuple.LazyTarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
 import io.tarantool.driver.mappers.MessagePackMapper;
 
@@ -53,4 +54,9 @@ public class DefaultTarantoolTupleFactory implements TarantoolTupleFactory {
     public TarantoolTuple create(Collection<?> fields) {
         return new TarantoolTupleImpl(fields, mapper, metadata);
     }
+
+    @Override
+    public TarantoolTuple createFromMessagePack(byte[] data) {
+        return new LazyTarantoolTuple(data, mapper, metadata);
+    }
 }
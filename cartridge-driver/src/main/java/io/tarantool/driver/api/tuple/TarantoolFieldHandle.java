@@ -0,0 +1,112 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
+
+/**
+ * Pre-resolved accessor for a tuple field, obtained from {@link TarantoolTupleSchema}. The handle keeps the field
+ * position and the value converter for the field type, so reading the field with
+ * {@link TarantoolTuple#getObject(TarantoolFieldHandle)} does not require the field name lookup and the converter
+ * search in the mapper. The handle is thread-safe and should be reused.
+ *
+ * @param <O> target value type
+ */
+public final class TarantoolFieldHandle<O> {
+
+    private final int position;
+    private final String name;
+    private final Class<O> targetClass;
+    private final MessagePackValueMapper mapper;
+    private ResolvedConverter<O> resolvedConverter;
+
+    TarantoolFieldHandle(int position, String name, Class<O> targetClass, MessagePackValueMapper mapper,
+                         ValueType expectedType) {
+        this.position = position;
+        this.name = name;
+        this.targetClass = targetClass;
+        this.mapper = mapper;
+        if (expectedType != null) {
+            this.resolvedConverter = resolveConverter(expectedType);
+        }
+    }
+
+    /**
+     * Get the field position
+     *
+     * @return position starting from 0
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Get the field name
+     *
+     * @return field name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the target value type
+     *
+     * @return target value type class
+     */
+    public Class<O> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Convert the field value to the target type
+     *
+     * @param value MessagePack value or an entity object stored in the tuple field, may be null
+     * @return converted value, may be null
+     */
+    @SuppressWarnings("unchecked")
+    public O convert(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Value)) {
+            if (targetClass.isInstance(value)) {
+                return (O) value;
+            }
+            throw new UnsupportedOperationException(
+                    String.format("Cannot convert field value of type %s to type %s", value.getClass(), targetClass));
+        }
+
+        Value messagePackValue = (Value) value;
+        if (messagePackValue.isNilValue()) {
+            return null;
+        }
+        ResolvedConverter<O> resolved = resolvedConverter;
+        if (resolved == null || resolved.valueType != messagePackValue.getValueType()) {
+            // the handles are shared between threads, a racy update only causes an extra converter lookup
+            resolved = resolveConverter(messagePackValue.getValueType());
+            resolvedConverter = resolved;
+        }
+        if (resolved.converter != null && resolved.converter.canConvertValue(messagePackValue)) {
+            return resolved.converter.fromValue(messagePackValue);
+        }
+        return mapper.fromValue(messagePackValue, targetClass);
+    }
+
+    private ResolvedConverter<O> resolveConverter(ValueType valueType) {
+        ValueConverter<Value, O> converter =
+                mapper.<Value, O>getValueConverter(valueType, targetClass).orElse(null);
+        return new ResolvedConverter<>(valueType, converter);
+    }
+
+    private static final class ResolvedConverter<O> {
+        private final ValueType valueType;
+        private final ValueConverter<Value, O> converter;
+
+        private ResolvedConverter(ValueType valueType, ValueConverter<Value, O> converter) {
+            this.valueType = valueType;
+            this.converter = converter;
+        }
+    }
+}
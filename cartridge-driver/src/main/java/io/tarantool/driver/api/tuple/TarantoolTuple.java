@@ -84,6 +84,34 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      */
     Optional<?> getObject(String fieldName);
 
+    /**
+     * Get a tuple field value using the pre-resolved field handle. This is the fastest way of reading the field
+     * values by their names, see {@link TarantoolTupleSchema}.
+     *
+     * @param field field handle obtained from the schema of the tuple space
+     * @param <O> target value type
+     * @return nullable value of a field, converted to the target type
+     */
+    <O> O getObject(TarantoolFieldHandle<O> field);
+
+    /**
+     * Check if a tuple field is empty or does not exist. Unlike the other accessors, this check does not convert the
+     * field value.
+     *
+     * @param fieldPosition field position from the the tuple start, starting from 0
+     * @return true, if the field value is {@code null} or the field position is out of tuple length
+     */
+    boolean isNull(int fieldPosition);
+
+    /**
+     * Check if a tuple field is empty or does not exist. Unlike the other accessors, this check does not convert the
+     * field value.
+     *
+     * @param fieldName field name, should not be null
+     * @return true, if the field value is {@code null} or the field does not exist
+     */
+    boolean isNull(String fieldName);
+
     /**
      * Get the number of fields in this tuple
      *
@@ -219,6 +247,72 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      */
     Long getLong(String fieldName);
 
+    /**
+     * Get the field value as a primitive {@code long}. The value is read directly without the mapper converters
+     * and boxing, so only integer values fitting into {@code long} are accepted.
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    long getLongAsPrimitive(int fieldPosition);
+
+    /**
+     * Get the field value as a primitive {@code long}. The value is read directly without the mapper converters
+     * and boxing, so only integer values fitting into {@code long} are accepted.
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    long getLongAsPrimitive(String fieldName);
+
+    /**
+     * Get the field value as a primitive {@code int}. The value is read directly without the mapper converters
+     * and boxing, so only integer values fitting into {@code int} are accepted.
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    int getIntAsPrimitive(int fieldPosition);
+
+    /**
+     * Get the field value as a primitive {@code int}. The value is read directly without the mapper converters
+     * and boxing, so only integer values fitting into {@code int} are accepted.
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    int getIntAsPrimitive(String fieldName);
+
+    /**
+     * Get the field value as a primitive {@code double}. The value is read directly without the mapper converters
+     * and boxing, so only floating point and integer values are accepted.
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    double getDoubleAsPrimitive(int fieldPosition);
+
+    /**
+     * Get the field value as a primitive {@code double}. The value is read directly without the mapper converters
+     * and boxing, so only floating point and integer values are accepted.
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws io.tarantool.driver.exceptions.TarantoolClientException if the field is null, does not exist or
+     * contains a value of another type
+     */
+    double getDoubleAsPrimitive(String fieldName);
+
     /**
      * Get the field value converted to {@code String}
      *
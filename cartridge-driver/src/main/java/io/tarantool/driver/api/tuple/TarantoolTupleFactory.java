@@ -30,4 +30,12 @@ public interface TarantoolTupleFactory {
      * @return new tuple instance
      */
     TarantoolTuple create(Collection<?> fields);
+
+    /**
+     * Create a tuple from a serialized MessagePack array. The tuple fields are decoded lazily on access.
+     *
+     * @param data serialized tuple, must not be modified after passing to the tuple
+     * @return new tuple instance
+     */
+    TarantoolTuple createFromMessagePack(byte[] data);
 }
@@ -0,0 +1,157 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ValueType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space format compiled for fast access to the tuple fields. Each field name is assigned to the field position once,
+ * and the fields are accessed with {@link TarantoolFieldHandle} instances, which should be obtained once and reused
+ * for reading the tuples of the same space.
+ * <p>
+ * The schema is created once per space metadata instance, see {@link TarantoolSpaceMetadata#getTupleSchema()}.
+ * Since the space metadata is replaced when it is refreshed, the handles must be obtained again from the new
+ * schema after the space format change.
+ */
+public final class TarantoolTupleSchema {
+
+    private final String[] fieldNames;
+    private final String[] fieldTypes;
+    private final Map<String, Integer> fieldPositions;
+
+    /**
+     * Basic constructor
+     *
+     * @param spaceMetadata space metadata, must not be null
+     */
+    public TarantoolTupleSchema(TarantoolSpaceMetadata spaceMetadata) {
+        Assert.notNull(spaceMetadata, "Space metadata should not be null");
+
+        Map<String, TarantoolFieldMetadata> format = spaceMetadata.getSpaceFormatMetadata();
+        int size = 0;
+        for (TarantoolFieldMetadata field : format.values()) {
+            size = Math.max(size, field.getFieldPosition() + 1);
+        }
+        this.fieldNames = new String[size];
+        this.fieldTypes = new String[size];
+        this.fieldPositions = new HashMap<>(format.size() * 4 / 3 + 1);
+        for (TarantoolFieldMetadata field : format.values()) {
+            fieldNames[field.getFieldPosition()] = field.getFieldName();
+            fieldTypes[field.getFieldPosition()] = field.getFieldType();
+            fieldPositions.put(field.getFieldName(), field.getFieldPosition());
+        }
+    }
+
+    /**
+     * Get the number of fields in the space format
+     *
+     * @return number of fields
+     */
+    public int size() {
+        return fieldNames.length;
+    }
+
+    /**
+     * Get the field position by its name
+     *
+     * @param fieldName field name, must not be null
+     * @return field position starting from 0, or -1 if the field is not found
+     */
+    public int getFieldPosition(String fieldName) {
+        Integer position = fieldPositions.get(fieldName);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Get the field name by its position
+     *
+     * @param fieldPosition field position starting from 0
+     * @return field name
+     * @throws IndexOutOfBoundsException if the position is out of the space format
+     */
+    public String getFieldName(int fieldPosition) {
+        return fieldNames[fieldPosition];
+    }
+
+    /**
+     * Get the field type by its position
+     *
+     * @param fieldPosition field position starting from 0
+     * @return field type as specified in the space format, for example, {@code unsigned}
+     * @throws IndexOutOfBoundsException if the position is out of the space format
+     */
+    public String getFieldType(int fieldPosition) {
+        return fieldTypes[fieldPosition];
+    }
+
+    /**
+     * Get a handle for reading the field values converted to the target type
+     *
+     * @param fieldName   field name, must not be null
+     * @param targetClass target value type class
+     * @param mapper      mapper for converting the field values, must be configured before obtaining the handle
+     * @param <O>         target value type
+     * @return field handle
+     * @throws TarantoolSpaceFieldNotFoundException if the field is not found
+     */
+    public <O> TarantoolFieldHandle<O> getFieldHandle(String fieldName, Class<O> targetClass,
+                                                      MessagePackValueMapper mapper) {
+        int fieldPosition = getFieldPosition(fieldName);
+        if (fieldPosition < 0) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return getFieldHandle(fieldPosition, targetClass, mapper);
+    }
+
+    /**
+     * Get a handle for reading the field values converted to the target type
+     *
+     * @param fieldPosition field position starting from 0
+     * @param targetClass   target value type class
+     * @param mapper        mapper for converting the field values, must be configured before obtaining the handle
+     * @param <O>           target value type
+     * @return field handle
+     * @throws IndexOutOfBoundsException if the position is out of the space format
+     */
+    public <O> TarantoolFieldHandle<O> getFieldHandle(int fieldPosition, Class<O> targetClass,
+                                                      MessagePackValueMapper mapper) {
+        return new TarantoolFieldHandle<>(fieldPosition, fieldNames[fieldPosition], targetClass, mapper,
+                getValueType(fieldTypes[fieldPosition]));
+    }
+
+    private static ValueType getValueType(String fieldType) {
+        if (fieldType == null) {
+            return null;
+        }
+        switch (fieldType) {
+            case "unsigned":
+            case "integer":
+                return ValueType.INTEGER;
+            case "double":
+                return ValueType.FLOAT;
+            case "string":
+                return ValueType.STRING;
+            case "boolean":
+                return ValueType.BOOLEAN;
+            case "varbinary":
+                return ValueType.BINARY;
+            case "array":
+                return ValueType.ARRAY;
+            case "map":
+                return ValueType.MAP;
+            case "decimal":
+            case "uuid":
+            case "datetime":
+            case "interval":
+                return ValueType.EXTENSION;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.tarantool.driver.api.tuple.operations;
+
+import io.tarantool.driver.utils.Assert;
+
+/**
+ * A tuple and the update operations to be performed in one item of a batch upsert. The tuple is inserted if there
+ * is no tuple with the same primary key, otherwise the operations are applied to the existing tuple.
+ *
+ * @param <T> tuple type
+ */
+public final class TupleWithOperations<T> {
+
+    private final T tuple;
+    private final TupleOperations operations;
+
+    private TupleWithOperations(T tuple, TupleOperations operations) {
+        this.tuple = tuple;
+        this.operations = operations;
+    }
+
+    /**
+     * Create a new batch upsert item
+     *
+     * @param tuple      new data that will be inserted if the tuple does not exist
+     * @param operations the list of update operations to be performed if the tuple exists
+     * @param <T>        tuple type
+     * @return new item
+     */
+    public static <T> TupleWithOperations<T> of(T tuple, TupleOperations operations) {
+        Assert.notNull(tuple, "Tuple must not be null");
+        Assert.notNull(operations, "Operations must not be null");
+        return new TupleWithOperations<>(tuple, operations);
+    }
+
+    /**
+     * Get the tuple to be inserted
+     *
+     * @return tuple
+     */
+    public T getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Get the update operations
+     *
+     * @return tuple operations
+     */
+    public TupleOperations getOperations() {
+        return operations;
+    }
+}
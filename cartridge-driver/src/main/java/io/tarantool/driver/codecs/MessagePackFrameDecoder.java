@@ -43,14 +43,11 @@ public class MessagePackFrameDecoder extends ReplayingDecoder<MessagePackFrameDe
                         if (byteBuf.readableBytes() < size) {
                             return;
                         }
-                        ByteBuf bodyBuf = byteBuf.readBytes(size);
-                        try (ByteBufInputStream in = new ByteBufInputStream(bodyBuf)) {
-                            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                            list.add(TarantoolResponse.fromMessagePack(unpacker));
-                            unpacker.close();
-                            size = 0;
-                        }
-                        bodyBuf.release();
+                        // the data is kept by the response, so that the result tuples may be read lazily
+                        byte[] body = new byte[size];
+                        byteBuf.readBytes(body);
+                        list.add(TarantoolResponse.fromMessagePack(body));
+                        size = 0;
                     }
                     checkpoint(DecoderState.LENGTH);
                     break;
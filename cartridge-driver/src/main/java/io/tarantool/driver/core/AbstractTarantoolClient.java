@@ -11,6 +11,7 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.batch.TarantoolBatch;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
@@ -18,6 +19,8 @@ import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.transaction.TarantoolTransaction;
+import io.tarantool.driver.core.batch.TarantoolBatchImpl;
 import io.tarantool.driver.core.connection.TarantoolConnectionFactory;
 import io.tarantool.driver.core.connection.TarantoolConnectionManager;
 import io.tarantool.driver.core.metadata.SpacesMetadataProvider;
@@ -33,6 +36,7 @@ import io.tarantool.driver.mappers.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.protocol.Packable;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
 import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
 import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
 import io.tarantool.driver.utils.Assert;
@@ -166,6 +170,11 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+        return space(spaceName, connectionManager());
+    }
+
+    TarantoolSpaceOperations<T, R> space(String spaceName, TarantoolConnectionManager connectionManager)
+            throws TarantoolClientException {
         Assert.hasText(spaceName, "Space name must not be null or empty");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -174,11 +183,16 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
 
-        return spaceOperations(config, connectionManager(), metadata, meta.get());
+        return spaceOperations(config, connectionManager, metadata, meta.get());
     }
 
     @Override
     public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+        return space(spaceId, connectionManager());
+    }
+
+    TarantoolSpaceOperations<T, R> space(int spaceId, TarantoolConnectionManager connectionManager)
+            throws TarantoolClientException {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -187,7 +201,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             throw new TarantoolSpaceNotFoundException(spaceId);
         }
 
-        return spaceOperations(config, connectionManager(), metadata, meta.get());
+        return spaceOperations(config, connectionManager, metadata, meta.get());
     }
 
     /**
@@ -527,6 +541,33 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         }
     }
 
+    @Override
+    public TarantoolBatch batch() throws TarantoolClientException {
+        return new TarantoolBatchImpl(config, mapperFactoryFactory, () -> connectionManager().getConnection());
+    }
+
+    @Override
+    public TarantoolTransaction<T, R> transaction(TarantoolTransactionIsolation isolation)
+            throws TarantoolClientException {
+        Assert.notNull(isolation, "Transaction isolation level must not be null");
+        try {
+            // the stream must be bound to the connection before any request is sent, so that the requests
+            // are written in the same order as they are issued
+            TarantoolConnection connection = connectionManager().getConnection().get();
+            TarantoolTransactionImpl<T, R> transaction = new TarantoolTransactionImpl<>(this, connection, isolation);
+            // the requests following a failed BEGIN would be executed outside of the transaction
+            transaction.getBeginFuture().get();
+            return transaction;
+        } catch (InterruptedException e) {
+            throw new TarantoolClientException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TarantoolClientException) {
+                throw (TarantoolClientException) e.getCause();
+            }
+            throw new TarantoolClientException(e.getCause());
+        }
+    }
+
     @Override
     public TarantoolClientConfig getConfig() {
         return config;
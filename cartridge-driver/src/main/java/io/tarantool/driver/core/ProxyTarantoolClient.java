@@ -7,6 +7,7 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.batch.TarantoolBatch;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.DDLMetadataContainerResult;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
@@ -17,6 +18,8 @@ import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.core.metadata.DDLTarantoolSpaceMetadataConverter;
 import io.tarantool.driver.core.metadata.ProxyMetadataProvider;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
+import io.tarantool.driver.core.sharding.BucketIdResolver;
+import io.tarantool.driver.core.sharding.VshardStorageRouter;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -70,6 +73,8 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
     private final ProxyOperationsMappingConfig mappingConfig;
     private final ProxyMetadataProvider metadataProvider;
     private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final BucketIdResolver bucketIdResolver;
+    private final VshardStorageRouter storageRouter;
 
     /**
      * Basic constructor
@@ -87,6 +92,8 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         this.client.getConnectionListeners().clear();
         this.metadataProvider = new ProxyMetadataProvider(client, mappingConfig.getGetSchemaFunctionName(),
                 new DDLTarantoolSpaceMetadataConverter(), DDLMetadataContainerResult.class);
+        this.bucketIdResolver = new BucketIdResolver(client, mappingConfig.getBucketCountFunctionName());
+        this.storageRouter = new VshardStorageRouter(client, config, mappingConfig);
     }
 
     @Override
@@ -131,6 +138,25 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
                                                                       TarantoolMetadataOperations metadata,
                                                                       TarantoolSpaceMetadata spaceMetadata);
 
+    /**
+     * Get the bucket ID resolver shared by the space API implementation instances of this client
+     *
+     * @return bucket ID resolver
+     */
+    protected BucketIdResolver bucketIdResolver() {
+        return bucketIdResolver;
+    }
+
+    /**
+     * Get the router for sending the operations directly to the storages, shared by the space API implementation
+     * instances of this client
+     *
+     * @return storage router
+     */
+    protected VshardStorageRouter storageRouter() {
+        return storageRouter;
+    }
+
     @Override
     public TarantoolMetadataOperations metadata() throws TarantoolClientException {
         if (metadataHolder.get() == null) {
@@ -421,9 +447,18 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return this.client.refresh();
     }
 
+    @Override
+    public TarantoolBatch batch() throws TarantoolClientException {
+        return this.client.batch();
+    }
+
     @Override
     public void close() throws Exception {
-        this.client.close();
+        try {
+            this.storageRouter.close();
+        } finally {
+            this.client.close();
+        }
     }
 
     /**
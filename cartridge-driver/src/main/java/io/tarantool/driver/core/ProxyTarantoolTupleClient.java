@@ -45,6 +45,7 @@ public class ProxyTarantoolTupleClient extends ProxyTarantoolClient<TarantoolTup
             ProxyOperationsMappingConfig mappingConfig,
             TarantoolMetadataOperations metadata,
             TarantoolSpaceMetadata spaceMetadata) {
-        return new ProxyTarantoolTupleSpace(config, client, mappingConfig, spaceMetadata, metadata);
+        return new ProxyTarantoolTupleSpace(
+                config, client, mappingConfig, spaceMetadata, metadata, bucketIdResolver(), storageRouter());
     }
 }
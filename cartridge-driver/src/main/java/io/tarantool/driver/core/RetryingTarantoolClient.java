@@ -6,12 +6,14 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.batch.TarantoolBatch;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.transaction.TarantoolTransaction;
 import io.tarantool.driver.core.space.RetryingTarantoolSpace;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -21,6 +23,7 @@ import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
 import org.msgpack.value.Value;
 
 import java.util.Collection;
@@ -389,6 +392,17 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return this.client.refresh();
     }
 
+    @Override
+    public TarantoolBatch batch() throws TarantoolClientException {
+        return this.client.batch();
+    }
+
+    @Override
+    public TarantoolTransaction<T, R> transaction(TarantoolTransactionIsolation isolation)
+            throws TarantoolClientException {
+        return this.client.transaction(isolation);
+    }
+
     @Override
     public void close() throws Exception {
         client.close();
@@ -10,6 +10,7 @@ import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicyFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
@@ -155,6 +156,12 @@ public class TarantoolClientBuilderImpl extends TarantoolClientConfiguratorImpl<
         return this;
     }
 
+    @Override
+    public TarantoolClientBuilder withCursorBatchSizePolicy(CursorBatchSizePolicyFactory factory) {
+        this.configBuilder.withCursorBatchSizePolicy(factory);
+        return this;
+    }
+
     @Override
     public TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> build() {
         TarantoolClientConfig config = this.config != null ? this.config : this.configBuilder.build();
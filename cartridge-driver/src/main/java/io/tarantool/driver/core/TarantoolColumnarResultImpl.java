@@ -0,0 +1,320 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.columnar.BooleanColumn;
+import io.tarantool.driver.api.columnar.DoubleColumn;
+import io.tarantool.driver.api.columnar.LongColumn;
+import io.tarantool.driver.api.columnar.ObjectColumn;
+import io.tarantool.driver.api.columnar.StringColumn;
+import io.tarantool.driver.api.columnar.TarantoolColumn;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Basic {@link TarantoolColumnarResult} implementation. Supports the same result formats as
+ * {@link TarantoolResultImpl}: a MessagePack array of arrays (as in IPROTO) and a map with format
+ * {@code {"rows": [[], ...], "metadata": []}} as returned by tarantool/crud module.
+ * <p>
+ * The column types are determined by the field types in the space format. The columns of the fields which are
+ * not present in the format or have a type allowing values of different kinds (for example, {@code number} or
+ * {@code scalar}) get the type fitting all their values.
+ */
+public class TarantoolColumnarResultImpl implements TarantoolColumnarResult {
+
+    private static final StringValue RESULT_META = ValueFactory.newString("metadata");
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+    private static final StringValue FIELD_NAME = ValueFactory.newString("name");
+    private static final StringValue FIELD_TYPE = ValueFactory.newString("type");
+
+    private enum ColumnKind {
+        LONG, DOUBLE, BOOLEAN, STRING, OBJECT
+    }
+
+    private final int size;
+    private final List<TarantoolColumn> columns;
+    private final Map<String, Integer> columnPositions;
+
+    /**
+     * Basic constructor
+     *
+     * @param value         result contents
+     * @param spaceMetadata space metadata providing the field names and types, may be null
+     * @param mapper        mapper for converting the values which have no primitive representation
+     */
+    public TarantoolColumnarResultImpl(Value value, TarantoolSpaceMetadata spaceMetadata,
+                                       MessagePackValueMapper mapper) {
+        List<Value> rows;
+        List<Value> format = null;
+        if (value.isArrayValue()) {
+            // [[[],...]]
+            rows = value.asArrayValue().list();
+        } else if (value.isMapValue()) {
+            // [{"metadata" : [...], "rows": [...]}]
+            Map<Value, Value> tupleMap = value.asMapValue().map();
+            Value tupleArray = tupleMap.get(RESULT_ROWS);
+            Value tupleFormat = tupleMap.get(RESULT_META);
+            if (tupleArray == null || tupleFormat == null) {
+                throw new TarantoolClientException("The received tuple map has wrong format, " +
+                        "expected {\"metadata\" : [...], \"rows\": [...]}, got %s", value.toString());
+            }
+            if (!tupleArray.isArrayValue()) {
+                throw new TarantoolClientException("The \"rows\" field must contain a MessagePack array");
+            }
+            rows = tupleArray.asArrayValue().list();
+            if (tupleFormat.isArrayValue()) {
+                format = tupleFormat.asArrayValue().list();
+            }
+        } else if (value.isNilValue()) {
+            // [nil]
+            rows = Collections.emptyList();
+        } else {
+            throw new TarantoolClientException("The received result cannot be converted to an array of tuples: %s",
+                    value.toString());
+        }
+
+        this.size = rows.size();
+        ArrayValue[] tuples = new ArrayValue[size];
+        int columnCount = spaceMetadata != null ? spaceMetadata.getSpaceFormatMetadata().size() :
+                format != null ? format.size() : 0;
+        for (int row = 0; row < size; row++) {
+            Value tuple = rows.get(row);
+            if (!tuple.isArrayValue()) {
+                throw new TarantoolClientException(
+                        "The result row %d is not a tuple: %s", row, tuple.getValueType());
+            }
+            tuples[row] = tuple.asArrayValue();
+            columnCount = Math.max(columnCount, tuples[row].size());
+        }
+
+        TarantoolFieldMetadata[] fields = new TarantoolFieldMetadata[columnCount];
+        if (spaceMetadata != null) {
+            for (TarantoolFieldMetadata field : spaceMetadata.getSpaceFormatMetadata().values()) {
+                fields[field.getFieldPosition()] = field;
+            }
+        }
+
+        this.columns = new ArrayList<>(columnCount);
+        this.columnPositions = new HashMap<>();
+        for (int position = 0; position < columnCount; position++) {
+            String fieldName = null;
+            String fieldType = null;
+            if (fields[position] != null) {
+                fieldName = fields[position].getFieldName();
+                fieldType = fields[position].getFieldType();
+            } else if (format != null && position < format.size() && format.get(position).isMapValue()) {
+                Map<Value, Value> field = format.get(position).asMapValue().map();
+                fieldName = getString(field.get(FIELD_NAME));
+                fieldType = getString(field.get(FIELD_TYPE));
+            }
+            columns.add(createColumn(fieldName, fieldType, tuples, position, mapper));
+            if (fieldName != null) {
+                columnPositions.put(fieldName, position);
+            }
+        }
+    }
+
+    private static String getString(Value value) {
+        return value != null && value.isStringValue() ? value.asStringValue().asString() : null;
+    }
+
+    private static Value getValue(ArrayValue tuple, int position) {
+        return position < tuple.size() ? tuple.get(position) : ValueFactory.newNil();
+    }
+
+    private static TarantoolColumn createColumn(String name, String fieldType, ArrayValue[] tuples, int position,
+                                                MessagePackValueMapper mapper) {
+        ColumnKind kind = getColumnKind(fieldType);
+        if (kind == null) {
+            kind = inferColumnKind(tuples, position);
+        }
+
+        int size = tuples.length;
+        BitSet nulls = new BitSet(size);
+        switch (kind) {
+            case LONG:
+                long[] longs = new long[size];
+                for (int row = 0; row < size; row++) {
+                    Value value = getValue(tuples[row], position);
+                    if (value.isNilValue()) {
+                        nulls.set(row);
+                    } else if (value.isIntegerValue() && value.asIntegerValue().isInLongRange()) {
+                        longs[row] = value.asIntegerValue().toLong();
+                    } else {
+                        throw unexpectedValue(name, position, value, kind);
+                    }
+                }
+                return new LongColumn(name, longs, nulls);
+            case DOUBLE:
+                double[] doubles = new double[size];
+                for (int row = 0; row < size; row++) {
+                    Value value = getValue(tuples[row], position);
+                    if (value.isNilValue()) {
+                        nulls.set(row);
+                    } else if (value.isNumberValue()) {
+                        doubles[row] = value.asNumberValue().toDouble();
+                    } else {
+                        throw unexpectedValue(name, position, value, kind);
+                    }
+                }
+                return new DoubleColumn(name, doubles, nulls);
+            case BOOLEAN:
+                BitSet booleans = new BitSet(size);
+                for (int row = 0; row < size; row++) {
+                    Value value = getValue(tuples[row], position);
+                    if (value.isNilValue()) {
+                        nulls.set(row);
+                    } else if (value.isBooleanValue()) {
+                        booleans.set(row, value.asBooleanValue().getBoolean());
+                    } else {
+                        throw unexpectedValue(name, position, value, kind);
+                    }
+                }
+                return new BooleanColumn(name, size, booleans, nulls);
+            case STRING:
+                // the strings are compared by their MessagePack representation, so each distinct value is decoded once
+                Map<Value, Integer> codesByValue = new HashMap<>();
+                List<String> dictionary = new ArrayList<>();
+                int[] codes = new int[size];
+                for (int row = 0; row < size; row++) {
+                    Value value = getValue(tuples[row], position);
+                    if (value.isNilValue()) {
+                        nulls.set(row);
+                        codes[row] = StringColumn.NULL_CODE;
+                    } else if (value.isStringValue()) {
+                        Integer code = codesByValue.get(value);
+                        if (code == null) {
+                            code = dictionary.size();
+                            dictionary.add(value.asStringValue().asString());
+                            codesByValue.put(value, code);
+                        }
+                        codes[row] = code;
+                    } else {
+                        throw unexpectedValue(name, position, value, kind);
+                    }
+                }
+                return new StringColumn(name, codes, dictionary.toArray(new String[0]), nulls);
+            default:
+                Value[] values = new Value[size];
+                for (int row = 0; row < size; row++) {
+                    values[row] = getValue(tuples[row], position);
+                    if (values[row].isNilValue()) {
+                        nulls.set(row);
+                    }
+                }
+                return new ObjectColumn(name, values, nulls, mapper);
+        }
+    }
+
+    private static ColumnKind getColumnKind(String fieldType) {
+        if (fieldType == null) {
+            return null;
+        }
+        switch (fieldType) {
+            case "unsigned":
+            case "integer":
+                return ColumnKind.LONG;
+            case "double":
+                return ColumnKind.DOUBLE;
+            case "boolean":
+                return ColumnKind.BOOLEAN;
+            case "string":
+                return ColumnKind.STRING;
+            default:
+                return null;
+        }
+    }
+
+    private static ColumnKind inferColumnKind(ArrayValue[] tuples, int position) {
+        ColumnKind kind = null;
+        for (ArrayValue tuple : tuples) {
+            Value value = getValue(tuple, position);
+            ColumnKind valueKind;
+            switch (value.getValueType()) {
+                case NIL:
+                    continue;
+                case INTEGER:
+                    valueKind = value.asIntegerValue().isInLongRange() ? ColumnKind.LONG : ColumnKind.OBJECT;
+                    break;
+                case FLOAT:
+                    valueKind = ColumnKind.DOUBLE;
+                    break;
+                case BOOLEAN:
+                    valueKind = ColumnKind.BOOLEAN;
+                    break;
+                case STRING:
+                    valueKind = ColumnKind.STRING;
+                    break;
+                default:
+                    return ColumnKind.OBJECT;
+            }
+            if (kind == null || kind == valueKind) {
+                kind = valueKind;
+            } else if (kind == ColumnKind.LONG && valueKind == ColumnKind.DOUBLE ||
+                    kind == ColumnKind.DOUBLE && valueKind == ColumnKind.LONG) {
+                kind = ColumnKind.DOUBLE;
+            } else {
+                return ColumnKind.OBJECT;
+            }
+        }
+        return kind == null ? ColumnKind.OBJECT : kind;
+    }
+
+    private static TarantoolClientException unexpectedValue(String name, int position, Value value,
+                                                            ColumnKind kind) {
+        return new TarantoolClientException("Value of type %s in field %s cannot be stored in a %s column",
+                value.getValueType(), name != null ? name : position, kind.name().toLowerCase());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public List<TarantoolColumn> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    @Override
+    public TarantoolColumn getColumn(int fieldPosition) {
+        return columns.get(fieldPosition);
+    }
+
+    @Override
+    public TarantoolColumn getColumn(String fieldName) {
+        Integer position = columnPositions.get(fieldName);
+        if (position == null) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return columns.get(position);
+    }
+
+    @Override
+    public <C extends TarantoolColumn> C getColumn(String fieldName, Class<C> columnClass) {
+        TarantoolColumn column = getColumn(fieldName);
+        if (!columnClass.isInstance(column)) {
+            throw new TarantoolClientException("Field %s is stored in a column of type %s, not %s",
+                    fieldName, column.getClass().getSimpleName(), columnClass.getSimpleName());
+        }
+        return columnClass.cast(column);
+    }
+}
@@ -4,12 +4,18 @@ import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.ValueReader;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -33,6 +39,45 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
     private List<T> tuples;
 
     public TarantoolResultImpl(Value value, ValueConverter<ArrayValue, T> tupleConverter) {
+        setResult(value, tupleConverter);
+    }
+
+    /**
+     * Create the result from the serialized MessagePack data. If the data is an array of tuples and the tuple
+     * converter implements {@link ValueReader}, the tuples are read from their serialized parts of the data, which
+     * is not unpacked. Note that such tuples may keep the whole data buffer.
+     *
+     * @param data           buffer with the serialized result, must not be modified after passing to the result
+     * @param offset         result start offset in the buffer
+     * @param length         serialized result length
+     * @param tupleConverter MessagePack-to-entity converter for tuples
+     */
+    @SuppressWarnings("unchecked")
+    public TarantoolResultImpl(byte[] data, int offset, int length, ValueConverter<ArrayValue, T> tupleConverter) {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data, offset, length)) {
+            if (!(tupleConverter instanceof ValueReader) ||
+                    unpacker.getNextFormat().getValueType() != ValueType.ARRAY) {
+                setResult(unpacker.unpackValue(), tupleConverter);
+                return;
+            }
+            ValueReader<T> tupleReader = (ValueReader<T>) tupleConverter;
+            int size = unpacker.unpackArrayHeader();
+            this.tuples = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.ARRAY) {
+                    tuples.add(toTuple(unpacker.unpackValue(), tupleConverter));
+                    continue;
+                }
+                int start = offset + (int) unpacker.getTotalReadBytes();
+                unpacker.skipValue();
+                tuples.add(tupleReader.read(data, start, offset + (int) unpacker.getTotalReadBytes() - start));
+            }
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to read the result tuples", e);
+        }
+    }
+
+    private void setResult(Value value, ValueConverter<ArrayValue, T> tupleConverter) {
         if (value.isArrayValue()) {
             // [[[],...]]
             setTuples(value.asArrayValue(), tupleConverter);
@@ -59,16 +104,18 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
 
     private void setTuples(ArrayValue tupleArray, ValueConverter<ArrayValue, T> tupleConverter) {
         this.tuples = tupleArray.list().stream()
-            .map(v -> {
-                try {
-                    return tupleConverter.fromValue(v.asArrayValue());
-                } catch (MessageTypeCastException e) {
-                    throw new TarantoolTupleConversionException(v, e);
-                }
-            })
+            .map(v -> toTuple(v, tupleConverter))
             .collect(Collectors.toList());
     }
 
+    private static <T> T toTuple(Value value, ValueConverter<ArrayValue, T> tupleConverter) {
+        try {
+            return tupleConverter.fromValue(value.asArrayValue());
+        } catch (MessageTypeCastException e) {
+            throw new TarantoolTupleConversionException(value, e);
+        }
+    }
+
     private static boolean hasRowsAndMetadata(Map<Value, Value> valueMap) {
         return valueMap.containsKey(RESULT_META) && valueMap.containsKey(RESULT_ROWS);
     }
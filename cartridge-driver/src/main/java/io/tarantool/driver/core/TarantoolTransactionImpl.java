@@ -0,0 +1,152 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.transaction.TarantoolTransaction;
+import io.tarantool.driver.core.connection.TarantoolStreamConnection;
+import io.tarantool.driver.core.connection.TarantoolStreamConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
+import io.tarantool.driver.protocol.requests.TarantoolBeginRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCommitRequest;
+import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
+import io.tarantool.driver.protocol.requests.TarantoolRollbackRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Basic {@link TarantoolTransaction} implementation. The BEGIN request is written to the stream when the instance
+ * is created, all other requests are pipelined after it.
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ */
+final class TarantoolTransactionImpl<T extends Packable, R extends Collection<T>>
+        implements TarantoolTransaction<T, R> {
+
+    private final AbstractTarantoolClient<T, R> client;
+    private final TarantoolClientConfig config;
+    private final TarantoolStreamConnectionManager connectionManager;
+    private final CompletableFuture<Void> beginFuture;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    TarantoolTransactionImpl(AbstractTarantoolClient<T, R> client,
+                             TarantoolConnection connection,
+                             TarantoolTransactionIsolation isolation) throws TarantoolClientException {
+        this.client = client;
+        this.config = client.getConfig();
+        TarantoolStreamConnection streamConnection = new TarantoolStreamConnection(connection);
+        try {
+            TarantoolBeginRequest request = new TarantoolBeginRequest.Builder()
+                    .withIsolation(isolation)
+                    .build(config.getMessagePackMapper());
+            this.beginFuture = streamConnection.writeBegin(request, config.getMessagePackMapper());
+            streamConnection.flush();
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+        this.connectionManager =
+                new TarantoolStreamConnectionManager(CompletableFuture.completedFuture(streamConnection));
+    }
+
+    /**
+     * Get the future completed when the server has started the transaction
+     *
+     * @return BEGIN request result
+     */
+    CompletableFuture<Void> getBeginFuture() {
+        return beginFuture;
+    }
+
+    @Override
+    public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+        checkActive();
+        return client.space(spaceName, connectionManager);
+    }
+
+    @Override
+    public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+        checkActive();
+        return client.space(spaceId, connectionManager);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException {
+        checkActive();
+        try {
+            TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+                    .withFunctionName(functionName)
+                    .withArguments(arguments)
+                    .build(config.getMessagePackMapper());
+            return sendRequest(request);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException {
+        checkActive();
+        try {
+            TarantoolEvalRequest request = new TarantoolEvalRequest.Builder()
+                    .withExpression(expression)
+                    .withArguments(arguments)
+                    .build(config.getMessagePackMapper());
+            return sendRequest(request);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> commit() {
+        return finish(new TarantoolCommitRequest());
+    }
+
+    @Override
+    public CompletableFuture<Void> rollback() {
+        return finish(new TarantoolRollbackRequest());
+    }
+
+    @Override
+    public boolean isActive() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        if (isActive()) {
+            rollback();
+        }
+    }
+
+    private CompletableFuture<Void> finish(TarantoolRequest request) {
+        if (!active.compareAndSet(true, false)) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(new TarantoolClientException("The transaction is already finished"));
+            return result;
+        }
+        CompletableFuture<Object> finishFuture = sendRequest(request);
+        // the transaction cannot be committed if it has not been started
+        return beginFuture.thenCombine(finishFuture, (b, f) -> null);
+    }
+
+    private void checkActive() {
+        if (!isActive()) {
+            throw new TarantoolClientException("The transaction is already finished");
+        }
+    }
+
+    private <S> CompletableFuture<S> sendRequest(TarantoolRequest request) {
+        return connectionManager.getConnection()
+                .thenCompose(c -> c.sendRequest(request, config.getMessagePackMapper()));
+    }
+}
@@ -0,0 +1,208 @@
+package io.tarantool.driver.core.batch;
+
+import io.tarantool.driver.api.CallResult;
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.batch.TarantoolBatch;
+import io.tarantool.driver.api.batch.TarantoolBatchResult;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.DefaultResultMapperFactoryFactory;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Basic {@link TarantoolBatch} implementation. All items are written to the connection provided by the specified
+ * supplier and flushed at once.
+ */
+public class TarantoolBatchImpl implements TarantoolBatch {
+
+    private final TarantoolClientConfig config;
+    private final DefaultResultMapperFactoryFactory mapperFactoryFactory;
+    private final Supplier<CompletableFuture<TarantoolConnection>> connectionSupplier;
+    private final List<BatchItem<?>> items = new ArrayList<>();
+    private boolean executed;
+
+    /**
+     * Basic constructor
+     *
+     * @param config               client configuration
+     * @param mapperFactoryFactory provides the default result mappers
+     * @param connectionSupplier   provides the connection for sending the batch requests
+     */
+    public TarantoolBatchImpl(TarantoolClientConfig config,
+                              DefaultResultMapperFactoryFactory mapperFactoryFactory,
+                              Supplier<CompletableFuture<TarantoolConnection>> connectionSupplier) {
+        Assert.notNull(config, "Tarantool client config must not be null");
+        Assert.notNull(mapperFactoryFactory, "Result mapper factory must not be null");
+        Assert.notNull(connectionSupplier, "Connection supplier must not be null");
+
+        this.config = config;
+        this.mapperFactoryFactory = mapperFactoryFactory;
+        this.connectionSupplier = connectionSupplier;
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException {
+        return request(makeCallRequest(functionName, arguments, config.getMessagePackMapper()),
+                config.getMessagePackMapper());
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(String functionName, List<?> arguments, Class<S> resultClass)
+            throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(),
+                mapperFactoryFactory.getDefaultSingleValueMapper(config.getMessagePackMapper(), resultClass));
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(String functionName,
+                                                        List<?> arguments,
+                                                        MessagePackObjectMapper argumentsMapper,
+                                                        CallResultMapper<S, SingleValueCallResult<S>> resultMapper)
+            throws TarantoolClientException {
+        CompletableFuture<CallResult<S>> result =
+                request(makeCallRequest(functionName, arguments, argumentsMapper), resultMapper);
+        return result.thenApply(CallResult::value);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException {
+        try {
+            TarantoolEvalRequest request = new TarantoolEvalRequest.Builder()
+                    .withExpression(expression)
+                    .withArguments(arguments)
+                    .build(config.getMessagePackMapper());
+            return request(request, config.getMessagePackMapper());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public <S> CompletableFuture<S> request(TarantoolRequest request, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        Assert.notNull(request, "Request must not be null");
+        Assert.notNull(resultMapper, "Result mapper must not be null");
+        checkNotExecuted();
+
+        BatchItem<S> item = new BatchItem<>(request, resultMapper);
+        items.add(item);
+        return item.future;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult> execute() throws TarantoolClientException {
+        checkNotExecuted();
+        executed = true;
+
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new TarantoolBatchResultImpl(new ArrayList<>(), new ArrayList<>()));
+        }
+
+        CompletableFuture<TarantoolBatchResult> result = connectionSupplier.get()
+                .thenCompose(connection -> {
+                    for (BatchItem<?> item : items) {
+                        item.write(connection);
+                    }
+                    connection.flush();
+                    return collectResults();
+                });
+        result.whenComplete((r, ex) -> {
+            if (ex != null) {
+                for (BatchItem<?> item : items) {
+                    item.future.completeExceptionally(ex);
+                }
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<TarantoolBatchResult> collectResults() {
+        CompletableFuture<?>[] futures = items.stream()
+                .map(item -> item.future.handle((v, e) -> null))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            List<Object> values = new ArrayList<>(items.size());
+            List<Throwable> errors = new ArrayList<>(items.size());
+            for (BatchItem<?> item : items) {
+                try {
+                    values.add(item.future.join());
+                    errors.add(null);
+                } catch (CompletionException e) {
+                    values.add(null);
+                    errors.add(e.getCause() != null ? e.getCause() : e);
+                }
+            }
+            return new TarantoolBatchResultImpl(values, errors);
+        });
+    }
+
+    private TarantoolCallRequest makeCallRequest(String functionName,
+                                                 List<?> arguments,
+                                                 MessagePackObjectMapper argumentsMapper)
+            throws TarantoolClientException {
+        try {
+            TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
+                    .withFunctionName(functionName);
+
+            if (arguments.size() > 0) {
+                builder.withArguments(arguments);
+            }
+
+            return builder.build(argumentsMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    private void checkNotExecuted() {
+        if (executed) {
+            throw new TarantoolClientException("The batch has been already executed");
+        }
+    }
+
+    private static final class BatchItem<S> {
+        private final TarantoolRequest request;
+        private final MessagePackValueMapper resultMapper;
+        private final CompletableFuture<S> future = new CompletableFuture<>();
+
+        BatchItem(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            this.request = request;
+            this.resultMapper = resultMapper;
+        }
+
+        void write(TarantoolConnection connection) {
+            try {
+                CompletableFuture<S> requestFuture = connection.writeRequest(request, resultMapper);
+                requestFuture.whenComplete((value, ex) -> {
+                    if (ex != null) {
+                        future.completeExceptionally(ex);
+                    } else {
+                        future.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.tarantool.driver.core.batch;
+
+import io.tarantool.driver.api.batch.TarantoolBatchResult;
+
+import java.util.List;
+
+/**
+ * Basic {@link TarantoolBatchResult} implementation
+ */
+final class TarantoolBatchResultImpl implements TarantoolBatchResult {
+
+    private final List<Object> values;
+    private final List<Throwable> errors;
+
+    TarantoolBatchResultImpl(List<Object> values, List<Throwable> errors) {
+        this.values = values;
+        this.errors = errors;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean isSuccessful(int index) {
+        return errors.get(index) == null;
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return errors.stream().anyMatch(e -> e != null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S get(int index) {
+        return (S) values.get(index);
+    }
+
+    @Override
+    public Throwable getError(int index) {
+        return errors.get(index);
+    }
+}
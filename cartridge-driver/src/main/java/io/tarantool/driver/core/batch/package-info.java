@@ -0,0 +1,4 @@
+/**
+ * Batch execution implementation.
+ */
+package io.tarantool.driver.core.batch;
@@ -1,6 +1,7 @@
 package io.tarantool.driver.core.connection;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.api.connection.TarantoolConnection;
@@ -65,12 +66,29 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
 
     @Override
     public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper, true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper, false);
+    }
+
+    @Override
+    public void flush() {
+        channel.flush();
+    }
+
+    private <T> CompletableFuture<T> sendRequest(TarantoolRequest request,
+                                                 MessagePackValueMapper resultMapper,
+                                                 boolean flush) {
         if (!isConnected()) {
             throw new TarantoolClientException("Not connected to Tarantool server");
         }
 
         CompletableFuture<T> requestFuture = requestManager.submitRequest(request, resultMapper);
-        channel.writeAndFlush(request).addListener(f -> {
+        ChannelFuture writeFuture = flush ? channel.writeAndFlush(request) : channel.write(request);
+        writeFuture.addListener(f -> {
             if (!f.isSuccess()) {
                 requestFuture.completeExceptionally(
                         new RuntimeException("Failed to send the request to Tarantool server", f.cause()));
@@ -0,0 +1,135 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolInternalException;
+import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolBeginRequest;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorates a connection, marking all requests sent through it with the same stream ID. The server processes
+ * the requests belonging to one stream sequentially, which allows using interactive transactions.
+ * Closing the stream connection does not close the underlying connection.
+ */
+public class TarantoolStreamConnection implements TarantoolConnection {
+
+    private static final AtomicLong streamIdGenerator = new AtomicLong(0);
+
+    private final TarantoolConnection connection;
+    private final long streamId;
+
+    /**
+     * Basic constructor. Generates a new stream ID.
+     *
+     * @param connection the underlying connection
+     */
+    public TarantoolStreamConnection(TarantoolConnection connection) {
+        this.connection = connection;
+        this.streamId = streamIdGenerator.updateAndGet(n -> (n >= Long.MAX_VALUE) ? 1 : n + 1);
+    }
+
+    /**
+     * Get the stream ID assigned to this connection
+     *
+     * @return a positive number
+     */
+    public long getStreamId() {
+        return streamId;
+    }
+
+    /**
+     * Write the request starting an interactive transaction in this stream. The request is not flushed.
+     * <p>
+     * The returned future is completed exceptionally with {@link TarantoolClientException} if the server refuses
+     * to start the transaction, for example when memtx_use_mvcc_engine is not enabled in its configuration.
+     *
+     * @param request      BEGIN request
+     * @param resultMapper mapper for the server response
+     * @return a future that completes when the transaction is started
+     * @throws TarantoolClientException if the server version does not support interactive transactions
+     */
+    public CompletableFuture<Void> writeBegin(TarantoolBeginRequest request, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        TarantoolVersion version = getVersion();
+        if (!version.isAtLeast(2, 10)) {
+            throw new TarantoolClientException(
+                    "Interactive transactions are not supported by the server version %s", version);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        this.writeRequest(request, resultMapper).whenComplete((v, ex) -> {
+            if (ex == null) {
+                result.complete(null);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof TarantoolInternalException && !(cause instanceof TarantoolInternalNetworkException)) {
+                cause = new TarantoolClientException("The server cannot start an interactive transaction, " +
+                        "check that memtx_use_mvcc_engine is enabled: " + cause.getMessage(), cause);
+            }
+            result.completeExceptionally(cause);
+        });
+        return result;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+        return connection.getRemoteAddress();
+    }
+
+    @Override
+    public TarantoolVersion getVersion() throws TarantoolClientException {
+        return connection.getVersion();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connection.isConnected();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        request.getHeader().setStreamId(streamId);
+        return connection.sendRequest(request, resultMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        request.getHeader().setStreamId(streamId);
+        return connection.writeRequest(request, resultMapper);
+    }
+
+    @Override
+    public void flush() {
+        connection.flush();
+    }
+
+    @Override
+    public Channel getChannel() {
+        return connection.getChannel();
+    }
+
+    @Override
+    public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        connection.addConnectionFailureListener(listener);
+    }
+
+    @Override
+    public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        connection.addConnectionCloseListener(listener);
+    }
+
+    @Override
+    public void close() {
+    }
+}
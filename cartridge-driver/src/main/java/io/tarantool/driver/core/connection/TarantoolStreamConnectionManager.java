@@ -0,0 +1,37 @@
+package io.tarantool.driver.core.connection;
+
+import io.tarantool.driver.api.connection.TarantoolConnection;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Connection manager which always provides the same stream connection. Used for binding the space operations
+ * to an interactive transaction.
+ */
+public class TarantoolStreamConnectionManager implements TarantoolConnectionManager {
+
+    private final CompletableFuture<TarantoolConnection> connection;
+
+    /**
+     * Basic constructor
+     *
+     * @param connection future which is completed with the stream connection once it is ready for sending requests
+     */
+    public TarantoolStreamConnectionManager(CompletableFuture<TarantoolConnection> connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public CompletableFuture<TarantoolConnection> getConnection() {
+        return connection;
+    }
+
+    @Override
+    public boolean refresh() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+    }
+}
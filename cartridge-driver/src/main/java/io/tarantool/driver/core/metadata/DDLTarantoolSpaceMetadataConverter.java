@@ -11,6 +11,7 @@ import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -37,6 +38,10 @@ public class DDLTarantoolSpaceMetadataConverter implements ValueConverter<Value,
     private static final StringValue SPACE_ID_KEY = ValueFactory.newString("id");
     private static final StringValue SPACE_FORMAT_KEY = ValueFactory.newString("format");
     private static final StringValue SPACE_INDEXES_KEY = ValueFactory.newString("indexes");
+    private static final StringValue SPACE_SHARDING_KEY_KEY = ValueFactory.newString("sharding_key");
+    private static final StringValue SPACE_SHARDING_FUNC_KEY = ValueFactory.newString("sharding_func");
+
+    private static final StringValue SHARDING_FUNC_BODY_KEY = ValueFactory.newString("body");
 
     private static final StringValue FORMAT_NAME_KEY = ValueFactory.newString("name");
     private static final StringValue FORMAT_TYPE_KEY = ValueFactory.newString("type");
@@ -102,6 +107,16 @@ public class DDLTarantoolSpaceMetadataConverter implements ValueConverter<Value,
             Map<String, TarantoolFieldMetadata> fields = parseFormat(spaceFormat);
             spaceMetadata.setSpaceFormatMetadata(fields);
 
+            Value shardingKeyValue = space.get(SPACE_SHARDING_KEY_KEY);
+            if (shardingKeyValue != null && !shardingKeyValue.isNilValue()) {
+                spaceMetadata.setShardingKey(parseShardingKey(shardingKeyValue));
+            }
+
+            Value shardingFuncValue = space.get(SPACE_SHARDING_FUNC_KEY);
+            if (shardingFuncValue != null && !shardingFuncValue.isNilValue()) {
+                spaceMetadata.setShardingFunction(parseShardingFunction(shardingFuncValue));
+            }
+
             proxyMetadata.addSpace(spaceMetadata);
 
             Value indexesValue = space.get(SPACE_INDEXES_KEY);
@@ -154,6 +169,36 @@ public class DDLTarantoolSpaceMetadataConverter implements ValueConverter<Value,
         return spaceFormatMetadata;
     }
 
+    private List<String> parseShardingKey(Value shardingKeyValue) {
+        if (!shardingKeyValue.isArrayValue()) {
+            throw new TarantoolClientException(
+                    "Unsupported space metadata format: key '" + SPACE_SHARDING_KEY_KEY + "' value is not a list");
+        }
+        List<String> shardingKey = new ArrayList<>(shardingKeyValue.asArrayValue().size());
+        for (Value fieldNameValue : shardingKeyValue.asArrayValue()) {
+            if (!fieldNameValue.isStringValue()) {
+                throw new TarantoolClientException("Unsupported space metadata format: key '"
+                        + SPACE_SHARDING_KEY_KEY + "' must contain string values");
+            }
+            shardingKey.add(fieldNameValue.asStringValue().asString());
+        }
+        return shardingKey;
+    }
+
+    private String parseShardingFunction(Value shardingFuncValue) {
+        if (shardingFuncValue.isStringValue()) {
+            return shardingFuncValue.asStringValue().asString();
+        }
+        if (shardingFuncValue.isMapValue()) {
+            Value bodyValue = shardingFuncValue.asMapValue().map().get(SHARDING_FUNC_BODY_KEY);
+            if (bodyValue != null && bodyValue.isStringValue()) {
+                return bodyValue.asStringValue().asString();
+            }
+        }
+        throw new TarantoolClientException("Unsupported space metadata format: key '" + SPACE_SHARDING_FUNC_KEY
+                + "' must have string value or contain the function body");
+    }
+
     private Map<String, TarantoolIndexMetadata> parseIndexes(Map<String, TarantoolFieldMetadata> fields,
                                                              List<Value> indexes) {
         Map<String, TarantoolIndexMetadata> indexMetadataMap = new HashMap<>();
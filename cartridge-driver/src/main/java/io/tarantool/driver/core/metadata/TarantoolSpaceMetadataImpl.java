@@ -2,8 +2,12 @@ package io.tarantool.driver.core.metadata;
 
 import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTupleSchema;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +27,9 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
     private String spaceName;
     private Map<String, TarantoolFieldMetadata> spaceFormatMetadata;
     private List<TarantoolFieldMetadata> spaceFormatMetadataAsList;
+    private List<String> shardingKey = Collections.emptyList();
+    private String shardingFunction;
+    private transient volatile TarantoolTupleSchema tupleSchema;
     //TODO private TarantoolEngine engine;
 
     /**
@@ -31,6 +38,33 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
     public TarantoolSpaceMetadataImpl() {
     }
 
+    /**
+     * Create the metadata for the tuples containing only the specified fields of the space tuples, in the specified
+     * order. It is used for the results of the operations with field projection.
+     *
+     * @param spaceMetadata metadata of the whole space tuples
+     * @param fieldNames    names of the fields contained in the projected tuples
+     * @return projected tuples metadata
+     * @throws TarantoolSpaceFieldNotFoundException if some of the fields is not found in the space format
+     */
+    public static TarantoolSpaceMetadataImpl projection(TarantoolSpaceMetadata spaceMetadata,
+                                                        List<String> fieldNames) {
+        Map<String, TarantoolFieldMetadata> projectedFormat = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            TarantoolFieldMetadata field = spaceMetadata.getFieldByName(fieldName)
+                    .orElseThrow(() -> new TarantoolSpaceFieldNotFoundException(fieldName));
+            projectedFormat.put(fieldName, new TarantoolFieldMetadataImpl(
+                    fieldName, field.getFieldType(), projectedFormat.size(), field.getIsNullable()));
+        }
+
+        TarantoolSpaceMetadataImpl projection = new TarantoolSpaceMetadataImpl();
+        projection.setSpaceId(spaceMetadata.getSpaceId());
+        projection.setOwnerId(spaceMetadata.getOwnerId());
+        projection.setSpaceName(spaceMetadata.getSpaceName());
+        projection.setSpaceFormatMetadata(projectedFormat);
+        return projection;
+    }
+
     @Override
     public int getSpaceId() {
         return spaceId;
@@ -66,6 +100,7 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
     void setSpaceFormatMetadata(Map<String, TarantoolFieldMetadata> spaceFormatMetadata) {
         this.spaceFormatMetadata = spaceFormatMetadata;
         this.spaceFormatMetadataAsList = new ArrayList<>(spaceFormatMetadata.values());
+        this.tupleSchema = null;
     }
 
     @Override
@@ -85,7 +120,18 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
 
     @Override
     public int getFieldPositionByName(String fieldName) {
-        return getFieldByName(fieldName).map(TarantoolFieldMetadata::getFieldPosition).orElse(-1);
+        TarantoolFieldMetadata fieldMetadata = spaceFormatMetadata.get(fieldName);
+        return fieldMetadata == null ? -1 : fieldMetadata.getFieldPosition();
+    }
+
+    @Override
+    public TarantoolTupleSchema getTupleSchema() {
+        TarantoolTupleSchema schema = tupleSchema;
+        if (schema == null) {
+            schema = new TarantoolTupleSchema(this);
+            tupleSchema = schema;
+        }
+        return schema;
     }
 
     @Override
@@ -93,6 +139,24 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
         return getFieldByPosition(fieldPosition).map(TarantoolFieldMetadata::getFieldName);
     }
 
+    @Override
+    public List<String> getShardingKey() {
+        return shardingKey;
+    }
+
+    void setShardingKey(List<String> shardingKey) {
+        this.shardingKey = shardingKey;
+    }
+
+    @Override
+    public Optional<String> getShardingFunction() {
+        return Optional.ofNullable(shardingFunction);
+    }
+
+    void setShardingFunction(String shardingFunction) {
+        this.shardingFunction = shardingFunction;
+    }
+
     @Override
     public String toString() {
         return "TarantoolSpaceMetadata{" +
@@ -101,6 +165,8 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
                 ", spaceName='" + spaceName + '\'' +
                 ", spaceFormatMetadata=" + spaceFormatMetadata +
                 ", spaceFormatMetadataAsList=" + spaceFormatMetadataAsList +
+                ", shardingKey=" + shardingKey +
+                ", shardingFunction='" + shardingFunction + '\'' +
                 '}';
     }
 
@@ -117,12 +183,15 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
                 ownerId == that.ownerId &&
                 spaceName.equals(that.spaceName) &&
                 Objects.equals(spaceFormatMetadata, that.spaceFormatMetadata) &&
-                Objects.equals(spaceFormatMetadataAsList, that.spaceFormatMetadataAsList);
+                Objects.equals(spaceFormatMetadataAsList, that.spaceFormatMetadataAsList) &&
+                Objects.equals(shardingKey, that.shardingKey) &&
+                Objects.equals(shardingFunction, that.shardingFunction);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(spaceId, ownerId, spaceName, spaceFormatMetadata, spaceFormatMetadataAsList);
+        return Objects.hash(spaceId, ownerId, spaceName, spaceFormatMetadata, spaceFormatMetadataAsList,
+                shardingKey, shardingFunction);
     }
 
     /*
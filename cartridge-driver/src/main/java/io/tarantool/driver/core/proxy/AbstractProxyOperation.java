@@ -2,11 +2,15 @@ package io.tarantool.driver.core.proxy;
 
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.space.options.OperationWithReadRoutingOptions;
 import io.tarantool.driver.api.space.options.Options;
+import io.tarantool.driver.api.space.options.ReadMode;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -66,6 +70,7 @@ abstract class AbstractProxyOperation<T> implements ProxyOperation<T> {
         protected MessagePackObjectMapper argumentsMapper;
         protected CallResultMapper<T, SingleValueCallResult<T>> resultMapper;
         protected O options;
+        protected Optional<Integer> bucketId = Optional.empty();
 
         GenericOperationsBuilder() {
         }
@@ -137,5 +142,79 @@ abstract class AbstractProxyOperation<T> implements ProxyOperation<T> {
             this.options = options;
             return self();
         }
+
+        /**
+         * Specify the bucket ID computed on the client side. It is used only if the bucket ID is not specified
+         * in the operation options
+         *
+         * @param bucketId bucket ID, may be empty
+         * @return builder
+         */
+        public B withBucketId(Optional<Integer> bucketId) {
+            this.bucketId = bucketId;
+            return self();
+        }
+
+        /**
+         * Get the bucket ID to pass with the request: the one specified in the options has precedence over the
+         * computed one
+         *
+         * @param optionsBucketId bucket ID from the operation options
+         * @return bucket ID, may be empty
+         */
+        protected Optional<Integer> resolveBucketId(Optional<Integer> optionsBucketId) {
+            return optionsBucketId.isPresent() ? optionsBucketId : bucketId;
+        }
+    }
+
+    abstract static class ReadOperationsBuilder<T, O extends OperationWithReadRoutingOptions,
+            B extends ReadOperationsBuilder<T, O, B>> extends GenericOperationsBuilder<T, O, B> {
+        protected Optional<ReadMode> defaultMode = Optional.empty();
+        protected Optional<Boolean> defaultPreferReplica = Optional.empty();
+        protected Optional<Boolean> defaultBalance = Optional.empty();
+
+        ReadOperationsBuilder() {
+        }
+
+        /**
+         * Specify the default read routing policy, which is used for the options not specified in the operation
+         * options
+         *
+         * @param operationsMapping proxy operations mapping config
+         * @return builder
+         */
+        public B withDefaultReadRouting(ProxyOperationsMappingConfig operationsMapping) {
+            this.defaultMode = operationsMapping.getDefaultReadMode();
+            this.defaultPreferReplica = operationsMapping.getDefaultPreferReplica();
+            this.defaultBalance = operationsMapping.getDefaultBalance();
+            return self();
+        }
+
+        /**
+         * Get the read mode to pass with the request
+         *
+         * @return read mode name, may be empty
+         */
+        protected Optional<String> resolveMode() {
+            return (options.getMode().isPresent() ? options.getMode() : defaultMode).map(ReadMode::value);
+        }
+
+        /**
+         * Get the prefer_replica option value to pass with the request
+         *
+         * @return option value, may be empty
+         */
+        protected Optional<Boolean> resolvePreferReplica() {
+            return options.getPreferReplica().isPresent() ? options.getPreferReplica() : defaultPreferReplica;
+        }
+
+        /**
+         * Get the balance option value to pass with the request
+         *
+         * @return option value, may be empty
+         */
+        protected Optional<Boolean> resolveBalance() {
+            return options.getBalance().isPresent() ? options.getBalance() : defaultBalance;
+        }
     }
 }
@@ -0,0 +1,76 @@
+package io.tarantool.driver.core.proxy;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This class is not part of the public API.
+ * <p>
+ * Represent options for cluster proxy read operations, which may be performed on the replicas.
+ */
+class CRUDReadOptions extends CRUDBucketIdOptions {
+
+    public static final String MODE = "mode";
+    public static final String PREFER_REPLICA = "prefer_replica";
+    public static final String BALANCE = "balance";
+    public static final String FIELDS = "fields";
+
+    protected <O extends CRUDReadOptions, B extends AbstractBuilder<O, B>>
+    CRUDReadOptions(CRUDReadOptions.AbstractBuilder<O, B> builder) {
+        super(builder);
+        addOption(MODE, builder.mode);
+        addOption(PREFER_REPLICA, builder.preferReplica);
+        addOption(BALANCE, builder.balance);
+        addOption(FIELDS, builder.fields);
+    }
+
+    /**
+     * Inheritable Builder for cluster proxy read operation options.
+     *
+     * @see CRUDAbstractOperationOptions.AbstractBuilder
+     */
+    protected abstract static
+    class AbstractBuilder<O extends CRUDReadOptions, B extends AbstractBuilder<O, B>>
+            extends CRUDBucketIdOptions.AbstractBuilder<O, B> {
+        private Optional<String> mode = Optional.empty();
+        private Optional<Boolean> preferReplica = Optional.empty();
+        private Optional<Boolean> balance = Optional.empty();
+        private Optional<List<String>> fields = Optional.empty();
+
+        public B withMode(Optional<String> mode) {
+            this.mode = mode;
+            return self();
+        }
+
+        public B withPreferReplica(Optional<Boolean> preferReplica) {
+            this.preferReplica = preferReplica;
+            return self();
+        }
+
+        public B withBalance(Optional<Boolean> balance) {
+            this.balance = balance;
+            return self();
+        }
+
+        public B withFields(Optional<List<String>> fields) {
+            this.fields = fields;
+            return self();
+        }
+    }
+
+    /**
+     * Concrete Builder implementation for cluster proxy read operation options.
+     */
+    protected static final class Builder extends AbstractBuilder<CRUDReadOptions, Builder> {
+
+        @Override
+        Builder self() {
+            return this;
+        }
+
+        @Override
+        public CRUDReadOptions build() {
+            return new CRUDReadOptions(this);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import io.tarantool.driver.protocol.Packable;
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-final class CRUDSelectOptions extends CRUDBucketIdOptions {
+final class CRUDSelectOptions extends CRUDReadOptions {
 
     public static final String SELECT_LIMIT = "first";
     public static final String SELECT_AFTER = "after";
@@ -34,7 +34,7 @@ final class CRUDSelectOptions extends CRUDBucketIdOptions {
      * @see CRUDAbstractOperationOptions.AbstractBuilder
      */
     protected abstract static class AbstractBuilder<B extends AbstractBuilder<B>>
-            extends CRUDBucketIdOptions.AbstractBuilder<CRUDSelectOptions, B> {
+            extends CRUDReadOptions.AbstractBuilder<CRUDSelectOptions, B> {
         private Optional<Long> selectLimit = Optional.empty();
         private Optional<Packable> after = Optional.empty();
         private Optional<Integer> selectBatchSize = Optional.empty();
@@ -0,0 +1,98 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.options.CountOptions;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy operation for count
+ */
+public final class CountProxyOperation implements ProxyOperation<Long> {
+
+    private final TarantoolCallOperations client;
+    private final String functionName;
+    private final List<?> arguments;
+    private final MessagePackObjectMapper argumentsMapper;
+
+    private CountProxyOperation(TarantoolCallOperations client,
+                                String functionName,
+                                List<?> arguments,
+                                MessagePackObjectMapper argumentsMapper) {
+        this.client = client;
+        this.functionName = functionName;
+        this.arguments = arguments;
+        this.argumentsMapper = argumentsMapper;
+    }
+
+    public TarantoolCallOperations getClient() {
+        return client;
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    public List<?> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public CompletableFuture<Long> execute() {
+        return client.callForSingleResult(functionName, arguments, argumentsMapper, Long.class);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder
+        extends AbstractProxyOperation.ReadOperationsBuilder<Long, CountOptions, Builder> {
+        private final TarantoolMetadataOperations operations;
+        private final TarantoolSpaceMetadata metadata;
+        private Conditions conditions;
+
+        public Builder(TarantoolMetadataOperations operations, TarantoolSpaceMetadata metadata) {
+            this.operations = operations;
+            this.metadata = metadata;
+        }
+
+        @Override
+        Builder self() {
+            return this;
+        }
+
+        public Builder withConditions(Conditions conditions) {
+            this.conditions = conditions;
+            return this;
+        }
+
+        /**
+         * Prepare request of count operation to Tarantool server
+         *
+         * @return CountProxyOperation instance
+         */
+        public CountProxyOperation build() {
+            CRUDReadOptions requestOptions = new CRUDReadOptions.Builder()
+                    .withTimeout(options.getTimeout())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
+                    .withMode(resolveMode())
+                    .withPreferReplica(resolvePreferReplica())
+                    .withBalance(resolveBalance())
+                    .build();
+
+            List<?> arguments = Arrays.asList(
+                    spaceName,
+                    conditions.toProxyQuery(operations, metadata),
+                    requestOptions.asMap()
+            );
+
+            return new CountProxyOperation(this.client, this.functionName, arguments, this.argumentsMapper);
+        }
+    }
+}
@@ -50,7 +50,7 @@ public final class DeleteProxyOperation<T> extends AbstractProxyOperation<T> {
         public DeleteProxyOperation<T> build() {
             CRUDBucketIdOptions requestOptions = new CRUDBucketIdOptions.Builder()
                     .withTimeout(options.getTimeout())
-                    .withBucketId(options.getBucketId())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
                     .build();
 
             List<?> arguments = Arrays.asList(spaceName, indexQuery.getKeyValues(), requestOptions.asMap());
@@ -0,0 +1,63 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.GetOptions;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Proxy operation for get
+ *
+ * @param <T> result type
+ */
+public final class GetProxyOperation<T> extends AbstractProxyOperation<T> {
+
+    private GetProxyOperation(TarantoolCallOperations client,
+                              String functionName,
+                              List<?> arguments,
+                              MessagePackObjectMapper argumentsMapper,
+                              CallResultMapper<T, SingleValueCallResult<T>> resultMapper) {
+        super(client, functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T>
+        extends ReadOperationsBuilder<T, GetOptions, Builder<T>> {
+        private List<?> key;
+
+        public Builder() {
+        }
+
+        @Override
+        Builder<T> self() {
+            return this;
+        }
+
+        public Builder<T> withKey(List<?> key) {
+            this.key = key;
+            return this;
+        }
+
+        public GetProxyOperation<T> build() {
+            CRUDReadOptions requestOptions = new CRUDReadOptions.Builder()
+                    .withTimeout(options.getTimeout())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
+                    .withMode(resolveMode())
+                    .withPreferReplica(resolvePreferReplica())
+                    .withBalance(resolveBalance())
+                    .withFields(options.getFields())
+                    .build();
+
+            List<?> arguments = Arrays.asList(spaceName, key, requestOptions.asMap());
+
+            return new GetProxyOperation<>(
+                    this.client, this.functionName, arguments, this.argumentsMapper, this.resultMapper);
+        }
+    }
+}
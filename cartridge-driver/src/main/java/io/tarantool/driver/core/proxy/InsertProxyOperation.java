@@ -52,7 +52,7 @@ public final class InsertProxyOperation<T extends Packable, R extends Collection
         public InsertProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDBucketIdOptions.Builder()
                     .withTimeout(options.getTimeout())
-                    .withBucketId(options.getBucketId())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
                     .build();
 
             List<?> arguments = Arrays.asList(spaceName, tuple, requestOptions.asMap());
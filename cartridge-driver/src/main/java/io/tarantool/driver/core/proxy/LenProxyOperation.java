@@ -0,0 +1,79 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.LenOptions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy operation for len
+ */
+public final class LenProxyOperation implements ProxyOperation<Long> {
+
+    private final TarantoolCallOperations client;
+    private final String functionName;
+    private final List<?> arguments;
+
+    private LenProxyOperation(TarantoolCallOperations client,
+                              String functionName,
+                              List<?> arguments) {
+        this.client = client;
+        this.functionName = functionName;
+        this.arguments = arguments;
+    }
+
+    public TarantoolCallOperations getClient() {
+        return client;
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    public List<?> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public CompletableFuture<Long> execute() {
+        return client.callForSingleResult(functionName, arguments, Long.class);
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder
+        extends AbstractProxyOperation.GenericOperationsBuilder<Long, LenOptions, Builder> {
+
+        public Builder() {
+        }
+
+        @Override
+        Builder self() {
+            return this;
+        }
+
+        /**
+         * Prepare request of len operation to Tarantool server
+         *
+         * @return LenProxyOperation instance
+         */
+        public LenProxyOperation build() {
+            CRUDBaseOptions requestOptions = new CRUDBaseOptions.Builder()
+                    .withTimeout(options.getTimeout())
+                    .build();
+
+            List<?> arguments = Arrays.asList(spaceName, requestOptions.asMap());
+
+            return new LenProxyOperation(this.client, this.functionName, arguments);
+        }
+    }
+}
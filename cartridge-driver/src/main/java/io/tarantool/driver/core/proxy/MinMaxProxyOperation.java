@@ -0,0 +1,58 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Proxy operation for min and max. The operation kind is determined by the called function.
+ *
+ * @param <T> result type
+ */
+public final class MinMaxProxyOperation<T> extends AbstractProxyOperation<T> {
+
+    private MinMaxProxyOperation(TarantoolCallOperations client,
+                                 String functionName,
+                                 List<?> arguments,
+                                 MessagePackObjectMapper argumentsMapper,
+                                 CallResultMapper<T, SingleValueCallResult<T>> resultMapper) {
+        super(client, functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T>
+        extends GenericOperationsBuilder<T, MinMaxOptions, Builder<T>> {
+        private String indexName;
+
+        public Builder() {
+        }
+
+        @Override
+        Builder<T> self() {
+            return this;
+        }
+
+        public Builder<T> withIndexName(String indexName) {
+            this.indexName = indexName;
+            return this;
+        }
+
+        public MinMaxProxyOperation<T> build() {
+            CRUDBaseOptions requestOptions = new CRUDBaseOptions.Builder()
+                    .withTimeout(options.getTimeout())
+                    .build();
+
+            List<?> arguments = Arrays.asList(spaceName, indexName, requestOptions.asMap());
+
+            return new MinMaxProxyOperation<>(
+                    this.client, this.functionName, arguments, this.argumentsMapper, this.resultMapper);
+        }
+    }
+}
@@ -53,7 +53,7 @@ public final class ReplaceProxyOperation<T extends Packable, R extends Collectio
         public ReplaceProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDBucketIdOptions.Builder()
                     .withTimeout(options.getTimeout())
-                    .withBucketId(options.getBucketId())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
                     .build();
 
             List<?> arguments = Arrays.asList(spaceName, tuple, requestOptions.asMap());
@@ -34,7 +34,7 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
      * The builder for this class.
      */
     public static final class Builder<T>
-        extends GenericOperationsBuilder<T, SelectOptions, Builder<T>> {
+        extends ReadOperationsBuilder<T, SelectOptions, Builder<T>> {
         private final TarantoolMetadataOperations operations;
         private final TarantoolSpaceMetadata metadata;
         private Conditions conditions;
@@ -60,7 +60,11 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
                     .withSelectBatchSize(options.getBatchSize())
                     .withSelectLimit(Optional.of(conditions.getLimit()))
                     .withSelectAfter(Optional.ofNullable(conditions.getStartTuple()))
-                    .withBucketId(options.getBucketId());
+                    .withBucketId(options.getBucketId())
+                    .withMode(resolveMode())
+                    .withPreferReplica(resolvePreferReplica())
+                    .withBalance(resolveBalance())
+                    .withFields(options.getFields());
 
             List<?> arguments = Arrays.asList(
                     spaceName,
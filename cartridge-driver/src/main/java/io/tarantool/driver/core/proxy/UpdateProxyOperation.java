@@ -57,7 +57,7 @@ public final class UpdateProxyOperation<T> extends AbstractProxyOperation<T> {
         public UpdateProxyOperation<T> build() {
             CRUDBucketIdOptions requestOptions = new CRUDBucketIdOptions.Builder()
                     .withTimeout(options.getTimeout())
-                    .withBucketId(options.getBucketId())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
                     .build();
 
             List<?> arguments = Arrays.asList(spaceName,
@@ -0,0 +1,74 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Proxy operation for upserting many records at once
+ *
+ * @param <T> result type
+ * @param <R> result collection type
+ */
+public final class UpsertManyProxyOperation<T extends Packable, R extends Collection<T>>
+        extends AbstractProxyOperation<R> {
+
+    UpsertManyProxyOperation(TarantoolCallOperations client,
+                             String functionName,
+                             List<?> arguments,
+                             MessagePackObjectMapper argumentsMapper,
+                             CallResultMapper<R, SingleValueCallResult<R>> resultMapper) {
+        super(client, functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T extends Packable, R extends Collection<T>>
+        extends GenericOperationsBuilder<R, UpsertManyOptions, Builder<T, R>> {
+        private Collection<TupleWithOperations<T>> tuplesOperationData;
+
+        public Builder() {
+        }
+
+        @Override
+        Builder<T, R> self() {
+            return this;
+        }
+
+        public Builder<T, R> withTuplesOperationData(Collection<TupleWithOperations<T>> tuplesOperationData) {
+            this.tuplesOperationData = tuplesOperationData;
+            return this;
+        }
+
+        public UpsertManyProxyOperation<T, R> build() {
+            if (tuplesOperationData == null) {
+                throw new IllegalArgumentException("Tuples must be specified for batch upsert operation");
+            }
+
+            CRUDBatchOptions requestOptions = new CRUDBatchOptions.Builder()
+                    .withTimeout(options.getTimeout())
+                    .withStopOnError(options.getStopOnError())
+                    .withRollbackOnError(options.getRollbackOnError())
+                    .build();
+
+            List<List<?>> items = new ArrayList<>(tuplesOperationData.size());
+            for (TupleWithOperations<T> item : tuplesOperationData) {
+                items.add(Arrays.asList(item.getTuple(), item.getOperations().asProxyOperationList()));
+            }
+            List<?> arguments = Arrays.asList(spaceName, items, requestOptions.asMap());
+
+            return new UpsertManyProxyOperation<>(
+                    this.client, this.functionName, arguments, this.argumentsMapper, this.resultMapper);
+        }
+    }
+}
@@ -59,7 +59,7 @@ public final class UpsertProxyOperation<T extends Packable, R extends Collection
         public UpsertProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDBucketIdOptions.Builder()
                     .withTimeout(options.getTimeout())
-                    .withBucketId(options.getBucketId())
+                    .withBucketId(resolveBucketId(options.getBucketId()))
                     .build();
 
             List<?> arguments = Arrays.asList(
@@ -0,0 +1,167 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Computes the vshard bucket IDs on the client side using the sharding key and sharding function specified in the
+ * DDL schema. Only the standard vshard functions are supported, see {@link VshardShardingFunction}.
+ * <p>
+ * The total bucket count is requested from the cluster once, in background, when it is needed for the first time.
+ * Until it is received, or if the request has failed, the bucket IDs are not computed and the router computes them.
+ */
+public class BucketIdResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(BucketIdResolver.class);
+
+    private final TarantoolCallOperations client;
+    private final String bucketCountFunctionName;
+    private final AtomicBoolean bucketCountRequested = new AtomicBoolean();
+    private volatile int bucketCount;
+
+    /**
+     * Basic constructor
+     *
+     * @param client                  client for requesting the bucket count
+     * @param bucketCountFunctionName API function returning the total bucket count. If it is null, the bucket IDs
+     *                                are never computed
+     */
+    public BucketIdResolver(TarantoolCallOperations client, String bucketCountFunctionName) {
+        this.client = client;
+        this.bucketCountFunctionName = bucketCountFunctionName;
+    }
+
+    /**
+     * Get the positions of the sharding key fields in the space tuples. If the sharding key is not specified,
+     * the primary key fields are used.
+     *
+     * @param spaceMetadata      space metadata
+     * @param metadataOperations metadata for retrieving the primary index
+     * @return sharding key field positions, or empty value if the bucket ID cannot be computed for this space
+     */
+    public Optional<List<Integer>> getShardingKeyPositions(TarantoolSpaceMetadata spaceMetadata,
+                                                           TarantoolMetadataOperations metadataOperations) {
+        if (!VshardShardingFunction.fromName(spaceMetadata.getShardingFunction()).isPresent() ||
+                getBucketCount() <= 0) {
+            return Optional.empty();
+        }
+
+        List<String> shardingKey = spaceMetadata.getShardingKey();
+        List<Integer> positions = new ArrayList<>();
+        if (shardingKey.isEmpty()) {
+            Optional<TarantoolIndexMetadata> primaryIndex = metadataOperations.getIndexById(
+                    spaceMetadata.getSpaceName(), TarantoolIndexQuery.PRIMARY);
+            if (!primaryIndex.isPresent()) {
+                return Optional.empty();
+            }
+            for (TarantoolIndexPartMetadata part : primaryIndex.get().getIndexParts()) {
+                if (!isTopLevelField(part)) {
+                    return Optional.empty();
+                }
+                positions.add(part.getFieldIndex());
+            }
+        } else {
+            for (String fieldName : shardingKey) {
+                int position = spaceMetadata.getFieldPositionByName(fieldName);
+                if (position < 0) {
+                    return Optional.empty();
+                }
+                positions.add(position);
+            }
+        }
+        return Optional.of(positions);
+    }
+
+    /**
+     * Extract the sharding key from the primary index key. The sharding key fields must be a part of the
+     * primary key.
+     *
+     * @param spaceMetadata      space metadata
+     * @param metadataOperations metadata for retrieving the primary index
+     * @param positions          sharding key field positions
+     * @param indexQuery         index query
+     * @return sharding key parts, or empty value if the index query does not contain all sharding key fields
+     */
+    public Optional<List<?>> getShardingKey(TarantoolSpaceMetadata spaceMetadata,
+                                            TarantoolMetadataOperations metadataOperations,
+                                            List<Integer> positions,
+                                            TarantoolIndexQuery indexQuery) {
+        if (indexQuery.getIndexId() != TarantoolIndexQuery.PRIMARY) {
+            return Optional.empty();
+        }
+        Optional<TarantoolIndexMetadata> primaryIndex = metadataOperations.getIndexById(
+                spaceMetadata.getSpaceName(), TarantoolIndexQuery.PRIMARY);
+        if (!primaryIndex.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<TarantoolIndexPartMetadata> parts = primaryIndex.get().getIndexParts();
+        List<?> keyValues = indexQuery.getKeyValues();
+        List<Object> shardingKey = new ArrayList<>(positions.size());
+        for (Integer position : positions) {
+            int partNumber = -1;
+            for (int i = 0; i < parts.size(); i++) {
+                if (parts.get(i).getFieldIndex() == position && isTopLevelField(parts.get(i))) {
+                    partNumber = i;
+                    break;
+                }
+            }
+            if (partNumber < 0 || partNumber >= keyValues.size()) {
+                return Optional.empty();
+            }
+            shardingKey.add(keyValues.get(partNumber));
+        }
+        return Optional.of(shardingKey);
+    }
+
+    /**
+     * Compute the bucket ID for the specified sharding key
+     *
+     * @param spaceMetadata space metadata
+     * @param shardingKey   sharding key parts
+     * @return bucket ID, or empty value if it cannot be computed on the client side
+     */
+    public Optional<Integer> getBucketId(TarantoolSpaceMetadata spaceMetadata, List<?> shardingKey) {
+        int count = getBucketCount();
+        if (count <= 0) {
+            return Optional.empty();
+        }
+        return VshardShardingFunction.fromName(spaceMetadata.getShardingFunction())
+                .flatMap(function -> function.bucketId(shardingKey, count));
+    }
+
+    private int getBucketCount() {
+        if (bucketCountFunctionName != null && bucketCountRequested.compareAndSet(false, true)) {
+            try {
+                client.callForSingleResult(bucketCountFunctionName, Integer.class)
+                        .whenComplete((result, ex) -> {
+                            if (ex != null) {
+                                logger.warn("Failed to get the bucket count, bucket IDs will be computed " +
+                                        "by the router", ex);
+                            } else if (result != null) {
+                                bucketCount = result;
+                            }
+                        });
+            } catch (RuntimeException e) {
+                logger.warn("Failed to get the bucket count, bucket IDs will be computed by the router", e);
+            }
+        }
+        return bucketCount;
+    }
+
+    private static boolean isTopLevelField(TarantoolIndexPartMetadata part) {
+        String path = part.getPath();
+        return path == null || (path.indexOf('.') < 0 && path.indexOf('[') < 0);
+    }
+}
@@ -0,0 +1,131 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Addresses of the vshard replicaset instances, as they are known to the router
+ */
+final class VshardReplicaset {
+
+    private static final String REPLICASETS_KEY = "replicasets";
+    private static final String UUID_KEY = "uuid";
+    private static final String MASTER_KEY = "master";
+    private static final String REPLICA_KEY = "replica";
+    private static final String URI_KEY = "uri";
+
+    private final String uuid;
+    private final TarantoolServerAddress master;
+    private final TarantoolServerAddress replica;
+
+    VshardReplicaset(String uuid, TarantoolServerAddress master, TarantoolServerAddress replica) {
+        this.uuid = uuid;
+        this.master = master;
+        this.replica = replica;
+    }
+
+    /**
+     * Get the replicaset UUID
+     *
+     * @return replicaset UUID
+     */
+    String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * Get the master instance address
+     *
+     * @return master address
+     */
+    TarantoolServerAddress getMaster() {
+        return master;
+    }
+
+    /**
+     * Get the address of the instance preferred by the router for reads. It may be the master itself.
+     *
+     * @return replica address
+     */
+    TarantoolServerAddress getReplica() {
+        return replica;
+    }
+
+    /**
+     * Parse the replicasets from the result of <code>vshard.router.info()</code>
+     *
+     * @param routerInfo router info
+     * @return replicasets by UUID
+     */
+    static Map<String, VshardReplicaset> fromRouterInfo(Map<?, ?> routerInfo) {
+        Object replicasetsValue = routerInfo.get(REPLICASETS_KEY);
+        if (!(replicasetsValue instanceof Map)) {
+            throw new TarantoolClientException("Unsupported router info format: key '%s' must contain a map",
+                    REPLICASETS_KEY);
+        }
+
+        Map<String, VshardReplicaset> replicasets = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) replicasetsValue).entrySet()) {
+            if (!(entry.getValue() instanceof Map)) {
+                throw new TarantoolClientException("Unsupported router info format: replicaset info is not a map");
+            }
+            Map<?, ?> replicasetInfo = (Map<?, ?>) entry.getValue();
+            Object uuidValue = replicasetInfo.get(UUID_KEY);
+            String uuid = uuidValue != null ? uuidValue.toString() : entry.getKey().toString();
+
+            TarantoolServerAddress master = parseInstanceAddress(replicasetInfo.get(MASTER_KEY));
+            if (master == null) {
+                // the replicaset has no master at the moment, so the writes cannot be routed to it
+                continue;
+            }
+            TarantoolServerAddress replica = parseInstanceAddress(replicasetInfo.get(REPLICA_KEY));
+            replicasets.put(uuid, new VshardReplicaset(uuid, master, replica != null ? replica : master));
+        }
+        return replicasets;
+    }
+
+    private static TarantoolServerAddress parseInstanceAddress(Object instanceInfo) {
+        if (!(instanceInfo instanceof Map)) {
+            return null;
+        }
+        Object uri = ((Map<?, ?>) instanceInfo).get(URI_KEY);
+        if (!(uri instanceof String)) {
+            return null;
+        }
+        try {
+            return new TarantoolServerAddress((String) uri);
+        } catch (IllegalArgumentException e) {
+            throw new TarantoolClientException("Unsupported router info format: invalid instance URI " + uri, e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        VshardReplicaset that = (VshardReplicaset) o;
+        return uuid.equals(that.uuid) && master.equals(that.master) && replica.equals(that.replica);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uuid, master, replica);
+    }
+
+    @Override
+    public String toString() {
+        return "VshardReplicaset{" +
+                "uuid='" + uuid + '\'' +
+                ", master=" + master +
+                ", replica=" + replica +
+                '}';
+    }
+}
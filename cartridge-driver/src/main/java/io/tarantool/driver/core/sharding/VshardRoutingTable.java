@@ -0,0 +1,68 @@
+package io.tarantool.driver.core.sharding;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bucket-to-replicaset map, which is loaded from the cluster and updated when the buckets are found to be moved
+ */
+final class VshardRoutingTable {
+
+    private volatile Map<String, VshardReplicaset> replicasets = Collections.emptyMap();
+    private volatile Map<Integer, VshardReplicaset> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Get the replicaset owning the specified bucket
+     *
+     * @param bucketId bucket ID
+     * @return replicaset, or empty value if the bucket location is unknown
+     */
+    Optional<VshardReplicaset> getReplicaset(int bucketId) {
+        return Optional.ofNullable(buckets.get(bucketId));
+    }
+
+    /**
+     * Replace the whole table contents
+     *
+     * @param replicasets  replicasets by UUID
+     * @param bucketOwners replicaset UUIDs by bucket ID
+     */
+    void reset(Map<String, VshardReplicaset> replicasets, Map<Integer, String> bucketOwners) {
+        Map<Integer, VshardReplicaset> newBuckets = new ConcurrentHashMap<>(bucketOwners.size());
+        for (Map.Entry<Integer, String> owner : bucketOwners.entrySet()) {
+            VshardReplicaset replicaset = replicasets.get(owner.getValue());
+            if (replicaset != null) {
+                newBuckets.put(owner.getKey(), replicaset);
+            }
+        }
+        this.replicasets = replicasets;
+        this.buckets = newBuckets;
+    }
+
+    /**
+     * Move the bucket to another replicaset. If the destination replicaset is unknown, the bucket location is
+     * forgotten.
+     *
+     * @param bucketId    bucket ID
+     * @param destination destination replicaset UUID, may be null
+     */
+    void moveBucket(int bucketId, String destination) {
+        VshardReplicaset replicaset = destination != null ? replicasets.get(destination) : null;
+        if (replicaset != null) {
+            buckets.put(bucketId, replicaset);
+        } else {
+            buckets.remove(bucketId);
+        }
+    }
+
+    /**
+     * Forget the bucket location
+     *
+     * @param bucketId bucket ID
+     */
+    void removeBucket(int bucketId) {
+        buckets.remove(bucketId);
+    }
+}
@@ -0,0 +1,181 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.utils.CRC32C;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Standard vshard sharding functions, which can be computed on the client side.
+ * <p>
+ * The hash is computed exactly as in the vshard <code>hash.lua</code> module. Only the key parts which are
+ * guaranteed to have the same byte representation as in Lua are supported, for the other types (for example,
+ * floating point numbers or decimals) the bucket ID is not computed and must be computed by the router.
+ */
+enum VshardShardingFunction {
+
+    /**
+     * <code>vshard.router.bucket_id_strcrc32</code>, computes CRC32 of the string representation of the key parts
+     */
+    STRCRC32("vshard.router.bucket_id_strcrc32") {
+        @Override
+        byte[] toBytes(Object keyPart) {
+            if (keyPart instanceof String) {
+                return ((String) keyPart).getBytes(StandardCharsets.UTF_8);
+            }
+            if (keyPart instanceof Boolean || keyPart instanceof UUID) {
+                return keyPart.toString().getBytes(StandardCharsets.US_ASCII);
+            }
+            Long number = toLong(keyPart);
+            // Lua converts numbers to strings with the "%.14g" format, so longer integers are formatted
+            // in the exponential notation
+            if (number != null && Math.abs(number) < MAX_STRING_INTEGER) {
+                return Long.toString(number).getBytes(StandardCharsets.US_ASCII);
+            }
+            return null;
+        }
+    },
+
+    /**
+     * <code>vshard.router.bucket_id_mpcrc32</code>, computes CRC32 of the MessagePack representation of the key
+     * parts. Strings are not encoded, so the hash of the string keys is the same as for
+     * {@link VshardShardingFunction#STRCRC32}
+     */
+    MPCRC32("vshard.router.bucket_id_mpcrc32") {
+        @Override
+        byte[] toBytes(Object keyPart) {
+            if (keyPart instanceof String) {
+                return ((String) keyPart).getBytes(StandardCharsets.UTF_8);
+            }
+            if (keyPart instanceof Boolean) {
+                return new byte[]{(Boolean) keyPart ? (byte) 0xc3 : (byte) 0xc2};
+            }
+            Long number = toLong(keyPart);
+            // Lua numbers are doubles, so only the integers representable exactly are encoded as integers
+            if (number != null && Math.abs(number) <= MAX_EXACT_INTEGER) {
+                return packInteger(number);
+            }
+            return null;
+        }
+    };
+
+    private static final long MAX_STRING_INTEGER = 100_000_000_000_000L;
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    private final String functionName;
+
+    VshardShardingFunction(String functionName) {
+        this.functionName = functionName;
+    }
+
+    /**
+     * Get the name of the corresponding function in the vshard router API
+     *
+     * @return function name
+     */
+    String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Convert the key part into the byte sequence, which is passed to the hash function
+     *
+     * @param keyPart sharding key part
+     * @return byte representation of the key part, or null if the key part type is not supported
+     */
+    abstract byte[] toBytes(Object keyPart);
+
+    /**
+     * Compute the bucket ID for the specified sharding key
+     *
+     * @param shardingKey sharding key parts
+     * @param bucketCount total number of buckets in the cluster
+     * @return bucket ID, or empty value if the key contains unsupported parts
+     */
+    Optional<Integer> bucketId(List<?> shardingKey, int bucketCount) {
+        CRC32C crc = new CRC32C();
+        for (Object keyPart : shardingKey) {
+            if (keyPart == null) {
+                return Optional.empty();
+            }
+            byte[] bytes = toBytes(keyPart);
+            if (bytes == null) {
+                return Optional.empty();
+            }
+            crc.update(bytes);
+        }
+        return Optional.of((int) (crc.getTarantoolValue() % bucketCount) + 1);
+    }
+
+    /**
+     * Find the sharding function by its name. An empty name corresponds to the default function used by the crud
+     * module, which is {@link VshardShardingFunction#STRCRC32}.
+     *
+     * @param functionName function name specified in the DDL schema
+     * @return sharding function, or empty value if the function cannot be computed on the client side
+     */
+    static Optional<VshardShardingFunction> fromName(Optional<String> functionName) {
+        if (!functionName.isPresent()) {
+            return Optional.of(STRCRC32);
+        }
+        return Arrays.stream(values())
+                .filter(function -> function.functionName.equals(functionName.get()))
+                .findFirst();
+    }
+
+    private static Long toLong(Object keyPart) {
+        if (keyPart instanceof Integer || keyPart instanceof Long ||
+                keyPart instanceof Short || keyPart instanceof Byte) {
+            return ((Number) keyPart).longValue();
+        }
+        if (keyPart instanceof BigInteger && ((BigInteger) keyPart).bitLength() < Long.SIZE) {
+            return ((BigInteger) keyPart).longValue();
+        }
+        return null;
+    }
+
+    private static byte[] packInteger(long value) {
+        if (value >= 0) {
+            if (value < 0x80) {
+                return new byte[]{(byte) value};
+            }
+            if (value < 0x100) {
+                return new byte[]{(byte) 0xcc, (byte) value};
+            }
+            if (value < 0x10000) {
+                return bigEndian((byte) 0xcd, value, 2);
+            }
+            if (value < 0x100000000L) {
+                return bigEndian((byte) 0xce, value, 4);
+            }
+            return bigEndian((byte) 0xcf, value, 8);
+        }
+        if (value >= -0x20) {
+            return new byte[]{(byte) value};
+        }
+        if (value >= Byte.MIN_VALUE) {
+            return new byte[]{(byte) 0xd0, (byte) value};
+        }
+        if (value >= Short.MIN_VALUE) {
+            return bigEndian((byte) 0xd1, value, 2);
+        }
+        if (value >= Integer.MIN_VALUE) {
+            return bigEndian((byte) 0xd2, value, 4);
+        }
+        return bigEndian((byte) 0xd3, value, 8);
+    }
+
+    private static byte[] bigEndian(byte prefix, long value, int size) {
+        byte[] bytes = new byte[size + 1];
+        bytes[0] = prefix;
+        for (int i = size; i > 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+}
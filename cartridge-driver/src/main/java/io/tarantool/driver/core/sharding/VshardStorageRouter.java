@@ -0,0 +1,320 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.errors.TarantoolErrorsParser;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Sends the operations directly to the storage instances owning the buckets, bypassing the routers.
+ * <p>
+ * The bucket-to-replicaset map is built from the router topology info and the lists of buckets stored on each
+ * replicaset master. It is loaded in background when a bucket location is requested for the first time, and
+ * updated when a storage reports that the bucket has been moved. While the bucket location is unknown, the
+ * operation is sent through the router.
+ * <p>
+ * The functions are called with <code>vshard.storage.call</code>, which holds the bucket reference during the call,
+ * so the bucket cannot be moved while the operation is in progress.
+ */
+public class VshardStorageRouter implements AutoCloseable {
+
+    /**
+     * Storage call mode
+     */
+    public enum Mode {
+        /**
+         * Read-only call, may be performed on a replica
+         */
+        READ("read"),
+        /**
+         * Call performed on the replicaset master
+         */
+        WRITE("write");
+
+        private final String value;
+
+        Mode(String value) {
+            this.value = value;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(VshardStorageRouter.class);
+
+    private static final long MIN_REFRESH_INTERVAL = 1000;
+    private static final StringValue ERROR_NAME_KEY = ValueFactory.newString("name");
+    private static final StringValue ERROR_DESTINATION_KEY = ValueFactory.newString("destination");
+    private static final String WRONG_BUCKET = "WRONG_BUCKET";
+    private static final Set<String> ROUTING_ERRORS = new HashSet<>(Arrays.asList(
+            WRONG_BUCKET, "TRANSFER_IS_IN_PROGRESS", "BUCKET_IS_LOCKED", "NON_MASTER"));
+    private static final String BUCKET_STATUS_KEY = "status";
+    private static final Set<String> OWNED_BUCKET_STATUSES = new HashSet<>(Arrays.asList("active", "pinned"));
+
+    private final TarantoolCallOperations routerClient;
+    private final TarantoolClientConfig config;
+    private final ProxyOperationsMappingConfig mappingConfig;
+    private final VshardRoutingTable routingTable = new VshardRoutingTable();
+    private final Map<TarantoolServerAddress, TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>>>
+            storageClients = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+    private volatile long lastRefreshTime;
+    private final CallResultMapper<ArrayValue, SingleValueCallResult<ArrayValue>> rawResultMapper =
+            new CallResultMapper<>(
+                    DefaultMessagePackMapperFactory.getInstance().emptyMapper(), RawCallResult::new,
+                    RawCallResult.class);
+
+    /**
+     * Basic constructor
+     *
+     * @param routerClient  client for retrieving the cluster topology from routers
+     * @param config        client configuration used for connecting to the storage instances
+     * @param mappingConfig proxy operations mapping config
+     */
+    public VshardStorageRouter(TarantoolCallOperations routerClient,
+                               TarantoolClientConfig config,
+                               ProxyOperationsMappingConfig mappingConfig) {
+        this.routerClient = routerClient;
+        this.config = config;
+        this.mappingConfig = mappingConfig;
+    }
+
+    /**
+     * Check if the direct storage routing is enabled in the proxy operations mapping config
+     *
+     * @return true if the operations may be sent directly to the storages
+     */
+    public boolean isEnabled() {
+        return mappingConfig.isStorageRoutingEnabled();
+    }
+
+    /**
+     * Call a function on the storage instance owning the specified bucket. If the bucket location is unknown, or
+     * the storage reports that the bucket has been moved, or the storage is unavailable, the fallback operation
+     * sending the request through a router is performed.
+     *
+     * @param bucketId        bucket ID
+     * @param mode            call mode
+     * @param functionName    function to be called on the storage
+     * @param arguments       function arguments
+     * @param argumentsMapper mapper for arguments object-to-MessagePack entity conversion
+     * @param resultMapper    mapper for result value MessagePack entity-to-object conversion
+     * @param fallback        operation sending the request through a router
+     * @param <R>             result type
+     * @return a future with the function call result
+     */
+    public <R> CompletableFuture<R> call(int bucketId,
+                                         Mode mode,
+                                         String functionName,
+                                         List<?> arguments,
+                                         MessagePackObjectMapper argumentsMapper,
+                                         CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                         Supplier<CompletableFuture<R>> fallback) {
+        Optional<VshardReplicaset> replicaset = isEnabled() ?
+                routingTable.getReplicaset(bucketId) : Optional.empty();
+        if (!replicaset.isPresent()) {
+            if (isEnabled()) {
+                refresh();
+            }
+            return fallback.get();
+        }
+
+        TarantoolServerAddress address = mode == Mode.READ ?
+                replicaset.get().getReplica() : replicaset.get().getMaster();
+        CompletableFuture<ArrayValue> storageResult;
+        try {
+            storageResult = storageClient(address).callForSingleResult(
+                    mappingConfig.getStorageCallFunctionName(),
+                    Arrays.asList(bucketId, mode.value, functionName, arguments),
+                    argumentsMapper,
+                    rawResultMapper);
+        } catch (RuntimeException e) {
+            logger.debug("Failed to send request to storage {}, falling back to router", address, e);
+            return fallback.get();
+        }
+
+        return storageResult.handle((result, ex) -> {
+            if (ex != null) {
+                logger.debug("Failed to call storage {}, falling back to router", address, ex);
+                return fallback.get();
+            }
+            return handleStorageResult(bucketId, result, resultMapper, fallback);
+        }).thenCompose(future -> future);
+    }
+
+    private <R> CompletableFuture<R> handleStorageResult(int bucketId,
+                                                         ArrayValue result,
+                                                         CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                                         Supplier<CompletableFuture<R>> fallback) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            // vshard.storage.call returns true followed by the function results, or an error
+            if (result.size() > 0 && result.get(0).isBooleanValue() && result.get(0).asBooleanValue().getBoolean()) {
+                ArrayValue values = ValueFactory.newArray(result.list().subList(1, result.size()));
+                SingleValueCallResult<R> callResult = resultMapper.fromValue(values);
+                future.complete(callResult.value());
+                return future;
+            }
+
+            Value error = result.size() > 1 ? result.get(1) : ValueFactory.newNil();
+            Optional<String> routingError = getRoutingError(error);
+            if (routingError.isPresent()) {
+                if (WRONG_BUCKET.equals(routingError.get())) {
+                    Value destination = error.asMapValue().map().get(ERROR_DESTINATION_KEY);
+                    routingTable.moveBucket(bucketId, destination != null && destination.isStringValue() ?
+                            destination.asStringValue().asString() : null);
+                } else {
+                    routingTable.removeBucket(bucketId);
+                }
+                return fallback.get();
+            }
+            future.completeExceptionally(TarantoolErrorsParser.parse(error));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get the name of a vshard error meaning that the bucket is not available on the storage
+     *
+     * @param error error object returned from <code>vshard.storage.call</code>
+     * @return error name, or empty value for other errors
+     */
+    static Optional<String> getRoutingError(Value error) {
+        if (!error.isMapValue()) {
+            return Optional.empty();
+        }
+        Value name = error.asMapValue().map().get(ERROR_NAME_KEY);
+        if (name == null || !name.isStringValue() || !ROUTING_ERRORS.contains(name.asStringValue().asString())) {
+            return Optional.empty();
+        }
+        return Optional.of(name.asStringValue().asString());
+    }
+
+    private void refresh() {
+        long now = System.currentTimeMillis();
+        if (now - lastRefreshTime < MIN_REFRESH_INTERVAL || !refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        lastRefreshTime = now;
+        try {
+            routerClient.callForSingleResult(mappingConfig.getRouterInfoFunctionName(), Map.class)
+                    .thenCompose(this::loadBuckets)
+                    .whenComplete((result, ex) -> {
+                        refreshInProgress.set(false);
+                        if (ex != null) {
+                            logger.warn("Failed to load the bucket locations, requests will be sent through " +
+                                    "routers", ex);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            refreshInProgress.set(false);
+            logger.warn("Failed to load the bucket locations, requests will be sent through routers", e);
+        }
+    }
+
+    private CompletableFuture<Void> loadBuckets(Map<?, ?> routerInfo) {
+        Map<String, VshardReplicaset> replicasets = VshardReplicaset.fromRouterInfo(routerInfo);
+        Map<Integer, String> bucketOwners = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = replicasets.values().stream()
+                .map(replicaset -> storageClient(replicaset.getMaster())
+                        .callForSingleResult(mappingConfig.getStorageBucketsInfoFunctionName(), Map.class)
+                        .thenAccept(bucketsInfo ->
+                                collectOwnedBuckets(bucketsInfo, replicaset.getUuid(), bucketOwners)))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures)
+                .thenRun(() -> routingTable.reset(replicasets, bucketOwners));
+    }
+
+    /**
+     * Collect the buckets owned by the storage from the result of <code>vshard.storage.buckets_info()</code>
+     *
+     * @param bucketsInfo    buckets info by bucket ID
+     * @param replicasetUuid storage replicaset UUID
+     * @param bucketOwners   replicaset UUIDs by bucket ID
+     */
+    static void collectOwnedBuckets(Map<?, ?> bucketsInfo, String replicasetUuid, Map<Integer, String> bucketOwners) {
+        for (Map.Entry<?, ?> bucket : bucketsInfo.entrySet()) {
+            if (!(bucket.getKey() instanceof Number) || !(bucket.getValue() instanceof Map)) {
+                continue;
+            }
+            Object status = ((Map<?, ?>) bucket.getValue()).get(BUCKET_STATUS_KEY);
+            if (status != null && OWNED_BUCKET_STATUSES.contains(status.toString())) {
+                bucketOwners.put(((Number) bucket.getKey()).intValue(), replicasetUuid);
+            }
+        }
+    }
+
+    private TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> storageClient(
+            TarantoolServerAddress address) {
+        return storageClients.computeIfAbsent(address, a -> new ClusterTarantoolTupleClient(config, a));
+    }
+
+    /**
+     * Close the connections to all storage instances. The failures of the separate clients are collected as
+     * suppressed exceptions and reported after all clients have been closed.
+     *
+     * @throws TarantoolClientException if some of the storage clients have failed to close
+     */
+    @Override
+    public void close() throws TarantoolClientException {
+        TarantoolClientException error = null;
+        try {
+            for (TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client : storageClients.values()) {
+                try {
+                    client.close();
+                } catch (Exception e) {
+                    if (error == null) {
+                        error = new TarantoolClientException("Failed to close the storage clients");
+                    }
+                    error.addSuppressed(e);
+                }
+            }
+        } finally {
+            storageClients.clear();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private static final class RawCallResult implements SingleValueCallResult<ArrayValue> {
+
+        private final ArrayValue value;
+
+        RawCallResult(ArrayValue value) {
+            this.value = value;
+        }
+
+        @Override
+        public ArrayValue value() {
+            return value;
+        }
+    }
+}
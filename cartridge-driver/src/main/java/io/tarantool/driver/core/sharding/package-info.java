@@ -0,0 +1,4 @@
+/**
+ * Contains classes for computing the vshard bucket IDs on the client side
+ */
+package io.tarantool.driver.core.sharding;
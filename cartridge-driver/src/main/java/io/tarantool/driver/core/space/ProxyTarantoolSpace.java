@@ -0,0 +1,891 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.CountOptions;
+import io.tarantool.driver.api.space.options.DeleteManyOptions;
+import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
+import io.tarantool.driver.api.space.options.InsertManyOptions;
+import io.tarantool.driver.api.space.options.InsertOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
+import io.tarantool.driver.api.space.options.OperationWithFieldsOptions;
+import io.tarantool.driver.api.space.options.OperationWithReadRoutingOptions;
+import io.tarantool.driver.api.space.options.ReplaceManyOptions;
+import io.tarantool.driver.api.space.options.ReplaceOptions;
+import io.tarantool.driver.api.space.options.ReadMode;
+import io.tarantool.driver.api.space.options.SelectOptions;
+import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
+import io.tarantool.driver.api.space.options.UpsertOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyCountOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyDeleteManyOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyDeleteOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyGetOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyInsertManyOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyInsertOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyLenOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyMinMaxOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyReplaceManyOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyReplaceOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxySelectOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyTruncateOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyUpdateOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyUpsertManyOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyUpsertOptions;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
+import io.tarantool.driver.core.metadata.TarantoolSpaceMetadataImpl;
+import io.tarantool.driver.core.proxy.CountProxyOperation;
+import io.tarantool.driver.core.proxy.DeleteProxyOperation;
+import io.tarantool.driver.core.proxy.GetProxyOperation;
+import io.tarantool.driver.core.proxy.InsertProxyOperation;
+import io.tarantool.driver.core.proxy.InsertManyProxyOperation;
+import io.tarantool.driver.core.proxy.LenProxyOperation;
+import io.tarantool.driver.core.proxy.MinMaxProxyOperation;
+import io.tarantool.driver.core.proxy.ProxyOperation;
+import io.tarantool.driver.core.proxy.ReplaceProxyOperation;
+import io.tarantool.driver.core.proxy.ReplaceManyProxyOperation;
+import io.tarantool.driver.core.proxy.SelectProxyOperation;
+import io.tarantool.driver.core.proxy.TruncateProxyOperation;
+import io.tarantool.driver.core.proxy.UpdateProxyOperation;
+import io.tarantool.driver.core.proxy.UpsertManyProxyOperation;
+import io.tarantool.driver.core.proxy.UpsertProxyOperation;
+import io.tarantool.driver.core.sharding.BucketIdResolver;
+import io.tarantool.driver.core.sharding.VshardStorageRouter;
+import io.tarantool.driver.exceptions.TarantoolBatchOperationException;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import org.msgpack.value.ArrayValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Basic proxy {@link TarantoolSpaceOperations} implementation, which uses calls to API functions defined in
+ * Tarantool instance for performing CRUD operations on a space
+ *
+ * @author Sergey Volgin
+ * @author Alexey Kuzin
+ */
+public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collection<T>>
+        implements TarantoolSpaceOperations<T, R> {
+
+    private static final String STORAGE_SELECT_FUNCTION = "box.space.%s:select";
+    private static final Map<String, Object> STORAGE_SELECT_OPTIONS;
+    private static final Pattern SPACE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final String BUCKET_ID_FIELD = "bucket_id";
+
+    static {
+        Map<String, Object> options = new HashMap<>();
+        options.put("iterator", "EQ");
+        options.put("limit", 1);
+        STORAGE_SELECT_OPTIONS = Collections.unmodifiableMap(options);
+    }
+
+    private final String spaceName;
+    private final TarantoolClientConfig config;
+    private final TarantoolCallOperations client;
+    private final TarantoolMetadataOperations metadataOperations;
+    private final ProxyOperationsMappingConfig operationsMapping;
+    private final TarantoolSpaceMetadata spaceMetadata;
+    private final BucketIdResolver bucketIdResolver;
+    private final VshardStorageRouter storageRouter;
+
+    public ProxyTarantoolSpace(TarantoolClientConfig config,
+                               TarantoolCallOperations client,
+                               ProxyOperationsMappingConfig operationsMapping,
+                               TarantoolMetadataOperations metadata,
+                               TarantoolSpaceMetadata spaceMetadata) {
+        this(config, client, operationsMapping, metadata, spaceMetadata, new BucketIdResolver(client, null), null);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param config            Tarantool client config
+     * @param client            configured Tarantool client
+     * @param operationsMapping proxy operation mapping config
+     * @param metadata          metadata operations
+     * @param spaceMetadata     current space metadata
+     * @param bucketIdResolver  computes the bucket IDs for the operations on the client side
+     * @param storageRouter     sends the operations directly to the storages, may be null
+     */
+    public ProxyTarantoolSpace(TarantoolClientConfig config,
+                               TarantoolCallOperations client,
+                               ProxyOperationsMappingConfig operationsMapping,
+                               TarantoolMetadataOperations metadata,
+                               TarantoolSpaceMetadata spaceMetadata,
+                               BucketIdResolver bucketIdResolver,
+                               VshardStorageRouter storageRouter) {
+        this.bucketIdResolver = bucketIdResolver;
+        this.storageRouter = storageRouter;
+        this.config = config;
+        this.client = client;
+        this.operationsMapping = operationsMapping;
+        this.metadataOperations = metadata;
+        this.spaceMetadata = spaceMetadata;
+        this.spaceName = spaceMetadata.getSpaceName();
+    }
+
+    @Override
+    public CompletableFuture<R> delete(Conditions conditions) throws TarantoolClientException {
+        return delete(conditions, tupleResultMapper(), ProxyDeleteOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> delete(Conditions conditions, DeleteOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return delete(conditions, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> delete(Conditions conditions,
+                                        CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                        DeleteOptions options)
+            throws TarantoolClientException {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+        DeleteProxyOperation<R> operation = new DeleteProxyOperation.Builder<R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getDeleteFunctionName())
+                .withIndexQuery(indexQuery)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withBucketId(computeBucketId(indexQuery, options.getBucketId()))
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> deleteMany(Collection<List<?>> keys) throws TarantoolClientException {
+        return deleteMany(keys, tupleResultMapper(), ProxyDeleteManyOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> deleteMany(Collection<List<?>> keys, DeleteManyOptions options)
+            throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return deleteMany(keys, tupleResultMapper(), options);
+    }
+
+    /**
+     * Send the delete operations for all keys at once without waiting for the previous results, so that they are
+     * pipelined over the router connections. Each operation is routed separately, since the keys may belong to
+     * different buckets.
+     */
+    private CompletableFuture<R> deleteMany(Collection<List<?>> keys,
+                                            CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                            DeleteManyOptions options)
+            throws TarantoolClientException {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("Keys must be specified for batch delete operation");
+        }
+
+        ProxyDeleteOptions deleteOptions = ProxyDeleteOptions.create();
+        options.getTimeout().ifPresent(deleteOptions::withTimeout);
+
+        Map<List<?>, CompletableFuture<R>> results = new LinkedHashMap<>(keys.size());
+        for (List<?> key : keys) {
+            TarantoolIndexQuery indexQuery = new TarantoolIndexQuery(TarantoolIndexQuery.PRIMARY).withKeyValues(key);
+            results.put(key, executeOperation(new DeleteProxyOperation.Builder<R>()
+                    .withClient(client)
+                    .withSpaceName(spaceName)
+                    .withFunctionName(operationsMapping.getDeleteFunctionName())
+                    .withIndexQuery(indexQuery)
+                    .withArgumentsMapper(config.getMessagePackMapper())
+                    .withResultMapper(resultMapper)
+                    .withOptions(deleteOptions)
+                    .withBucketId(computeBucketId(indexQuery, Optional.empty()))
+                    .build()));
+        }
+
+        return CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0]))
+                .handle((v, ex) -> mergeResults(results));
+    }
+
+    /**
+     * Merge the results of the batch items. If some items have failed, a {@link TarantoolBatchOperationException}
+     * containing the results of the successful items and the errors of the failed ones by their keys is thrown.
+     */
+    private R mergeResults(Map<List<?>, CompletableFuture<R>> results) {
+        R merged = null;
+        Map<List<?>, Throwable> errors = new LinkedHashMap<>();
+        for (Map.Entry<List<?>, CompletableFuture<R>> result : results.entrySet()) {
+            try {
+                R items = result.getValue().join();
+                if (merged == null) {
+                    merged = items;
+                } else {
+                    merged.addAll(items);
+                }
+            } catch (CompletionException e) {
+                errors.put(result.getKey(), e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException e) {
+                errors.put(result.getKey(), e);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new TarantoolBatchOperationException(
+                merged != null ? merged : Collections.emptyList(), errors);
+        }
+        return merged;
+    }
+
+    @Override
+    public CompletableFuture<R> insert(T tuple) throws TarantoolClientException {
+        return insert(tuple, tupleResultMapper(), ProxyInsertOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> insert(T tuple, InsertOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return insert(tuple, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> insert(T tuple,
+                                        CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                        InsertOptions options)
+            throws TarantoolClientException {
+        InsertProxyOperation<T, R> operation = new InsertProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getInsertFunctionName())
+                .withTuple(tuple)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withBucketId(computeBucketId(tuple, options.getBucketId()))
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> insertMany(Collection<T> tuples) {
+        return insertMany(tuples, tupleResultMapper(), ProxyInsertManyOptions.create()
+            .withTimeout(config.getRequestTimeout())
+            .withStopOnError(true)
+            .withRollbackOnError(true)
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> insertMany(Collection<T> tuples, InsertManyOptions options)
+            throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return insertMany(tuples, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> insertMany(Collection<T> tuples,
+                                            CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                            InsertManyOptions options)
+            throws TarantoolClientException {
+        InsertManyProxyOperation<T, R> operation = new InsertManyProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getInsertManyFunctionName())
+                .withTuples(tuples)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> replace(T tuple) throws TarantoolClientException {
+        return replace(tuple, tupleResultMapper(), ProxyReplaceOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> replace(T tuple, ReplaceOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return replace(tuple, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> replace(T tuple,
+                                         CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                         ReplaceOptions options)
+            throws TarantoolClientException {
+        ReplaceProxyOperation<T, R> operation = new ReplaceProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getReplaceFunctionName())
+                .withTuple(tuple)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withBucketId(computeBucketId(tuple, options.getBucketId()))
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> replaceMany(Collection<T> tuples) throws TarantoolClientException {
+        return replaceMany(tuples, tupleResultMapper(), ProxyReplaceManyOptions.create()
+            .withTimeout(config.getRequestTimeout())
+            .withStopOnError(true)
+            .withRollbackOnError(true)
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> replaceMany(Collection<T> tuples, ReplaceManyOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return replaceMany(tuples, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> replaceMany(Collection<T> tuples,
+                                             CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                             ReplaceManyOptions options)
+            throws TarantoolClientException {
+        ReplaceManyProxyOperation<T, R> operation = new ReplaceManyProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getReplaceManyFunctionName())
+                .withTuples(tuples)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> select(Conditions conditions) throws TarantoolClientException {
+        return select(conditions, tupleResultMapper(), ProxySelectOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> select(Conditions conditions,
+                                       SelectOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return select(conditions, tupleResultMapper(options), options);
+    }
+
+    private CompletableFuture<R> select(Conditions conditions,
+                                        CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                        SelectOptions options)
+            throws TarantoolClientException {
+        SelectProxyOperation<R> operation = new SelectProxyOperation.Builder<R>(metadataOperations, spaceMetadata)
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getSelectFunctionName())
+                .withConditions(conditions)
+                .withOptions(options)
+                .withDefaultReadRouting(operationsMapping)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .build();
+
+        Optional<TarantoolIndexQuery> pointQuery = options.getFields().isPresent() ?
+                Optional.empty() : getPrimaryKeyQuery(conditions);
+        if (pointQuery.isPresent()) {
+            return executeOnStorage(pointQuery.get(), options, resultMapper, () -> executeOperation(operation));
+        }
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> get(List<?> key) throws TarantoolClientException {
+        return get(key, tupleResultMapper(), ProxyGetOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> get(List<?> key, GetOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return get(key, tupleResultMapper(options), options);
+    }
+
+    private CompletableFuture<Optional<T>> get(List<?> key,
+                                               CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                               GetOptions options)
+            throws TarantoolClientException {
+        if (key == null) {
+            throw new IllegalArgumentException("Key should not be null");
+        }
+        TarantoolIndexQuery indexQuery = new TarantoolIndexQuery(TarantoolIndexQuery.PRIMARY).withKeyValues(key);
+
+        GetProxyOperation<R> operation = new GetProxyOperation.Builder<R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getGetFunctionName())
+                .withKey(key)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withDefaultReadRouting(operationsMapping)
+                .withBucketId(computeBucketId(indexQuery, options.getBucketId()))
+                .build();
+
+        CompletableFuture<R> result = !options.getFields().isPresent() && isStorageRoutable(indexQuery) ?
+                executeOnStorage(indexQuery, options, resultMapper, () -> executeOperation(operation)) :
+                executeOperation(operation);
+        return result.thenApply(tuples -> tuples.stream().findFirst());
+    }
+
+    /**
+     * Send a primary key lookup directly to the storage owning the bucket. If the bucket ID is unknown, the
+     * operation is sent through the router.
+     */
+    private CompletableFuture<R> executeOnStorage(TarantoolIndexQuery indexQuery,
+                                                  OperationWithReadRoutingOptions options,
+                                                  CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                                  Supplier<CompletableFuture<R>> fallback) {
+        Optional<Integer> bucketId = options.getBucketId().isPresent() ?
+                options.getBucketId() : computeBucketId(indexQuery, Optional.empty());
+        if (!bucketId.isPresent()) {
+            return fallback.get();
+        }
+        // the reads are performed on the master by default, as in crud
+        ReadMode mode = options.getMode().orElse(operationsMapping.getDefaultReadMode().orElse(ReadMode.WRITE));
+        return storageRouter.call(bucketId.get(),
+                mode == ReadMode.WRITE ? VshardStorageRouter.Mode.WRITE : VshardStorageRouter.Mode.READ,
+                String.format(STORAGE_SELECT_FUNCTION, spaceName),
+                Arrays.asList(indexQuery.getKeyValues(), STORAGE_SELECT_OPTIONS),
+                config.getMessagePackMapper(), resultMapper, fallback);
+    }
+
+    /**
+     * Get the primary index query if the conditions select a single tuple by the full primary key, and the
+     * operation may be sent directly to the storage
+     */
+    private Optional<TarantoolIndexQuery> getPrimaryKeyQuery(Conditions conditions) {
+        if (storageRouter == null || !storageRouter.isEnabled() || conditions.getOffset() > 0) {
+            return Optional.empty();
+        }
+        TarantoolIndexQuery indexQuery;
+        try {
+            indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        } catch (TarantoolClientException e) {
+            return Optional.empty();
+        }
+        return isStorageRoutable(indexQuery) ? Optional.of(indexQuery) : Optional.empty();
+    }
+
+    /**
+     * Check if the index query selects a single tuple by the full primary key, and the operation may be sent
+     * directly to the storage
+     */
+    private boolean isStorageRoutable(TarantoolIndexQuery indexQuery) {
+        if (storageRouter == null || !storageRouter.isEnabled() || !SPACE_NAME_PATTERN.matcher(spaceName).matches()) {
+            return false;
+        }
+        Optional<TarantoolIndexMetadata> primaryIndex =
+                metadataOperations.getIndexById(spaceName, TarantoolIndexQuery.PRIMARY);
+        return indexQuery.getIndexId() == TarantoolIndexQuery.PRIMARY && primaryIndex.isPresent() &&
+                indexQuery.getKeyValues().size() == primaryIndex.get().getIndexParts().size() &&
+                !indexQuery.getKeyValues().contains(null) &&
+                (indexQuery.getIteratorType() == TarantoolIteratorType.ITER_EQ ||
+                        indexQuery.getIteratorType() == TarantoolIteratorType.ITER_REQ);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return count(conditions, ProxyCountOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions, CountOptions options)
+            throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return new CountProxyOperation.Builder(metadataOperations, spaceMetadata)
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getCountFunctionName())
+                .withConditions(conditions)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withOptions(options)
+                .withDefaultReadRouting(operationsMapping)
+                .build()
+                .execute();
+    }
+
+    /**
+     * The partitions are ranges of bucket IDs, so each partition is scanned over the bucket ID index on all
+     * storages. The query is not split if the space has no bucket ID field or the query has a limit, since the
+     * limit would be applied to each partition separately.
+     */
+    @Override
+    public CompletableFuture<List<Conditions>> partitions(Conditions conditions, int partitionCount)
+            throws TarantoolClientException {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be greater than 0");
+        }
+        String bucketCountFunctionName = operationsMapping.getBucketCountFunctionName();
+        if (partitionCount == 1 || bucketCountFunctionName == null ||
+                !spaceMetadata.getFieldByName(BUCKET_ID_FIELD).isPresent() ||
+                conditions.getLimit() != Conditions.any().getLimit()) {
+            return CompletableFuture.completedFuture(Collections.singletonList(conditions));
+        }
+
+        return client.callForSingleResult(bucketCountFunctionName, Integer.class).thenApply(bucketCount -> {
+            int count = Math.min(partitionCount, bucketCount);
+            List<Conditions> partitions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                // bucket IDs start from 1
+                long firstBucket = (long) i * bucketCount / count + 1;
+                long lastBucket = (long) (i + 1) * bucketCount / count;
+                partitions.add(new Conditions(conditions)
+                        .andGreaterOrEquals(BUCKET_ID_FIELD, firstBucket)
+                        .andLessOrEquals(BUCKET_ID_FIELD, lastBucket));
+            }
+            return partitions;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        return len(ProxyLenOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Long> len(LenOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return LenProxyOperation.builder()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getLenFunctionName())
+                .withOptions(options)
+                .build()
+                .execute();
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> min(String indexName) throws TarantoolClientException {
+        return min(indexName, ProxyMinMaxOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> min(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return minMax(operationsMapping.getMinFunctionName(), indexName, options);
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> max(String indexName) throws TarantoolClientException {
+        return max(indexName, ProxyMinMaxOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> max(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return minMax(operationsMapping.getMaxFunctionName(), indexName, options);
+    }
+
+    private CompletableFuture<Optional<T>> minMax(String functionName, String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        if (indexName == null) {
+            throw new IllegalArgumentException("Index name should not be null");
+        }
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        MinMaxProxyOperation<R> operation = new MinMaxProxyOperation.Builder<R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(functionName)
+                .withIndexName(indexName)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(tupleResultMapper())
+                .withOptions(options)
+                .build();
+
+        return executeOperation(operation).thenApply(tuples -> tuples.stream().findFirst());
+    }
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, T tuple) {
+        return update(conditions, makeOperationsFromTuple(tuple), tupleResultMapper(), ProxyUpdateOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, T tuple, UpdateOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return update(conditions, makeOperationsFromTuple(tuple), tupleResultMapper(), options);
+    }
+
+    /**
+     * Create a {@link TupleOperations} instance from the given tuple of type {@code T}
+     *
+     * @param tuple tuple of the specified type
+     * @return new {@link TupleOperations} instance
+     */
+    protected abstract TupleOperations makeOperationsFromTuple(T tuple);
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, TupleOperations operations) {
+        return update(conditions, operations, tupleResultMapper(), ProxyUpdateOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, TupleOperations operations, UpdateOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return update(conditions, operations, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> update(Conditions conditions,
+                                        TupleOperations operations,
+                                        CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                        UpdateOptions options) {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+        UpdateProxyOperation<R> operation = new UpdateProxyOperation.Builder<R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getUpdateFunctionName())
+                .withIndexQuery(indexQuery)
+                .withTupleOperation(operations)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withBucketId(computeBucketId(indexQuery, options.getBucketId()))
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> upsert(Conditions conditions, T tuple, TupleOperations operations) {
+        return upsert(conditions, tuple, operations, tupleResultMapper(), ProxyUpsertOptions.create()
+            .withTimeout(config.getRequestTimeout())
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> upsert(Conditions conditions, T tuple, TupleOperations operations,
+                                       UpsertOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return upsert(conditions, tuple, operations, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> upsert(Conditions conditions,
+                                        T tuple,
+                                        TupleOperations operations,
+                                        CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                        UpsertOptions options) {
+
+        UpsertProxyOperation<T, R> operation = new UpsertProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getUpsertFunctionName())
+                .withTuple(tuple)
+                .withTupleOperation(operations)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .withBucketId(computeBucketId(tuple, options.getBucketId()))
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData)
+            throws TarantoolClientException {
+        return upsertMany(tuplesOperationData, tupleResultMapper(), ProxyUpsertManyOptions.create()
+            .withTimeout(config.getRequestTimeout())
+            .withStopOnError(true)
+            .withRollbackOnError(true)
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData,
+                                           UpsertManyOptions options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return upsertMany(tuplesOperationData, tupleResultMapper(), options);
+    }
+
+    private CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData,
+                                            CallResultMapper<R, SingleValueCallResult<R>> resultMapper,
+                                            UpsertManyOptions options)
+            throws TarantoolClientException {
+        UpsertManyProxyOperation<T, R> operation = new UpsertManyProxyOperation.Builder<T, R>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getUpsertManyFunctionName())
+                .withTuplesOperationData(tuplesOperationData)
+                .withArgumentsMapper(config.getMessagePackMapper())
+                .withResultMapper(resultMapper)
+                .withOptions(options)
+                .build();
+
+        return executeOperation(operation);
+    }
+
+    @Override
+    public CompletableFuture<Void> truncate() throws TarantoolClientException {
+        try {
+            return executeVoidOperation(TruncateProxyOperation.<Void>builder()
+                    .withClient(client)
+                    .withSpaceName(spaceName)
+                    .withFunctionName(operationsMapping.getTruncateFunctionName())
+                    .withOptions(ProxyTruncateOptions.create()
+                        .withTimeout(config.getRequestTimeout())
+                    )
+                    .build()
+            );
+        } catch (TarantoolClientException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /**
+     * MessagePack value mapper configured with an ArrayValue to tuple converter corresponding to the selected
+     * tuple type
+     *
+     * @return configured mapper with {@link ArrayValue} to {@code T} converter
+     */
+    protected abstract CallResultMapper<R, SingleValueCallResult<R>> tupleResultMapper();
+
+    /**
+     * MessagePack value mapper configured with an ArrayValue to tuple converter for the tuples with the specified
+     * format. It is used for the results of the operations with field projection. The default implementation
+     * ignores the format and returns {@link #tupleResultMapper()}.
+     *
+     * @param tupleMetadata format of the result tuples
+     * @return configured mapper with {@link ArrayValue} to {@code T} converter
+     */
+    protected CallResultMapper<R, SingleValueCallResult<R>> tupleResultMapper(TarantoolSpaceMetadata tupleMetadata) {
+        return tupleResultMapper();
+    }
+
+    private CallResultMapper<R, SingleValueCallResult<R>> tupleResultMapper(OperationWithFieldsOptions options) {
+        if (!options.getFields().isPresent()) {
+            return tupleResultMapper();
+        }
+        return tupleResultMapper(TarantoolSpaceMetadataImpl.projection(spaceMetadata, options.getFields().get()));
+    }
+
+    /**
+     * Extract the values of the sharding key fields from the given tuple. Used for computing the bucket ID on the
+     * client side. The default implementation does not support any tuple type.
+     *
+     * @param tuple          tuple of the specified type
+     * @param fieldPositions positions of the sharding key fields
+     * @return sharding key values, or empty value if they cannot be extracted
+     */
+    protected Optional<List<?>> extractShardingKey(T tuple, List<Integer> fieldPositions) {
+        return Optional.empty();
+    }
+
+    private Optional<Integer> computeBucketId(T tuple, Optional<Integer> optionsBucketId) {
+        if (optionsBucketId.isPresent() || tuple == null) {
+            return Optional.empty();
+        }
+        return bucketIdResolver.getShardingKeyPositions(spaceMetadata, metadataOperations)
+                .flatMap(positions -> extractShardingKey(tuple, positions))
+                .flatMap(shardingKey -> bucketIdResolver.getBucketId(spaceMetadata, shardingKey));
+    }
+
+    private Optional<Integer> computeBucketId(TarantoolIndexQuery indexQuery, Optional<Integer> optionsBucketId) {
+        if (optionsBucketId.isPresent()) {
+            return Optional.empty();
+        }
+        return bucketIdResolver.getShardingKeyPositions(spaceMetadata, metadataOperations)
+                .flatMap(positions ->
+                        bucketIdResolver.getShardingKey(spaceMetadata, metadataOperations, positions, indexQuery))
+                .flatMap(shardingKey -> bucketIdResolver.getBucketId(spaceMetadata, shardingKey));
+    }
+
+    private CompletableFuture<R> executeOperation(ProxyOperation<R> operation) {
+        return operation.execute();
+    }
+
+    private CompletableFuture<Void> executeVoidOperation(ProxyOperation<Void> operation) {
+        return operation.execute();
+    }
+
+    @Override
+    public TarantoolSpaceMetadata getMetadata() {
+        return spaceMetadata;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProxyTarantoolSpace [%s]", spaceName);
+    }
+}
@@ -0,0 +1,156 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.FixedCursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.StartAfterAsyncCursor;
+import io.tarantool.driver.api.cursor.StartAfterCursor;
+import io.tarantool.driver.api.cursor.StartAfterPublisher;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolPublisher;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.sharding.BucketIdResolver;
+import io.tarantool.driver.core.sharding.VshardStorageRouter;
+import io.tarantool.driver.mappers.CallResultMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ProxyTarantoolSpace} implementation for working with default tuples
+ *
+ * @author Alexey Kuzin
+ */
+public class ProxyTarantoolTupleSpace
+        extends ProxyTarantoolSpace<TarantoolTuple, TarantoolResult<TarantoolTuple>> {
+
+    private final TarantoolClientConfig config;
+    private final TarantoolCallOperations client;
+
+    /**
+     * Basic constructor
+     *
+     * @param config             Tarantool client config
+     * @param client             configured Tarantool client
+     * @param mappingConfig      proxy operation mapping config
+     * @param spaceMetadata      current space metadata
+     * @param metadataOperations metadata operations
+     */
+    public ProxyTarantoolTupleSpace(TarantoolClientConfig config,
+                                    TarantoolCallOperations client,
+                                    ProxyOperationsMappingConfig mappingConfig,
+                                    TarantoolSpaceMetadata spaceMetadata,
+                                    TarantoolMetadataOperations metadataOperations) {
+        super(config, client, mappingConfig, metadataOperations, spaceMetadata);
+        this.config = config;
+        this.client = client;
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param config             Tarantool client config
+     * @param client             configured Tarantool client
+     * @param mappingConfig      proxy operation mapping config
+     * @param spaceMetadata      current space metadata
+     * @param metadataOperations metadata operations
+     * @param bucketIdResolver   computes the bucket IDs for the operations on the client side
+     * @param storageRouter      sends the operations directly to the storages
+     */
+    public ProxyTarantoolTupleSpace(TarantoolClientConfig config,
+                                    TarantoolCallOperations client,
+                                    ProxyOperationsMappingConfig mappingConfig,
+                                    TarantoolSpaceMetadata spaceMetadata,
+                                    TarantoolMetadataOperations metadataOperations,
+                                    BucketIdResolver bucketIdResolver,
+                                    VshardStorageRouter storageRouter) {
+        super(config, client, mappingConfig, metadataOperations, spaceMetadata, bucketIdResolver, storageRouter);
+        this.config = config;
+        this.client = client;
+    }
+
+    @Override
+    protected TupleOperations makeOperationsFromTuple(TarantoolTuple tuple) {
+        return TupleOperations.fromTarantoolTuple(tuple);
+    }
+
+    @Override
+    protected CallResultMapper<TarantoolResult<TarantoolTuple>, SingleValueCallResult<TarantoolResult<TarantoolTuple>>>
+    tupleResultMapper() {
+        return client.getResultMapperFactoryFactory().defaultTupleSingleResultMapperFactory()
+                .withDefaultTupleValueConverter(config.getMessagePackMapper(), getMetadata());
+    }
+
+    @Override
+    protected CallResultMapper<TarantoolResult<TarantoolTuple>, SingleValueCallResult<TarantoolResult<TarantoolTuple>>>
+    tupleResultMapper(TarantoolSpaceMetadata tupleMetadata) {
+        return client.getResultMapperFactoryFactory().defaultTupleSingleResultMapperFactory()
+                .withDefaultTupleValueConverter(config.getMessagePackMapper(), tupleMetadata);
+    }
+
+    @Override
+    protected Optional<List<?>> extractShardingKey(TarantoolTuple tuple, List<Integer> fieldPositions) {
+        List<Object> shardingKey = new ArrayList<>(fieldPositions.size());
+        for (Integer position : fieldPositions) {
+            Optional<?> value = tuple.getObject(position);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            shardingKey.add(value.get());
+        }
+        return Optional.of(shardingKey);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProxyTarantoolSpace [%s]", getMetadata().getSpaceName());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, int batchSize) {
+        return cursor(conditions, new FixedCursorBatchSizePolicy(batchSize));
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, CursorBatchSizePolicy batchSizePolicy) {
+        return new StartAfterCursor<>(this, conditions, batchSizePolicy, config.getMessagePackMapper());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions) {
+        return cursor(conditions,
+                config.getCursorBatchSizePolicyFactory().create(config.getMessagePackMapper()));
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple> asyncCursor(Conditions conditions, int batchSize,
+                                                            int prefetchBatches) {
+        return new StartAfterAsyncCursor<>(this, conditions, batchSize, prefetchBatches,
+                config.getMessagePackMapper());
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple> asyncCursor(Conditions conditions) {
+        return asyncCursor(conditions, config.getCursorBatchSize(), config.getCursorPrefetchBatches());
+    }
+
+    @Override
+    public TarantoolPublisher<TarantoolTuple> publisher(Conditions conditions, int maxBatchSize) {
+        return new StartAfterPublisher<>(this, conditions, maxBatchSize, config.getMessagePackMapper());
+    }
+
+    @Override
+    public TarantoolPublisher<TarantoolTuple> publisher(Conditions conditions) {
+        return publisher(conditions, config.getCursorBatchSize());
+    }
+}
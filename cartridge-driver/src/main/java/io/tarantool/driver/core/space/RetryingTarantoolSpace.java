@@ -1,24 +1,36 @@
 package io.tarantool.driver.core.space;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolPublisher;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.CountOptions;
+import io.tarantool.driver.api.space.options.DeleteManyOptions;
 import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
 import io.tarantool.driver.api.space.options.InsertManyOptions;
 import io.tarantool.driver.api.space.options.InsertOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
 import io.tarantool.driver.api.space.options.ReplaceManyOptions;
 import io.tarantool.driver.api.space.options.ReplaceOptions;
 import io.tarantool.driver.api.space.options.SelectOptions;
 import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
 import io.tarantool.driver.api.space.options.UpsertOptions;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.protocol.Packable;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
@@ -64,6 +76,17 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.delete(conditions, options));
     }
 
+    @Override
+    public CompletableFuture<R> deleteMany(Collection<List<?>> keys) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.deleteMany(keys));
+    }
+
+    @Override
+    public CompletableFuture<R> deleteMany(Collection<List<?>> keys, DeleteManyOptions options)
+            throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.deleteMany(keys, options));
+    }
+
     @Override
     public CompletableFuture<R> insert(T tuple) throws TarantoolClientException {
         return wrapOperation(() -> spaceOperations.insert(tuple));
@@ -109,6 +132,16 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.replaceMany(tuples, options));
     }
 
+    @Override
+    public CompletableFuture<Optional<T>> get(List<?> key) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.get(key));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> get(List<?> key, GetOptions options) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.get(key, options));
+    }
+
     @Override
     public CompletableFuture<R> select(Conditions conditions)
             throws TarantoolClientException {
@@ -121,6 +154,49 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.select(conditions, options));
     }
 
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.count(conditions));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions, CountOptions options)
+            throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.count(conditions, options));
+    }
+
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        return wrapValueOperation(spaceOperations::len);
+    }
+
+    @Override
+    public CompletableFuture<Long> len(LenOptions options) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.len(options));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> min(String indexName) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.min(indexName));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> max(String indexName) throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.max(indexName));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> min(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.min(indexName, options));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> max(String indexName, MinMaxOptions options)
+            throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.max(indexName, options));
+    }
+
     @Override
     public CompletableFuture<R> update(Conditions conditions, T tuple) {
         return wrapOperation(() -> spaceOperations.update(conditions, tuple));
@@ -152,6 +228,18 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.upsert(conditions, tuple, operations, options));
     }
 
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData)
+            throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.upsertMany(tuplesOperationData));
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData,
+                                           UpsertManyOptions options) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.upsertMany(tuplesOperationData, options));
+    }
+
     @Override
     public CompletableFuture<Void> truncate() throws TarantoolClientException {
         return wrapVoidOperation(spaceOperations::truncate);
@@ -167,16 +255,52 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return spaceOperations.cursor(conditions, batchSize);
     }
 
+    @Override
+    public TarantoolCursor<T> cursor(Conditions conditions, CursorBatchSizePolicy batchSizePolicy) {
+        return spaceOperations.cursor(conditions, batchSizePolicy);
+    }
+
     @Override
     public TarantoolCursor<T> cursor(Conditions conditions) {
         return spaceOperations.cursor(conditions);
     }
 
+    @Override
+    public TarantoolAsyncCursor<T> asyncCursor(Conditions conditions, int batchSize, int prefetchBatches) {
+        return spaceOperations.asyncCursor(conditions, batchSize, prefetchBatches);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<T> asyncCursor(Conditions conditions) {
+        return spaceOperations.asyncCursor(conditions);
+    }
+
+    @Override
+    public TarantoolPublisher<T> publisher(Conditions conditions, int maxBatchSize) {
+        return spaceOperations.publisher(conditions, maxBatchSize);
+    }
+
+    @Override
+    public TarantoolPublisher<T> publisher(Conditions conditions) {
+        return spaceOperations.publisher(conditions);
+    }
+
+    @Override
+    public CompletableFuture<List<Conditions>> partitions(Conditions conditions, int partitionCount)
+            throws TarantoolClientException {
+        return wrapValueOperation(() -> spaceOperations.partitions(conditions, partitionCount));
+    }
+
     private CompletableFuture<R> wrapOperation(Supplier<CompletableFuture<R>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
     }
 
+    private <V> CompletableFuture<V> wrapValueOperation(Supplier<CompletableFuture<V>> operation) {
+        RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
+        return retryPolicy.wrapOperation(operation, executor);
+    }
+
     private CompletableFuture<Void> wrapVoidOperation(Supplier<CompletableFuture<Void>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
@@ -0,0 +1,660 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolVoidResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.operations.TupleOperation;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.core.connection.TarantoolStreamConnection;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolBeginRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCommitRequest;
+import io.tarantool.driver.protocol.requests.TarantoolDeleteRequest;
+import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
+import io.tarantool.driver.protocol.requests.TarantoolInsertRequest;
+import io.tarantool.driver.protocol.requests.TarantoolReplaceRequest;
+import io.tarantool.driver.protocol.requests.TarantoolRollbackRequest;
+import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
+import io.tarantool.driver.protocol.requests.TarantoolUpdateRequest;
+import io.tarantool.driver.protocol.requests.TarantoolUpsertRequest;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Basic implementation for working with spaces via Tarantool protocol requests.
+ * <p>
+ * The operations with several tuples are executed in an interactive transaction. They require Tarantool 2.10 or
+ * newer with memtx_use_mvcc_engine enabled, otherwise they complete with {@link TarantoolClientException}.
+ *
+ * @author Alexey Kuzin
+ */
+public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>>
+        implements TarantoolSpaceOperations<T, R> {
+
+    // the space and index are passed by id, so that their names are never interpolated into the expression
+    private static final String COUNT_EXPRESSION =
+            "local space_id, index_id, key, opts = ...; return box.space[space_id].index[index_id]:count(key, opts)";
+    private static final String LEN_EXPRESSION = "return box.space[...]:len()";
+    // the iteration stops at the first tuple following the end key, compared by the key_def module (Tarantool 2.2+)
+    private static final String BOUNDED_SELECT_EXPRESSION =
+            "local space_id, index_id, iterator, key, end_key, limit = ...\n" +
+            "local index = box.space[space_id].index[index_id]\n" +
+            "local key_def = require('key_def').new(index.parts)\n" +
+            "local sign = (iterator == 'LT' or iterator == 'LE' or iterator == 'REQ') and -1 or 1\n" +
+            "local result = {}\n" +
+            "for _, tuple in index:pairs(key, {iterator = iterator}) do\n" +
+            "    if #result >= limit or sign * key_def:compare_with_key(tuple, end_key) > 0 then break end\n" +
+            "    table.insert(result, tuple)\n" +
+            "end\n" +
+            "return unpack(result)";
+    // the tuples are returned as multiple values, so their number per request is limited by the Lua stack size
+    private static final long BOUNDED_SELECT_BATCH_SIZE = 1000;
+
+    private final int spaceId;
+    private final TarantoolClientConfig config;
+    private final TarantoolConnectionManager connectionManager;
+    private final TarantoolSpaceMetadata spaceMetadata;
+    private final TarantoolMetadataOperations metadataOperations;
+
+    public TarantoolSpace(TarantoolClientConfig config,
+                          TarantoolConnectionManager connectionManager,
+                          TarantoolMetadataOperations metadataOperations,
+                          TarantoolSpaceMetadata spaceMetadata) {
+        this.spaceId = spaceMetadata.getSpaceId();
+        this.config = config;
+        this.connectionManager = connectionManager;
+        this.spaceMetadata = spaceMetadata;
+        this.metadataOperations = metadataOperations;
+    }
+
+    @Override
+    public CompletableFuture<R> delete(Conditions conditions) throws TarantoolClientException {
+        return delete(conditions, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> delete(Conditions conditions, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+            TarantoolDeleteRequest request = new TarantoolDeleteRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(indexQuery.getIndexId())
+                    .withKeyValues(indexQuery.getKeyValues())
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> deleteMany(Collection<List<?>> keys) throws TarantoolClientException {
+        Assert.notNull(keys, "Keys must not be null");
+
+        List<TarantoolRequest> requests = new ArrayList<>(keys.size());
+        try {
+            for (List<?> key : keys) {
+                requests.add(new TarantoolDeleteRequest.Builder()
+                        .withSpaceId(spaceId)
+                        .withIndexId(TarantoolIndexQuery.PRIMARY)
+                        .withKeyValues(key)
+                        .build(config.getMessagePackMapper()));
+            }
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+        return sendRequestsInTransaction(requests, tupleResultMapper());
+    }
+
+    @Override
+    public CompletableFuture<R> insert(T tuple) throws TarantoolClientException {
+        return insert(tuple, tupleResultMapper());
+    }
+
+    @Override
+    public CompletableFuture<R> insertMany(Collection<T> tuples) throws TarantoolClientException {
+        Assert.notNull(tuples, "Tuples must not be null");
+
+        List<TarantoolRequest> requests = new ArrayList<>(tuples.size());
+        for (T tuple : tuples) {
+            requests.add(insertRequest(tuple));
+        }
+        return sendRequestsInTransaction(requests, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> insert(T tuple, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return sendRequest(insertRequest(tuple), resultMapper);
+    }
+
+    private TarantoolInsertRequest insertRequest(T tuple) throws TarantoolClientException {
+        try {
+            return new TarantoolInsertRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withTuple(tuple)
+                    .build(config.getMessagePackMapper());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> replace(T tuple) throws TarantoolClientException {
+        return replace(tuple, tupleResultMapper());
+    }
+
+    @Override
+    public CompletableFuture<R> replaceMany(Collection<T> tuples) throws TarantoolClientException {
+        Assert.notNull(tuples, "Tuples must not be null");
+
+        List<TarantoolRequest> requests = new ArrayList<>(tuples.size());
+        for (T tuple : tuples) {
+            requests.add(replaceRequest(tuple));
+        }
+        return sendRequestsInTransaction(requests, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> replace(T tuple, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return sendRequest(replaceRequest(tuple), resultMapper);
+    }
+
+    private TarantoolReplaceRequest replaceRequest(T tuple) throws TarantoolClientException {
+        try {
+            return new TarantoolReplaceRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withTuple(tuple)
+                    .build(config.getMessagePackMapper());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> get(List<?> key) throws TarantoolClientException {
+        Assert.notNull(key, "Key must not be null");
+        try {
+            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(TarantoolIndexQuery.PRIMARY)
+                    .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                    .withKeyValues(key)
+                    .withLimit(1)
+                    .withOffset(0)
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, tupleResultMapper()).thenApply(result -> result.stream().findFirst());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> select(Conditions conditions) throws TarantoolClientException {
+        return select(conditions, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> select(Conditions conditions, MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        if (conditions.getEndTuple() != null) {
+            return selectBounded(conditions, resultMapper, null);
+        }
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(indexQuery.getIndexId())
+                    .withIteratorType(indexQuery.getIteratorType())
+                    .withKeyValues(indexQuery.getKeyValues())
+                    .withLimit(conditions.getLimit())
+                    .withOffset(conditions.getOffset())
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /**
+     * IPROTO_SELECT cannot stop at a key, so the select with the end tuple is evaluated on the server in batches,
+     * each continuing after the last tuple of the previous one.
+     */
+    private CompletableFuture<R> selectBounded(Conditions conditions, MessagePackValueMapper resultMapper, R previous)
+            throws TarantoolClientException {
+        if (conditions.getOffset() > 0) {
+            throw new TarantoolClientException("Offset is not supported together with 'endAt'");
+        }
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        List<?> endKeyValues = conditions.toEndKeyValues(metadataOperations, spaceMetadata);
+        long limit = conditions.getLimit();
+        // 0 is unlimited
+        long batchSize = limit > 0 ? Math.min(limit, BOUNDED_SELECT_BATCH_SIZE) : BOUNDED_SELECT_BATCH_SIZE;
+        try {
+            TarantoolEvalRequest request = new TarantoolEvalRequest.Builder()
+                    .withExpression(BOUNDED_SELECT_EXPRESSION)
+                    .withArguments(Arrays.asList(spaceId, indexQuery.getIndexId(),
+                            indexQuery.getIteratorType().getStringCode(), indexQuery.getKeyValues(),
+                            endKeyValues, batchSize))
+                    .build(config.getMessagePackMapper());
+            return sendRequest(request, resultMapper).thenCompose(result -> {
+                R merged = result;
+                if (previous != null) {
+                    previous.addAll(result);
+                    merged = previous;
+                }
+                if (result.size() < batchSize || limit == batchSize) {
+                    return CompletableFuture.completedFuture(merged);
+                }
+                T last = null;
+                for (T tuple : result) {
+                    last = tuple;
+                }
+                Conditions next = new Conditions(conditions)
+                        .withLimit(limit > 0 ? limit - batchSize : 0)
+                        .startAfter(last, config.getMessagePackMapper()::toValue);
+                return selectBounded(next, resultMapper, merged);
+            });
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        Map<String, Object> options = Collections.singletonMap(
+                "iterator", indexQuery.getIteratorType().getStringCode());
+        return evalForLong(COUNT_EXPRESSION,
+                Arrays.asList(spaceId, indexQuery.getIndexId(), indexQuery.getKeyValues(), options));
+    }
+
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        return evalForLong(LEN_EXPRESSION, Collections.singletonList(spaceId));
+    }
+
+    private CompletableFuture<Long> evalForLong(String expression, List<?> arguments)
+            throws TarantoolClientException {
+        try {
+            TarantoolEvalRequest request = new TarantoolEvalRequest.Builder()
+                    .withExpression(expression)
+                    .withArguments(arguments)
+                    .build(config.getMessagePackMapper());
+            return connectionManager.getConnection()
+                    .thenCompose(c -> c.<List<?>>sendRequest(request, config.getMessagePackMapper()))
+                    .thenApply(result -> ((Number) result.get(0)).longValue());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> min(String indexName) throws TarantoolClientException {
+        return selectFirst(indexName, TarantoolIteratorType.ITER_GE);
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> max(String indexName) throws TarantoolClientException {
+        return selectFirst(indexName, TarantoolIteratorType.ITER_LE);
+    }
+
+    /**
+     * Select the first tuple in the index traversed with the specified iterator from the beginning
+     */
+    private CompletableFuture<Optional<T>> selectFirst(String indexName, TarantoolIteratorType iteratorType)
+            throws TarantoolClientException {
+        TarantoolIndexMetadata indexMetadata = metadataOperations.getIndexByName(spaceId, indexName)
+                .orElseThrow(() -> new TarantoolSpaceOperationException(
+                        "Index %s is not found in space %s", indexName, spaceMetadata));
+        try {
+            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(indexMetadata.getIndexId())
+                    .withIteratorType(iteratorType)
+                    .withKeyValues(Collections.emptyList())
+                    .withLimit(1)
+                    .withOffset(0)
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, tupleResultMapper()).thenApply(result -> result.stream().findFirst());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, T tuple) {
+        return update(conditions, makeOperationsFromTuple(tuple), tupleResultMapper());
+    }
+
+    /**
+     * Create a {@link TupleOperations} instance from the given tuple of type {@code T}
+     *
+     * @param tuple tuple of the specified type
+     * @return new {@link TupleOperations} instance
+     */
+    protected abstract TupleOperations makeOperationsFromTuple(T tuple);
+
+    @Override
+    public CompletableFuture<R> update(Conditions conditions, TupleOperations operations) {
+        return update(conditions, operations, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> update(Conditions conditions,
+                                        TupleOperations operations,
+                                        MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+            Optional<TarantoolIndexMetadata> indexMetadata =
+                    metadataOperations.getIndexById(spaceId, indexQuery.getIndexId());
+
+            if (!indexMetadata.isPresent() || !indexMetadata.get().isUnique()) {
+                throw new TarantoolSpaceOperationException("Index must be primary or unique for update operation");
+            }
+
+            TarantoolUpdateRequest request = new TarantoolUpdateRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(indexQuery.getIndexId())
+                    .withKeyValues(indexQuery.getKeyValues())
+                    .withTupleOperations(fillFieldIndexFromMetadata(operations))
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> upsert(Conditions conditions, T tuple, TupleOperations operations) {
+        return upsert(conditions, tuple, operations, tupleResultMapper());
+    }
+
+    private CompletableFuture<R> upsert(Conditions conditions,
+                                        T tuple,
+                                        TupleOperations operations,
+                                        MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+            TarantoolUpsertRequest request = new TarantoolUpsertRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withKeyValues(indexQuery.getKeyValues())
+                    .withTuple(tuple)
+                    .withTupleOperations(fillFieldIndexFromMetadata(operations))
+                    .build(config.getMessagePackMapper());
+
+            return sendRequest(request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<TupleWithOperations<T>> tuplesOperationData)
+            throws TarantoolClientException {
+        Assert.notNull(tuplesOperationData, "Tuples must not be null");
+
+        List<TarantoolRequest> requests = new ArrayList<>(tuplesOperationData.size());
+        try {
+            for (TupleWithOperations<T> item : tuplesOperationData) {
+                requests.add(new TarantoolUpsertRequest.Builder()
+                        .withSpaceId(spaceId)
+                        .withKeyValues(Collections.emptyList())
+                        .withTuple(item.getTuple())
+                        .withTupleOperations(fillFieldIndexFromMetadata(item.getOperations()))
+                        .build(config.getMessagePackMapper()));
+            }
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+        return sendRequestsInTransaction(requests, tupleResultMapper());
+    }
+
+    @Override
+    public CompletableFuture<Void> truncate() throws TarantoolClientException {
+        return truncate(tupleResultMapper());
+    }
+
+    private CompletableFuture<Void> truncate(MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        try {
+            String spaceName = spaceMetadata.getSpaceName();
+            TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+                    .withFunctionName("box.space." + spaceName + ":truncate")
+                    .build(config.getMessagePackMapper());
+            return sendRequest(request, resultMapper)
+                    .thenApply(v -> TarantoolVoidResult.INSTANCE.value());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /**
+     * MessagePack value mapper configured with an ArrayValue to tuple converter corresponding to the selected
+     * tuple type
+     *
+     * @return configured mapper with {@link ArrayValue} to {@code T} converter
+     */
+    protected abstract MessagePackValueMapper tupleResultMapper();
+
+    private CompletableFuture<R> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return connectionManager.getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+    }
+
+    /**
+     * Send the requests within one interactive transaction. The requests are written with a single flush after BEGIN
+     * has succeeded, otherwise they would be executed outside of the transaction. Then the transaction is committed
+     * if all requests have succeeded and rolled back otherwise. If the space is already bound to a transaction stream,
+     * the requests are just pipelined into it.
+     */
+    private CompletableFuture<R> sendRequestsInTransaction(List<TarantoolRequest> requests,
+                                                           MessagePackValueMapper resultMapper) {
+        return connectionManager.getConnection().thenCompose(connection -> {
+            if (connection instanceof TarantoolStreamConnection) {
+                return mergeResults(writeRequests(connection, requests, resultMapper), resultMapper);
+            }
+            TarantoolStreamConnection stream = new TarantoolStreamConnection(connection);
+            CompletableFuture<Void> begin;
+            try {
+                begin = stream.writeBegin(
+                        new TarantoolBeginRequest.Builder().build(config.getMessagePackMapper()),
+                        config.getMessagePackMapper());
+            } catch (TarantoolProtocolException e) {
+                throw new TarantoolClientException(e);
+            }
+            stream.flush();
+            return begin.thenCompose(started -> {
+                List<CompletableFuture<R>> results = writeRequests(stream, requests, resultMapper);
+                return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                        .handle((v, ex) -> ex)
+                        .thenCompose(ex -> {
+                            if (ex == null) {
+                                return stream.sendRequest(new TarantoolCommitRequest(),
+                                                config.getMessagePackMapper())
+                                        .thenCompose(v -> mergeResults(results, resultMapper));
+                            }
+                            // return the original error even if the rollback fails
+                            return stream.sendRequest(new TarantoolRollbackRequest(), config.getMessagePackMapper())
+                                    .handle((v, rollbackEx) -> {
+                                        throw ex instanceof CompletionException ?
+                                                (CompletionException) ex : new CompletionException(ex);
+                                    });
+                        });
+            });
+        });
+    }
+
+    private List<CompletableFuture<R>> writeRequests(TarantoolConnection connection,
+                                                     List<TarantoolRequest> requests,
+                                                     MessagePackValueMapper resultMapper) {
+        List<CompletableFuture<R>> results = new ArrayList<>(requests.size());
+        for (TarantoolRequest request : requests) {
+            results.add(connection.writeRequest(request, resultMapper));
+        }
+        connection.flush();
+        return results;
+    }
+
+    private CompletableFuture<R> mergeResults(List<CompletableFuture<R>> results,
+                                              MessagePackValueMapper resultMapper) {
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            R merged = resultMapper.fromValue(ValueFactory.emptyArray());
+            for (CompletableFuture<R> result : results) {
+                merged.addAll(result.join());
+            }
+            return merged;
+        });
+    }
+
+    @Override
+    public TarantoolSpaceMetadata getMetadata() {
+        return spaceMetadata;
+    }
+
+    /**
+     * Check if a cursor may start each batch after the last tuple of the previous one, instead of skipping the
+     * already fetched tuples on the server with offset.
+     *
+     * @param conditions query with options
+     * @return true if the keyset pagination may be used for the query
+     */
+    protected boolean isKeysetPaginationSupported(Conditions conditions) {
+        return conditions.getOffset() == 0 && conditions.isStartAfterSupported(metadataOperations, spaceMetadata);
+    }
+
+    /**
+     * The partitions are ranges of the index selected for the query. Their sizes are computed from the count of
+     * matching tuples, and the boundary tuples are sampled sequentially with offset relative to the previous
+     * boundary, so the server skips each matching tuple once. Each partition starts after the boundary tuple of the
+     * previous one and ends at its own boundary tuple, so the partitions do not intersect and cover the tuples
+     * inserted or deleted after sampling. The last partition has no upper bound. Ending at a key requires the
+     * key_def module available in Tarantool 2.2 or newer, so on the older servers the query is not split.
+     */
+    @Override
+    public CompletableFuture<List<Conditions>> partitions(Conditions conditions, int partitionCount)
+            throws TarantoolClientException {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be greater than 0");
+        }
+        if (partitionCount == 1 || !isKeysetPaginationSupported(conditions) || conditions.getEndTuple() != null) {
+            return CompletableFuture.completedFuture(Collections.singletonList(conditions));
+        }
+
+        return connectionManager.getConnection().thenCompose(connection -> {
+            if (!connection.getVersion().isAtLeast(2, 2)) {
+                return CompletableFuture.completedFuture(Collections.singletonList(conditions));
+            }
+            return sampledPartitions(conditions, partitionCount);
+        });
+    }
+
+    private CompletableFuture<List<Conditions>> sampledPartitions(Conditions conditions, int partitionCount) {
+        return count(conditions).thenCompose(total -> {
+            long size = conditions.getLimit() > 0 ? Math.min(total, conditions.getLimit()) : total;
+            int count = (int) Math.min(partitionCount, size);
+            if (count <= 1) {
+                return CompletableFuture.completedFuture(Collections.singletonList(conditions));
+            }
+            long[] starts = new long[count];
+            for (int i = 0; i < count; i++) {
+                starts[i] = i * size / count;
+            }
+            return sampleBoundaries(conditions, starts, new ArrayList<>(count - 1))
+                    .thenApply(boundaries -> makePartitions(conditions, starts, boundaries));
+        });
+    }
+
+    private CompletableFuture<List<T>> sampleBoundaries(Conditions conditions, long[] starts, List<T> boundaries) {
+        int partition = boundaries.size() + 1;
+        if (partition >= starts.length) {
+            return CompletableFuture.completedFuture(boundaries);
+        }
+        // the boundary is the last tuple of the previous partition
+        Conditions sampleConditions = new Conditions(conditions)
+                .withOffset(starts[partition] - starts[partition - 1] - 1)
+                .withLimit(1);
+        if (!boundaries.isEmpty()) {
+            sampleConditions.startAfter(boundaries.get(boundaries.size() - 1), config.getMessagePackMapper()::toValue);
+        }
+        return select(sampleConditions).thenCompose(result -> {
+            if (result.isEmpty()) {
+                // the tuples have been deleted after counting
+                return CompletableFuture.completedFuture(boundaries);
+            }
+            boundaries.add(result.iterator().next());
+            return sampleBoundaries(conditions, starts, boundaries);
+        });
+    }
+
+    private List<Conditions> makePartitions(Conditions conditions, long[] starts, List<T> boundaries) {
+        List<Conditions> partitions = new ArrayList<>(boundaries.size() + 1);
+        for (int i = 0; i <= boundaries.size(); i++) {
+            Conditions partition = new Conditions(conditions);
+            if (i > 0) {
+                partition.startAfter(boundaries.get(i - 1), config.getMessagePackMapper()::toValue);
+            }
+            if (i < boundaries.size()) {
+                partition.endAt(boundaries.get(i), config.getMessagePackMapper()::toValue);
+            } else if (conditions.getLimit() > 0) {
+                partition.withLimit(conditions.getLimit() - starts[i]);
+            }
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "StandaloneTarantoolSpace %s [%d]", spaceMetadata.getSpaceName(), spaceMetadata.getSpaceId());
+    }
+
+    private List<TupleOperation> fillFieldIndexFromMetadata(TupleOperations operations) {
+        return operations.asList().stream()
+                .map(operation -> {
+                    if (operation.getFieldIndex() == null) {
+                        String fieldName = operation.getFieldName();
+                        int fieldMetadataIndex = this.spaceMetadata.getFieldByName(fieldName)
+                                .orElseThrow(() -> new TarantoolSpaceFieldNotFoundException(fieldName))
+                                .getFieldPosition();
+                        return operation.cloneWithIndex(fieldMetadataIndex);
+                    }
+                    return operation;
+                }).collect(Collectors.toList());
+    }
+}
@@ -4,8 +4,17 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.FixedCursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.OffsetAsyncCursor;
 import io.tarantool.driver.api.cursor.OffsetCursor;
+import io.tarantool.driver.api.cursor.OffsetPublisher;
+import io.tarantool.driver.api.cursor.StartAfterAsyncCursor;
+import io.tarantool.driver.api.cursor.StartAfterCursor;
+import io.tarantool.driver.api.cursor.StartAfterPublisher;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolPublisher;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -60,11 +69,48 @@ public class TarantoolTupleSpace extends
 
     @Override
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, int batchSize) {
-        return new OffsetCursor<>(this, conditions, batchSize);
+        return cursor(conditions, new FixedCursorBatchSizePolicy(batchSize));
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, CursorBatchSizePolicy batchSizePolicy) {
+        if (isKeysetPaginationSupported(conditions)) {
+            return new StartAfterCursor<>(this, conditions, batchSizePolicy, config.getMessagePackMapper());
+        }
+        return new OffsetCursor<>(this, conditions, batchSizePolicy);
     }
 
     @Override
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions) {
-        return cursor(conditions, config.getCursorBatchSize());
+        return cursor(conditions,
+                config.getCursorBatchSizePolicyFactory().create(config.getMessagePackMapper()));
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple> asyncCursor(Conditions conditions, int batchSize,
+                                                            int prefetchBatches) {
+        if (isKeysetPaginationSupported(conditions)) {
+            return new StartAfterAsyncCursor<>(this, conditions, batchSize, prefetchBatches,
+                    config.getMessagePackMapper());
+        }
+        return new OffsetAsyncCursor<>(this, conditions, batchSize, prefetchBatches);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple> asyncCursor(Conditions conditions) {
+        return asyncCursor(conditions, config.getCursorBatchSize(), config.getCursorPrefetchBatches());
+    }
+
+    @Override
+    public TarantoolPublisher<TarantoolTuple> publisher(Conditions conditions, int maxBatchSize) {
+        if (isKeysetPaginationSupported(conditions)) {
+            return new StartAfterPublisher<>(this, conditions, maxBatchSize, config.getMessagePackMapper());
+        }
+        return new OffsetPublisher<>(this, conditions, maxBatchSize);
+    }
+
+    @Override
+    public TarantoolPublisher<TarantoolTuple> publisher(Conditions conditions) {
+        return publisher(conditions, config.getCursorBatchSize());
     }
 }
@@ -0,0 +1,254 @@
+package io.tarantool.driver.core.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolNullField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link TarantoolTuple} implementation backed by the serialized MessagePack array. The offsets of the tuple fields
+ * are indexed on the first access, and only the fields which are actually read are decoded. Writing the tuple
+ * to MessagePack copies the original bytes as is.
+ * <p>
+ * Any modification of the tuple fields (including the modifications through the list returned from
+ * {@link #getFields()}) decodes all fields and switches the tuple to the behavior of {@link TarantoolTupleImpl}.
+ * The tuple may be read from several threads, but its modification is not thread-safe.
+ */
+public class LazyTarantoolTuple extends TarantoolTupleImpl {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private transient byte[] data;
+    private transient int offset;
+    private transient int length;
+    // the offsets and the decoded values are published together, so that the tuple may be read from several threads
+    private transient FieldIndex fieldIndex;
+
+    /**
+     * Construct a tuple from a serialized MessagePack array
+     *
+     * @param data   serialized tuple, must not be modified after passing to the tuple
+     * @param mapper provides conversion between MessagePack values and Java objects
+     */
+    public LazyTarantoolTuple(byte[] data, MessagePackMapper mapper) {
+        this(data, mapper, null);
+    }
+
+    /**
+     * Construct a tuple from a serialized MessagePack array. Provides space metadata which adds extra functionality
+     * for working with fields and indexes.
+     *
+     * @param data          serialized tuple, must not be modified after passing to the tuple
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata
+     */
+    public LazyTarantoolTuple(byte[] data, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this(data, 0, data == null ? 0 : data.length, mapper, spaceMetadata);
+    }
+
+    /**
+     * Construct a tuple from a part of a buffer containing a serialized MessagePack array. The tuple keeps a reference
+     * to the whole buffer until it is modified.
+     *
+     * @param data          buffer with the serialized tuple, must not be modified after passing to the tuple
+     * @param offset        tuple start offset in the buffer
+     * @param length        serialized tuple length
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata
+     */
+    public LazyTarantoolTuple(byte[] data, int offset, int length,
+                              MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        super(mapper, spaceMetadata);
+        Assert.notNull(data, "Tuple data should not be null");
+        Assert.state(offset >= 0 && length > 0 && offset + length <= data.length,
+                "Tuple offset and length should be within the data bounds");
+
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Check if the tuple still reads the fields from the original MessagePack data
+     *
+     * @return true, if the tuple has not been modified
+     */
+    public boolean isLazy() {
+        return data != null;
+    }
+
+    @Override
+    public Optional<TarantoolField> getField(int fieldPosition) {
+        if (!isLazy()) {
+            return super.getField(fieldPosition);
+        }
+        Assert.state(fieldPosition >= 0, "Field position starts with 0");
+
+        if (fieldPosition < size()) {
+            return Optional.of(toField(getFieldValue(fieldPosition)));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<TarantoolField> getFields() {
+        materialize();
+        return super.getFields();
+    }
+
+    @Override
+    protected Object getRawValue(int fieldPosition) {
+        if (!isLazy()) {
+            return super.getRawValue(fieldPosition);
+        }
+        Assert.state(fieldPosition >= 0, "Field position starts with 0");
+
+        return fieldPosition < size() ? getFieldValue(fieldPosition) : null;
+    }
+
+    @Override
+    public int size() {
+        if (!isLazy()) {
+            return super.size();
+        }
+        return getFieldIndex().offsets.length - 1;
+    }
+
+    @Override
+    public Iterator<TarantoolField> iterator() {
+        return getFieldsForRead().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super TarantoolField> action) {
+        getFieldsForRead().forEach(action);
+    }
+
+    @Override
+    public Spliterator<TarantoolField> spliterator() {
+        return getFieldsForRead().spliterator();
+    }
+
+    @Override
+    public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+        if (!isLazy()) {
+            return super.toMessagePackValue(mapper);
+        }
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data, offset, length)) {
+            return unpacker.unpackValue();
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to read tuple fields", e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        if (!isLazy()) {
+            super.toMessagePack(packer, mapper);
+            return;
+        }
+        packer.writePayload(data, offset, length);
+    }
+
+    @Override
+    public void setField(int fieldPosition, TarantoolField field) {
+        materialize();
+        super.setField(fieldPosition, field);
+    }
+
+    private FieldIndex getFieldIndex() {
+        FieldIndex index = fieldIndex;
+        if (index == null) {
+            try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data, offset, length)) {
+                int size = unpacker.unpackArrayHeader();
+                int[] offsets = new int[size + 1];
+                for (int i = 0; i < size; i++) {
+                    offsets[i] = offset + (int) unpacker.getTotalReadBytes();
+                    unpacker.skipValue();
+                }
+                offsets[size] = offset + (int) unpacker.getTotalReadBytes();
+                index = new FieldIndex(offsets);
+                fieldIndex = index;
+            } catch (IOException | MessagePackException e) {
+                throw new TarantoolClientException("Failed to read tuple fields", e);
+            }
+        }
+        return index;
+    }
+
+    private Value getFieldValue(int fieldPosition) {
+        FieldIndex index = getFieldIndex();
+        Value value = index.values[fieldPosition];
+        if (value == null) {
+            int start = index.offsets[fieldPosition];
+            try (MessageUnpacker unpacker =
+                         MessagePack.newDefaultUnpacker(data, start, index.offsets[fieldPosition + 1] - start)) {
+                value = unpacker.unpackValue();
+            } catch (IOException | MessagePackException e) {
+                throw new TarantoolClientException("Failed to read tuple field " + fieldPosition, e);
+            }
+            // the values are immutable, so a value decoded concurrently by another thread may be replaced safely
+            index.values[fieldPosition] = value;
+        }
+        return value;
+    }
+
+    private static TarantoolField toField(Value value) {
+        return value.isNilValue() ? TarantoolNullField.INSTANCE : new TarantoolFieldImpl(value);
+    }
+
+    @Override
+    protected List<TarantoolField> getFieldsForRead() {
+        if (!isLazy()) {
+            return super.getFieldsForRead();
+        }
+        TarantoolField[] fields = new TarantoolField[size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = toField(getFieldValue(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * Decode all fields and switch to the modifiable field list
+     */
+    private void materialize() {
+        if (isLazy()) {
+            List<TarantoolField> fields = super.getFields();
+            int size = size();
+            for (int i = 0; i < size; i++) {
+                fields.add(toField(getFieldValue(i)));
+            }
+            data = null;
+            fieldIndex = null;
+        }
+    }
+
+    private static final class FieldIndex {
+        private final int[] offsets;
+        private final Value[] values;
+
+        FieldIndex(int[] offsets) {
+            this.offsets = offsets;
+            this.values = new Value[offsets.length - 1];
+        }
+    }
+}
@@ -3,9 +3,11 @@ package io.tarantool.driver.core.tuple;
 import io.tarantool.driver.api.tuple.TarantoolField;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -39,6 +41,15 @@ public class TarantoolFieldImpl implements TarantoolField {
         return getEntity(mapper);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        if (value instanceof Value) {
+            packer.packValue((Value) value);
+        } else {
+            mapper.write(packer, value);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Value getEntity(MessagePackObjectMapper mapper) {
         if (value == null) {
@@ -74,6 +85,15 @@ public class TarantoolFieldImpl implements TarantoolField {
         return value;
     }
 
+    /**
+     * Get the field value as is, without conversion
+     *
+     * @return MessagePack value or entity object
+     */
+    Object getRawValue() {
+        return value;
+    }
+
     @Override
     public boolean canConvertValue(Class<?> targetClass, MessagePackValueMapper mapper) {
         if (value instanceof Value) {
@@ -2,6 +2,7 @@ package io.tarantool.driver.core.tuple;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolFieldHandle;
 import io.tarantool.driver.api.tuple.TarantoolNullField;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.exceptions.TarantoolClientException;
@@ -196,6 +197,23 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return field.map(tarantoolField -> tarantoolField.getValue(mapper));
     }
 
+    @Override
+    public <O> O getObject(TarantoolFieldHandle<O> field) {
+        return field.convert(getRawValue(field.getPosition()));
+    }
+
+    @Override
+    public boolean isNull(int fieldPosition) {
+        Object value = getRawValue(fieldPosition);
+        return value == null || value instanceof Value && ((Value) value).isNilValue();
+    }
+
+    @Override
+    public boolean isNull(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 || isNull(fieldPosition);
+    }
+
     @Override
     public Iterator<TarantoolField> iterator() {
         return fields.iterator();
@@ -216,6 +234,11 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return mapper.toValue(fields);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        mapper.write(packer, fields);
+    }
+
     @Override
     public int size() {
         return this.fields.size();
@@ -247,12 +270,7 @@ public class TarantoolTupleImpl implements TarantoolTuple {
 
     @Override
     public void setField(String fieldName, TarantoolField field) {
-        int fieldPosition = getFieldPositionByName(fieldName);
-        if (fieldPosition < 0) {
-            throw new TarantoolSpaceFieldNotFoundException(fieldName);
-        }
-
-        setField(fieldPosition, field);
+        setField(getExistingFieldPosition(fieldName), field);
     }
 
     @Override
@@ -331,6 +349,68 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return getObject(fieldName, Long.class).orElse(null);
     }
 
+    @Override
+    public long getLongAsPrimitive(int fieldPosition) {
+        Object value = getRawValue(fieldPosition);
+        if (value instanceof Value) {
+            Value messagePackValue = (Value) value;
+            if (messagePackValue.isIntegerValue() && messagePackValue.asIntegerValue().isInLongRange()) {
+                return messagePackValue.asIntegerValue().toLong();
+            }
+        } else if (isIntegral(value)) {
+            return ((Number) value).longValue();
+        }
+        throw unexpectedFieldType(fieldPosition, value, "long");
+    }
+
+    @Override
+    public long getLongAsPrimitive(String fieldName) {
+        return getLongAsPrimitive(getExistingFieldPosition(fieldName));
+    }
+
+    @Override
+    public int getIntAsPrimitive(int fieldPosition) {
+        Object value = getRawValue(fieldPosition);
+        if (value instanceof Value) {
+            Value messagePackValue = (Value) value;
+            if (messagePackValue.isIntegerValue() && messagePackValue.asIntegerValue().isInIntRange()) {
+                return messagePackValue.asIntegerValue().toInt();
+            }
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        } else if (value instanceof Long && (Long) value == ((Long) value).intValue()) {
+            return ((Long) value).intValue();
+        }
+        throw unexpectedFieldType(fieldPosition, value, "int");
+    }
+
+    @Override
+    public int getIntAsPrimitive(String fieldName) {
+        return getIntAsPrimitive(getExistingFieldPosition(fieldName));
+    }
+
+    @Override
+    public double getDoubleAsPrimitive(int fieldPosition) {
+        Object value = getRawValue(fieldPosition);
+        if (value instanceof Value) {
+            Value messagePackValue = (Value) value;
+            if (messagePackValue.isFloatValue()) {
+                return messagePackValue.asFloatValue().toDouble();
+            }
+            if (messagePackValue.isIntegerValue()) {
+                return messagePackValue.asIntegerValue().toDouble();
+            }
+        } else if (value instanceof Double || value instanceof Float || isIntegral(value)) {
+            return ((Number) value).doubleValue();
+        }
+        throw unexpectedFieldType(fieldPosition, value, "double");
+    }
+
+    @Override
+    public double getDoubleAsPrimitive(String fieldName) {
+        return getDoubleAsPrimitive(getExistingFieldPosition(fieldName));
+    }
+
     @Override
     public String getString(int fieldPosition) {
         return getObject(fieldPosition, String.class).orElse(null);
@@ -391,6 +471,55 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return getObject(fieldName, Map.class).orElse(null);
     }
 
+    /**
+     * Get all tuple fields for reading. Unlike {@link #getFields()}, the returned list is not modified by the caller
+     *
+     * @return all tuple fields as list
+     */
+    protected List<TarantoolField> getFieldsForRead() {
+        return fields;
+    }
+
+    /**
+     * Get the field value without any conversion. Fields not created by this tuple are read with the mapper.
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return MessagePack value, entity object or null if the field is empty or does not exist
+     */
+    protected Object getRawValue(int fieldPosition) {
+        Assert.state(fieldPosition >= 0, "Field position starts with 0");
+
+        if (fieldPosition >= fields.size()) {
+            return null;
+        }
+        TarantoolField field = fields.get(fieldPosition);
+        if (field instanceof TarantoolFieldImpl) {
+            return ((TarantoolFieldImpl) field).getRawValue();
+        }
+        return field == null ? null : field.getValue(mapper);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static TarantoolClientException unexpectedFieldType(int fieldPosition, Object value, String type) {
+        if (value == null || value instanceof Value && ((Value) value).isNilValue()) {
+            return new TarantoolClientException("Field %d is null and cannot be read as %s", fieldPosition, type);
+        }
+        Object actualType = value instanceof Value ? ((Value) value).getValueType() : value.getClass().getName();
+        return new TarantoolClientException(
+                "Field %d of type %s cannot be read as %s", fieldPosition, actualType, type);
+    }
+
+    private int getExistingFieldPosition(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        if (fieldPosition < 0) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return fieldPosition;
+    }
+
     protected int getFieldPositionByName(String fieldName) {
         int fieldPosition = -1;
         if (spaceMetadata != null) {
@@ -409,12 +538,12 @@ public class TarantoolTupleImpl implements TarantoolTuple {
             return false;
         }
         TarantoolTupleImpl that = (TarantoolTupleImpl) o;
-        return Objects.equals(getFields(), that.getFields());
+        return Objects.equals(getFieldsForRead(), that.getFieldsForRead());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getFields());
+        return Objects.hash(getFieldsForRead());
     }
 
     private void writeObject(java.io.ObjectOutputStream out) {
@@ -0,0 +1,50 @@
+package io.tarantool.driver.exceptions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when some items of a batch operation have failed. Contains the results of the successful items and
+ * the errors of the failed ones, mapped by the item keys.
+ */
+public class TarantoolBatchOperationException extends TarantoolSpaceOperationException {
+
+    private static final long serialVersionUID = 20221020L;
+
+    private final transient Collection<?> results;
+    private final transient Map<List<?>, Throwable> errors;
+
+    /**
+     * Basic constructor.
+     *
+     * @param results results of the successful items
+     * @param errors  errors of the failed items by the item keys, must not be empty
+     */
+    public TarantoolBatchOperationException(Collection<?> results, Map<List<?>, Throwable> errors) {
+        super(String.format("Batch operation failed for %d items: %s",
+                errors.size(), errors.values().iterator().next().getMessage()),
+            errors.values().iterator().next());
+        this.results = results;
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Get the results of the successful items
+     *
+     * @return collection of results
+     */
+    public Collection<?> getResults() {
+        return results;
+    }
+
+    /**
+     * Get the errors of the failed items
+     *
+     * @return errors by the item keys, in the order of the items
+     */
+    public Map<List<?>, Throwable> getErrors() {
+        return errors;
+    }
+}
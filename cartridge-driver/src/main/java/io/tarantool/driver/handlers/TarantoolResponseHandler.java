@@ -7,9 +7,11 @@ import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.core.TarantoolRequestMetadata;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.exceptions.errors.TarantoolErrors;
+import io.tarantool.driver.protocol.SerializedTarantoolResponseBody;
 import io.tarantool.driver.protocol.TarantoolErrorResult;
 import io.tarantool.driver.protocol.TarantoolOkResult;
 import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBodyType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,9 +48,20 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
                         break;
                     case IPROTO_OK:
                         try {
-                            TarantoolOkResult okResult = new TarantoolOkResult(tarantoolResponse.getSyncId(),
-                                    tarantoolResponse.getBody().getData());
-                            requestFuture.complete(requestMeta.getMapper().fromValue(okResult.getData()));
+                            if (tarantoolResponse.getBody().getResponseBodyType() ==
+                                    TarantoolResponseBodyType.EMPTY) {
+                                // transaction control requests are answered with an empty body
+                                requestFuture.complete(null);
+                            } else if (tarantoolResponse.getBody() instanceof SerializedTarantoolResponseBody) {
+                                SerializedTarantoolResponseBody body =
+                                        (SerializedTarantoolResponseBody) tarantoolResponse.getBody();
+                                requestFuture.complete(requestMeta.getMapper().fromMessagePack(
+                                        body.getSerializedData(), body.getOffset(), body.getLength()));
+                            } else {
+                                TarantoolOkResult okResult = new TarantoolOkResult(tarantoolResponse.getSyncId(),
+                                        tarantoolResponse.getBody().getData());
+                                requestFuture.complete(requestMeta.getMapper().fromValue(okResult.getData()));
+                            }
                         } catch (Throwable e) {
                             requestFuture.completeExceptionally(e);
                         }
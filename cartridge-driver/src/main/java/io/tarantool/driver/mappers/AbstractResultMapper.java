@@ -1,6 +1,7 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.ValueReader;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
@@ -17,6 +18,7 @@ import java.util.Optional;
 public abstract class AbstractResultMapper<T> implements MessagePackValueMapper {
 
     protected final MessagePackValueMapper valueMapper;
+    private final ValueConverter<ArrayValue, ? extends T> resultConverter;
 
     /**
      * Basic constructor
@@ -29,6 +31,7 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
                                 ValueConverter<ArrayValue, ? extends T> resultConverter,
                                 Class<? extends T> resultClass) {
         this.valueMapper = valueMapper;
+        this.resultConverter = resultConverter;
         valueMapper.registerValueConverter(ValueType.ARRAY, resultClass, resultConverter);
     }
 
@@ -42,6 +45,16 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         return valueMapper.fromValue(v, targetClass);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> O fromMessagePack(byte[] data, int offset, int length) throws MessagePackValueMapperException {
+        if (resultConverter instanceof ValueReader) {
+            // the tuples are read from the serialized data without unpacking the whole result
+            return ((ValueReader<O>) resultConverter).read(data, offset, length);
+        }
+        return MessagePackValueMapper.super.fromMessagePack(data, offset, length);
+    }
+
     @Override
     public <V extends Value, O> void registerValueConverter(ValueType valueType,
                                                             Class<? extends O> objectClass,
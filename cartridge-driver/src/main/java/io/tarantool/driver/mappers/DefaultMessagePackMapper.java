@@ -0,0 +1,486 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.api.MessagePackMapperBuilder;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.converters.value.DefaultNullToNilValueConverter;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultListToArrayValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultMapToMapValueConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultArrayValueToListConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultMapValueToMapConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultStringValueToStringConverter;
+import io.tarantool.driver.mappers.converters.value.StringInternCache;
+import io.tarantool.driver.mappers.entity.RuntimeTupleConverterFactory;
+import io.tarantool.driver.mappers.entity.TupleConverter;
+import io.tarantool.driver.mappers.entity.TupleConverterFactory;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.NilValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.tarantool.driver.mappers.MapperReflectionUtils.getInterfaceParameterClass;
+
+/**
+ * Default implementation of {@link MessagePackObjectMapper} and {@link MessagePackValueMapper}.
+ * Deals with standard Java objects
+ *
+ * @author Alexey Kuzin
+ * @author Artyom Dubinin
+ */
+public class DefaultMessagePackMapper implements MessagePackMapper {
+
+    private static final long serialVersionUID = 20220418L;
+
+    private final Map<ValueType, List<ConverterWrapper<ValueConverter<? extends Value, ?>>>> valueConverters;
+    // The converters used only when the target class is specified, they are looked up before the common ones
+    private final Map<ValueType, List<ConverterWrapper<ValueConverter<? extends Value, ?>>>> targetedValueConverters;
+    private final Map<String, List<ConverterWrapper<ObjectConverter<?, ? extends Value>>>> objectConverters;
+    private final ObjectConverter<Object, NilValue> nilConverter = new DefaultNullToNilValueConverter();
+
+    // The converters resolved for an object class and for a pair of value type and target class, in the order of
+    // lookup. The caches are replaced with the new ones when a converter is registered.
+    private transient volatile Map<Class<?>, List<ConverterWrapper<ObjectConverter<?, ? extends Value>>>>
+            resolvedObjectConverters;
+    private transient volatile Map<ValueType, Map<Class<?>, List<ValueConverter<? extends Value, ?>>>>
+            resolvedValueConverters;
+
+    /**
+     * Basic constructor
+     */
+    public DefaultMessagePackMapper() {
+        valueConverters = new HashMap<>();
+        targetedValueConverters = new HashMap<>();
+        objectConverters = new HashMap<>();
+        invalidateResolvedConverters();
+    }
+
+    /**
+     * Copying constructor
+     *
+     * @param mapper another mapper instance
+     */
+    public DefaultMessagePackMapper(DefaultMessagePackMapper mapper) {
+        this();
+        // the lists are copied, so that the converters registered in the copy do not affect the source mapper
+        mapper.valueConverters.forEach((type, converters) -> valueConverters.put(type, new LinkedList<>(converters)));
+        mapper.targetedValueConverters.forEach(
+                (type, converters) -> targetedValueConverters.put(type, new LinkedList<>(converters)));
+        mapper.objectConverters.forEach(
+                (typeName, converters) -> objectConverters.put(typeName, new LinkedList<>(converters)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> V toValue(O o) {
+        if (o == null) {
+            return (V) nilConverter.toValue(null);
+        }
+        for (ConverterWrapper<ObjectConverter<?, ? extends Value>> wrapper : resolveObjectConverters(o.getClass())) {
+            ObjectConverter<O, V> converter = (ObjectConverter<O, V>) wrapper.getConverter();
+            if (converter.canConvertObject(o)) {
+                return converter.toValue(o);
+            }
+        }
+        throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> void write(MessagePacker packer, O o) throws IOException {
+        if (o == null) {
+            packer.packNil();
+            return;
+        }
+        for (ConverterWrapper<ObjectConverter<?, ? extends Value>> wrapper : resolveObjectConverters(o.getClass())) {
+            ObjectConverter<O, ? extends Value> converter =
+                    (ObjectConverter<O, ? extends Value>) wrapper.getConverter();
+            if (converter.canConvertObject(o)) {
+                if (converter instanceof ObjectWriter) {
+                    ((ObjectWriter<O>) converter).write(packer, o);
+                } else {
+                    packer.packValue(converter.toValue(o));
+                }
+                return;
+            }
+        }
+        throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
+    }
+
+    @Override
+    public <V extends Value, O> O fromValue(V v) {
+        return fromValue(v, valueConverters.getOrDefault(v.getValueType(), Collections.emptyList()),
+                ConverterWrapper::getConverter);
+    }
+
+    @Override
+    public <V extends Value, O> O fromValue(V v, Class<O> targetClass) {
+        return fromValue(v, resolveValueConverters(v.getValueType(), targetClass), Function.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends Value, O, C> O fromValue(V v, List<C> converters,
+                                                Function<C, ValueConverter<? extends Value, ?>> getter) {
+        for (C item : converters) {
+            ValueConverter<V, O> converter = (ValueConverter<V, O>) getter.apply(item);
+            if (converter.canConvertValue(v)) {
+                return converter.fromValue(v);
+            }
+        }
+        throw new MessagePackValueMapperException("ValueConverter for type %s is not found", v.getClass());
+    }
+
+    private List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> resolveObjectConverters(
+            Class<?> objectClass) {
+        Map<Class<?>, List<ConverterWrapper<ObjectConverter<?, ? extends Value>>>> cache = resolvedObjectConverters;
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> converters = cache.get(objectClass);
+        if (converters == null) {
+            List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> resolved = new ArrayList<>();
+            collectObjectConverters(objectClass, new HashSet<>(), resolved);
+            converters = resolved;
+            cache.put(objectClass, converters);
+        }
+        return converters;
+    }
+
+    /**
+     * Collect the converters registered for the class, its superclasses and interfaces, in the order of lookup.
+     * An interface implemented several times in the hierarchy is visited only once.
+     */
+    private void collectObjectConverters(Class<?> objectClass, Set<Class<?>> visited,
+                                         List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> resolved) {
+        if (!visited.add(objectClass)) {
+            return;
+        }
+        resolved.addAll(objectConverters.getOrDefault(objectClass.getTypeName(), Collections.emptyList()));
+        if (objectClass.getSuperclass() != null) {
+            collectObjectConverters(objectClass.getSuperclass(), visited, resolved);
+        }
+        for (Class<?> iface : objectClass.getInterfaces()) {
+            collectObjectConverters(iface, visited, resolved);
+        }
+    }
+
+    private List<ValueConverter<? extends Value, ?>> resolveValueConverters(ValueType valueType,
+                                                                            Class<?> targetClass) {
+        Map<Class<?>, List<ValueConverter<? extends Value, ?>>> cache = resolvedValueConverters.get(valueType);
+        List<ValueConverter<? extends Value, ?>> converters = cache.get(targetClass);
+        if (converters == null) {
+            List<ValueConverter<? extends Value, ?>> resolved = new ArrayList<>();
+            collectValueConverters(targetedValueConverters.get(valueType), targetClass, resolved);
+            collectValueConverters(valueConverters.get(valueType), targetClass, resolved);
+            converters = resolved;
+            cache.put(targetClass, converters);
+        }
+        return converters;
+    }
+
+    private void collectValueConverters(List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters,
+                                        Class<?> targetClass, List<ValueConverter<? extends Value, ?>> resolved) {
+        if (converters == null) {
+            return;
+        }
+        for (ConverterWrapper<ValueConverter<? extends Value, ?>> wrapper : converters) {
+            if (checkConverterByTargetType(wrapper.getTargetClass(), targetClass)) {
+                resolved.add(wrapper.getConverter());
+            }
+        }
+    }
+
+    private void invalidateResolvedConverters() {
+        Map<ValueType, Map<Class<?>, List<ValueConverter<? extends Value, ?>>>> valueCache =
+                new EnumMap<>(ValueType.class);
+        for (ValueType valueType : ValueType.values()) {
+            valueCache.put(valueType, new ConcurrentHashMap<>());
+        }
+        resolvedValueConverters = valueCache;
+        resolvedObjectConverters = new ConcurrentHashMap<>();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        invalidateResolvedConverters();
+    }
+
+    /**
+     * Perform {@link ValueConverter} converter registration. The target object class for registration is determined
+     * automatically
+     *
+     * @param valueType  MessagePack source type
+     * @param converter  entity-to-object converter
+     * @param <V>        MessagePack's entity type that the converter accepts and/or returns
+     * @param <O>        java object's type that the converter accepts and/or returns
+     * @see ValueConverter
+     */
+    public <V extends Value, O> void registerValueConverter(ValueType valueType,
+                                                            ValueConverter<V, ? extends O> converter) {
+        try {
+            Class<O> objectClass = getInterfaceParameterClass(converter, ValueConverter.class, 1);
+            registerValueConverter(valueType, objectClass, converter);
+        } catch (InterfaceParameterClassNotFoundException | InterfaceParameterTypeNotFoundException e) {
+            throw new TarantoolClientException("Failed to determine the target parameter type of the generic " +
+                    "interface, try to use the method registerValueConverter(valueClass, objectClass, converter) " +
+                    "for registering the converter");
+        }
+    }
+
+    @Override
+    public <V extends Value, O> void registerValueConverter(ValueType valueType,
+                                                            Class<? extends O> objectClass,
+                                                            ValueConverter<V, ? extends O> converter) {
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters =
+                valueConverters.computeIfAbsent(valueType, k -> new LinkedList<>());
+        converters.add(0, new ConverterWrapper<>(converter, objectClass));
+        invalidateResolvedConverters();
+    }
+
+    /**
+     * Adds a MessagePack entity converter, which is used only when the target object class is specified, see
+     * {@link #fromValue(Value, Class)} and {@link #getValueConverter(ValueType, Class)}. Such converters take
+     * precedence over the ones registered with {@link #registerValueConverter(ValueType, Class, ValueConverter)},
+     * but are never used for converting values without the target class, e.g. the nested values in lists and maps.
+     *
+     * @param valueType   MessagePack source type
+     * @param objectClass target object class
+     * @param converter   entity-to-object converter
+     * @param <V>         MessagePack's entity type that the converter accepts and/or returns
+     * @param <O>         java object's type that the converter accepts and/or returns
+     */
+    public <V extends Value, O> void registerTargetedValueConverter(ValueType valueType,
+                                                                    Class<? extends O> objectClass,
+                                                                    ValueConverter<V, ? extends O> converter) {
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters =
+                targetedValueConverters.computeIfAbsent(valueType, k -> new LinkedList<>());
+        converters.add(0, new ConverterWrapper<>(converter, objectClass));
+        invalidateResolvedConverters();
+    }
+
+    /**
+     * Check if the specified converter can convert to the specified object type
+     */
+    private boolean checkConverterByTargetType(Class<?> targetClassOfConverter, Class<?> targetClass) {
+        return targetClassOfConverter.isAssignableFrom(targetClass);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverter(ValueType valueType,
+                                                                                 Class<O> targetClass) {
+        List<ValueConverter<? extends Value, ?>> converters = resolveValueConverters(valueType, targetClass);
+        return converters.isEmpty() ? Optional.empty() : Optional.of((ValueConverter<V, O>) converters.get(0));
+    }
+
+    /**
+     * Perform {@link ObjectConverter} converter registration. The source object class and target entity class for
+     * registration are determined automatically
+     *
+     * @param converter object-to-entity converter
+     * @param <V>       MessagePack's entity type that the converter accepts and/or returns
+     * @param <O>       java object's type that the converter accepts and/or returns
+     * @see ObjectConverter
+     */
+    public <V extends Value, O> void registerObjectConverter(ObjectConverter<O, V> converter) {
+        try {
+            registerObjectConverter(
+                    getInterfaceParameterClass(converter, ObjectConverter.class, 0), converter);
+        } catch (InterfaceParameterClassNotFoundException | InterfaceParameterTypeNotFoundException e) {
+            throw new TarantoolClientException("Failed to determine the target parameter type of the generic " +
+                    "interface, try to use the method registerObjectConverter(objectClass, valueClass, converter) " +
+                    "for registering the converter");
+        }
+    }
+
+    /**
+     * Adds a Java object converter to this mappers instance. The target value class for registration is determined
+     * automatically
+     *
+     * @param objectClass object class to register the converter for
+     * @param converter   entity-to-object converter
+     * @param <V>         the target MessagePack entity type
+     * @param <O>         the source object type
+     * @see ObjectConverter
+     */
+    public <V extends Value, O> void registerObjectConverter(
+            Class<? extends O> objectClass, ObjectConverter<O, V> converter) {
+        try {
+            Class<V> valueClass = getInterfaceParameterClass(converter, ObjectConverter.class, 1);
+            registerObjectConverter(objectClass, valueClass, converter);
+        } catch (InterfaceParameterClassNotFoundException | InterfaceParameterTypeNotFoundException e) {
+            throw new TarantoolClientException("Failed to determine the target parameter type of the generic " +
+                    "interface, try to use the method registerObjectConverter(objectClass, valueClass, converter) " +
+                    "for registering the converter");
+        }
+    }
+
+    @Override
+    public <V extends Value, O> void registerObjectConverter(Class<? extends O> objectClass,
+                                                             Class<V> valueClass,
+                                                             ObjectConverter<O, V> converter) {
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> converters =
+                objectConverters.computeIfAbsent(objectClass.getTypeName(), k -> new LinkedList<>());
+        converters.add(0, new ConverterWrapper<>(converter, valueClass));
+        invalidateResolvedConverters();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> Optional<ObjectConverter<O, V>> getObjectConverter(Class<O> objectClass,
+                                                                                   Class<V> valueClass) {
+        for (ConverterWrapper<ObjectConverter<?, ? extends Value>> wrapper : resolveObjectConverters(objectClass)) {
+            if (checkConverterByTargetType(wrapper.getTargetClass(), valueClass)) {
+                return Optional.of((ObjectConverter<O, V>) wrapper.getConverter());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public MessagePackMapper copy() {
+        return new DefaultMessagePackMapper(this);
+    }
+
+    /**
+     * Builder for {@link DefaultMessagePackMapper}
+     */
+    public static class Builder implements MessagePackMapperBuilder {
+        private final DefaultMessagePackMapper mapper;
+
+        /**
+         * Basic constructor, initialized with an empty mapper
+         */
+        public Builder() {
+            mapper = new DefaultMessagePackMapper();
+        }
+
+        /**
+         * Basic constructor, initialized with the specified mapper
+         *
+         * @param mapper a mapper instance
+         */
+        public Builder(DefaultMessagePackMapper mapper) {
+            this.mapper = new DefaultMessagePackMapper(mapper);
+        }
+
+        @Override
+        public Builder withDefaultMapValueConverter() {
+            mapper.registerValueConverter(ValueType.MAP, new DefaultMapValueToMapConverter(mapper));
+            return this;
+        }
+
+        @Override
+        public Builder withDefaultMapObjectConverter() {
+            mapper.registerObjectConverter(new DefaultMapToMapValueConverter(mapper));
+            Class<HashMap<?, ?>> cls = (Class<HashMap<?, ?>>) (Object) HashMap.class;
+            mapper.registerObjectConverter(cls, new DefaultMapToMapValueConverter(mapper));
+            return this;
+        }
+
+        @Override
+        public Builder withDefaultArrayValueConverter() {
+            mapper.registerValueConverter(ValueType.ARRAY, new DefaultArrayValueToListConverter(mapper));
+            return this;
+        }
+
+        @Override
+        public Builder withDefaultListObjectConverter() {
+            mapper.registerObjectConverter(new DefaultListToArrayValueConverter(mapper));
+            Class<ArrayList<?>> cls = (Class<ArrayList<?>>) (Object) ArrayList.class;
+            mapper.registerObjectConverter(cls, new DefaultListToArrayValueConverter(mapper));
+            return this;
+        }
+
+        @Override
+        public <V extends Value, O> Builder withValueConverter(ValueType valueType, ValueConverter<V, O> converter) {
+            mapper.registerValueConverter(valueType, converter);
+            return this;
+        }
+
+        @Override
+        public <V extends Value, O> Builder withValueConverter(ValueType valueType, Class<O> objectClass,
+                                                               ValueConverter<V, O> converter) {
+            mapper.registerValueConverter(valueType, objectClass, converter);
+            return this;
+        }
+
+        @Override
+        public <V extends Value, O> Builder withObjectConverter(ObjectConverter<O, V> converter) {
+            mapper.registerObjectConverter(converter);
+            return this;
+        }
+
+        @Override
+        public <V extends Value, O> Builder withObjectConverter(Class<O> objectClass, ObjectConverter<O, V> converter) {
+            mapper.registerObjectConverter(objectClass, converter);
+            return this;
+        }
+
+        @Override
+        public <V extends Value, O> Builder withObjectConverter(Class<O> objectClass, Class<V> valueClass,
+                                                                ObjectConverter<O, V> converter) {
+            mapper.registerObjectConverter(objectClass, valueClass, converter);
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Builder withGeneratedTupleConverters() {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = DefaultMessagePackMapper.class.getClassLoader();
+            }
+            for (TupleConverterFactory<?> factory : ServiceLoader.load(TupleConverterFactory.class, classLoader)) {
+                registerTupleConverter(factory.create(mapper, null));
+            }
+            return this;
+        }
+
+        @Override
+        public <T> Builder withRuntimeTupleConverter(Class<T> entityClass) {
+            return withRuntimeTupleConverter(entityClass, null);
+        }
+
+        @Override
+        public <T> Builder withRuntimeTupleConverter(Class<T> entityClass, TarantoolSpaceMetadata metadata) {
+            registerTupleConverter(RuntimeTupleConverterFactory.forClass(entityClass).create(mapper, metadata));
+            return this;
+        }
+
+        @Override
+        public Builder withStringInternCache(int cacheSize) {
+            mapper.registerValueConverter(ValueType.STRING, String.class,
+                    new DefaultStringValueToStringConverter(new StringInternCache(cacheSize)));
+            return this;
+        }
+
+        private <T> void registerTupleConverter(TupleConverter<T> converter) {
+            // an array may be a tuple of any entity or just a list, so the tuples are converted to entities only
+            // when the entity class is requested
+            mapper.registerTargetedValueConverter(ValueType.ARRAY, converter.getEntityClass(), converter);
+            mapper.registerObjectConverter(converter.getEntityClass(), ArrayValue.class, converter);
+        }
+
+        @Override
+        public DefaultMessagePackMapper build() {
+            return mapper;
+        }
+    }
+}
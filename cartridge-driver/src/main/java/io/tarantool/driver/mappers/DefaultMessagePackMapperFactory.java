@@ -6,17 +6,25 @@ import io.tarantool.driver.mappers.converters.object.DefaultBooleanToBooleanValu
 import io.tarantool.driver.mappers.converters.object.DefaultByteArrayToBinaryValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultCharacterToStringValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultDoubleToFloatValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultDurationToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultFloatToFloatValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultInstantToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultIntegerToIntegerValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultLongToIntegerValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultOffsetDateTimeToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultPackableObjectConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultShortToIntegerValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultStringToStringValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultUUIDToExtensionValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultZonedDateTimeToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultBinaryValueToByteArrayConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultBooleanValueToBooleanConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToBigDecimalConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToDurationConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToInstantConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToOffsetDateTimeConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToUUIDConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToZonedDateTimeConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultFloatValueToDoubleConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultFloatValueToFloatConverter;
 import io.tarantool.driver.mappers.converters.value.DefaultFloatValueToIntegerConverter;
@@ -39,6 +47,10 @@ import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueType;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.UUID;
 
 /**
@@ -77,6 +89,13 @@ public final class DefaultMessagePackMapperFactory {
                 .withValueConverter(ValueType.EXTENSION, UUID.class, new DefaultExtensionValueToUUIDConverter())
                 .withValueConverter(ValueType.EXTENSION, BigDecimal.class,
                         new DefaultExtensionValueToBigDecimalConverter())
+                .withValueConverter(ValueType.EXTENSION, Duration.class, new DefaultExtensionValueToDurationConverter())
+                .withValueConverter(ValueType.EXTENSION, Instant.class, new DefaultExtensionValueToInstantConverter())
+                .withValueConverter(ValueType.EXTENSION, ZonedDateTime.class,
+                        new DefaultExtensionValueToZonedDateTimeConverter())
+                // registered last to be the default target type for MP_DATETIME
+                .withValueConverter(ValueType.EXTENSION, OffsetDateTime.class,
+                        new DefaultExtensionValueToOffsetDateTimeConverter())
                 .withValueConverter(ValueType.NIL, Object.class, new DefaultNilValueToNullConverter())
                 //TODO: Potential issue https://github.com/tarantool/cartridge-java/issues/118
                 .withObjectConverter(Character.class, StringValue.class, new DefaultCharacterToStringValueConverter())
@@ -91,6 +110,13 @@ public final class DefaultMessagePackMapperFactory {
                 .withObjectConverter(UUID.class, ExtensionValue.class, new DefaultUUIDToExtensionValueConverter())
                 .withObjectConverter(BigDecimal.class, ExtensionValue.class,
                         new DefaultBigDecimalToExtensionValueConverter())
+                .withObjectConverter(Instant.class, ExtensionValue.class, new DefaultInstantToExtensionValueConverter())
+                .withObjectConverter(OffsetDateTime.class, ExtensionValue.class,
+                        new DefaultOffsetDateTimeToExtensionValueConverter())
+                .withObjectConverter(ZonedDateTime.class, ExtensionValue.class,
+                        new DefaultZonedDateTimeToExtensionValueConverter())
+                .withObjectConverter(Duration.class, ExtensionValue.class,
+                        new DefaultDurationToExtensionValueConverter())
                 .build();
     }
 
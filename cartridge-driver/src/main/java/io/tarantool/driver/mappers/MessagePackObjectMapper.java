@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -22,6 +25,19 @@ public interface MessagePackObjectMapper {
      */
     <V extends Value, O> V toValue(O o) throws MessagePackObjectMapperException;
 
+    /**
+     * Write MessagePack representation of an object to the packer. Converters implementing {@link ObjectWriter}
+     * write the object directly, without creating the intermediate MessagePack entities.
+     * @param packer MessagePack packer
+     * @param o an object to be written
+     * @param <O> the source object type
+     * @throws IOException if writing to the packer failed
+     * @throws MessagePackObjectMapperException if the corresponding conversion cannot be performed
+     */
+    default <O> void write(MessagePacker packer, O o) throws IOException, MessagePackObjectMapperException {
+        packer.packValue(toValue(o));
+    }
+
     /**
      * Adds a Java object converter to this mappers instance
      * @param objectClass source object class
@@ -1,9 +1,13 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -36,6 +40,25 @@ public interface MessagePackValueMapper {
      */
     <V extends Value, O> O fromValue(V v, Class<O> targetClass) throws MessagePackValueMapperException;
 
+    /**
+     * Create Java object out of its serialized MessagePack representation. By default, the data is unpacked and
+     * converted with {@link #fromValue(Value)}, the mappers may read it directly instead.
+     * @param data buffer with the serialized entity, must not be modified after passing to the mapper
+     * @param offset entity start offset in the buffer
+     * @param length serialized entity length
+     * @param <O> target object type
+     * @return Java object
+     * @throws MessagePackValueMapperException if the corresponding conversion cannot be performed
+     * @see io.tarantool.driver.mappers.converters.ValueReader
+     */
+    default <O> O fromMessagePack(byte[] data, int offset, int length) throws MessagePackValueMapperException {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data, offset, length)) {
+            return fromValue(unpacker.unpackValue());
+        } catch (IOException | MessagePackException e) {
+            throw new MessagePackValueMapperException("Failed to unpack the MessagePack data", e);
+        }
+    }
+
     /**
      * Adds a MessagePack entity converter to this mappers instance.
      * @param valueType  MessagePack source type
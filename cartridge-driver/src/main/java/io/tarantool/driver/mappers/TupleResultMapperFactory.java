@@ -1,8 +1,10 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.mappers.converters.value.custom.TarantoolResultConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.entity.RuntimeTupleConverterFactory;
 import org.msgpack.value.ArrayValue;
 
 /**
@@ -80,4 +82,38 @@ public class TupleResultMapperFactory<T> extends TarantoolResultMapperFactory<T>
                                                             Class<? extends TarantoolResult<T>> resultClass) {
         return withConverter(valueMapper, new TarantoolResultConverter<>(tupleConverter), resultClass);
     }
+
+    /**
+     * Get converter for tuples in {@link TarantoolResult}, mapping the tuples to the entities of the specified class.
+     * The tuple converter is derived at runtime from the class fields and constructors, the entity fields are
+     * converted with the mapper of this factory. The tuple positions of all mapped fields must be specified with
+     * {@link io.tarantool.driver.mappers.entity.TupleField}
+     *
+     * @param entityClass entity class
+     * @return mapper instance
+     * @see RuntimeTupleConverterFactory
+     */
+    public TarantoolResultMapper<T> withTupleEntity(Class<T> entityClass) {
+        return withTupleEntity(messagePackMapper, entityClass, null);
+    }
+
+    /**
+     * Get converter for tuples in {@link TarantoolResult}, mapping the tuples to the entities of the specified class.
+     * The tuple converter is derived at runtime from the class fields and constructors, the positions of the fields
+     * are resolved by their names in the space format
+     *
+     * @param mapper      MessagePack-to-object mapper for the entity fields
+     * @param entityClass entity class
+     * @param metadata    space metadata, may be null if the positions of all fields are specified
+     * @return mapper instance
+     * @see RuntimeTupleConverterFactory
+     */
+    public TarantoolResultMapper<T> withTupleEntity(MessagePackMapper mapper, Class<T> entityClass,
+                                                    TarantoolSpaceMetadata metadata) {
+        @SuppressWarnings("unchecked")
+        Class<? extends TarantoolResult<T>> resultClass = (Class<? extends TarantoolResult<T>>) (Class<?>)
+                TarantoolResult.class;
+        return withTupleValueConverter(mapper.copy(),
+                RuntimeTupleConverterFactory.forClass(entityClass).create(mapper, metadata), resultClass);
+    }
 }
@@ -0,0 +1,23 @@
+package io.tarantool.driver.mappers.converters;
+
+import org.msgpack.core.MessagePacker;
+
+import java.io.IOException;
+
+/**
+ * Optional interface for object converters which are able to write Java objects directly into a {@link MessagePacker}
+ * without creating the intermediate MessagePack entities. If an {@link ObjectConverter} implements this interface,
+ * the mapper uses it for serializing the request data. The written data must be the same as the packed result of
+ * {@link ObjectConverter#toValue(Object)}.
+ *
+ * @param <O> the source object type
+ */
+public interface ObjectWriter<O> {
+    /**
+     * Write Java object to the packer
+     * @param packer MessagePack packer
+     * @param object object
+     * @throws IOException if writing to the packer failed
+     */
+    void write(MessagePacker packer, O object) throws IOException;
+}
@@ -0,0 +1,20 @@
+package io.tarantool.driver.mappers.converters;
+
+/**
+ * Optional interface for value converters which are able to read Java objects directly from the serialized
+ * MessagePack data without creating the intermediate MessagePack entities. If a {@link ValueConverter} implements
+ * this interface, the result mappers use it for the responses which keep the serialized data. The read object must
+ * be the same as the result of {@link ValueConverter#fromValue(org.msgpack.value.Value)} for the unpacked data.
+ *
+ * @param <O> the target object type
+ */
+public interface ValueReader<O> {
+    /**
+     * Read Java object from the serialized MessagePack entity
+     * @param data buffer with the serialized entity, must not be modified after passing to the reader
+     * @param offset entity start offset in the buffer
+     * @param length serialized entity length
+     * @return Java object
+     */
+    O read(byte[] data, int offset, int length);
+}
@@ -0,0 +1,77 @@
+package io.tarantool.driver.mappers.converters.object;
+
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Encodes the payload of the Tarantool MP_DATETIME and MP_INTERVAL extension types directly into bytes.
+ * <p>
+ * See https://www.tarantool.io/en/doc/latest/dev_guide/internals/msgpack_extensions/
+ */
+final class DateTimeExtensionWriter {
+
+    static final byte DATETIME_TYPE = 0x04;
+    static final byte INTERVAL_TYPE = 0x06;
+
+    private static final int DATETIME_SHORT_LENGTH = 8;
+    private static final int DATETIME_LONG_LENGTH = 16;
+
+    private static final int FIELD_SECOND = 6;
+    private static final int FIELD_NANOSECOND = 7;
+
+    private DateTimeExtensionWriter() {
+    }
+
+    /*
+     * int64 seconds since epoch, then optionally int32 nanoseconds, int16 UTC offset in minutes and
+     * int16 timezone index, all little-endian. The optional part is omitted when all its fields are zero
+     */
+    static byte[] toDateTimeBytes(Instant instant, ZoneOffset offset) throws IOException {
+        int offsetSeconds = offset.getTotalSeconds();
+        if (offsetSeconds % 60 != 0) {
+            throw new IOException(String.format("UTC offset %s is not a whole number of minutes", offset));
+        }
+        int nanos = instant.getNano();
+        short offsetMinutes = (short) (offsetSeconds / 60);
+        boolean isShort = nanos == 0 && offsetMinutes == 0;
+        ByteBuffer buffer = ByteBuffer.allocate(isShort ? DATETIME_SHORT_LENGTH : DATETIME_LONG_LENGTH)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(instant.getEpochSecond());
+        if (!isShort) {
+            buffer.putInt(nanos).putShort(offsetMinutes).putShort((short) 0);
+        }
+        return buffer.array();
+    }
+
+    /*
+     * The number of the non-zero fields followed by the pairs of field id and value, all packed as MessagePack
+     * integers
+     */
+    static byte[] toIntervalBytes(Duration duration) throws IOException {
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packInt((seconds != 0 ? 1 : 0) + (nanos != 0 ? 1 : 0));
+        if (seconds != 0) {
+            packer.packInt(FIELD_SECOND).packLong(seconds);
+        }
+        if (nanos != 0) {
+            packer.packInt(FIELD_NANOSECOND).packInt(nanos);
+        }
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    static void writeExtension(MessagePacker packer, byte type, byte[] data) throws IOException {
+        packer.packExtensionTypeHeader(type, data.length);
+        packer.writePayload(data);
+    }
+}
@@ -2,8 +2,10 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackValueMapperException;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
 import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ExtensionValue;
 import org.msgpack.value.ValueFactory;
 
@@ -16,7 +18,8 @@ import java.math.BigDecimal;
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultBigDecimalToExtensionValueConverter implements ObjectConverter<BigDecimal, ExtensionValue> {
+public class DefaultBigDecimalToExtensionValueConverter
+        implements ObjectConverter<BigDecimal, ExtensionValue>, ObjectWriter<BigDecimal> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -69,4 +72,11 @@ public class DefaultBigDecimalToExtensionValueConverter implements ObjectConvert
                     String.format("Failed to pack BigDecimal %s to MessagePack entity", object), e);
         }
     }
+
+    @Override
+    public void write(MessagePacker packer, BigDecimal object) throws IOException {
+        byte[] data = toBytes(object);
+        packer.packExtensionTypeHeader(DECIMAL_TYPE, data.length);
+        packer.writePayload(data);
+    }
 }
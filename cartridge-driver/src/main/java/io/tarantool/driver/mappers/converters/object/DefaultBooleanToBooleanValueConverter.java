@@ -1,16 +1,21 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BooleanValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Boolean} to {@link BooleanValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultBooleanToBooleanValueConverter implements ObjectConverter<Boolean, BooleanValue> {
+public class DefaultBooleanToBooleanValueConverter
+        implements ObjectConverter<Boolean, BooleanValue>, ObjectWriter<Boolean> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -18,4 +23,9 @@ public class DefaultBooleanToBooleanValueConverter implements ObjectConverter<Bo
     public BooleanValue toValue(Boolean object) {
         return ValueFactory.newBoolean(object);
     }
+
+    @Override
+    public void write(MessagePacker packer, Boolean object) throws IOException {
+        packer.packBoolean(object);
+    }
 }
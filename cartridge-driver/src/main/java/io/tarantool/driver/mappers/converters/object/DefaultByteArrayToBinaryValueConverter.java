@@ -1,16 +1,21 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BinaryValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code byte[]} to {@link BinaryValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultByteArrayToBinaryValueConverter implements ObjectConverter<byte[], BinaryValue> {
+public class DefaultByteArrayToBinaryValueConverter
+        implements ObjectConverter<byte[], BinaryValue>, ObjectWriter<byte[]> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -19,4 +24,9 @@ public class DefaultByteArrayToBinaryValueConverter implements ObjectConverter<b
         return ValueFactory.newBinary(object);
     }
 
+    @Override
+    public void write(MessagePacker packer, byte[] object) throws IOException {
+        packer.packBinaryHeader(object.length);
+        packer.writePayload(object);
+    }
 }
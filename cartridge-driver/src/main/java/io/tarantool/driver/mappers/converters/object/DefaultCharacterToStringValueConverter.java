@@ -1,16 +1,21 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Character} to {@link StringValue} converter
  *
  * @author Ivan Dneprov
  * @author Artyom Dubinin
  */
-public class DefaultCharacterToStringValueConverter implements ObjectConverter<Character, StringValue> {
+public class DefaultCharacterToStringValueConverter
+        implements ObjectConverter<Character, StringValue>, ObjectWriter<Character> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -19,4 +24,9 @@ public class DefaultCharacterToStringValueConverter implements ObjectConverter<C
         String stringFromCharacter = String.valueOf(object);
         return ValueFactory.newString(stringFromCharacter);
     }
+
+    @Override
+    public void write(MessagePacker packer, Character object) throws IOException {
+        packer.packString(String.valueOf(object));
+    }
 }
@@ -1,16 +1,20 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Double} to {@link FloatValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultDoubleToFloatValueConverter implements ObjectConverter<Double, FloatValue> {
+public class DefaultDoubleToFloatValueConverter implements ObjectConverter<Double, FloatValue>, ObjectWriter<Double> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -19,4 +23,8 @@ public class DefaultDoubleToFloatValueConverter implements ObjectConverter<Doubl
         return ValueFactory.newFloat(object);
     }
 
+    @Override
+    public void write(MessagePacker packer, Double object) throws IOException {
+        packer.packDouble(object);
+    }
 }
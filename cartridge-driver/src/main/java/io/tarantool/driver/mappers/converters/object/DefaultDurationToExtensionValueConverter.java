@@ -0,0 +1,38 @@
+package io.tarantool.driver.mappers.converters.object;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Default {@link Duration} to {@link ExtensionValue} (MP_INTERVAL) converter.
+ * The duration is stored as seconds and nanoseconds.
+ */
+public class DefaultDurationToExtensionValueConverter
+        implements ObjectConverter<Duration, ExtensionValue>, ObjectWriter<Duration> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    @Override
+    public ExtensionValue toValue(Duration object) {
+        try {
+            return ValueFactory.newExtension(
+                    DateTimeExtensionWriter.INTERVAL_TYPE, DateTimeExtensionWriter.toIntervalBytes(object));
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to pack Duration %s to MessagePack entity", object), e);
+        }
+    }
+
+    @Override
+    public void write(MessagePacker packer, Duration object) throws IOException {
+        DateTimeExtensionWriter.writeExtension(
+                packer, DateTimeExtensionWriter.INTERVAL_TYPE, DateTimeExtensionWriter.toIntervalBytes(object));
+    }
+}
@@ -1,16 +1,20 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Float} to {@link FloatValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultFloatToFloatValueConverter implements ObjectConverter<Float, FloatValue> {
+public class DefaultFloatToFloatValueConverter implements ObjectConverter<Float, FloatValue>, ObjectWriter<Float> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -18,4 +22,10 @@ public class DefaultFloatToFloatValueConverter implements ObjectConverter<Float,
     public FloatValue toValue(Float object) {
         return ValueFactory.newFloat(object);
     }
+
+    @Override
+    public void write(MessagePacker packer, Float object) throws IOException {
+        // the value is packed as float64, the same as the converted entity
+        packer.packDouble(object);
+    }
 }
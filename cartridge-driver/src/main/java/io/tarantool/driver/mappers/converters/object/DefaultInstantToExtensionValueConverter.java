@@ -0,0 +1,41 @@
+package io.tarantool.driver.mappers.converters.object;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Default {@link Instant} to {@link ExtensionValue} (MP_DATETIME) converter.
+ * The value is stored with zero UTC offset.
+ */
+public class DefaultInstantToExtensionValueConverter
+        implements ObjectConverter<Instant, ExtensionValue>, ObjectWriter<Instant> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private byte[] toBytes(Instant object) throws IOException {
+        return DateTimeExtensionWriter.toDateTimeBytes(object, ZoneOffset.UTC);
+    }
+
+    @Override
+    public ExtensionValue toValue(Instant object) {
+        try {
+            return ValueFactory.newExtension(DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to pack Instant %s to MessagePack entity", object), e);
+        }
+    }
+
+    @Override
+    public void write(MessagePacker packer, Instant object) throws IOException {
+        DateTimeExtensionWriter.writeExtension(packer, DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+    }
+}
@@ -1,16 +1,21 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Integer} to {@link IntegerValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultIntegerToIntegerValueConverter implements ObjectConverter<Integer, IntegerValue> {
+public class DefaultIntegerToIntegerValueConverter
+        implements ObjectConverter<Integer, IntegerValue>, ObjectWriter<Integer> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -19,4 +24,8 @@ public class DefaultIntegerToIntegerValueConverter implements ObjectConverter<In
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void write(MessagePacker packer, Integer object) throws IOException {
+        packer.packInt(object);
+    }
 }
@@ -2,10 +2,13 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -15,7 +18,7 @@ import java.util.stream.Stream;
  *
  * @author Alexey Kuzin
  */
-public class DefaultListToArrayValueConverter implements ObjectConverter<List<?>, ArrayValue> {
+public class DefaultListToArrayValueConverter implements ObjectConverter<List<?>, ArrayValue>, ObjectWriter<List<?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -30,4 +33,12 @@ public class DefaultListToArrayValueConverter implements ObjectConverter<List<?>
         Stream<Value> values = object.stream().map(v -> v == null ? ValueFactory.newNil() : mapper.toValue(v));
         return ValueFactory.newArray(values.collect(Collectors.toList()));
     }
+
+    @Override
+    public void write(MessagePacker packer, List<?> object) throws IOException {
+        packer.packArrayHeader(object.size());
+        for (Object item : object) {
+            mapper.write(packer, item);
+        }
+    }
 }
@@ -1,16 +1,20 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Long} to {@link IntegerValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultLongToIntegerValueConverter implements ObjectConverter<Long, IntegerValue> {
+public class DefaultLongToIntegerValueConverter implements ObjectConverter<Long, IntegerValue>, ObjectWriter<Long> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -19,4 +23,8 @@ public class DefaultLongToIntegerValueConverter implements ObjectConverter<Long,
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void write(MessagePacker packer, Long object) throws IOException {
+        packer.packLong(object);
+    }
 }
@@ -2,10 +2,13 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -14,7 +17,7 @@ import java.util.stream.Collectors;
  *
  * @author Alexey Kuzin
  */
-public class DefaultMapToMapValueConverter implements ObjectConverter<Map<?, ?>, MapValue> {
+public class DefaultMapToMapValueConverter implements ObjectConverter<Map<?, ?>, MapValue>, ObjectWriter<Map<?, ?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -30,4 +33,13 @@ public class DefaultMapToMapValueConverter implements ObjectConverter<Map<?, ?>,
                 .collect(Collectors.toMap(e -> mapper.toValue(e.getKey()), e -> mapper.toValue(e.getValue())));
         return ValueFactory.newMap(values);
     }
+
+    @Override
+    public void write(MessagePacker packer, Map<?, ?> object) throws IOException {
+        packer.packMapHeader(object.size());
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            mapper.write(packer, entry.getKey());
+            mapper.write(packer, entry.getValue());
+        }
+    }
 }
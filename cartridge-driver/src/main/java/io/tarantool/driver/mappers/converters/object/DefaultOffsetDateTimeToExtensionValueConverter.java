@@ -0,0 +1,40 @@
+package io.tarantool.driver.mappers.converters.object;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Default {@link OffsetDateTime} to {@link ExtensionValue} (MP_DATETIME) converter.
+ * The UTC offset must be a whole number of minutes.
+ */
+public class DefaultOffsetDateTimeToExtensionValueConverter
+        implements ObjectConverter<OffsetDateTime, ExtensionValue>, ObjectWriter<OffsetDateTime> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private byte[] toBytes(OffsetDateTime object) throws IOException {
+        return DateTimeExtensionWriter.toDateTimeBytes(object.toInstant(), object.getOffset());
+    }
+
+    @Override
+    public ExtensionValue toValue(OffsetDateTime object) {
+        try {
+            return ValueFactory.newExtension(DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to pack OffsetDateTime %s to MessagePack entity", object), e);
+        }
+    }
+
+    @Override
+    public void write(MessagePacker packer, OffsetDateTime object) throws IOException {
+        DateTimeExtensionWriter.writeExtension(packer, DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+    }
+}
@@ -2,15 +2,19 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
 import io.tarantool.driver.protocol.Packable;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
  * Default converter for internal classes aware of MessagePack serialization
  *
  * @author Alexey Kuzin
  */
-public class DefaultPackableObjectConverter implements ObjectConverter<Packable, Value> {
+public class DefaultPackableObjectConverter implements ObjectConverter<Packable, Value>, ObjectWriter<Packable> {
 
     private static final long serialVersionUID = 20200708L;
 
@@ -24,4 +28,9 @@ public class DefaultPackableObjectConverter implements ObjectConverter<Packable,
     public Value toValue(Packable object) {
         return object.toMessagePackValue(mapper);
     }
+
+    @Override
+    public void write(MessagePacker packer, Packable object) throws IOException {
+        object.toMessagePack(packer, mapper);
+    }
 }
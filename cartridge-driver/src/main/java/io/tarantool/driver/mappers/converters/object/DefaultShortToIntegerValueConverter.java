@@ -1,19 +1,28 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Short} to {@link IntegerValue} converter
  *
  * @author Oleg Kuznetsov
  * @author Artyom Dubinin
  */
-public class DefaultShortToIntegerValueConverter implements ObjectConverter<Short, IntegerValue> {
+public class DefaultShortToIntegerValueConverter implements ObjectConverter<Short, IntegerValue>, ObjectWriter<Short> {
 
     @Override
     public IntegerValue toValue(Short object) {
         return ValueFactory.newInteger(object);
     }
+
+    @Override
+    public void write(MessagePacker packer, Short object) throws IOException {
+        packer.packShort(object);
+    }
 }
@@ -1,16 +1,20 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link String} to {@link StringValue} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultStringToStringValueConverter implements ObjectConverter<String, StringValue> {
+public class DefaultStringToStringValueConverter implements ObjectConverter<String, StringValue>, ObjectWriter<String> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -18,4 +22,9 @@ public class DefaultStringToStringValueConverter implements ObjectConverter<Stri
     public StringValue toValue(String object) {
         return ValueFactory.newString(object);
     }
+
+    @Override
+    public void write(MessagePacker packer, String object) throws IOException {
+        packer.packString(object);
+    }
 }
@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ExtensionValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.UUID;
 
@@ -13,7 +16,7 @@ import java.util.UUID;
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultUUIDToExtensionValueConverter implements ObjectConverter<UUID, ExtensionValue> {
+public class DefaultUUIDToExtensionValueConverter implements ObjectConverter<UUID, ExtensionValue>, ObjectWriter<UUID> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -43,4 +46,11 @@ public class DefaultUUIDToExtensionValueConverter implements ObjectConverter<UUI
     public ExtensionValue toValue(UUID object) {
         return ValueFactory.newExtension(UUID_TYPE, toBytes(object));
     }
+
+    @Override
+    public void write(MessagePacker packer, UUID object) throws IOException {
+        byte[] data = toBytes(object);
+        packer.packExtensionTypeHeader(UUID_TYPE, data.length);
+        packer.writePayload(data);
+    }
 }
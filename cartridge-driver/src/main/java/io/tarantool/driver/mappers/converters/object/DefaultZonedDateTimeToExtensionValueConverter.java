@@ -0,0 +1,40 @@
+package io.tarantool.driver.mappers.converters.object;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+/**
+ * Default {@link ZonedDateTime} to {@link ExtensionValue} (MP_DATETIME) converter.
+ * Only the UTC offset of the zone is stored, the region is not preserved.
+ */
+public class DefaultZonedDateTimeToExtensionValueConverter
+        implements ObjectConverter<ZonedDateTime, ExtensionValue>, ObjectWriter<ZonedDateTime> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private byte[] toBytes(ZonedDateTime object) throws IOException {
+        return DateTimeExtensionWriter.toDateTimeBytes(object.toInstant(), object.getOffset());
+    }
+
+    @Override
+    public ExtensionValue toValue(ZonedDateTime object) {
+        try {
+            return ValueFactory.newExtension(DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to pack ZonedDateTime %s to MessagePack entity", object), e);
+        }
+    }
+
+    @Override
+    public void write(MessagePacker packer, ZonedDateTime object) throws IOException {
+        DateTimeExtensionWriter.writeExtension(packer, DateTimeExtensionWriter.DATETIME_TYPE, toBytes(object));
+    }
+}
@@ -0,0 +1,129 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ExtensionValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Decodes the payload of the Tarantool MP_DATETIME and MP_INTERVAL extension types directly from the bytes.
+ * <p>
+ * See https://www.tarantool.io/en/doc/latest/dev_guide/internals/msgpack_extensions/
+ */
+final class DateTimeExtensionReader {
+
+    static final byte DATETIME_TYPE = 0x04;
+    static final byte INTERVAL_TYPE = 0x06;
+
+    private static final int DATETIME_SHORT_LENGTH = 8;
+    private static final int DATETIME_LONG_LENGTH = 16;
+
+    private static final int FIELD_YEAR = 0;
+    private static final int FIELD_MONTH = 1;
+    private static final int FIELD_WEEK = 2;
+    private static final int FIELD_DAY = 3;
+    private static final int FIELD_HOUR = 4;
+    private static final int FIELD_MINUTE = 5;
+    private static final int FIELD_SECOND = 6;
+    private static final int FIELD_NANOSECOND = 7;
+    private static final int FIELD_ADJUST = 8;
+
+    private DateTimeExtensionReader() {
+    }
+
+    static boolean isDateTime(ExtensionValue value) {
+        int length = value.getData().length;
+        return value.getType() == DATETIME_TYPE &&
+                (length == DATETIME_SHORT_LENGTH || length == DATETIME_LONG_LENGTH);
+    }
+
+    /*
+     * int64 seconds since epoch, then optionally int32 nanoseconds, int16 UTC offset in minutes and
+     * int16 timezone index, all little-endian
+     */
+    static Instant getInstant(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        long seconds = buffer.getLong();
+        int nanos = data.length == DATETIME_LONG_LENGTH ? buffer.getInt() : 0;
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    static ZoneOffset getOffset(byte[] data) {
+        if (data.length != DATETIME_LONG_LENGTH) {
+            return ZoneOffset.UTC;
+        }
+        short minutes = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).getShort(12);
+        return ZoneOffset.ofTotalSeconds(minutes * 60);
+    }
+
+    static boolean isDuration(ExtensionValue value) {
+        if (value.getType() != INTERVAL_TYPE) {
+            return false;
+        }
+        try {
+            return toDuration(value.getData()) != null;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /*
+     * The number of the non-zero fields followed by the pairs of field id and value, all packed as MessagePack
+     * integers. Returns null if the interval contains years or months which cannot be expressed in exact time units
+     */
+    static Duration toDuration(byte[] data) throws IOException {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            int count = unpacker.unpackInt();
+            long seconds = 0;
+            long nanos = 0;
+            for (int i = 0; i < count; i++) {
+                int field = unpacker.unpackInt();
+                long amount = unpacker.unpackLong();
+                switch (field) {
+                    case FIELD_YEAR:
+                    case FIELD_MONTH:
+                        if (amount != 0) {
+                            return null;
+                        }
+                        break;
+                    case FIELD_WEEK:
+                        seconds = Math.addExact(seconds, Math.multiplyExact(amount, 7 * 86400L));
+                        break;
+                    case FIELD_DAY:
+                        seconds = Math.addExact(seconds, Math.multiplyExact(amount, 86400L));
+                        break;
+                    case FIELD_HOUR:
+                        seconds = Math.addExact(seconds, Math.multiplyExact(amount, 3600L));
+                        break;
+                    case FIELD_MINUTE:
+                        seconds = Math.addExact(seconds, Math.multiplyExact(amount, 60L));
+                        break;
+                    case FIELD_SECOND:
+                        seconds = Math.addExact(seconds, amount);
+                        break;
+                    case FIELD_NANOSECOND:
+                        nanos = amount;
+                        break;
+                    case FIELD_ADJUST:
+                        // the adjustment mode only affects the month arithmetic
+                        break;
+                    default:
+                        throw new IOException(String.format("Unknown interval field %d", field));
+                }
+            }
+            return Duration.ofSeconds(seconds, nanos);
+        }
+    }
+
+    static MessagePackValueMapperException conversionError(ExtensionValue value, Class<?> targetClass, Exception e) {
+        return new MessagePackValueMapperException(
+                String.format("Failed to unpack %s from MessagePack entity %s", targetClass.getSimpleName(), value), e);
+    }
+}
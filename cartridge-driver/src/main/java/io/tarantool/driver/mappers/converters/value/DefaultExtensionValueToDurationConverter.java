@@ -0,0 +1,30 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ExtensionValue;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Default {@link ExtensionValue} (MP_INTERVAL) to {@link Duration} converter. The intervals containing years or
+ * months are not supported since they have no fixed length.
+ */
+public class DefaultExtensionValueToDurationConverter implements ValueConverter<ExtensionValue, Duration> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    @Override
+    public Duration fromValue(ExtensionValue value) {
+        try {
+            return DateTimeExtensionReader.toDuration(value.getData());
+        } catch (IOException | ArithmeticException e) {
+            throw DateTimeExtensionReader.conversionError(value, Duration.class, e);
+        }
+    }
+
+    @Override
+    public boolean canConvertValue(ExtensionValue value) {
+        return DateTimeExtensionReader.isDuration(value);
+    }
+}
@@ -0,0 +1,25 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ExtensionValue;
+
+import java.time.Instant;
+
+/**
+ * Default {@link ExtensionValue} (MP_DATETIME) to {@link Instant} converter.
+ * The UTC offset stored in the value is ignored.
+ */
+public class DefaultExtensionValueToInstantConverter implements ValueConverter<ExtensionValue, Instant> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    @Override
+    public Instant fromValue(ExtensionValue value) {
+        return DateTimeExtensionReader.getInstant(value.getData());
+    }
+
+    @Override
+    public boolean canConvertValue(ExtensionValue value) {
+        return DateTimeExtensionReader.isDateTime(value);
+    }
+}
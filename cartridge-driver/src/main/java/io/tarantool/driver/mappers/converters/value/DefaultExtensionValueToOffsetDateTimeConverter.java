@@ -0,0 +1,27 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ExtensionValue;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Default {@link ExtensionValue} (MP_DATETIME) to {@link OffsetDateTime} converter.
+ * The result has the UTC offset stored in the value.
+ */
+public class DefaultExtensionValueToOffsetDateTimeConverter implements ValueConverter<ExtensionValue, OffsetDateTime> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    @Override
+    public OffsetDateTime fromValue(ExtensionValue value) {
+        byte[] data = value.getData();
+        return OffsetDateTime.ofInstant(
+                DateTimeExtensionReader.getInstant(data), DateTimeExtensionReader.getOffset(data));
+    }
+
+    @Override
+    public boolean canConvertValue(ExtensionValue value) {
+        return DateTimeExtensionReader.isDateTime(value);
+    }
+}
@@ -0,0 +1,27 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ExtensionValue;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Default {@link ExtensionValue} (MP_DATETIME) to {@link ZonedDateTime} converter.
+ * The stored UTC offset is used as the zone, the Tarantool timezone index is not resolved to a region.
+ */
+public class DefaultExtensionValueToZonedDateTimeConverter implements ValueConverter<ExtensionValue, ZonedDateTime> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    @Override
+    public ZonedDateTime fromValue(ExtensionValue value) {
+        byte[] data = value.getData();
+        return ZonedDateTime.ofInstant(
+                DateTimeExtensionReader.getInstant(data), DateTimeExtensionReader.getOffset(data));
+    }
+
+    @Override
+    public boolean canConvertValue(ExtensionValue value) {
+        return DateTimeExtensionReader.isDateTime(value);
+    }
+}
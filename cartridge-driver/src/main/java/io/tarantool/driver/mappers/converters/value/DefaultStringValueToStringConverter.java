@@ -13,8 +13,26 @@ public class DefaultStringValueToStringConverter implements ValueConverter<Strin
 
     private static final long serialVersionUID = 20220418L;
 
+    private final StringInternCache cache;
+
+    /**
+     * Basic constructor
+     */
+    public DefaultStringValueToStringConverter() {
+        this(null);
+    }
+
+    /**
+     * Create a converter which deduplicates the decoded strings through the specified cache
+     *
+     * @param cache string cache, may be null
+     */
+    public DefaultStringValueToStringConverter(StringInternCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public String fromValue(StringValue value) {
-        return value.asString();
+        return cache == null ? value.asString() : cache.intern(value);
     }
 }
@@ -0,0 +1,104 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.StringValue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * Bounded cache of decoded strings, keyed by their MessagePack representation (the raw UTF-8 bytes). Decoding
+ * the repeated values of the low-cardinality fields through the cache returns the same {@link String} instance,
+ * so the decoded results retain only one copy of each value.
+ * <p>
+ * The cache is a direct-mapped table: each value is stored in the slot determined by the hash of its bytes,
+ * replacing the previous value in that slot. The lookups and updates do not require locking, and the cache
+ * memory is limited by the number of slots and the maximum length of the cached strings.
+ */
+public class StringInternCache implements Serializable {
+
+    private static final long serialVersionUID = 20221019L;
+
+    /**
+     * Default maximum length of the cached strings, in characters
+     */
+    public static final int DEFAULT_MAX_STRING_LENGTH = 64;
+
+    private final int capacity;
+    private final int maxStringLength;
+    private transient Entry[] entries;
+
+    /**
+     * Create a cache with the default maximum length of the cached strings
+     *
+     * @param capacity number of cache slots, rounded up to the power of 2
+     */
+    public StringInternCache(int capacity) {
+        this(capacity, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param capacity        number of cache slots, rounded up to the power of 2
+     * @param maxStringLength longer strings are decoded without caching
+     */
+    public StringInternCache(int capacity, int maxStringLength) {
+        Assert.state(capacity > 0 && capacity <= 1 << 30, "Cache capacity should be between 1 and 2^30");
+        Assert.state(maxStringLength > 0, "Maximum string length should be greater than 0");
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.maxStringLength = maxStringLength;
+        this.entries = new Entry[this.capacity];
+    }
+
+    /**
+     * Get the number of cache slots
+     *
+     * @return number of slots
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Decode the string value, returning the cached instance if the same value has been decoded before
+     *
+     * @param value MessagePack string value
+     * @return decoded string
+     */
+    public String intern(StringValue value) {
+        // the hash code and equality of MessagePack string values are computed from their bytes
+        int hash = value.hashCode();
+        int slot = (hash ^ hash >>> 16) & (capacity - 1);
+        Entry entry = entries[slot];
+        if (entry != null && entry.hash == hash && entry.key.equals(value)) {
+            return entry.string;
+        }
+
+        String string = value.asString();
+        if (string.length() <= maxStringLength) {
+            // a racy write may lose an entry, which only leads to decoding the value again
+            entries[slot] = new Entry(hash, value, string);
+        }
+        return string;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.entries = new Entry[capacity];
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final StringValue key;
+        private final String string;
+
+        private Entry(int hash, StringValue key, String string) {
+            this.hash = hash;
+            this.key = key;
+            this.string = string;
+        }
+    }
+}
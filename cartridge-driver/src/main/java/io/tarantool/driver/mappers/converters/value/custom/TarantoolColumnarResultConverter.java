@@ -0,0 +1,45 @@
+package io.tarantool.driver.mappers.converters.value.custom;
+
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.TarantoolColumnarResultImpl;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.Value;
+
+/**
+ * Converts the tuple results into {@link TarantoolColumnarResult}. Can be passed to
+ * {@code callForSingleResult} for decoding the results of analytical functions.
+ */
+public class TarantoolColumnarResultConverter implements ValueConverter<Value, TarantoolColumnarResult> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private final MessagePackValueMapper mapper;
+    private final TarantoolSpaceMetadata spaceMetadata;
+
+    /**
+     * Basic constructor. The field names and types are taken from the result metadata if it is present.
+     *
+     * @param mapper mapper for converting the values which have no primitive representation
+     */
+    public TarantoolColumnarResultConverter(MessagePackValueMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * Constructor with the space metadata, which provides the field names and types
+     *
+     * @param mapper        mapper for converting the values which have no primitive representation
+     * @param spaceMetadata space metadata, may be null
+     */
+    public TarantoolColumnarResultConverter(MessagePackValueMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+    }
+
+    @Override
+    public TarantoolColumnarResult fromValue(Value value) {
+        return new TarantoolColumnarResultImpl(value, spaceMetadata, mapper);
+    }
+}
@@ -3,13 +3,15 @@ package io.tarantool.driver.mappers.converters.value.custom;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.core.TarantoolResultImpl;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.ValueReader;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
 /**
  * @author Alexey Kuzin
  */
-public class TarantoolResultConverter<V extends Value, T> implements ValueConverter<V, TarantoolResult<T>> {
+public class TarantoolResultConverter<V extends Value, T>
+        implements ValueConverter<V, TarantoolResult<T>>, ValueReader<TarantoolResult<T>> {
 
     private static final long serialVersionUID = 20200708L;
 
@@ -23,4 +25,9 @@ public class TarantoolResultConverter<V extends Value, T> implements ValueConver
     public TarantoolResult<T> fromValue(V value) {
         return new TarantoolResultImpl<>(value, tupleConverter);
     }
+
+    @Override
+    public TarantoolResult<T> read(byte[] data, int offset, int length) {
+        return new TarantoolResultImpl<>(data, offset, length, tupleConverter);
+    }
 }
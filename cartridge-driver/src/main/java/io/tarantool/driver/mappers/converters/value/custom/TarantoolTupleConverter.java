@@ -2,17 +2,24 @@ package io.tarantool.driver.mappers.converters.value.custom;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.LazyTarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.ValueReader;
 import org.msgpack.value.ArrayValue;
 
+import java.util.Arrays;
+
 /**
- * Default {@link ArrayValue} to {@link TarantoolTuple} converter
+ * Default {@link ArrayValue} to {@link TarantoolTuple} converter. The tuples read from the serialized data are
+ * {@link LazyTarantoolTuple}s, which decode only the fields that are accessed. Each of them holds a copy of its own
+ * bytes only, so a tuple kept by the application does not retain the whole response
  *
  * @author Sergey Volgin
  */
-public class TarantoolTupleConverter implements ValueConverter<ArrayValue, TarantoolTuple> {
+public class TarantoolTupleConverter
+        implements ValueConverter<ArrayValue, TarantoolTuple>, ValueReader<TarantoolTuple> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -28,4 +35,9 @@ public class TarantoolTupleConverter implements ValueConverter<ArrayValue, Taran
     public TarantoolTuple fromValue(ArrayValue value) {
         return new TarantoolTupleImpl(value, mapper, spaceMetadata);
     }
+
+    @Override
+    public TarantoolTuple read(byte[] data, int offset, int length) {
+        return new LazyTarantoolTuple(Arrays.copyOfRange(data, offset, offset + length), mapper, spaceMetadata);
+    }
 }
@@ -0,0 +1,160 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Base class for tuple converters accessing the entity fields by their index. The tuple positions of the fields are
+ * resolved once on creation of the converter.
+ *
+ * @param <T> entity type
+ */
+public abstract class AbstractTupleConverter<T> implements TupleConverter<T> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    protected final MessagePackMapper mapper;
+    private final Class<T> entityClass;
+    // tuple position for each entity field
+    private final int[] positions;
+    // entity field index for each tuple position, -1 if the position is not mapped
+    private final int[] fieldsByPosition;
+
+    /**
+     * Basic constructor
+     *
+     * @param entityClass    entity class
+     * @param mapper         mapper for the entity fields of types without the direct conversion
+     * @param metadata       space metadata used for resolving the field positions by names, may be null
+     * @param fieldNames     names of the entity fields in the space format
+     * @param fieldPositions tuple positions of the entity fields, -1 if the position must be resolved by name
+     */
+    protected AbstractTupleConverter(Class<T> entityClass, MessagePackMapper mapper,
+                                     TarantoolSpaceMetadata metadata, String[] fieldNames, int[] fieldPositions) {
+        this.entityClass = entityClass;
+        this.mapper = mapper;
+        this.positions = new int[fieldPositions.length];
+        int width = 0;
+        for (int i = 0; i < fieldPositions.length; i++) {
+            positions[i] = resolvePosition(metadata, fieldNames[i], fieldPositions[i], i);
+            width = Math.max(width, positions[i] + 1);
+        }
+        this.fieldsByPosition = new int[width];
+        Arrays.fill(fieldsByPosition, -1);
+        for (int i = 0; i < positions.length; i++) {
+            if (fieldsByPosition[positions[i]] >= 0) {
+                throw new TarantoolClientException("Fields %s and %s of %s are mapped to the same tuple position %d",
+                        fieldNames[fieldsByPosition[positions[i]]], fieldNames[i], entityClass.getName(),
+                        positions[i]);
+            }
+            fieldsByPosition[positions[i]] = i;
+        }
+    }
+
+    private int resolvePosition(TarantoolSpaceMetadata metadata, String fieldName, int position, int index) {
+        if (position >= 0) {
+            return position;
+        }
+        if (metadata == null) {
+            return index;
+        }
+        int resolved = metadata.getFieldPositionByName(fieldName);
+        if (resolved < 0) {
+            throw new TarantoolClientException("Field %s of %s is not found in the format of space %s",
+                    fieldName, entityClass.getName(), metadata.getSpaceName());
+        }
+        return resolved;
+    }
+
+    /**
+     * Create an empty entity
+     *
+     * @return new entity instance
+     */
+    protected abstract T newEntity();
+
+    /**
+     * Set an entity field from the tuple field value
+     *
+     * @param entity entity
+     * @param field  entity field index
+     * @param value  tuple field value
+     */
+    protected abstract void readField(T entity, int field, Value value);
+
+    /**
+     * Convert an entity field to a tuple field value
+     *
+     * @param entity entity
+     * @param field  entity field index
+     * @return tuple field value
+     */
+    protected abstract Value fieldToValue(T entity, int field);
+
+    /**
+     * Write an entity field to the packer
+     *
+     * @param packer MessagePack packer
+     * @param entity entity
+     * @param field  entity field index
+     * @throws IOException if writing to the packer failed
+     */
+    protected abstract void writeField(MessagePacker packer, T entity, int field) throws IOException;
+
+    @Override
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Get the tuple position of an entity field
+     *
+     * @param field entity field index
+     * @return tuple position
+     */
+    public int getFieldPosition(int field) {
+        return positions[field];
+    }
+
+    @Override
+    public T fromValue(ArrayValue value) {
+        T entity = newEntity();
+        int size = value.size();
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] < size) {
+                readField(entity, i, value.get(positions[i]));
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    public ArrayValue toValue(T entity) {
+        Value[] values = new Value[fieldsByPosition.length];
+        for (int i = 0; i < values.length; i++) {
+            int field = fieldsByPosition[i];
+            values[i] = field < 0 ? ValueFactory.newNil() : fieldToValue(entity, field);
+        }
+        return ValueFactory.newArray(values, true);
+    }
+
+    @Override
+    public void write(MessagePacker packer, T entity) throws IOException {
+        packer.packArrayHeader(fieldsByPosition.length);
+        for (int field : fieldsByPosition) {
+            if (field < 0) {
+                packer.packNil();
+            } else {
+                writeField(packer, entity, field);
+            }
+        }
+    }
+}
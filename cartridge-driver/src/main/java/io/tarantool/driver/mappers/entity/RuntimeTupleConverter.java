@@ -0,0 +1,102 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+
+/**
+ * Tuple converter using the entity accessors resolved at runtime, see {@link RuntimeTupleConverterFactory}
+ *
+ * @param <T> entity type
+ */
+public final class RuntimeTupleConverter<T> extends AbstractTupleConverter<T> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    // the bound accessors are not serializable, they are looked up again by the entity class after deserialization
+    private transient RuntimeTupleConverterFactory<T> factory;
+
+    RuntimeTupleConverter(RuntimeTupleConverterFactory<T> factory, MessagePackMapper mapper,
+                          TarantoolSpaceMetadata metadata) {
+        super(factory.getEntityClass(), mapper, metadata, factory.getFieldNames(), factory.getFieldPositions());
+        this.factory = factory;
+    }
+
+    private RuntimeTupleConverterFactory<T> factory() {
+        if (factory == null) {
+            factory = RuntimeTupleConverterFactory.forClass(getEntityClass());
+        }
+        return factory;
+    }
+
+    @Override
+    public T fromValue(ArrayValue value) {
+        RuntimeTupleConverterFactory<T> factory = factory();
+        if (!factory.isImmutable()) {
+            return super.fromValue(value);
+        }
+        Object[] values = new Object[factory.getFieldCount()];
+        int size = value.size();
+        for (int i = 0; i < values.length; i++) {
+            int position = getFieldPosition(i);
+            if (position < size) {
+                values[i] = readValue(factory, i, value.get(position));
+            }
+        }
+        return factory.newEntity(values);
+    }
+
+    @Override
+    protected T newEntity() {
+        return factory().newEntity();
+    }
+
+    @Override
+    protected void readField(T entity, int field, Value value) {
+        RuntimeTupleConverterFactory<T> factory = factory();
+        factory.setField(entity, field, readValue(factory, field, value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(RuntimeTupleConverterFactory<T> factory, int field, Value value) {
+        if (value.isNilValue()) {
+            return null;
+        }
+        Class<?> type = factory.getFieldType(field);
+        return mapper.fromValue(value, (Class<Object>) (type.isPrimitive() ? wrap(type) : type));
+    }
+
+    @Override
+    protected Value fieldToValue(T entity, int field) {
+        return mapper.toValue(factory().getField(entity, field));
+    }
+
+    @Override
+    protected void writeField(MessagePacker packer, T entity, int field) throws IOException {
+        mapper.write(packer, factory().getField(entity, field));
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else {
+            return Character.class;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Factory of tuple converters for the entity classes, derived at runtime from the class fields and constructors.
+ * It is an alternative to the converters generated for the classes annotated with {@link TupleEntity}, for the cases
+ * when the annotation processing cannot be used.
+ * <p>
+ * If the class has fields annotated with {@link TupleField}, only these fields are mapped, otherwise all non-static
+ * and non-transient fields of the class and its superclasses are mapped. The order of the fields returned by the
+ * reflection API is not specified, so the tuple positions of the fields are taken from {@link TupleField#position()}
+ * or resolved by the field names in the space format. A converter for the fields without explicit positions cannot
+ * be created without the space metadata. The fields are accessed through their getters and setters, if they exist,
+ * or directly. The entity is created with the constructor without arguments, or, if the class is immutable, with
+ * the constructor accepting all mapped fields in the order of their tuple positions. Immutable classes must specify
+ * the positions of all fields.
+ * <p>
+ * The accessors are resolved once per class and bound with {@link LambdaMetafactory}, so that mapping does not use
+ * reflection. If the lambda binding is not possible, for example, for non-public classes, method handles are used.
+ *
+ * @param <T> entity type
+ */
+public final class RuntimeTupleConverterFactory<T> implements TupleConverterFactory<T> {
+
+    private static final ClassValue<RuntimeTupleConverterFactory<?>> FACTORIES =
+            new ClassValue<RuntimeTupleConverterFactory<?>>() {
+                @Override
+                protected RuntimeTupleConverterFactory<?> computeValue(Class<?> type) {
+                    return new RuntimeTupleConverterFactory<>(type);
+                }
+            };
+
+    private final Class<T> entityClass;
+    // the fields are sorted by the tuple positions, if all positions are specified
+    private final List<EntityField> fields;
+    private final boolean explicitPositions;
+    private final Supplier<Object> constructor;
+    private final MethodHandle allFieldsConstructor;
+
+    /**
+     * Get the factory for the specified class. The factory is created once for each class
+     *
+     * @param entityClass entity class
+     * @param <T>         entity type
+     * @return factory instance
+     * @throws TarantoolClientException if the class cannot be mapped to tuples
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RuntimeTupleConverterFactory<T> forClass(Class<T> entityClass) {
+        return (RuntimeTupleConverterFactory<T>) FACTORIES.get(entityClass);
+    }
+
+    private RuntimeTupleConverterFactory(Class<T> entityClass) {
+        if (entityClass.isInterface() || Modifier.isAbstract(entityClass.getModifiers())) {
+            throw new TarantoolClientException("Tuple entity class %s must not be abstract", entityClass.getName());
+        }
+        this.entityClass = entityClass;
+        this.fields = Collections.unmodifiableList(collectFields(entityClass));
+        if (fields.isEmpty()) {
+            throw new TarantoolClientException("Tuple entity class %s has no fields to map", entityClass.getName());
+        }
+        this.explicitPositions = fields.stream().allMatch(f -> f.position >= 0);
+        boolean bindLambdas = canBindLambdas(entityClass);
+        Constructor<T> noArgsConstructor = findConstructor(entityClass);
+        try {
+            if (noArgsConstructor != null) {
+                this.constructor = bindConstructor(noArgsConstructor, bindLambdas);
+                this.allFieldsConstructor = null;
+            } else {
+                if (!explicitPositions) {
+                    throw new TarantoolClientException("Immutable tuple entity class %s must specify the positions " +
+                            "of all mapped fields with @TupleField", entityClass.getName());
+                }
+                this.constructor = null;
+                this.allFieldsConstructor = findAllFieldsConstructor(entityClass, fields);
+            }
+            for (EntityField field : fields) {
+                // immutable entities are filled with the constructor, so the setters are not needed
+                field.bind(entityClass, bindLambdas, noArgsConstructor != null);
+            }
+        } catch (TarantoolClientException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TarantoolClientException(
+                    String.format("Failed to bind the accessors of tuple entity class %s", entityClass.getName()), e);
+        }
+    }
+
+    @Override
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public TupleConverter<T> create(MessagePackMapper mapper, TarantoolSpaceMetadata metadata) {
+        if (metadata == null && !explicitPositions) {
+            throw new TarantoolClientException("The tuple positions of the fields of %s cannot be determined, " +
+                    "specify them with @TupleField or pass the space metadata", entityClass.getName());
+        }
+        return new RuntimeTupleConverter<>(this, mapper, metadata);
+    }
+
+    String[] getFieldNames() {
+        return fields.stream().map(f -> f.formatName).toArray(String[]::new);
+    }
+
+    int[] getFieldPositions() {
+        return fields.stream().mapToInt(f -> f.position).toArray();
+    }
+
+    int getFieldCount() {
+        return fields.size();
+    }
+
+    Class<?> getFieldType(int field) {
+        return fields.get(field).type;
+    }
+
+    boolean isImmutable() {
+        return allFieldsConstructor != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    T newEntity() {
+        return (T) constructor.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    T newEntity(Object[] values) {
+        Object[] arguments = values;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null && fields.get(i).type.isPrimitive()) {
+                if (arguments == values) {
+                    arguments = Arrays.copyOf(values, values.length);
+                }
+                arguments[i] = Array.get(Array.newInstance(fields.get(i).type, 1), 0);
+            }
+        }
+        try {
+            return (T) allFieldsConstructor.invoke(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    Object getField(T entity, int field) {
+        return fields.get(field).getter.apply(entity);
+    }
+
+    void setField(T entity, int field, Object value) {
+        EntityField entityField = fields.get(field);
+        if (value != null || !entityField.type.isPrimitive()) {
+            entityField.setter.accept(entity, value);
+        }
+    }
+
+    private static List<EntityField> collectFields(Class<?> entityClass) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.add(0, type);
+        }
+        List<Field> annotated = new ArrayList<>();
+        List<Field> all = new ArrayList<>();
+        for (Class<?> type : hierarchy) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(TupleField.class)) {
+                    annotated.add(field);
+                } else if (!Modifier.isTransient(modifiers)) {
+                    all.add(field);
+                }
+            }
+        }
+        List<EntityField> fields = new ArrayList<>();
+        for (Field field : annotated.isEmpty() ? all : annotated) {
+            TupleField annotation = field.getAnnotation(TupleField.class);
+            String formatName = annotation == null || annotation.name().isEmpty() ?
+                    field.getName() : annotation.name();
+            fields.add(new EntityField(field, formatName, annotation == null ? -1 : annotation.position()));
+        }
+        if (fields.stream().allMatch(f -> f.position >= 0)) {
+            fields.sort(Comparator.comparingInt(f -> f.position));
+        }
+        return fields;
+    }
+
+    private static boolean canBindLambdas(Class<?> entityClass) {
+        // the lambda classes are defined in this class loader, so the entity class must be public and visible here
+        if (!Modifier.isPublic(entityClass.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(entityClass.getName(), false,
+                    RuntimeTupleConverterFactory.class.getClassLoader()) == entityClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static <T> Constructor<T> findConstructor(Class<T> entityClass) {
+        try {
+            return entityClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> bindConstructor(Constructor<?> constructor, boolean bindLambdas)
+            throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        if (bindLambdas && Modifier.isPublic(constructor.getModifiers())) {
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), handle, handle.type());
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        }
+        constructor.setAccessible(true);
+        MethodHandle handle = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new TarantoolClientException(e);
+            }
+        };
+    }
+
+    private static MethodHandle findAllFieldsConstructor(Class<?> entityClass, List<EntityField> fields)
+            throws IllegalAccessException {
+        Class<?>[] types = fields.stream().map(f -> f.type).toArray(Class<?>[]::new);
+        for (Constructor<?> constructor : entityClass.getDeclaredConstructors()) {
+            if (Arrays.equals(constructor.getParameterTypes(), types) && matchesNames(constructor, fields)) {
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class, types))
+                        .asSpreader(Object[].class, types.length);
+            }
+        }
+        throw new TarantoolClientException("Tuple entity class %s must have a constructor without arguments or " +
+                "a constructor accepting all mapped fields in the order of their positions", entityClass.getName());
+    }
+
+    private static boolean matchesNames(Constructor<?> constructor, List<EntityField> fields) {
+        // the parameter names are available only if the class is compiled with -parameters
+        Parameter[] parameters = constructor.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isNamePresent() && !parameters[i].getName().equals(fields.get(i).field.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class EntityField {
+        private final Field field;
+        private final String formatName;
+        private final int position;
+        private final Class<?> type;
+        private Function<Object, Object> getter;
+        private BiConsumer<Object, Object> setter;
+
+        EntityField(Field field, String formatName, int position) {
+            this.field = field;
+            this.formatName = formatName;
+            this.position = position;
+            this.type = field.getType();
+        }
+
+        void bind(Class<?> entityClass, boolean bindLambdas, boolean withSetter) throws Throwable {
+            String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+            Method getterMethod = findMethod(entityClass, "get" + suffix);
+            if (getterMethod == null && type == boolean.class) {
+                getterMethod = findMethod(entityClass, "is" + suffix);
+            }
+            getter = getterMethod != null && getterMethod.getReturnType() == type ?
+                    bindGetter(getterMethod, bindLambdas) : bindFieldGetter();
+            if (withSetter) {
+                Method setterMethod = findMethod(entityClass, "set" + suffix, type);
+                setter = setterMethod != null ? bindSetter(setterMethod, bindLambdas) : bindFieldSetter();
+            }
+        }
+
+        private Method findMethod(Class<?> entityClass, String name, Class<?>... parameterTypes) {
+            try {
+                Method method = entityClass.getMethod(name, parameterTypes);
+                return Modifier.isStatic(method.getModifiers()) ? null : method;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Function<Object, Object> bindGetter(Method method, boolean bindLambdas) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            if (bindLambdas && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            }
+            method.setAccessible(true);
+            return invoker(lookup.unreflect(method));
+        }
+
+        @SuppressWarnings("unchecked")
+        private BiConsumer<Object, Object> bindSetter(Method method, boolean bindLambdas) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            if (bindLambdas && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class), handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            }
+            method.setAccessible(true);
+            return consumer(lookup.unreflect(method));
+        }
+
+        private Function<Object, Object> bindFieldGetter() throws IllegalAccessException {
+            field.setAccessible(true);
+            return invoker(MethodHandles.lookup().unreflectGetter(field));
+        }
+
+        private BiConsumer<Object, Object> bindFieldSetter() throws IllegalAccessException {
+            field.setAccessible(true);
+            return consumer(MethodHandles.lookup().unreflectSetter(field));
+        }
+
+        private static Function<Object, Object> invoker(MethodHandle handle) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return entity -> {
+                try {
+                    return generic.invokeExact(entity);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new TarantoolClientException(e);
+                }
+            };
+        }
+
+        private static BiConsumer<Object, Object> consumer(MethodHandle handle) {
+            MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (entity, value) -> {
+                try {
+                    generic.invokeExact(entity, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new TarantoolClientException(e);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ObjectWriter;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ArrayValue;
+
+/**
+ * Converter between Java entities and tuples, which is able to convert an entity in both directions
+ *
+ * @param <T> entity type
+ */
+public interface TupleConverter<T>
+        extends ValueConverter<ArrayValue, T>, ObjectConverter<T, ArrayValue>, ObjectWriter<T> {
+    /**
+     * Get the class of entities supported by this converter
+     *
+     * @return entity class
+     */
+    Class<T> getEntityClass();
+}
@@ -0,0 +1,28 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.MessagePackMapper;
+
+/**
+ * Creates {@link TupleConverter} instances for a particular entity class. The factories of the generated converters
+ * are registered as services of this type.
+ *
+ * @param <T> entity type
+ */
+public interface TupleConverterFactory<T> {
+    /**
+     * Get the class of entities supported by the created converters
+     *
+     * @return entity class
+     */
+    Class<T> getEntityClass();
+
+    /**
+     * Create a converter
+     *
+     * @param mapper   mapper for the entity fields of types without the direct conversion
+     * @param metadata space metadata used for resolving the field positions by names, may be null
+     * @return new converter instance
+     */
+    TupleConverter<T> create(MessagePackMapper mapper, TarantoolSpaceMetadata metadata);
+}
@@ -0,0 +1,37 @@
+package io.tarantool.driver.mappers.entity;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class mapped to tuples. For each annotated class a {@link TupleConverter} implementation named
+ * {@code <ClassName>TupleConverter} is generated in the same package at compile time, mapping the fields annotated
+ * with {@link TupleField}. The converters are generated by the annotation processor from the
+ * {@code io.tarantool:cartridge-driver-processor} artifact, which must be added to the annotation processor path of
+ * the application. The generated converters are discovered by
+ * {@link io.tarantool.driver.api.MessagePackMapperBuilder#withGeneratedTupleConverters()}.
+ * <p>
+ * The class must not be abstract and must have a non-private constructor without arguments. The mapped fields are
+ * accessed directly if they are not private, otherwise the getters and setters are used.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * {@literal @}TupleEntity
+ * public class Book {
+ *     {@literal @}TupleField(position = 0)
+ *     Integer id;
+ *     {@literal @}TupleField(position = 2)
+ *     String name;
+ * }
+ * </code>
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TupleEntity {
+}
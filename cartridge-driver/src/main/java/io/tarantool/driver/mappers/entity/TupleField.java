@@ -0,0 +1,33 @@
+package io.tarantool.driver.mappers.entity;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field of a {@link TupleEntity} class mapped to a tuple field.
+ * <p>
+ * If the position is not specified, the field is looked up by name in the space format, when the converter is
+ * created with the space metadata. Without the metadata the generated converters assign such fields the tuple
+ * positions in the order of their declaration in the source code, and the runtime converters cannot be created.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface TupleField {
+    /**
+     * Tuple field position, starting from 0
+     *
+     * @return position or -1 if not specified
+     */
+    int position() default -1;
+
+    /**
+     * Name of the field in the space format. By default, the Java field name is used
+     *
+     * @return field name
+     */
+    String name() default "";
+}
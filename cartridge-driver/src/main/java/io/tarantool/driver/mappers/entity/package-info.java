@@ -0,0 +1,5 @@
+/**
+ * Contains converters between tuples and Java entities, which are generated at compile time for the classes annotated
+ * with {@link io.tarantool.driver.mappers.entity.TupleEntity}
+ */
+package io.tarantool.driver.mappers.entity;
@@ -0,0 +1,34 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Classes implementing this interface can be converted into MessagePack representation
+ *
+ * @author Alexey Kuzin
+ */
+public interface Packable extends Serializable {
+    /**
+     * Convert this instance into a corresponding MessagePack {@link Value}
+     * @param mapper configured Java objects to entities mapper
+     * @return MessagePack entity
+     */
+    Value toMessagePackValue(MessagePackObjectMapper mapper);
+
+    /**
+     * Write the MessagePack representation of this instance to the packer. The default implementation packs the
+     * result of {@link #toMessagePackValue(MessagePackObjectMapper)}, the implementations may override it for
+     * writing the data without creating the intermediate entities
+     * @param packer MessagePack packer
+     * @param mapper configured Java objects to entities mapper
+     * @throws IOException if writing to the packer failed
+     */
+    default void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packValue(toMessagePackValue(mapper));
+    }
+}
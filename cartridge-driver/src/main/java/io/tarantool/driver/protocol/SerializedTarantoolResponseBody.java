@@ -0,0 +1,81 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+
+/**
+ * Represents non-empty body which keeps the serialized data. The data is unpacked only when it is requested as
+ * a MessagePack entity, so that the result mappers may read it directly.
+ *
+ * @see io.tarantool.driver.mappers.MessagePackValueMapper#fromMessagePack(byte[], int, int)
+ */
+public class SerializedTarantoolResponseBody implements TarantoolResponseBody {
+    private final TarantoolResponseBodyType responseBodyType;
+    private final byte[] data;
+    private final int offset;
+    private final int length;
+    private Value value;
+
+    /**
+     * Basic constructor.
+     * @param code first key in the body MP_MAP value
+     * @param data buffer with the serialized data (of type MP_OBJECT)
+     * @param offset data start offset in the buffer
+     * @param length serialized data length
+     * @throws TarantoolProtocolException if the specified code doesn't correspond to a valid
+     * {@link TarantoolResponseBodyType}
+     */
+    public SerializedTarantoolResponseBody(int code, byte[] data, int offset, int length)
+            throws TarantoolProtocolException {
+        this.responseBodyType = TarantoolResponseBodyType.fromCode(code);
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public TarantoolResponseBodyType getResponseBodyType() {
+        return responseBodyType;
+    }
+
+    @Override
+    public Value getData() {
+        if (value == null) {
+            try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data, offset, length)) {
+                value = unpacker.unpackValue();
+            } catch (IOException | MessagePackException e) {
+                throw new MessagePackValueMapperException("Failed to unpack the response body", e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the buffer with the serialized data
+     * @return buffer, must not be modified
+     */
+    public byte[] getSerializedData() {
+        return data;
+    }
+
+    /**
+     * Get the serialized data start offset in the buffer
+     * @return offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the serialized data length
+     * @return length
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -24,6 +24,7 @@ public final class TarantoolHeader implements Packable {
     private static final int IPROTO_LSN = 0x03;
     private static final int IPROTO_TIMESTAMP = 0x04;
     private static final int IPROTO_SCHEMA_VERSION = 0x05;
+    private static final int IPROTO_STREAM_ID = 0x0a;
 
     private Long sync;
     private Long code;
@@ -31,6 +32,7 @@ public final class TarantoolHeader implements Packable {
     private Long replicaId;
     private Long lsn;
     private Double timestamp;
+    private Long streamId;
 
     private TarantoolHeader() {
     }
@@ -94,6 +96,20 @@ public final class TarantoolHeader implements Packable {
         this.timestamp = timestamp;
     }
 
+    public Long getStreamId() {
+        return streamId;
+    }
+
+    /**
+     * Set the stream ID. Requests with the same stream ID are processed by the server sequentially, which is
+     * required for interactive transactions
+     *
+     * @param streamId a positive number or null, if the request does not belong to a stream
+     */
+    public void setStreamId(Long streamId) {
+        this.streamId = streamId;
+    }
+
     /**
      * Converts the current header contents into a MessagePack {@link Value}
      * @return MessagePack representation of the header
@@ -105,6 +121,9 @@ public final class TarantoolHeader implements Packable {
         if (schemaVersion != null) {
             values.put(ValueFactory.newInteger(IPROTO_SCHEMA_VERSION), ValueFactory.newInteger(schemaVersion));
         }
+        if (streamId != null) {
+            values.put(ValueFactory.newInteger(IPROTO_STREAM_ID), ValueFactory.newInteger(streamId));
+        }
         return ValueFactory.newMap(values);
     }
 
@@ -149,6 +168,9 @@ public final class TarantoolHeader implements Packable {
                 case IPROTO_TIMESTAMP:
                     header.setTimestamp(field.asFloatValue().toDouble());
                     break;
+                case IPROTO_STREAM_ID:
+                    header.setStreamId(field.asIntegerValue().asLong());
+                    break;
             }
         }
         if (header.getCode() == null) {
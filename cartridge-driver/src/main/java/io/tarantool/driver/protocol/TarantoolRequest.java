@@ -66,7 +66,7 @@ public class TarantoolRequest {
             throws TarantoolDecoderException {
         try {
             packer.packValue(header.toMessagePackValue(mapper));
-            packer.packValue(body.toMessagePackValue(mapper));
+            body.toMessagePack(packer, mapper);
         } catch (IOException | MessagePackException e) {
             throw new TarantoolDecoderException(header, e);
         }
@@ -0,0 +1,76 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapperException;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Represents basic Tarantool request body
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestBody implements Packable {
+
+    private static final byte[] EMPTY_BODY = new byte[]{(byte) 0x80};
+    // most of the request bodies are small, so the default 8 KiB packer buffer is not allocated for them
+    private static final MessagePack.PackerConfig PACKER_CONFIG = new MessagePack.PackerConfig().withBufferSize(512);
+
+    // the body is serialized on creation with the passed mapper, so the later changes in the passed objects
+    // do not affect the request
+    private final byte[] data;
+
+    /**
+     * In rare cases, the body may be empty. Creates a request with empty body
+     */
+    public TarantoolRequestBody() {
+        data = EMPTY_BODY;
+    }
+
+    /**
+     * Basic constructor. Takes a typical {@link Map} with {@code Integer} keys and {@code Object} values.
+     * The values are serialized using the passed instance of {@link MessagePackObjectMapper}, without creating the
+     * intermediate MessagePack entities.
+     * See <a href="https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests">
+     *     https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+     * @param body request body
+     * @param mapper provides mapping for Java objects to MessagePack entities
+     * @throws TarantoolProtocolException in case if mapping of body parts to objects failed
+     */
+    public TarantoolRequestBody(Map<Integer, ?> body, MessagePackObjectMapper mapper)
+            throws TarantoolProtocolException {
+        try (MessageBufferPacker packer = PACKER_CONFIG.newBufferPacker()) {
+            packer.packMapHeader(body.size());
+            for (Map.Entry<Integer, ?> entry : body.entrySet()) {
+                packer.packInt(entry.getKey());
+                mapper.write(packer, entry.getValue());
+            }
+            this.data = packer.toByteArray();
+        } catch (IOException | MessagePackException | MessagePackObjectMapperException |
+                 MessagePackValueMapperException e) {
+            throw new TarantoolProtocolException(e);
+        }
+    }
+
+    @Override
+    public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            return unpacker.unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to unpack the request body", e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.writePayload(data);
+    }
+}
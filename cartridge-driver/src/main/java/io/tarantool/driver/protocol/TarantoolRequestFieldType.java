@@ -15,7 +15,9 @@ public enum TarantoolRequestFieldType {
     IPROTO_TUPLE(0x21),
     IPROTO_FUNCTION_NAME(0x22),
     IPROTO_EXPRESSION(0x27),
-    IPROTO_OPS(0x28);
+    IPROTO_OPS(0x28),
+    IPROTO_TIMEOUT(0x56),
+    IPROTO_TXN_ISOLATION(0x59);
 
     private int code;
 
@@ -1,10 +1,12 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
+import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -129,4 +131,47 @@ public final class TarantoolResponse {
             throw new TarantoolProtocolException(e);
         }
     }
+
+    /**
+     * Create Tarantool response from the binary data. Unlike {@link #fromMessagePack(MessageUnpacker)}, the body with
+     * {@code IPROTO_DATA} key is not unpacked, the response keeps the serialized data
+     * @param data serialized response, must not be modified after passing to the response
+     * @return Tarantool response populated from the binary data
+     * @throws TarantoolProtocolException if the unpacked data is invalid
+     * @see SerializedTarantoolResponseBody
+     */
+    public static TarantoolResponse fromMessagePack(byte[] data) throws TarantoolProtocolException {
+        TarantoolHeader header = null;
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+            TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
+
+            if (unpacker.hasNext()) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+                    throw new TarantoolProtocolException("Response body must be of MP_MAP type");
+                }
+                if (unpacker.unpackMapHeader() > 0) {
+                    if (unpacker.getNextFormat().getValueType() != ValueType.INTEGER) {
+                        throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
+                    }
+                    int code = unpacker.unpackInt();
+                    if (TarantoolResponseBodyType.fromCode(code) == TarantoolResponseBodyType.IPROTO_DATA) {
+                        int offset = (int) unpacker.getTotalReadBytes();
+                        unpacker.skipValue();
+                        responseBody = new SerializedTarantoolResponseBody(
+                                code, data, offset, (int) unpacker.getTotalReadBytes() - offset);
+                    } else {
+                        responseBody = new NotEmptyTarantoolResponseBody(code, unpacker.unpackValue());
+                    }
+                }
+            }
+
+            return new TarantoolResponse(header.getSync(), header.getCode(), responseBody);
+        } catch (IOException | MessagePackException e) {
+            if (header != null) {
+                throw new TarantoolDecoderException(header, e);
+            }
+            throw new TarantoolProtocolException(e);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package io.tarantool.driver.protocol;
+
+/**
+ * Transaction isolation levels supported by Tarantool interactive transactions.
+ * See <a href="https://www.tarantool.io/en/doc/latest/concepts/atomic/txn_mode_mvcc/">
+ *     https://www.tarantool.io/en/doc/latest/concepts/atomic/txn_mode_mvcc/</a>
+ */
+public enum TarantoolTransactionIsolation {
+    /**
+     * Use the isolation level specified in the server configuration
+     */
+    DEFAULT(0),
+    /**
+     * Read changes that are committed but not confirmed yet
+     */
+    READ_COMMITTED(1),
+    /**
+     * Read only changes that are confirmed
+     */
+    READ_CONFIRMED(2),
+    /**
+     * Determine the isolation level automatically
+     */
+    BEST_EFFORT(3);
+
+    private final int code;
+
+    TarantoolTransactionIsolation(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,72 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Begin request. Starts an interactive transaction in the stream specified in the request header.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ *     https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ */
+public final class TarantoolBeginRequest extends TarantoolRequest {
+
+    private TarantoolBeginRequest(TarantoolRequestBody body) {
+        super(TarantoolRequestType.IPROTO_BEGIN, body);
+    }
+
+    /**
+     * Tarantool begin request builder
+     */
+    public static class Builder {
+
+        Map<Integer, Object> bodyMap;
+
+        public Builder() {
+            this.bodyMap = new HashMap<>(2, 1);
+        }
+
+        /**
+         * Specify the transaction timeout. The transaction is rolled back by the server after the timeout expires
+         *
+         * @param timeout timeout in seconds
+         * @return builder
+         */
+        public Builder withTimeout(double timeout) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TIMEOUT.getCode(), timeout);
+            return this;
+        }
+
+        /**
+         * Specify the transaction isolation level
+         *
+         * @param isolation isolation level
+         * @return builder
+         */
+        public Builder withIsolation(TarantoolTransactionIsolation isolation) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TXN_ISOLATION.getCode(), isolation.getCode());
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolBeginRequest} instance
+         *
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return instance of begin request
+         * @throws TarantoolProtocolException if some parameters cannot be converted
+         */
+        public TarantoolBeginRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            if (bodyMap.isEmpty()) {
+                return new TarantoolBeginRequest(new TarantoolRequestBody());
+            }
+            return new TarantoolBeginRequest(new TarantoolRequestBody(bodyMap, mapper));
+        }
+    }
+}
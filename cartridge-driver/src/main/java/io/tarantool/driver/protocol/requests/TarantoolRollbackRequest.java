@@ -0,0 +1,20 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+/**
+ * Rollback request. Rolls back the interactive transaction in the stream specified in the request header.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ *     https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ */
+public final class TarantoolRollbackRequest extends TarantoolRequest {
+
+    /**
+     * Basic constructor. The request has an empty body
+     */
+    public TarantoolRollbackRequest() {
+        super(TarantoolRequestType.IPROTO_ROLLBACK, new TarantoolRequestBody());
+    }
+}
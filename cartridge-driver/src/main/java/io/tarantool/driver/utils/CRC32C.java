@@ -0,0 +1,75 @@
+package io.tarantool.driver.utils;
+
+import java.util.zip.Checksum;
+
+/**
+ * CRC-32C (Castagnoli) checksum implementation. Java 8 does not provide it in the standard library, and this
+ * checksum is used by Tarantool for computing the vshard bucket IDs.
+ * <p>
+ * The computed value is the standard CRC-32C checksum. Tarantool's <code>digest.crc32</code> function does not
+ * apply the final inversion, its result is equal to the bitwise complement of this value
+ * (see {@link #getTarantoolValue()}).
+ */
+public final class CRC32C implements Checksum {
+
+    private static final int POLYNOMIAL = 0x82F63B78;
+    private static final int[] TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < TABLE.length; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            TABLE[i] = crc;
+        }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+        crc = TABLE[(crc ^ b) & 0xFF] ^ (crc >>> 8);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        Assert.notNull(b, "Input bytes must not be null");
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        int value = crc;
+        for (int i = off; i < off + len; i++) {
+            value = TABLE[(value ^ b[i]) & 0xFF] ^ (value >>> 8);
+        }
+        crc = value;
+    }
+
+    /**
+     * Updates the checksum with all bytes from the specified array
+     *
+     * @param b the byte array to update the checksum with
+     */
+    public void update(byte[] b) {
+        update(b, 0, b.length);
+    }
+
+    @Override
+    public long getValue() {
+        return (~crc) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Get the checksum value in the form returned by Tarantool's <code>digest.crc32</code> function
+     *
+     * @return unsigned 32-bit checksum value
+     */
+    public long getTarantoolValue() {
+        return crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+}
@@ -27,6 +27,26 @@ public final class TarantoolUtils {
                 ciVersion.getMinor() > version.getMinor();
     }
 
+    public static boolean versionAtLeast(String tarantoolVersion) {
+        Assert.notNull(tarantoolVersion, "tarantoolVersion must not be null");
+        String tarantoolCiVersion = java.lang.System.getenv(TARANTOOL_VERSION);
+        if (StringUtils.isEmpty(tarantoolCiVersion)) {
+            return true;
+        }
+        TarantoolVersion ciVersion = new TarantoolVersion(tarantoolCiVersion);
+        TarantoolVersion version = new TarantoolVersion(tarantoolVersion);
+        return ciVersion.getMajor() > version.getMajor() ||
+                ciVersion.getMajor().equals(version.getMajor()) && ciVersion.getMinor() >= version.getMinor();
+    }
+
+    public static boolean versionWithKeyDef() {
+        return versionAtLeast("2.2");
+    }
+
+    public static boolean versionWithStreams() {
+        return versionAtLeast("2.10");
+    }
+
     public static boolean versionWithUUID() {
         return versionGreaterThen("2.4");
     }
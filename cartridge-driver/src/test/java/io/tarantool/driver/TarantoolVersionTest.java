@@ -4,8 +4,10 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -46,4 +48,15 @@ public class TarantoolVersionTest {
         assertEquals(TarantoolVersion.fromString(versionString).hashCode(),
                 TarantoolVersion.fromString(versionString).hashCode());
     }
+
+    @Test
+    public void test_should_compareWithMajorAndMinor() throws InvalidVersionException {
+        TarantoolVersion version = TarantoolVersion.fromString("Tarantool 2.10.4 (Binary) 2a0d4c5e");
+
+        assertTrue(version.isAtLeast(1, 10));
+        assertTrue(version.isAtLeast(2, 10));
+        assertFalse(version.isAtLeast(2, 11));
+        assertFalse(version.isAtLeast(3, 0));
+        assertFalse(TarantoolVersion.fromString("Tarantool unknown").isAtLeast(1, 0));
+    }
 }
@@ -15,6 +15,7 @@ import io.tarantool.driver.protocol.TarantoolIndexQuery;
 import io.tarantool.driver.protocol.TarantoolIndexQueryFactory;
 import io.tarantool.driver.protocol.TarantoolIteratorType;
 import org.junit.jupiter.api.Test;
+import org.msgpack.value.ValueFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -27,7 +28,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Alexey Kuzin
@@ -104,16 +107,92 @@ class ConditionsTest {
         assertEquals(query, conditions.toProxyQuery(testOperations, testOperations.getSpaceByName("test").get()));
     }
 
+    @Test
+    public void testIndexQuery_After() {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTupleFactory factory = new DefaultTarantoolTupleFactory(defaultMapper);
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        Conditions conditions = Conditions.after(factory.create("abc", 1, 2));
+
+        assertTrue(conditions.isStartAfterSupported(testOperations, spaceMetadata));
+        TarantoolIndexQuery query = conditions.toIndexQuery(testOperations, spaceMetadata);
+
+        assertEquals(TarantoolIndexQuery.PRIMARY, query.getIndexId());
+        assertEquals(TarantoolIteratorType.ITER_GT, query.getIteratorType());
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("abc")),
+                defaultMapper.toValue(query.getKeyValues()));
+    }
+
+    @Test
+    public void testIndexQuery_AfterDescending() {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTupleFactory factory = new DefaultTarantoolTupleFactory(defaultMapper);
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        Conditions conditions = Conditions.indexGreaterOrEquals("primary", Collections.singletonList("abc"))
+                .withDescending()
+                .startAfter(factory.create("def", 1, 2));
+
+        TarantoolIndexQuery query = conditions.toIndexQuery(testOperations, spaceMetadata);
+
+        assertEquals(TarantoolIteratorType.ITER_LT, query.getIteratorType());
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("def")),
+                defaultMapper.toValue(query.getKeyValues()));
+    }
+
     @Test
     public void testIndexQuery_AfterNotSupported() {
         TarantoolTupleFactory factory = new DefaultTarantoolTupleFactory(
                 DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
-        Conditions conditions = Conditions.after(factory.create());
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        Conditions conditions = Conditions.indexEquals("primary", Collections.singletonList("abc"))
+                .startAfter(factory.create("abc", 1, 2));
 
+        assertFalse(conditions.isStartAfterSupported(testOperations, spaceMetadata));
         TarantoolClientException ex = assertThrows(TarantoolClientException.class,
-                () -> conditions.toIndexQuery(testOperations, testOperations.getSpaceByName("test").get()));
+                () -> conditions.toIndexQuery(testOperations, spaceMetadata));
+
+        assertEquals("'startAfter' is not supported for iterator EQ over index primary", ex.getMessage());
+    }
+
+    @Test
+    public void testIndexQuery_AfterAndEndAt() {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTupleFactory factory = new DefaultTarantoolTupleFactory(defaultMapper);
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        Conditions conditions = Conditions.after(factory.create("abc", 1, 2))
+                .endAt(factory.create("def", 1, 2));
+
+        TarantoolIndexQuery query = conditions.toIndexQuery(testOperations, spaceMetadata);
+
+        assertEquals(TarantoolIteratorType.ITER_GT, query.getIteratorType());
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("def")),
+                defaultMapper.toValue(conditions.toEndKeyValues(testOperations, spaceMetadata)));
+        assertEquals(conditions, new Conditions(conditions));
+
+        TarantoolClientException ex = assertThrows(TarantoolClientException.class,
+                () -> conditions.toProxyQuery(testOperations, spaceMetadata));
+        assertEquals("'endAt' is not supported for the proxy operations", ex.getMessage());
+    }
+
+    @Test
+    public void testIndexQuery_EndAtNotSupported() {
+        TarantoolTupleFactory factory = new DefaultTarantoolTupleFactory(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        Conditions conditions = Conditions.indexEquals("primary", Collections.singletonList("abc"))
+                .endAt(factory.create("abc", 1, 2));
+
+        TarantoolClientException ex = assertThrows(TarantoolClientException.class,
+                () -> conditions.toEndKeyValues(testOperations, spaceMetadata));
+
+        assertEquals("'endAt' is not supported for iterator EQ over index primary", ex.getMessage());
+    }
+
+    @Test
+    public void testIndexQuery_AfterNotSupportedForNonUniqueIndex() {
+        Conditions conditions = Conditions.indexGreaterThan("asecondary", Collections.singletonList(1));
 
-        assertEquals("'startAfter' is not supported", ex.getMessage());
+        assertFalse(conditions.isStartAfterSupported(testOperations, testOperations.getSpaceByName("test").get()));
     }
 
     @Test
@@ -0,0 +1,121 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveCursorBatchSizePolicyTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final TarantoolTupleFactory tupleFactory = new DefaultTarantoolTupleFactory(mapper);
+
+    // each tuple is serialized into approximately the specified number of bytes
+    private List<TarantoolTuple> tuples(int count, int tupleSize) {
+        String payload = String.join("", Collections.nCopies(tupleSize, "a"));
+        List<TarantoolTuple> tuples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tuples.add(tupleFactory.create(payload));
+        }
+        return tuples;
+    }
+
+    private void fetch(CursorBatchSizePolicy policy, int tupleSize, long latencyNanos) {
+        int batchSize = policy.getBatchSize();
+        policy.onBatchFetched(tuples(batchSize, tupleSize), batchSize, latencyNanos);
+    }
+
+    @Test
+    public void test_smallTuples_shouldGrowGraduallyUpToMaximum() {
+        CursorBatchSizePolicy policy = AdaptiveCursorBatchSizePolicy.builder()
+                .withInitialBatchSize(100)
+                .withMaxBatchSize(1000)
+                .build()
+                .create(mapper);
+        assertEquals(100, policy.getBatchSize());
+
+        fetch(policy, 100, FAST);
+        assertEquals(200, policy.getBatchSize());
+        fetch(policy, 100, FAST);
+        assertEquals(400, policy.getBatchSize());
+        fetch(policy, 100, FAST);
+        fetch(policy, 100, FAST);
+        assertEquals(1000, policy.getBatchSize());
+    }
+
+    @Test
+    public void test_bigTuples_shouldShrinkToTargetResponseSize() {
+        CursorBatchSizePolicy policy = AdaptiveCursorBatchSizePolicy.builder()
+                .withMinBatchSize(1)
+                .withTargetResponseSize(100 * 1024)
+                .build()
+                .create(mapper);
+
+        fetch(policy, 10 * 1024, FAST);
+        int batchSize = policy.getBatchSize();
+        assertTrue(batchSize >= 9 && batchSize <= 10, "Unexpected batch size " + batchSize);
+    }
+
+    @Test
+    public void test_batchSize_shouldNotBeLessThanMinimum() {
+        CursorBatchSizePolicy policy = AdaptiveCursorBatchSizePolicy.builder()
+                .withMinBatchSize(20)
+                .withTargetResponseSize(1024)
+                .build()
+                .create(mapper);
+
+        fetch(policy, 1024, FAST);
+        assertEquals(20, policy.getBatchSize());
+    }
+
+    @Test
+    public void test_slowRequests_shouldShrinkToLatencyBudget() {
+        CursorBatchSizePolicy policy = AdaptiveCursorBatchSizePolicy.builder()
+                .withLatencyBudget(100)
+                .build()
+                .create(mapper);
+
+        fetch(policy, 10, TimeUnit.MILLISECONDS.toNanos(400));
+        assertEquals(25, policy.getBatchSize());
+
+        CursorBatchSizePolicy withoutBudget = AdaptiveCursorBatchSizePolicy.builder()
+                .withLatencyBudget(0)
+                .build()
+                .create(mapper);
+        fetch(withoutBudget, 10, TimeUnit.MILLISECONDS.toNanos(400));
+        assertEquals(200, withoutBudget.getBatchSize());
+    }
+
+    @Test
+    public void test_lastBatch_shouldNotGrowBatchSize() {
+        CursorBatchSizePolicy policy = AdaptiveCursorBatchSizePolicy.builder().build().create(mapper);
+
+        policy.onBatchFetched(tuples(30, 10), 100, FAST);
+        assertEquals(100, policy.getBatchSize());
+        policy.onBatchFetched(Collections.emptyList(), 100, FAST);
+        assertEquals(100, policy.getBatchSize());
+    }
+
+    @Test
+    public void test_invalidBounds_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveCursorBatchSizePolicy.builder()
+                .withMinBatchSize(100)
+                .withMaxBatchSize(10)
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> new FixedCursorBatchSizePolicy(0));
+    }
+}
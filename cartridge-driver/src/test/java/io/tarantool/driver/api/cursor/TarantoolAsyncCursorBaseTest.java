@@ -0,0 +1,120 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolAsyncCursorBaseTest {
+
+    private static final class TestAsyncCursor extends TarantoolAsyncCursorBase<TarantoolTuple> {
+
+        private final List<CompletableFuture<Collection<TarantoolTuple>>> requested = new ArrayList<>();
+        private final List<CompletableFuture<Collection<TarantoolTuple>>> previous = new ArrayList<>();
+
+        TestAsyncCursor(int prefetchBatches) {
+            super(prefetchBatches);
+        }
+
+        @Override
+        protected CompletableFuture<Collection<TarantoolTuple>> fetchNextBatch(
+                CompletableFuture<Collection<TarantoolTuple>> previousBatch) {
+            CompletableFuture<Collection<TarantoolTuple>> batch = new CompletableFuture<>();
+            previous.add(previousBatch);
+            requested.add(batch);
+            return batch;
+        }
+    }
+
+    @Test
+    public void test_nextBatch_shouldPrefetchBatches() {
+        TestAsyncCursor cursor = new TestAsyncCursor(2);
+        assertTrue(cursor.requested.isEmpty());
+
+        CompletableFuture<Collection<TarantoolTuple>> first = cursor.nextBatch();
+        assertEquals(3, cursor.requested.size());
+        assertSame(cursor.requested.get(0), first);
+        assertNull(cursor.previous.get(0));
+        assertSame(cursor.requested.get(0), cursor.previous.get(1));
+        assertSame(cursor.requested.get(1), cursor.previous.get(2));
+
+        CompletableFuture<Collection<TarantoolTuple>> second = cursor.nextBatch();
+        assertEquals(4, cursor.requested.size());
+        assertSame(cursor.requested.get(1), second);
+        assertSame(cursor.requested.get(2), cursor.previous.get(3));
+    }
+
+    @Test
+    public void test_nextBatch_withoutPrefetch_shouldRequestOnDemand() {
+        TestAsyncCursor cursor = new TestAsyncCursor(0);
+
+        CompletableFuture<Collection<TarantoolTuple>> first = cursor.nextBatch();
+        assertEquals(1, cursor.requested.size());
+        assertSame(cursor.requested.get(0), first);
+
+        first.complete(Collections.emptyList());
+        CompletableFuture<Collection<TarantoolTuple>> second = cursor.nextBatch();
+        assertEquals(2, cursor.requested.size());
+        assertSame(cursor.requested.get(1), second);
+        assertSame(first, cursor.previous.get(1));
+    }
+
+    @Test
+    public void test_close_shouldCancelPrefetchedBatches() {
+        TestAsyncCursor cursor = new TestAsyncCursor(2);
+        CompletableFuture<Collection<TarantoolTuple>> first = cursor.nextBatch();
+        cursor.close();
+
+        assertFalse(first.isCancelled());
+        assertTrue(cursor.requested.get(1).isCancelled());
+        assertTrue(cursor.requested.get(2).isCancelled());
+        assertThrows(TarantoolClientException.class, cursor::nextBatch);
+    }
+
+    @Test
+    public void test_forEachBatch_shouldProcessAllBatches() {
+        TestAsyncCursor cursor = new TestAsyncCursor(1);
+        List<Collection<TarantoolTuple>> processed = new ArrayList<>();
+        CompletableFuture<Void> result = cursor.forEachBatch(processed::add);
+
+        cursor.requested.get(0).complete(Collections.singletonList(null));
+        assertEquals(1, processed.size());
+        cursor.requested.get(1).complete(Collections.singletonList(null));
+        assertEquals(2, processed.size());
+        assertFalse(result.isDone());
+
+        cursor.requested.get(2).complete(Collections.emptyList());
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+        assertEquals(2, processed.size());
+        assertThrows(TarantoolClientException.class, cursor::nextBatch);
+    }
+
+    @Test
+    public void test_forEachBatch_withFailedBatch_shouldFail() {
+        TestAsyncCursor cursor = new TestAsyncCursor(1);
+        CompletableFuture<Void> result = cursor.forEachBatch(batch -> {
+        });
+
+        cursor.requested.get(0).completeExceptionally(new TarantoolClientException("Test error"));
+        assertTrue(result.isCompletedExceptionally());
+        assertTrue(cursor.requested.get(1).isCancelled());
+    }
+
+    @Test
+    public void test_negativePrefetchBatches_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TestAsyncCursor(-1));
+    }
+}
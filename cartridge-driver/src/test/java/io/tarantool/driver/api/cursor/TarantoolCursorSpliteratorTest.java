@@ -0,0 +1,169 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolCursorSpliteratorTest {
+
+    private final TarantoolTupleFactory tupleFactory = new DefaultTarantoolTupleFactory(
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+    private final List<Conditions> cursors = new ArrayList<>();
+    private int closedCursors;
+    private int partitionRequests;
+
+    private TarantoolCursor<TarantoolTuple> cursor(Conditions conditions) {
+        cursors.add(conditions);
+        // the whole query contains 6 tuples, each partition is identified by its offset and contains 3 tuples
+        long first = conditions.getOffset() * 3;
+        long count = conditions.getOffset() == 0 ? 6 : 3;
+        if (conditions.getLimit() > 0 && conditions.getLimit() < count) {
+            count = conditions.getLimit();
+        }
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long i = first; i < first + count; i++) {
+            tuples.add(tupleFactory.create(i));
+        }
+        Iterator<TarantoolTuple> iterator = tuples.iterator();
+        return new TarantoolCursor<TarantoolTuple>() {
+            private TarantoolTuple current;
+
+            @Override
+            public boolean next() {
+                current = iterator.hasNext() ? iterator.next() : null;
+                return current != null;
+            }
+
+            @Override
+            public TarantoolTuple get() {
+                return current;
+            }
+
+            @Override
+            public void close() {
+                closedCursors++;
+            }
+        };
+    }
+
+    private CompletableFuture<List<Conditions>> twoPartitions(Conditions conditions) {
+        partitionRequests++;
+        return CompletableFuture.completedFuture(twoPartitions());
+    }
+
+    private List<Conditions> twoPartitions() {
+        return Arrays.asList(Conditions.limit(3), Conditions.offset(1));
+    }
+
+    private List<Long> collect(Spliterator<TarantoolTuple> spliterator) {
+        List<Long> values = new ArrayList<>();
+        spliterator.forEachRemaining(t -> values.add(t.getLong(0)));
+        return values;
+    }
+
+    @Test
+    public void test_sequentialTraversal_shouldUseSingleCursor() {
+        List<Long> values = TarantoolCursorSpliterator.stream(Conditions.any(), this::cursor, this::twoPartitions)
+                .map(t -> t.getLong(0))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L), values);
+        assertEquals(1, cursors.size());
+        assertEquals(1, closedCursors);
+        assertEquals(0, partitionRequests);
+    }
+
+    @Test
+    public void test_cursor_shouldBeCreatedLazily() {
+        Stream<Long> stream = TarantoolCursorSpliterator.stream(Conditions.any(), this::cursor, this::twoPartitions)
+                .parallel()
+                .map(t -> t.getLong(0));
+
+        assertTrue(cursors.isEmpty());
+        assertEquals(0, partitionRequests);
+        assertEquals(Arrays.asList(0L, 1L), stream.sorted().limit(2).collect(Collectors.toList()));
+        assertEquals(2, cursors.size());
+        assertEquals(1, partitionRequests);
+    }
+
+    @Test
+    public void test_trySplit_shouldSplitByPartitions() {
+        Spliterator<TarantoolTuple> suffix =
+                new TarantoolCursorSpliterator<>(Conditions.any(), this::cursor, twoPartitions());
+        Spliterator<TarantoolTuple> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertNull(prefix.trySplit());
+        assertNull(suffix.trySplit());
+
+        assertEquals(Arrays.asList(0L, 1L, 2L), collect(prefix));
+        assertEquals(Arrays.asList(3L, 4L, 5L), collect(suffix));
+        assertEquals(2, closedCursors);
+    }
+
+    @Test
+    public void test_trySplit_shouldNotSplitWithoutPartitions() {
+        Spliterator<TarantoolTuple> spliterator =
+                new TarantoolCursorSpliterator<>(Conditions.any(), this::cursor);
+        assertNull(spliterator.trySplit());
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L), collect(spliterator));
+        assertEquals(1, cursors.size());
+    }
+
+    @Test
+    public void test_streamClose_shouldCloseCursor() {
+        Stream<TarantoolTuple> stream =
+                TarantoolCursorSpliterator.stream(Conditions.any(), this::cursor, this::twoPartitions);
+        Iterator<TarantoolTuple> iterator = stream.iterator();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+
+        stream.close();
+        assertEquals(1, closedCursors);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void test_close_shouldCloseCursorsOfSplits() {
+        TarantoolCursorSpliterator<TarantoolTuple> spliterator =
+                new TarantoolCursorSpliterator<>(Conditions.any(), this::cursor, twoPartitions());
+        Spliterator<TarantoolTuple> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertTrue(prefix.tryAdvance(t -> { }));
+        assertTrue(spliterator.tryAdvance(t -> { }));
+
+        spliterator.close();
+        assertEquals(2, closedCursors);
+        assertFalse(prefix.tryAdvance(t -> { }));
+        assertFalse(spliterator.tryAdvance(t -> { }));
+    }
+
+    @Test
+    public void test_parallelStream_shouldReturnAllTuples() {
+        long sum = TarantoolCursorSpliterator.stream(Conditions.any(), this::cursor, this::twoPartitions)
+                .parallel()
+                .mapToLong(t -> t.getLong(0))
+                .sum();
+
+        assertEquals(15, sum);
+        assertEquals(1, partitionRequests);
+    }
+}
@@ -0,0 +1,100 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TarantoolPartitionSpliteratorTest {
+
+    private final TarantoolTupleFactory tupleFactory = new DefaultTarantoolTupleFactory(
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+
+    private TarantoolCursor<TarantoolTuple> partitionCursor(Conditions conditions) {
+        // each partition is identified by its offset and contains 3 tuples
+        long first = conditions.getOffset() * 3;
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long i = first; i < first + 3; i++) {
+            tuples.add(tupleFactory.create(i));
+        }
+        Iterator<TarantoolTuple> iterator = tuples.iterator();
+        return new TarantoolCursor<TarantoolTuple>() {
+            private TarantoolTuple current;
+
+            @Override
+            public boolean next() {
+                current = iterator.hasNext() ? iterator.next() : null;
+                return current != null;
+            }
+
+            @Override
+            public TarantoolTuple get() {
+                return current;
+            }
+
+            @Override
+            public void close() {
+                current = null;
+            }
+        };
+    }
+
+    private List<Conditions> partitions(int count) {
+        List<Conditions> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            partitions.add(Conditions.offset(i));
+        }
+        return partitions;
+    }
+
+    @Test
+    public void test_sequentialTraversal_shouldReturnAllPartitions() {
+        List<Long> values = StreamSupport.stream(
+                new TarantoolPartitionSpliterator<>(partitions(3), this::partitionCursor), false)
+                .map(t -> t.getLong(0))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), values);
+    }
+
+    @Test
+    public void test_trySplit_shouldSplitByPartitions() {
+        Spliterator<TarantoolTuple> suffix =
+                new TarantoolPartitionSpliterator<>(partitions(3), this::partitionCursor);
+        Spliterator<TarantoolTuple> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertNull(prefix.trySplit());
+
+        List<Long> prefixValues = new ArrayList<>();
+        prefix.forEachRemaining(t -> prefixValues.add(t.getLong(0)));
+        List<Long> suffixValues = new ArrayList<>();
+        suffix.forEachRemaining(t -> suffixValues.add(t.getLong(0)));
+
+        assertEquals(Arrays.asList(0L, 1L, 2L), prefixValues);
+        assertEquals(Arrays.asList(3L, 4L, 5L, 6L, 7L, 8L), suffixValues);
+    }
+
+    @Test
+    public void test_parallelStream_shouldReturnAllTuples() {
+        long sum = StreamSupport.stream(
+                new TarantoolPartitionSpliterator<>(partitions(8), this::partitionCursor), true)
+                .mapToLong(t -> t.getLong(0))
+                .sum();
+
+        assertEquals(23 * 24 / 2, sum);
+    }
+}
@@ -0,0 +1,214 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolPublisherBaseTest {
+
+    private final TarantoolTupleFactory tupleFactory = new DefaultTarantoolTupleFactory(
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+    private final List<Conditions> selects = new ArrayList<>();
+    private final List<CompletableFuture<List<TarantoolTuple>>> results = new ArrayList<>();
+    // if set, the select requests are completed immediately with the tuples made for their conditions
+    private Function<Conditions, List<TarantoolTuple>> completedResults;
+
+    @SuppressWarnings("unchecked")
+    private final TarantoolSpaceOperations<TarantoolTuple, List<TarantoolTuple>> space =
+            (TarantoolSpaceOperations<TarantoolTuple, List<TarantoolTuple>>) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{TarantoolSpaceOperations.class},
+                    (proxy, method, args) -> {
+                        if (!method.getName().equals("select")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        if (completedResults != null) {
+                            return CompletableFuture.completedFuture(completedResults.apply((Conditions) args[0]));
+                        }
+                        selects.add((Conditions) args[0]);
+                        CompletableFuture<List<TarantoolTuple>> result = new CompletableFuture<>();
+                        results.add(result);
+                        return result;
+                    });
+
+    private static class TestSubscriber implements TarantoolSubscriber<TarantoolTuple> {
+
+        private TarantoolSubscription subscription;
+        private final List<Long> items = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(TarantoolSubscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TarantoolTuple item) {
+            items.add(item.getLong(0));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private List<TarantoolTuple> tuples(long first, long count) {
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long i = first; i < first + count; i++) {
+            tuples.add(tupleFactory.create(i));
+        }
+        return tuples;
+    }
+
+    @Test
+    public void test_request_shouldFetchBatchesSizedByDemand() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+        assertTrue(selects.isEmpty());
+
+        subscriber.subscription.request(3);
+        assertEquals(1, selects.size());
+        assertEquals(3, selects.get(0).getLimit());
+        assertEquals(0, selects.get(0).getOffset());
+
+        // the demand is accumulated while the request is in progress
+        subscriber.subscription.request(100);
+        assertEquals(1, selects.size());
+
+        results.get(0).complete(tuples(0, 3));
+        assertEquals(2, selects.size());
+        assertEquals(10, selects.get(1).getLimit());
+        assertEquals(3, selects.get(1).getOffset());
+
+        results.get(1).complete(tuples(3, 5));
+        assertEquals(2, selects.size());
+        assertTrue(subscriber.completed);
+        assertEquals(8, subscriber.items.size());
+    }
+
+    @Test
+    public void test_request_shouldNotFetchWithoutDemand() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        results.get(0).complete(tuples(0, 2));
+        assertEquals(1, selects.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals(2, selects.size());
+        assertEquals(1, selects.get(1).getLimit());
+    }
+
+    @Test
+    public void test_conditionsLimit_shouldBeRespected() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.limit(5), 3).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        results.get(0).complete(tuples(0, 3));
+        assertEquals(2, selects.get(1).getLimit());
+        results.get(1).complete(tuples(3, 2));
+
+        assertEquals(2, selects.size());
+        assertTrue(subscriber.completed);
+        assertEquals(5, subscriber.items.size());
+    }
+
+    @Test
+    public void test_cancel_shouldCancelRequest() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        subscriber.subscription.cancel();
+        assertTrue(results.get(0).isCancelled());
+
+        subscriber.subscription.request(5);
+        assertEquals(1, selects.size());
+        assertTrue(subscriber.items.isEmpty());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void test_failedRequest_shouldPassError() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        TarantoolClientException error = new TarantoolClientException("Test error");
+        results.get(0).completeExceptionally(error);
+
+        assertEquals(error, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void test_nonPositiveRequest_shouldPassError() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(selects.isEmpty());
+    }
+
+    @Test
+    public void test_completedRequests_shouldNotGrowStack() {
+        completedResults = conditions -> tuples(conditions.getOffset(), conditions.getLimit());
+        TestSubscriber subscriber = new TestSubscriber();
+        new OffsetPublisher<>(space, Conditions.limit(100_000), 1).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(subscriber.completed);
+        assertEquals(100_000, subscriber.items.size());
+    }
+
+    @Test
+    public void test_failedOnNext_shouldCancelAndPassError() {
+        RuntimeException error = new IllegalStateException("Test error");
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(TarantoolTuple item) {
+                super.onNext(item);
+                throw error;
+            }
+        };
+        new OffsetPublisher<>(space, Conditions.any(), 10).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        results.get(0).complete(tuples(0, 5));
+
+        assertEquals(error, subscriber.error);
+        assertEquals(1, subscriber.items.size());
+
+        subscriber.subscription.request(5);
+        assertEquals(1, selects.size());
+        assertFalse(subscriber.completed);
+    }
+}
@@ -0,0 +1,71 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.TestMetadataContainer;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TarantoolTupleSchemaTest {
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final TarantoolSpaceMetadata metadata =
+            new TestMetadataContainer().getSpaceMetadataByName().get("test");
+
+    @Test
+    void test_schema_shouldResolveFieldPositions() {
+        TarantoolTupleSchema schema = metadata.getTupleSchema();
+
+        assertSame(schema, metadata.getTupleSchema());
+        assertEquals(4, schema.size());
+        assertEquals(0, schema.getFieldPosition("first"));
+        assertEquals(3, schema.getFieldPosition("fourth"));
+        assertEquals(-1, schema.getFieldPosition("fifth"));
+        assertEquals("second", schema.getFieldName(1));
+        assertEquals("string", schema.getFieldType(0));
+        assertThrows(TarantoolSpaceFieldNotFoundException.class,
+                () -> schema.getFieldHandle("fifth", String.class, mapper));
+    }
+
+    @Test
+    void test_fieldHandle_shouldReadTupleFields() {
+        TarantoolTupleSchema schema = metadata.getTupleSchema();
+        TarantoolFieldHandle<String> first = schema.getFieldHandle("first", String.class, mapper);
+        TarantoolFieldHandle<Long> second = schema.getFieldHandle("second", Long.class, mapper);
+        TarantoolFieldHandle<Double> third = schema.getFieldHandle("third", Double.class, mapper);
+
+        TarantoolTuple tuple = new TarantoolTupleImpl(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newInteger(2), ValueFactory.newFloat(1.5)),
+                mapper, metadata);
+
+        assertEquals(1, second.getPosition());
+        assertEquals("second", second.getName());
+        assertEquals("a", tuple.getObject(first));
+        assertEquals(2L, tuple.getObject(second));
+        assertEquals(1.5, tuple.getObject(third));
+
+        // the field type changed from float to integer
+        TarantoolTuple other = new TarantoolTupleImpl(ValueFactory.newArray(
+                ValueFactory.newString("b"), ValueFactory.newNil(), ValueFactory.newInteger(3)), mapper, metadata);
+        assertEquals("b", other.getObject(first));
+        assertNull(other.getObject(second));
+        assertEquals(3.0, other.getObject(third));
+
+        // the fields containing Java objects and the missing fields
+        TarantoolTuple objects = new TarantoolTupleImpl(Arrays.asList("c", 4L), mapper, metadata);
+        assertEquals("c", objects.getObject(first));
+        assertEquals(4L, objects.getObject(second));
+        assertNull(objects.getObject(third));
+    }
+}
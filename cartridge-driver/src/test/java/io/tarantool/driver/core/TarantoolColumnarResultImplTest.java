@@ -0,0 +1,133 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.columnar.BooleanColumn;
+import io.tarantool.driver.api.columnar.DoubleColumn;
+import io.tarantool.driver.api.columnar.LongColumn;
+import io.tarantool.driver.api.columnar.ObjectColumn;
+import io.tarantool.driver.api.columnar.StringColumn;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.TestMetadataContainer;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.converters.value.custom.TarantoolColumnarResultConverter;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolColumnarResultImplTest {
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static Value tuple(Value... fields) {
+        return ValueFactory.newArray(fields);
+    }
+
+    @Test
+    public void test_columns_shouldBeCreatedWithSpaceMetadata() {
+        TarantoolSpaceMetadata metadata = new TestMetadataContainer().getSpaceMetadataByName().get("test");
+        Value result = ValueFactory.newArray(
+                tuple(ValueFactory.newString("a"), ValueFactory.newInteger(1), ValueFactory.newInteger(10),
+                        ValueFactory.newArray(ValueFactory.newInteger(1))),
+                tuple(ValueFactory.newString("b"), ValueFactory.newNil(), ValueFactory.newFloat(1.5),
+                        ValueFactory.newNil(), ValueFactory.newBoolean(true)),
+                tuple(ValueFactory.newString("a"), ValueFactory.newInteger(3)));
+
+        TarantoolColumnarResult columnar = new TarantoolColumnarResultConverter(mapper, metadata).fromValue(result);
+
+        assertEquals(3, columnar.size());
+        assertEquals(5, columnar.getColumnCount());
+
+        StringColumn first = columnar.getColumn("first", StringColumn.class);
+        assertArrayEquals(new String[]{"a", "b"}, first.getDictionary());
+        assertArrayEquals(new int[]{0, 1, 0}, first.getCodes());
+        assertEquals("b", first.getString(1));
+
+        LongColumn second = columnar.getColumn("second", LongColumn.class);
+        assertArrayEquals(new long[]{1, 0, 3}, second.getValues());
+        assertTrue(second.isNull(1));
+        assertEquals(1, second.getNullCount());
+        assertNull(second.getObject(1));
+
+        DoubleColumn third = columnar.getColumn("third", DoubleColumn.class);
+        assertArrayEquals(new double[]{10, 1.5, 0}, third.getValues());
+        assertTrue(third.isNull(2));
+
+        ObjectColumn fourth = columnar.getColumn("fourth", ObjectColumn.class);
+        assertEquals(Arrays.asList(1), fourth.getObject(0));
+        assertTrue(fourth.isNull(1));
+
+        BooleanColumn fifth = (BooleanColumn) columnar.getColumn(4);
+        assertNull(fifth.getName());
+        assertTrue(fifth.getBoolean(1));
+        assertFalse(fifth.getBoolean(0));
+        assertTrue(fifth.isNull(0));
+
+        assertThrows(TarantoolClientException.class, () -> columnar.getColumn("first", LongColumn.class));
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () -> columnar.getColumn("fifth"));
+    }
+
+    @Test
+    public void test_columns_shouldBeCreatedWithResultMetadata() {
+        Map<Value, Value> id = new HashMap<>();
+        id.put(ValueFactory.newString("name"), ValueFactory.newString("id"));
+        id.put(ValueFactory.newString("type"), ValueFactory.newString("unsigned"));
+        Map<Value, Value> name = new HashMap<>();
+        name.put(ValueFactory.newString("name"), ValueFactory.newString("name"));
+        name.put(ValueFactory.newString("type"), ValueFactory.newString("string"));
+        Map<Value, Value> crudResult = new HashMap<>();
+        crudResult.put(ValueFactory.newString("metadata"),
+                ValueFactory.newArray(ValueFactory.newMap(id), ValueFactory.newMap(name)));
+        crudResult.put(ValueFactory.newString("rows"), ValueFactory.newArray(
+                tuple(ValueFactory.newInteger(1), ValueFactory.newString("x")),
+                tuple(ValueFactory.newInteger(2), ValueFactory.newNil())));
+
+        TarantoolColumnarResult columnar = new TarantoolColumnarResultImpl(
+                ValueFactory.newMap(crudResult), null, mapper);
+
+        assertEquals(2, columnar.getColumnCount());
+        assertEquals(2L, columnar.getColumn("id", LongColumn.class).getLong(1));
+        StringColumn names = columnar.getColumn("name", StringColumn.class);
+        assertEquals(StringColumn.NULL_CODE, names.getCode(1));
+        assertNull(names.getString(1));
+    }
+
+    @Test
+    public void test_mismatchingValues_shouldBeRejected() {
+        Map<Value, Value> id = new HashMap<>();
+        id.put(ValueFactory.newString("name"), ValueFactory.newString("id"));
+        id.put(ValueFactory.newString("type"), ValueFactory.newString("unsigned"));
+        Map<Value, Value> crudResult = new HashMap<>();
+        crudResult.put(ValueFactory.newString("metadata"), ValueFactory.newArray(ValueFactory.newMap(id)));
+        crudResult.put(ValueFactory.newString("rows"), ValueFactory.newArray(
+                tuple(ValueFactory.newInteger(BigInteger.ONE.shiftLeft(63)))));
+
+        assertThrows(TarantoolClientException.class,
+                () -> new TarantoolColumnarResultImpl(ValueFactory.newMap(crudResult), null, mapper));
+        assertThrows(TarantoolClientException.class,
+                () -> new TarantoolColumnarResultImpl(ValueFactory.newString("x"), null, mapper));
+    }
+
+    @Test
+    public void test_emptyResult() {
+        TarantoolColumnarResult columnar = new TarantoolColumnarResultImpl(ValueFactory.newNil(), null, mapper);
+
+        assertEquals(0, columnar.size());
+        assertEquals(0, columnar.getColumnCount());
+    }
+}
@@ -0,0 +1,149 @@
+package io.tarantool.driver.core.batch;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.batch.TarantoolBatch;
+import io.tarantool.driver.api.batch.TarantoolBatchResult;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultResultMapperFactoryFactory;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolBatchImplTest {
+
+    @Test
+    public void testAllItemsAreWrittenWithSingleFlush() throws Exception {
+        BufferingConnection connection = new BufferingConnection();
+        TarantoolBatch batch = new TarantoolBatchImpl(new TarantoolClientConfig(),
+                new DefaultResultMapperFactoryFactory(), () -> CompletableFuture.completedFuture(connection));
+
+        CompletableFuture<List<?>> first = batch.call("first", Collections.singletonList(1));
+        CompletableFuture<List<?>> second = batch.eval("return ...", Arrays.asList(1, 2));
+        CompletableFuture<List<?>> third = batch.call("third", Collections.emptyList());
+        assertEquals(3, batch.size());
+        assertTrue(connection.written.isEmpty());
+
+        CompletableFuture<TarantoolBatchResult> resultFuture = batch.execute();
+        assertEquals(3, connection.written.size());
+        assertEquals(1, connection.flushes);
+        assertFalse(resultFuture.isDone());
+
+        connection.futures.get(0).complete(Collections.singletonList("a"));
+        connection.futures.get(1).completeExceptionally(new RuntimeException("failed"));
+        connection.futures.get(2).complete(Collections.singletonList("c"));
+
+        TarantoolBatchResult result = resultFuture.get();
+        assertEquals(3, result.size());
+        assertTrue(result.hasErrors());
+        assertTrue(result.isSuccessful(0));
+        assertFalse(result.isSuccessful(1));
+        assertEquals(Collections.singletonList("a"), result.get(0));
+        assertNull(result.get(1));
+        assertEquals("failed", result.getError(1).getMessage());
+        assertEquals(Collections.singletonList("c"), result.get(2));
+
+        assertEquals(Collections.singletonList("a"), first.get());
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals(Collections.singletonList("c"), third.get());
+    }
+
+    @Test
+    public void testConnectionFailure() {
+        CompletableFuture<TarantoolConnection> connectionFuture = new CompletableFuture<>();
+        connectionFuture.completeExceptionally(new TarantoolClientException("No connection"));
+        TarantoolBatch batch = new TarantoolBatchImpl(new TarantoolClientConfig(),
+                new DefaultResultMapperFactoryFactory(), () -> connectionFuture);
+
+        CompletableFuture<List<?>> item = batch.call("first", Collections.emptyList());
+        CompletableFuture<TarantoolBatchResult> result = batch.execute();
+
+        assertTrue(result.isCompletedExceptionally());
+        assertTrue(item.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testExecuteOnlyOnce() throws Exception {
+        TarantoolBatch batch = new TarantoolBatchImpl(new TarantoolClientConfig(),
+                new DefaultResultMapperFactoryFactory(),
+                () -> CompletableFuture.completedFuture(new BufferingConnection()));
+
+        assertEquals(0, batch.execute().get().size());
+        assertThrows(TarantoolClientException.class, batch::execute);
+        assertThrows(TarantoolClientException.class, () -> batch.call("first", Collections.emptyList()));
+    }
+
+    private static final class BufferingConnection implements TarantoolConnection {
+        private final List<TarantoolRequest> written = new ArrayList<>();
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        private int flushes;
+
+        @Override
+        public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+            return new InetSocketAddress("127.0.0.1", 3301);
+        }
+
+        @Override
+        public TarantoolVersion getVersion() throws TarantoolClientException {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            written.add(request);
+            futures.add(future);
+            return (CompletableFuture<T>) future;
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
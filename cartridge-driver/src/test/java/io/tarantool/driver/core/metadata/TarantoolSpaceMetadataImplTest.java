@@ -0,0 +1,47 @@
+package io.tarantool.driver.core.metadata;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TarantoolSpaceMetadataImplTest {
+
+    private final TarantoolSpaceMetadata spaceMetadata =
+            new TarantoolMetadata(new TestMetadataProvider()).getSpaceByName("test").get();
+
+    @Test
+    public void test_projection_shouldRenumberFieldsInSpecifiedOrder() {
+        TarantoolSpaceMetadata projection =
+                TarantoolSpaceMetadataImpl.projection(spaceMetadata, Arrays.asList("third", "first"));
+
+        assertEquals("test", projection.getSpaceName());
+        assertEquals(512, projection.getSpaceId());
+        assertEquals(2, projection.getSpaceFormatMetadata().size());
+        assertEquals(0, projection.getFieldPositionByName("third"));
+        assertEquals(1, projection.getFieldPositionByName("first"));
+        assertEquals("number", projection.getFieldByName("third").get().getFieldType());
+        assertEquals(-1, projection.getFieldPositionByName("second"));
+        assertFalse(projection.getFieldByPosition(2).isPresent());
+
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList(3, "a"),
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper(), projection);
+        assertEquals(3, tuple.getInteger("third"));
+        assertEquals("a", tuple.getString("first"));
+    }
+
+    @Test
+    public void test_projection_shouldThrowOnUnknownField() {
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () ->
+                TarantoolSpaceMetadataImpl.projection(spaceMetadata, Collections.singletonList("unknown")));
+    }
+}
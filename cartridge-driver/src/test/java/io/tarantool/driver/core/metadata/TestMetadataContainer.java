@@ -3,6 +3,7 @@ package io.tarantool.driver.core.metadata;
 import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
 import io.tarantool.driver.api.metadata.TarantoolMetadataContainer;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 
@@ -43,6 +44,7 @@ public class TestMetadataContainer implements TarantoolMetadataContainer {
         testPrimaryIndexMetadata.setIndexId(0);
         testPrimaryIndexMetadata.setIndexName("primary");
         testPrimaryIndexMetadata.setSpaceId(512);
+        testPrimaryIndexMetadata.setIndexType(TarantoolIndexType.TREE);
         testPrimaryIndexMetadata.setIndexParts(Collections.singletonList(
                 new TarantoolIndexPartMetadataImpl(0, "string"))
         );
@@ -79,6 +81,10 @@ public class TestMetadataContainer implements TarantoolMetadataContainer {
         testIndexMetadata1.setIndexId(4);
         testIndexMetadata1.setIndexName("asecondary");
         testIndexMetadata1.setSpaceId(512);
+        testIndexMetadata1.setIndexType(TarantoolIndexType.TREE);
+        TarantoolIndexOptionsImpl nonUniqueOptions = new TarantoolIndexOptionsImpl();
+        nonUniqueOptions.setUnique(false);
+        testIndexMetadata1.setIndexOptions(nonUniqueOptions);
         testIndexMetadata1.setIndexParts(Collections.singletonList(new TarantoolIndexPartMetadataImpl(1, "number")));
     }
 
@@ -3,19 +3,26 @@ package io.tarantool.driver.core.proxy;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.space.options.ReadMode;
+import io.tarantool.driver.api.space.options.proxy.ProxyCountOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyDeleteOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyGetOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyInsertManyOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyInsertOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyMinMaxOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyReplaceManyOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyReplaceOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxySelectOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyTruncateOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyUpdateOptions;
+import io.tarantool.driver.api.space.options.proxy.ProxyUpsertManyOptions;
 import io.tarantool.driver.api.space.options.proxy.ProxyUpsertOptions;
 import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
 import io.tarantool.driver.core.ClusterTarantoolTupleClient;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -31,6 +38,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -104,6 +112,48 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapper, insertOperation.getResultMapper());
     }
 
+    @Test
+    public void test_insertOperationBuilder_shouldPreferBucketIdFromOptions() {
+        List<Object> values = Arrays.asList(4, "a4", "Nineteen Eighty-Four", "George Orwell", 1984);
+        TarantoolTuple tarantoolTuple = factory.create(values);
+
+        InsertProxyOperation<TarantoolTuple, TarantoolResult<TarantoolTuple>> insertOperation =
+                new InsertProxyOperation.Builder<TarantoolTuple, TarantoolResult<TarantoolTuple>>()
+                        .withClient(client)
+                        .withSpaceName("space1")
+                        .withFunctionName("function1")
+                        .withTuple(tarantoolTuple)
+                        .withArgumentsMapper(defaultMapper)
+                        .withResultMapper(defaultResultMapper)
+                        .withOptions(ProxyInsertOptions.create()
+                            .withTimeout(client.getConfig().getRequestTimeout())
+                        )
+                        .withBucketId(Optional.of(42))
+                        .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(CRUDBaseOptions.TIMEOUT, client.getConfig().getRequestTimeout());
+        options.put(CRUDBucketIdOptions.BUCKET_ID, 42);
+        assertEquals(Arrays.asList("space1", tarantoolTuple, options), insertOperation.getArguments());
+
+        insertOperation = new InsertProxyOperation.Builder<TarantoolTuple, TarantoolResult<TarantoolTuple>>()
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withTuple(tarantoolTuple)
+                .withArgumentsMapper(defaultMapper)
+                .withResultMapper(defaultResultMapper)
+                .withOptions(ProxyInsertOptions.create()
+                    .withTimeout(client.getConfig().getRequestTimeout())
+                    .withBucketId(7)
+                )
+                .withBucketId(Optional.of(42))
+                .build();
+
+        options.put(CRUDBucketIdOptions.BUCKET_ID, 7);
+        assertEquals(Arrays.asList("space1", tarantoolTuple, options), insertOperation.getArguments());
+    }
+
     @Test
     public void insertManyOperationBuilderTest() {
         List<TarantoolTuple> tarantoolTuples = Arrays.asList(
@@ -238,6 +288,61 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapper, op.getResultMapper());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_selectOperationBuilder_shouldApplyDefaultReadRouting() {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+        ProxyOperationsMappingConfig operationsMapping = ProxyOperationsMappingConfig.builder()
+                .withDefaultReadRouting(ReadMode.READ, true, true)
+                .build();
+
+        SelectProxyOperation<TarantoolResult<TarantoolTuple>> op =
+                new SelectProxyOperation.Builder<TarantoolResult<TarantoolTuple>>(
+                        testOperations, testOperations.getSpaceByName("test").get())
+                        .withClient(client)
+                        .withSpaceName("space1")
+                        .withFunctionName("function1")
+                        .withConditions(Conditions.any())
+                        .withResultMapper(defaultResultMapper)
+                        .withArgumentsMapper(defaultMapper)
+                        .withOptions(ProxySelectOptions.create().withBalance(false))
+                        .withDefaultReadRouting(operationsMapping)
+                        .build();
+
+        Map<String, Object> actualOptions = (Map<String, Object>) op.getArguments().get(2);
+        assertEquals("read", actualOptions.get(CRUDReadOptions.MODE));
+        assertEquals(true, actualOptions.get(CRUDReadOptions.PREFER_REPLICA));
+        assertEquals(false, actualOptions.get(CRUDReadOptions.BALANCE));
+    }
+
+    @Test
+    public void test_getOperationBuilder_shouldPassKeyAndOptions() {
+        GetProxyOperation<TarantoolResult<TarantoolTuple>> op =
+                new GetProxyOperation.Builder<TarantoolResult<TarantoolTuple>>()
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withKey(Arrays.asList(1, "a"))
+                .withArgumentsMapper(defaultMapper)
+                .withResultMapper(defaultResultMapper)
+                .withOptions(ProxyGetOptions.create()
+                        .withTimeout(client.getConfig().getRequestTimeout())
+                        .withMode(ReadMode.WRITE)
+                )
+                .withBucketId(Optional.of(7))
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(CRUDBaseOptions.TIMEOUT, client.getConfig().getRequestTimeout());
+        options.put(CRUDBucketIdOptions.BUCKET_ID, 7);
+        options.put(CRUDReadOptions.MODE, "write");
+
+        assertEquals(client, op.getClient());
+        assertEquals("function1", op.getFunctionName());
+        assertEquals(Arrays.asList("space1", Arrays.asList(1, "a"), options), op.getArguments());
+        assertEquals(defaultResultMapper, op.getResultMapper());
+    }
+
     @Test
     public void updateOperationBuilderTest() {
         TarantoolIndexQuery indexQuery = new TarantoolIndexQuery();
@@ -305,6 +410,39 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapper, operation.getResultMapper());
     }
 
+    @Test
+    public void test_upsertManyOperationBuilder_shouldPassTuplesWithOperations() {
+        TarantoolTuple tuple = factory.create(1L, null, "FIO", 50, 100);
+        TupleOperations operations = TupleOperations.add(3, 90);
+        UpsertManyProxyOperation<TarantoolTuple, TarantoolResult<TarantoolTuple>> op =
+                new UpsertManyProxyOperation.Builder<TarantoolTuple, TarantoolResult<TarantoolTuple>>()
+                        .withClient(client)
+                        .withSpaceName("space1")
+                        .withFunctionName("function1")
+                        .withTuplesOperationData(Collections.singletonList(
+                                TupleWithOperations.of(tuple, operations)))
+                        .withArgumentsMapper(defaultMapper)
+                        .withResultMapper(defaultResultMapper)
+                        .withOptions(ProxyUpsertManyOptions.create()
+                            .withTimeout(client.getConfig().getRequestTimeout())
+                            .withStopOnError(false)
+                            .withRollbackOnError(true)
+                        )
+                        .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(CRUDBaseOptions.TIMEOUT, client.getConfig().getRequestTimeout());
+        options.put(CRUDBatchOptions.BATCH_STOP_ON_ERROR, false);
+        options.put(CRUDBatchOptions.BATCH_ROLLBACK_ON_ERROR, true);
+
+        assertEquals(client, op.getClient());
+        assertEquals("function1", op.getFunctionName());
+        assertEquals(Arrays.asList("space1",
+                Collections.singletonList(Arrays.asList(tuple, operations.asProxyOperationList())),
+                options), op.getArguments());
+        assertEquals(defaultResultMapper, op.getResultMapper());
+    }
+
     @Test
     public void test_truncateOperationBuilder_shouldReturnTruncateOperationObjectsWithAllProperties() {
         // build truncateOperation
@@ -327,4 +465,55 @@ public class ProxyOperationBuildersTest {
         assertEquals("function1", truncateOperation.getFunctionName());
         assertEquals(Arrays.asList("space1", options), truncateOperation.getArguments());
     }
+
+    @Test
+    public void test_countOperationBuilder_shouldPassConditionsAndReadOptions() {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+
+        CountProxyOperation op = new CountProxyOperation.Builder(
+                testOperations, testOperations.getSpaceByName("test").get())
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withConditions(Conditions.equals("second", 55))
+                .withArgumentsMapper(defaultMapper)
+                .withOptions(ProxyCountOptions.create()
+                        .withTimeout(client.getConfig().getRequestTimeout())
+                        .withMode(ReadMode.WRITE)
+                )
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(CRUDBaseOptions.TIMEOUT, client.getConfig().getRequestTimeout());
+        options.put(CRUDReadOptions.MODE, "write");
+
+        assertEquals(client, op.getClient());
+        assertEquals("function1", op.getFunctionName());
+        assertEquals(Arrays.asList("space1", Collections.singletonList(Arrays.asList("=", "second", 55)), options),
+                op.getArguments());
+    }
+
+    @Test
+    public void test_minMaxOperationBuilder_shouldPassIndexName() {
+        MinMaxProxyOperation<TarantoolResult<TarantoolTuple>> op =
+                new MinMaxProxyOperation.Builder<TarantoolResult<TarantoolTuple>>()
+                        .withClient(client)
+                        .withSpaceName("space1")
+                        .withFunctionName("function1")
+                        .withIndexName("index1")
+                        .withArgumentsMapper(defaultMapper)
+                        .withResultMapper(defaultResultMapper)
+                        .withOptions(ProxyMinMaxOptions.create()
+                            .withTimeout(client.getConfig().getRequestTimeout())
+                        )
+                        .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(CRUDBaseOptions.TIMEOUT, client.getConfig().getRequestTimeout());
+
+        assertEquals(client, op.getClient());
+        assertEquals("function1", op.getFunctionName());
+        assertEquals(Arrays.asList("space1", "index1", options), op.getArguments());
+        assertEquals(defaultResultMapper, op.getResultMapper());
+    }
 }
@@ -0,0 +1,80 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class VshardRoutingTableTest {
+
+    private static Map<String, Object> instanceInfo(String uri) {
+        Map<String, Object> instance = new HashMap<>();
+        instance.put("uri", uri);
+        instance.put("status", "available");
+        return instance;
+    }
+
+    private static Map<String, Object> routerInfo() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("uuid", "aaaaaaaa-0000-4000-b000-000000000001");
+        first.put("master", instanceInfo("admin@localhost:3302"));
+        first.put("replica", instanceInfo("admin@localhost:3303"));
+
+        Map<String, Object> second = new HashMap<>();
+        second.put("uuid", "aaaaaaaa-0000-4000-b000-000000000002");
+        second.put("master", instanceInfo("localhost:3304"));
+
+        Map<String, Object> replicasets = new HashMap<>();
+        replicasets.put("aaaaaaaa-0000-4000-b000-000000000001", first);
+        replicasets.put("aaaaaaaa-0000-4000-b000-000000000002", second);
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("replicasets", replicasets);
+        info.put("status", 0);
+        return info;
+    }
+
+    @Test
+    public void test_fromRouterInfo_shouldParseInstanceAddresses() {
+        Map<String, VshardReplicaset> replicasets = VshardReplicaset.fromRouterInfo(routerInfo());
+
+        assertEquals(2, replicasets.size());
+        VshardReplicaset first = replicasets.get("aaaaaaaa-0000-4000-b000-000000000001");
+        assertEquals(new TarantoolServerAddress("localhost", 3302), first.getMaster());
+        assertEquals(new TarantoolServerAddress("localhost", 3303), first.getReplica());
+
+        VshardReplicaset second = replicasets.get("aaaaaaaa-0000-4000-b000-000000000002");
+        assertEquals(new TarantoolServerAddress("localhost", 3304), second.getMaster());
+        assertEquals(second.getMaster(), second.getReplica());
+    }
+
+    @Test
+    public void test_moveBucket_shouldUpdateBucketLocation() {
+        Map<String, VshardReplicaset> replicasets = VshardReplicaset.fromRouterInfo(routerInfo());
+        Map<Integer, String> bucketOwners = new HashMap<>();
+        bucketOwners.put(1, "aaaaaaaa-0000-4000-b000-000000000001");
+        bucketOwners.put(2, "aaaaaaaa-0000-4000-b000-000000000002");
+
+        VshardRoutingTable routingTable = new VshardRoutingTable();
+        assertFalse(routingTable.getReplicaset(1).isPresent());
+
+        routingTable.reset(replicasets, bucketOwners);
+        assertEquals(Optional.of(replicasets.get("aaaaaaaa-0000-4000-b000-000000000001")),
+                routingTable.getReplicaset(1));
+
+        routingTable.moveBucket(1, "aaaaaaaa-0000-4000-b000-000000000002");
+        assertEquals(Optional.of(replicasets.get("aaaaaaaa-0000-4000-b000-000000000002")),
+                routingTable.getReplicaset(1));
+
+        routingTable.moveBucket(1, "unknown");
+        assertFalse(routingTable.getReplicaset(1).isPresent());
+
+        routingTable.removeBucket(2);
+        assertFalse(routingTable.getReplicaset(2).isPresent());
+    }
+}
@@ -0,0 +1,77 @@
+package io.tarantool.driver.core.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class VshardShardingFunctionTest {
+
+    @Test
+    public void test_strcrc32_shouldBeEqualToRouterFunction() {
+        // vshard.router.bucket_id_strcrc32({1}) and ({2}) with 3000 buckets
+        assertEquals(Optional.of(477),
+                VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList(1), 3000));
+        assertEquals(Optional.of(401),
+                VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList(2L), 3000));
+        assertEquals(Optional.of(6121),
+                VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList("abc"), 30000));
+    }
+
+    @Test
+    public void test_strcrc32_shouldConcatenateKeyParts() {
+        assertEquals(VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList("a1true"), 30000),
+                VshardShardingFunction.STRCRC32.bucketId(Arrays.asList("a", 1, true), 30000));
+
+        UUID uuid = UUID.randomUUID();
+        assertEquals(VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList(uuid.toString()), 30000),
+                VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList(uuid), 30000));
+    }
+
+    @Test
+    public void test_mpcrc32_shouldHashStringsAsIs() {
+        assertEquals(Optional.of(6121),
+                VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList("abc"), 30000));
+    }
+
+    @Test
+    public void test_mpcrc32_shouldUseMinimalIntegerEncoding() {
+        assertEquals(Optional.of(7614),
+                VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList(1), 30000));
+        assertEquals(VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList(1), 30000),
+                VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList(1L), 30000));
+        // 0xcd 0x01 0x00
+        assertEquals(Optional.of(24442),
+                VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList(256), 30000));
+        // 0xd0 0xdf
+        assertEquals(Optional.of(4223),
+                VshardShardingFunction.MPCRC32.bucketId(Collections.singletonList(-33), 30000));
+    }
+
+    @Test
+    public void test_bucketId_shouldNotBeComputedForUnsupportedKeys() {
+        assertFalse(VshardShardingFunction.STRCRC32.bucketId(Collections.singletonList(1.5), 3000).isPresent());
+        assertFalse(VshardShardingFunction.STRCRC32.bucketId(
+                Collections.singletonList(new BigDecimal("1")), 3000).isPresent());
+        assertFalse(VshardShardingFunction.STRCRC32.bucketId(
+                Collections.singletonList(100_000_000_000_000L), 3000).isPresent());
+        assertFalse(VshardShardingFunction.STRCRC32.bucketId(Arrays.asList(1, null), 3000).isPresent());
+        assertFalse(VshardShardingFunction.MPCRC32.bucketId(
+                Collections.singletonList(UUID.randomUUID()), 3000).isPresent());
+    }
+
+    @Test
+    public void test_fromName_shouldReturnDefaultFunction() {
+        assertEquals(Optional.of(VshardShardingFunction.STRCRC32),
+                VshardShardingFunction.fromName(Optional.empty()));
+        assertEquals(Optional.of(VshardShardingFunction.MPCRC32),
+                VshardShardingFunction.fromName(Optional.of("vshard.router.bucket_id_mpcrc32")));
+        assertFalse(VshardShardingFunction.fromName(Optional.of("customer.sharding_func")).isPresent());
+    }
+}
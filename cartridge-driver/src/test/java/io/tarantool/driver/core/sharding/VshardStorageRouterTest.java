@@ -0,0 +1,65 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class VshardStorageRouterTest {
+
+    private static MapValue vshardError(String name) {
+        return ValueFactory.newMap(
+                ValueFactory.newString("type"), ValueFactory.newString("ShardingError"),
+                ValueFactory.newString("name"), ValueFactory.newString(name),
+                ValueFactory.newString("code"), ValueFactory.newInteger(1),
+                ValueFactory.newString("message"), ValueFactory.newString("Error"));
+    }
+
+    @Test
+    public void test_getRoutingError_shouldDetectBucketErrors() {
+        assertEquals(Optional.of("WRONG_BUCKET"), VshardStorageRouter.getRoutingError(vshardError("WRONG_BUCKET")));
+        assertEquals(Optional.of("TRANSFER_IS_IN_PROGRESS"),
+                VshardStorageRouter.getRoutingError(vshardError("TRANSFER_IS_IN_PROGRESS")));
+        assertFalse(VshardStorageRouter.getRoutingError(vshardError("STORAGE_IS_DISABLED")).isPresent());
+        assertFalse(VshardStorageRouter.getRoutingError(ValueFactory.newString("WRONG_BUCKET")).isPresent());
+    }
+
+    @Test
+    public void test_collectOwnedBuckets_shouldSkipTransferredBuckets() {
+        Map<Object, Object> bucketsInfo = new HashMap<>();
+        bucketsInfo.put(1, Collections.singletonMap("status", "active"));
+        bucketsInfo.put(2L, Collections.singletonMap("status", "pinned"));
+        bucketsInfo.put(3, Collections.singletonMap("status", "sending"));
+        bucketsInfo.put(4, Collections.singletonMap("status", "garbage"));
+
+        Map<Integer, String> bucketOwners = new HashMap<>();
+        VshardStorageRouter.collectOwnedBuckets(bucketsInfo, "replicaset", bucketOwners);
+
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, "replicaset");
+        expected.put(2, "replicaset");
+        assertEquals(expected, bucketOwners);
+    }
+
+    @Test
+    public void test_call_shouldUseFallbackIfRoutingIsDisabled() {
+        VshardStorageRouter router = new VshardStorageRouter(
+                null, TarantoolClientConfig.builder().build(), ProxyOperationsMappingConfig.builder().build());
+        CompletableFuture<Object> fallbackResult = CompletableFuture.completedFuture("router");
+
+        CompletableFuture<Object> result = router.call(1, VshardStorageRouter.Mode.READ, "box.space.test:select",
+                Collections.emptyList(), null, null, () -> fallbackResult);
+
+        assertEquals(fallbackResult, result);
+    }
+}
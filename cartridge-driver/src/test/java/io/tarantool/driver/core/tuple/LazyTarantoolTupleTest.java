@@ -0,0 +1,141 @@
+package io.tarantool.driver.core.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.metadata.TarantoolMetadata;
+import io.tarantool.driver.core.metadata.TestMetadataProvider;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyTarantoolTupleTest {
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private final ArrayValue tupleValue = ValueFactory.newArray(
+            ValueFactory.newInteger(1),
+            ValueFactory.newString("Book"),
+            ValueFactory.newNil(),
+            ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newString("b")));
+
+    private static byte[] pack(ArrayValue value) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    private static byte[] write(TarantoolTuple tuple, MessagePackMapper mapper) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        tuple.toMessagePack(packer, mapper);
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    @Test
+    void readFields() throws IOException {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        LazyTarantoolTuple tuple = new LazyTarantoolTuple(pack(tupleValue), mapper, spaceMetadata);
+
+        assertEquals(4, tuple.size());
+        assertEquals(1, tuple.getIntAsPrimitive(0));
+        assertEquals("Book", tuple.getString("second"));
+        assertTrue(tuple.isNull(2));
+        assertEquals(Arrays.asList("a", "b"), tuple.getList(3));
+        assertFalse(tuple.getField(4).isPresent());
+        assertTrue(tuple.canGetObject(1, String.class));
+
+        List<TarantoolField> fields = new ArrayList<>();
+        tuple.forEach(fields::add);
+        assertEquals(new TarantoolTupleImpl(tupleValue, mapper).getFields(), fields);
+
+        assertTrue(tuple.isLazy());
+        assertEquals(tupleValue, tuple.toMessagePackValue(mapper));
+        assertEquals(new TarantoolTupleImpl(tupleValue, mapper), tuple);
+        assertEquals(new TarantoolTupleImpl(tupleValue, mapper).hashCode(), tuple.hashCode());
+        assertTrue(tuple.isLazy());
+    }
+
+    @Test
+    void writeOriginalData() throws IOException {
+        byte[] data = pack(tupleValue);
+        byte[] buffer = new byte[data.length + 4];
+        System.arraycopy(data, 0, buffer, 2, data.length);
+
+        TarantoolTuple tuple = new LazyTarantoolTuple(buffer, 2, data.length, mapper, null);
+
+        assertEquals("Book", tuple.getString(1));
+        assertArrayEquals(data, write(tuple, mapper));
+    }
+
+    @Test
+    void modifyTuple() throws IOException {
+        LazyTarantoolTuple tuple = (LazyTarantoolTuple) new DefaultTarantoolTupleFactory(mapper)
+                .createFromMessagePack(pack(tupleValue));
+
+        tuple.putObject(2, 2000);
+        tuple.putObject(5, "new");
+
+        assertFalse(tuple.isLazy());
+        assertEquals(6, tuple.size());
+        assertEquals("Book", tuple.getString(1));
+        assertEquals(2000, tuple.getInteger(2));
+        assertEquals("new", tuple.getString(5));
+        assertArrayEquals(write(tuple, mapper), pack(ValueFactory.newArray(
+                ValueFactory.newInteger(1), ValueFactory.newString("Book"), ValueFactory.newInteger(2000),
+                ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newString("b")),
+                ValueFactory.newNil(), ValueFactory.newString("new"))));
+
+        LazyTarantoolTuple other = new LazyTarantoolTuple(pack(tupleValue), mapper);
+        other.getFields().clear();
+        assertFalse(other.isLazy());
+        assertEquals(0, other.size());
+    }
+
+    @Test
+    void serializeTuple() throws IOException, ClassNotFoundException {
+        TarantoolTuple tuple = new LazyTarantoolTuple(pack(tupleValue), mapper);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(tuple);
+        }
+        TarantoolTuple serializedTuple;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            serializedTuple = (TarantoolTuple) ois.readObject();
+        }
+
+        assertEquals(tuple, serializedTuple);
+        assertEquals("Book", serializedTuple.getString(1));
+    }
+
+    @Test
+    void invalidData() {
+        TarantoolTuple tuple = new LazyTarantoolTuple(new byte[]{0x01}, mapper);
+        assertThrows(TarantoolClientException.class, tuple::size);
+    }
+}
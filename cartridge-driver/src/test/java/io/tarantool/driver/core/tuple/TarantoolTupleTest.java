@@ -1,6 +1,7 @@
 package io.tarantool.driver.core.tuple;
 
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
@@ -210,4 +211,43 @@ public class TarantoolTupleTest {
         assertEquals(testList.get(1), serializedTuple.getInteger("second"));
         assertEquals(testList.get(2), serializedTuple.getList(2));
     }
+
+    @Test
+    void getPrimitiveValues() {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getSpaceByName("test").get();
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        ImmutableArrayValue values = ValueFactory.newArray(
+                ValueFactory.newInteger(Long.MAX_VALUE), ValueFactory.newInteger(42),
+                ValueFactory.newFloat(1.5), ValueFactory.newNil(), ValueFactory.newString("text"));
+
+        TarantoolTuple tuple = new TarantoolTupleImpl(values, mapper, spaceMetadata);
+
+        assertEquals(Long.MAX_VALUE, tuple.getLongAsPrimitive(0));
+        assertEquals(42, tuple.getIntAsPrimitive("second"));
+        assertEquals(42.0, tuple.getDoubleAsPrimitive(1));
+        assertEquals(1.5, tuple.getDoubleAsPrimitive("third"));
+        assertFalse(tuple.isNull(0));
+        assertTrue(tuple.isNull(3));
+        assertTrue(tuple.isNull("fourth"));
+        assertTrue(tuple.isNull(10));
+        assertTrue(tuple.isNull("non_existing"));
+
+        // fails on values which do not fit or have another type
+        assertThrows(TarantoolClientException.class, () -> tuple.getIntAsPrimitive(0));
+        assertThrows(TarantoolClientException.class, () -> tuple.getLongAsPrimitive(2));
+        assertThrows(TarantoolClientException.class, () -> tuple.getLongAsPrimitive(3));
+        assertThrows(TarantoolClientException.class, () -> tuple.getDoubleAsPrimitive(4));
+        assertThrows(TarantoolClientException.class, () -> tuple.getLongAsPrimitive(10));
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () -> tuple.getLongAsPrimitive("non_existing"));
+
+        // fields set from Java objects
+        TarantoolTuple objectTuple = new TarantoolTupleImpl(Arrays.asList(1L, 2, 3.5f, null), mapper);
+        objectTuple.putObject(4, 5);
+        assertEquals(1, objectTuple.getIntAsPrimitive(0));
+        assertEquals(2L, objectTuple.getLongAsPrimitive(1));
+        assertEquals(3.5, objectTuple.getDoubleAsPrimitive(2));
+        assertTrue(objectTuple.isNull(3));
+        assertEquals(5, objectTuple.getIntAsPrimitive(4));
+    }
 }
@@ -23,6 +23,7 @@ import io.tarantool.driver.mappers.DefaultResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.TarantoolContainer;
@@ -179,21 +180,65 @@ public class ClusterTarantoolTupleClientIT {
     }
 
     @Test
+    @DisabledIf("io.tarantool.driver.TarantoolUtils#versionWithStreams")
     public void test_insertMany_shouldThrowException() throws Exception {
         TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
                 client.space(TEST_SPACE_NAME);
 
-        assertThrows(UnsupportedOperationException.class,
-                     () -> testSpace.insertMany(Collections.emptyList()));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> testSpace.insertMany(Collections.emptyList()).get());
+        assertTrue(e.getCause() instanceof TarantoolClientException);
     }
 
     @Test
+    @DisabledIf("io.tarantool.driver.TarantoolUtils#versionWithStreams")
     public void test_replaceMany_shouldThrowException() throws Exception {
         TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
                 client.space(TEST_SPACE_NAME);
 
-        assertThrows(UnsupportedOperationException.class,
-                     () -> testSpace.replaceMany(Collections.emptyList()));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> testSpace.replaceMany(Collections.emptyList()).get());
+        assertTrue(e.getCause() instanceof TarantoolClientException);
+    }
+
+    @Test
+    public void test_get_shouldReturnTupleByPrimaryKey() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+
+        testSpace.replace(
+                new TarantoolTupleImpl(Arrays.asList(320, "b320", "Oblomov", "Ivan Goncharov", 1859), mapper)).get();
+
+        Optional<TarantoolTuple> tuple = testSpace.get(Collections.singletonList(320)).get();
+        assertTrue(tuple.isPresent());
+        assertEquals("Oblomov", tuple.get().getString(2));
+
+        assertFalse(testSpace.get(Collections.singletonList(321)).get().isPresent());
+    }
+
+    @Test
+    public void test_countLenMinMax_shouldBeComputedOnServer() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        testSpace.replace(new TarantoolTupleImpl(
+                Arrays.asList(330, "b330", "The Master and Margarita", "Mikhail Bulgakov", 1967),
+                mapperFactory.defaultComplexTypesMapper())).get();
+
+        TarantoolResult<TarantoolTuple> allTuples = testSpace.select(Conditions.any()).get();
+        assertEquals(allTuples.size(), testSpace.len().get().intValue());
+        assertEquals(allTuples.size(), testSpace.count(Conditions.any()).get().intValue());
+
+        long expectedCount = allTuples.stream().filter(t -> t.getInteger(0) >= 100).count();
+        assertEquals(expectedCount, testSpace.count(Conditions.indexGreaterOrEquals(0,
+                Collections.singletonList(100))).get());
+
+        Optional<TarantoolTuple> min = testSpace.min("primary").get();
+        Optional<TarantoolTuple> max = testSpace.max("primary").get();
+        assertTrue(min.isPresent());
+        assertTrue(max.isPresent());
+        assertEquals(allTuples.get(0).getInteger(0), min.get().getInteger(0));
+        assertEquals(allTuples.get(allTuples.size() - 1).getInteger(0), max.get().getInteger(0));
     }
 
     @Test
@@ -0,0 +1,526 @@
+package io.tarantool.driver.integration;
+
+
+import io.tarantool.driver.TarantoolUtils;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolSubscriber;
+import io.tarantool.driver.api.cursor.TarantoolSubscription;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.TarantoolContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+public class OffsetCursorIT  {
+
+    private static final String TEST_SPACE_NAME = "cursor_test_space";
+    private static final String TEST_MULTIPART_KEY_SPACE_NAME = "cursor_test_space_multi_part_key";
+
+    private static final Logger log = LoggerFactory.getLogger(OffsetCursorIT.class);
+
+    @Container
+    private static final TarantoolContainer tarantoolContainer = new TarantoolContainer()
+            .withScriptFileName("org/testcontainers/containers/server.lua");
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+
+    @BeforeAll
+    public static void setUp() {
+        assertTrue(tarantoolContainer.isRunning());
+        initClient();
+
+        try {
+            insertToTestSpace(TEST_SPACE_NAME, 100,
+                    i -> Arrays.asList(i, i + "abc", i * 10)
+            );
+            insertToTestSpace(TEST_MULTIPART_KEY_SPACE_NAME, 50,
+                    i -> Arrays.asList(i / 10, i + "abc", i * 10)
+            );
+        } catch (ExecutionException | InterruptedException ignored) {
+            fail();
+        }
+    }
+
+    public static void tearDown() throws Exception {
+        client.close();
+        assertThrows(TarantoolClientException.class, () -> client.metadata().getSpaceByName("_space"));
+    }
+
+    private static void initClient() {
+        TarantoolCredentials credentials = new SimpleTarantoolCredentials(
+                tarantoolContainer.getUsername(), tarantoolContainer.getPassword());
+
+        TarantoolServerAddress serverAddress = new TarantoolServerAddress(
+                tarantoolContainer.getHost(), tarantoolContainer.getPort());
+
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+                .withCredentials(credentials)
+                .withConnectTimeout(1000 * 5)
+                .withReadTimeout(1000 * 5)
+                .withRequestTimeout(1000 * 5)
+                .build();
+
+        log.info("Attempting connect to Tarantool");
+        client = new ClusterTarantoolTupleClient(config, serverAddress);
+        log.info("Successfully connected to Tarantool, version = {}", client.getVersion());
+    }
+
+    private interface ElementGenerator {
+        List<Object> generate(int index);
+    }
+
+    private static void insertToTestSpace(String spaceName,
+                                          int count,
+                                          ElementGenerator gen
+    )
+            throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations testSpace = client.space(spaceName);
+        for (int i = 1; i <= count; i++) {
+            testSpace.insert(
+                    new TarantoolTupleImpl(
+                            gen.generate(i), mapperFactory.defaultComplexTypesMapper()))
+                    .get();
+        }
+    }
+
+    @Test
+    public void getOneTuple() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions.indexEquals("primary", Collections.singletonList(1));
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 10);
+
+        assertTrue(cursor.next());
+        TarantoolTuple tuple = cursor.get();
+
+        assertEquals(1, tuple.getInteger(0));
+        assertEquals("1abc", tuple.getString(1));
+        assertEquals(10, tuple.getInteger(2));
+
+        assertFalse(cursor.next());
+        assertThrows(TarantoolSpaceOperationException.class, cursor::get);
+    }
+
+    @Test
+    public void getTuples_withLimitAndCondition() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexGreaterOrEquals("primary", Collections.singletonList(12))
+                .withLimit(13);
+
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 3);
+
+        assertTrue(cursor.next());
+        List<Integer> tupleIds = new ArrayList<>();
+        int countTotal = 0;
+        boolean hasNext;
+        do {
+            countTotal++;
+            TarantoolTuple t = cursor.get();
+            tupleIds.add(t.getInteger(0));
+            hasNext = cursor.next();
+        } while (hasNext);
+
+        assertEquals(13, countTotal);
+        assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+        assertThrows(TarantoolSpaceOperationException.class, cursor::get);
+    }
+
+    @Test
+    public void getTuplesWithLimitAndCondition_lessThat() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexLessThan("primary", Collections.singletonList(53))
+                .withLimit(14);
+
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 3);
+
+        assertTrue(cursor.next());
+        List<Integer> tupleIds = new ArrayList<>();
+        int countTotal = 0;
+        boolean hasNext;
+        do {
+            countTotal++;
+            TarantoolTuple t = cursor.get();
+            tupleIds.add(t.getInteger(0));
+            hasNext = cursor.next();
+        } while (hasNext);
+
+        assertEquals(14, countTotal);
+        assertEquals(Arrays.asList(52, 51, 50, 49, 48, 47, 46, 45, 44, 43, 42, 41, 40, 39), tupleIds);
+        assertThrows(TarantoolSpaceOperationException.class, cursor::get);
+    }
+
+    @Test
+    public void countAll_batchByOneElement() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        Conditions conditions = Conditions.any();
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 3);
+
+        assertTrue(cursor.next());
+        int countTotal = 0;
+
+        boolean hasNext;
+        do {
+            countTotal++;
+            TarantoolTuple t = cursor.get();
+            hasNext = cursor.next();
+        } while (hasNext);
+
+        assertEquals(100, countTotal);
+
+        cursor = testSpace.cursor(conditions, 1);
+        List<Integer> tupleIds = new ArrayList<>();
+        assertTrue(cursor.next());
+        countTotal = 0;
+        do {
+            countTotal++;
+            TarantoolTuple t = cursor.get();
+            tupleIds.add(t.getInteger(0));
+            hasNext = cursor.next();
+        } while (hasNext);
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void countAll_smallBatch() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        Conditions conditions = Conditions.any();
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 10);
+
+        assertTrue(cursor.next());
+
+        int countTotal = 0;
+        do {
+            countTotal++;
+            cursor.get();
+        } while (cursor.next());
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void countAll_batchSizeEqualCount() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        Conditions conditions = Conditions.any();
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 100);
+
+        assertTrue(cursor.next());
+
+        int countTotal = 0;
+        do {
+            countTotal++;
+            cursor.get();
+        } while (cursor.next());
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void countAll_largeBatch() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        Conditions conditions = Conditions.any();
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 1000);
+
+        assertTrue(cursor.next());
+
+        int countTotal = 0;
+        do {
+            countTotal++;
+            cursor.get();
+        } while (cursor.next());
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void getTupleByPartialKey() {
+        TarantoolSpaceOperations testSpace = client.space(TEST_MULTIPART_KEY_SPACE_NAME);
+
+        Conditions conditions = Conditions.indexEquals("primary", Collections.singletonList(3));
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(conditions, 2);
+
+        assertTrue(cursor.next());
+        int countTotal = 0;
+        boolean hasNext;
+        do {
+            countTotal++;
+            TarantoolTuple t = cursor.get();
+            hasNext = cursor.next();
+        } while (hasNext);
+
+        assertEquals(10, countTotal);
+        assertThrows(TarantoolSpaceOperationException.class, cursor::get);
+    }
+
+    @Test
+    public void asyncCursor_withLimitAndCondition() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexGreaterOrEquals("primary", Collections.singletonList(12))
+                .withLimit(13);
+
+        List<Integer> tupleIds = new ArrayList<>();
+        try (TarantoolAsyncCursor<TarantoolTuple> cursor = testSpace.asyncCursor(conditions, 3, 2)) {
+            Collection<TarantoolTuple> batch;
+            while (!(batch = cursor.nextBatch().get()).isEmpty()) {
+                assertTrue(batch.size() <= 3);
+                for (TarantoolTuple t : batch) {
+                    tupleIds.add(t.getInteger(0));
+                }
+            }
+        }
+
+        assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+    }
+
+    @Test
+    public void asyncCursor_countAll() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        int countTotal = 0;
+        try (TarantoolAsyncCursor<TarantoolTuple> cursor = testSpace.asyncCursor(Conditions.any(), 7, 3)) {
+            Collection<TarantoolTuple> batch;
+            while (!(batch = cursor.nextBatch().get()).isEmpty()) {
+                countTotal += batch.size();
+                //protect from infinite loop
+                assertTrue(countTotal <= 1000);
+            }
+            assertTrue(cursor.nextBatch().get().isEmpty());
+        }
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void select_withStartAfter_shouldContinueFromTupleKey() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        TarantoolTuple startTuple = testSpace.select(
+                Conditions.indexEquals("primary", Collections.singletonList(12))).get().get(0);
+
+        TarantoolResult<TarantoolTuple> result = testSpace.select(
+                Conditions.indexGreaterOrEquals("primary", Collections.singletonList(10))
+                        .startAfter(startTuple)
+                        .withLimit(3)).get();
+        List<Integer> tupleIds = new ArrayList<>();
+        result.forEach(t -> tupleIds.add(t.getInteger(0)));
+        assertEquals(Arrays.asList(13, 14, 15), tupleIds);
+
+        result = testSpace.select(Conditions.descending().startAfter(startTuple).withLimit(3)).get();
+        tupleIds.clear();
+        result.forEach(t -> tupleIds.add(t.getInteger(0)));
+        assertEquals(Arrays.asList(11, 10, 9), tupleIds);
+
+        assertThrows(TarantoolClientException.class, () -> testSpace.select(
+                Conditions.indexEquals("primary", Collections.singletonList(12)).startAfter(startTuple)));
+    }
+
+    @Test
+    public void parallelScan_shouldReturnAllTuples() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        List<Conditions> partitions = testSpace.partitions(Conditions.any(), 4).get();
+        assertEquals(TarantoolUtils.versionWithKeyDef() ? 4 : 1, partitions.size());
+
+        Set<Integer> tupleIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger countTotal = new AtomicInteger();
+        testSpace.parallelScan(Conditions.any(), 4, (partition, batch) -> {
+            countTotal.addAndGet(batch.size());
+            batch.forEach(t -> tupleIds.add(t.getInteger(0)));
+        }).get();
+        assertEquals(100, countTotal.get());
+        assertEquals(100, tupleIds.size());
+
+        assertEquals(100, testSpace.parallelStream(Conditions.any(), 4).map(t -> t.getInteger(0)).distinct().count());
+    }
+
+    @Test
+    @EnabledIf("io.tarantool.driver.TarantoolUtils#versionWithKeyDef")
+    public void partitions_shouldNotIntersectAfterDelete() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        List<Conditions> partitions = testSpace.partitions(Conditions.any(), 4).get();
+        assertEquals(4, partitions.size());
+
+        TarantoolTuple first = testSpace.select(Conditions.limit(1)).get().get(0);
+        testSpace.delete(Conditions.indexEquals("primary", Collections.singletonList(first.getInteger(0)))).get();
+        try {
+            List<Integer> tupleIds = new ArrayList<>();
+            for (Conditions partition : partitions) {
+                testSpace.select(partition).get().forEach(t -> tupleIds.add(t.getInteger(0)));
+            }
+            assertEquals(99, tupleIds.size());
+            assertEquals(99, new HashSet<>(tupleIds).size());
+        } finally {
+            testSpace.insert(first).get();
+        }
+    }
+
+    @Test
+    @EnabledIf("io.tarantool.driver.TarantoolUtils#versionWithKeyDef")
+    public void partitions_withUnlimitedConditions() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        TarantoolTuple boundary = testSpace.select(Conditions.offset(49).withLimit(1)).get().get(0);
+        assertEquals(50, testSpace.select(Conditions.limit(0).endAt(boundary)).get().size());
+
+        List<Conditions> partitions = testSpace.partitions(Conditions.limit(0), 4).get();
+        assertEquals(4, partitions.size());
+
+        List<Integer> tupleIds = new ArrayList<>();
+        for (Conditions partition : partitions) {
+            List<Integer> partitionIds = new ArrayList<>();
+            testSpace.select(partition).get().forEach(t -> partitionIds.add(t.getInteger(0)));
+            assertFalse(partitionIds.isEmpty());
+            tupleIds.addAll(partitionIds);
+        }
+        assertEquals(100, tupleIds.size());
+        assertEquals(100, new HashSet<>(tupleIds).size());
+    }
+
+    @Test
+    public void parallelStream_withLimitAndCondition() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexGreaterOrEquals("primary", Collections.singletonList(12))
+                .withLimit(13);
+
+        List<Integer> tupleIds = testSpace.parallelStream(conditions, 4)
+                .map(t -> t.getInteger(0))
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+    }
+
+    @Test
+    public void cursor_withAdaptiveBatchSize_shouldReturnAllTuples() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        CursorBatchSizePolicy batchSizePolicy = AdaptiveCursorBatchSizePolicy.builder()
+                .withMinBatchSize(1)
+                .withInitialBatchSize(1)
+                .build()
+                .create(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(Conditions.any(), batchSizePolicy);
+
+        Set<Integer> tupleIds = new HashSet<>();
+        while (cursor.next()) {
+            tupleIds.add(cursor.get().getInteger(0));
+        }
+        assertEquals(100, tupleIds.size());
+        assertTrue(batchSizePolicy.getBatchSize() > 1);
+    }
+
+    @Test
+    public void stream_withLimitAndCondition() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexGreaterOrEquals("primary", Collections.singletonList(12))
+                .withLimit(13);
+
+        try (Stream<TarantoolTuple> stream = testSpace.stream(conditions)) {
+            List<Integer> tupleIds = stream.map(t -> t.getInteger(0)).collect(Collectors.toList());
+            assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+        }
+
+        try (Stream<TarantoolTuple> stream = testSpace.stream(conditions)) {
+            List<Integer> tupleIds = stream.parallel()
+                    .map(t -> t.getInteger(0))
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+        }
+    }
+
+    @Test
+    public void publisher_shouldReturnAllTuplesOnDemand() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+        testSpace.publisher(Conditions.any(), 10).subscribe(new TarantoolSubscriber<TarantoolTuple>() {
+            private final List<Integer> tupleIds = new ArrayList<>();
+            private TarantoolSubscription subscription;
+
+            @Override
+            public void onSubscribe(TarantoolSubscription subscription) {
+                this.subscription = subscription;
+                subscription.request(7);
+            }
+
+            @Override
+            public void onNext(TarantoolTuple item) {
+                tupleIds.add(item.getInteger(0));
+                if (tupleIds.size() % 7 == 0) {
+                    subscription.request(7);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(tupleIds);
+            }
+        });
+
+        List<Integer> tupleIds = result.get();
+        assertEquals(100, tupleIds.size());
+        assertEquals(100, new HashSet<>(tupleIds).size());
+    }
+}
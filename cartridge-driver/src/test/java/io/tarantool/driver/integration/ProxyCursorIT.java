@@ -7,7 +7,12 @@ import io.tarantool.driver.api.TarantoolClusterAddressProvider;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.AdaptiveCursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.CursorBatchSizePolicy;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolSubscriber;
+import io.tarantool.driver.api.cursor.TarantoolSubscription;
 import io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -28,9 +33,16 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -329,4 +341,138 @@ public class ProxyCursorIT extends SharedCartridgeContainer {
         assertEquals(21, countTotal);
         assertThrows(TarantoolSpaceOperationException.class, cursor::get);
     }
+
+    @Test
+    public void asyncCursor_withLimitAndCondition() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        Conditions conditions = Conditions
+                .indexGreaterOrEquals("primary", Collections.singletonList(12))
+                .withLimit(13);
+
+        List<Integer> tupleIds = new ArrayList<>();
+        try (TarantoolAsyncCursor<TarantoolTuple> cursor = testSpace.asyncCursor(conditions, 3, 2)) {
+            Collection<TarantoolTuple> batch;
+            while (!(batch = cursor.nextBatch().get()).isEmpty()) {
+                assertTrue(batch.size() <= 3);
+                for (TarantoolTuple t : batch) {
+                    tupleIds.add(t.getInteger(0));
+                }
+            }
+        }
+
+        assertEquals(Arrays.asList(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24), tupleIds);
+    }
+
+    @Test
+    public void asyncCursor_countAll() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        int countTotal = 0;
+        try (TarantoolAsyncCursor<TarantoolTuple> cursor = testSpace.asyncCursor(Conditions.any(), 7, 3)) {
+            Collection<TarantoolTuple> batch;
+            while (!(batch = cursor.nextBatch().get()).isEmpty()) {
+                countTotal += batch.size();
+                //protect from infinite loop
+                assertTrue(countTotal <= 1000);
+            }
+            assertTrue(cursor.nextBatch().get().isEmpty());
+        }
+
+        assertEquals(100, countTotal);
+    }
+
+    @Test
+    public void parallelScan_shouldReturnAllTuples() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        List<Conditions> partitions = testSpace.partitions(Conditions.any(), 4).get();
+        assertEquals(4, partitions.size());
+
+        Set<Integer> tupleIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger countTotal = new AtomicInteger();
+        testSpace.parallelScan(Conditions.any(), 4, (partition, batch) -> {
+            countTotal.addAndGet(batch.size());
+            batch.forEach(t -> tupleIds.add(t.getInteger(0)));
+        }).get();
+        assertEquals(100, countTotal.get());
+        assertEquals(100, tupleIds.size());
+
+        assertEquals(100, testSpace.parallelStream(Conditions.any(), 4).map(t -> t.getInteger(0)).distinct().count());
+    }
+
+    @Test
+    public void cursor_withAdaptiveBatchSize_shouldReturnAllTuples() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        CursorBatchSizePolicy batchSizePolicy = AdaptiveCursorBatchSizePolicy.builder()
+                .withMinBatchSize(1)
+                .withInitialBatchSize(1)
+                .build()
+                .create(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+        TarantoolCursor<TarantoolTuple> cursor = testSpace.cursor(Conditions.any(), batchSizePolicy);
+
+        Set<Integer> tupleIds = new HashSet<>();
+        while (cursor.next()) {
+            tupleIds.add(cursor.get().getInteger(0));
+        }
+        assertEquals(100, tupleIds.size());
+        assertTrue(batchSizePolicy.getBatchSize() > 1);
+    }
+
+    @Test
+    public void stream_shouldReturnAllTuples() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        try (Stream<TarantoolTuple> stream = testSpace.stream(Conditions.any())) {
+            assertEquals(100, stream.map(t -> t.getInteger(0)).distinct().count());
+        }
+        try (Stream<TarantoolTuple> stream = testSpace.stream(Conditions.any())) {
+            assertEquals(100, stream.parallel().map(t -> t.getInteger(0)).distinct().count());
+        }
+    }
+
+    @Test
+    public void publisher_shouldReturnAllTuplesOnDemand() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+        testSpace.publisher(Conditions.any(), 10).subscribe(new TarantoolSubscriber<TarantoolTuple>() {
+            private final List<Integer> tupleIds = new ArrayList<>();
+            private TarantoolSubscription subscription;
+
+            @Override
+            public void onSubscribe(TarantoolSubscription subscription) {
+                this.subscription = subscription;
+                subscription.request(7);
+            }
+
+            @Override
+            public void onNext(TarantoolTuple item) {
+                tupleIds.add(item.getInteger(0));
+                if (tupleIds.size() % 7 == 0) {
+                    subscription.request(7);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(tupleIds);
+            }
+        });
+
+        List<Integer> tupleIds = result.get();
+        assertEquals(100, tupleIds.size());
+        assertEquals(100, new HashSet<>(tupleIds).size());
+    }
 }
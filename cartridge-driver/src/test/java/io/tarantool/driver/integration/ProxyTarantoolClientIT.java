@@ -17,6 +17,7 @@ import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
@@ -27,6 +28,7 @@ import io.tarantool.driver.core.ClusterTarantoolTupleClient;
 import io.tarantool.driver.core.ProxyTarantoolTupleClient;
 import io.tarantool.driver.core.RetryingTarantoolTupleClient;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolBatchOperationException;
 import io.tarantool.driver.exceptions.TarantoolInternalException;
 import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -337,6 +339,50 @@ public class ProxyTarantoolClientIT extends SharedCartridgeContainer {
         assertEquals(tuple.getInteger(4), 777);
     }
 
+    @Test
+    public void test_upsertMany_deleteMany() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.insert(tupleFactory.create(Arrays.asList(123, null, "Jane Doe", 18, 999))).get();
+
+        profileSpace.upsertMany(Arrays.asList(
+            TupleWithOperations.of(tupleFactory.create(Arrays.asList(123, null, "Jane Doe", 18, 999)),
+                TupleOperations.add(4, 1)),
+            TupleWithOperations.of(tupleFactory.create(Arrays.asList(456, null, "Jack the Ripper", 33, 111)),
+                TupleOperations.add(4, 1))
+        )).get();
+
+        TarantoolResult<TarantoolTuple> selectResult = profileSpace.select(Conditions.any()).get();
+        assertEquals(2, selectResult.size());
+        assertEquals(1000, selectResult.get(0).getInteger(4));
+        assertEquals(111, selectResult.get(1).getInteger(4));
+
+        TarantoolResult<TarantoolTuple> deleteResult = profileSpace.deleteMany(Arrays.asList(
+            Collections.singletonList(123), Collections.singletonList(456), Collections.singletonList(789)
+        )).get();
+        assertEquals(2, deleteResult.size());
+        assertEquals(0, profileSpace.select(Conditions.any()).get().size());
+    }
+
+    @Test
+    public void test_deleteMany_shouldReportErrorsByKeys() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.insert(tupleFactory.create(Arrays.asList(124, null, "Jane Doe", 18, 999))).get();
+
+        List<?> invalidKey = Collections.singletonList("invalid");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> profileSpace.deleteMany(Arrays.asList(
+            Collections.singletonList(124), invalidKey
+        )).get());
+        assertTrue(e.getCause() instanceof TarantoolBatchOperationException);
+        TarantoolBatchOperationException error = (TarantoolBatchOperationException) e.getCause();
+        assertEquals(1, error.getResults().size());
+        assertEquals(Collections.singleton(invalidKey), error.getErrors().keySet());
+        assertEquals(0, profileSpace.select(Conditions.any()).get().size());
+    }
+
     @Test
     public void clusterUpdateTest() throws ExecutionException, InterruptedException {
         TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
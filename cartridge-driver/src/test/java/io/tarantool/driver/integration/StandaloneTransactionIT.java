@@ -0,0 +1,153 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.transaction.TarantoolTransaction;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.api.tuple.operations.TupleWithOperations;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.TarantoolContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Interactive transactions require IPROTO streams and the memtx MVCC engine, so the tests use a separate
+ * Tarantool 2.10 instance independently of the server version used for the other tests.
+ */
+@Testcontainers
+public class StandaloneTransactionIT {
+
+    private static final String TEST_SPACE_NAME = "test_space";
+    private static final Logger log = LoggerFactory.getLogger(StandaloneTransactionIT.class);
+
+    @Container
+    private static final TarantoolContainer tarantoolContainer = new TarantoolContainer("tarantool/tarantool:2.10")
+            .withScriptFileName("org/testcontainers/containers/server_mvcc.lua")
+            .withLogConsumer(new Slf4jLogConsumer(log));
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static final DefaultMessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @BeforeAll
+    public static void setUp() {
+        assertTrue(tarantoolContainer.isRunning());
+
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+                .withCredentials(new SimpleTarantoolCredentials(
+                        tarantoolContainer.getUsername(), tarantoolContainer.getPassword()))
+                .withConnectTimeout(1000 * 5)
+                .withReadTimeout(1000 * 5)
+                .withRequestTimeout(1000 * 5)
+                .build();
+
+        client = new ClusterTarantoolTupleClient(config, new TarantoolServerAddress(
+                tarantoolContainer.getHost(), tarantoolContainer.getPort()));
+    }
+
+    private static TarantoolTuple book(int id, String name, String author, int year) {
+        return new TarantoolTupleImpl(Arrays.asList(id, "b" + id, name, author, year), mapper);
+    }
+
+    @Test
+    public void test_insertMany_shouldInsertAllTuplesInTransaction() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        TarantoolResult<TarantoolTuple> insertResult = testSpace.insertMany(Arrays.asList(
+                book(300, "The Trial", "Franz Kafka", 1925),
+                book(301, "The Castle", "Franz Kafka", 1926))).get();
+
+        assertEquals(2, insertResult.size());
+        assertEquals("The Trial", insertResult.get(0).getString(2));
+        assertEquals("The Castle", insertResult.get(1).getString(2));
+
+        //the duplicate key fails the whole transaction
+        List<TarantoolTuple> duplicateTuples = Arrays.asList(
+                book(302, "Amerika", "Franz Kafka", 1927),
+                book(300, "The Trial", "Franz Kafka", 1925));
+        assertThrows(ExecutionException.class, () -> testSpace.insertMany(duplicateTuples).get());
+        assertEquals(0, testSpace.select(
+                Conditions.indexEquals("primary", Collections.singletonList(302))).get().size());
+    }
+
+    @Test
+    public void test_replaceMany_shouldReplaceAllTuplesInTransaction() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        TarantoolResult<TarantoolTuple> replaceResult = testSpace.replaceMany(Arrays.asList(
+                book(310, "Ulysses", "James Joyce", 1922),
+                book(310, "Dubliners", "James Joyce", 1914))).get();
+
+        assertEquals(2, replaceResult.size());
+        TarantoolResult<TarantoolTuple> selectResult = testSpace.select(
+                Conditions.indexEquals("primary", Collections.singletonList(310))).get();
+        assertEquals("Dubliners", selectResult.get(0).getString(2));
+    }
+
+    @Test
+    public void test_upsertMany_deleteMany_shouldBeExecutedInTransaction() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+
+        testSpace.replace(book(340, "Dead Souls", "Nikolai Gogol", 1842)).get();
+        testSpace.upsertMany(Arrays.asList(
+                TupleWithOperations.of(book(340, "Dead Souls", "Nikolai Gogol", 1842), TupleOperations.add(4, 1)),
+                TupleWithOperations.of(book(341, "The Nose", "Nikolai Gogol", 1836), TupleOperations.add(4, 1))
+        )).get();
+
+        assertEquals(1843, testSpace.get(Collections.singletonList(340)).get().get().getInteger(4));
+        assertEquals(1836, testSpace.get(Collections.singletonList(341)).get().get().getInteger(4));
+
+        TarantoolResult<TarantoolTuple> deleteResult = testSpace.deleteMany(Arrays.asList(
+                Collections.singletonList(340), Collections.singletonList(341), Collections.singletonList(342)
+        )).get();
+        assertEquals(2, deleteResult.size());
+        assertFalse(testSpace.get(Collections.singletonList(340)).get().isPresent());
+        assertFalse(testSpace.get(Collections.singletonList(341)).get().isPresent());
+    }
+
+    @Test
+    public void test_transaction_shouldBeCommittedOrRolledBack() throws Exception {
+        try (TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> tx = client.transaction()) {
+            tx.space(TEST_SPACE_NAME).insert(book(320, "Hamlet", "William Shakespeare", 1603));
+            tx.space(TEST_SPACE_NAME).insert(book(321, "Macbeth", "William Shakespeare", 1623));
+            tx.commit().get();
+            assertFalse(tx.isActive());
+        }
+        try (TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> tx = client.transaction()) {
+            tx.space(TEST_SPACE_NAME).delete(Conditions.indexEquals("primary", Collections.singletonList(320)));
+            tx.rollback().get();
+        }
+
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+                client.space(TEST_SPACE_NAME);
+        assertTrue(testSpace.get(Collections.singletonList(320)).get().isPresent());
+        assertTrue(testSpace.get(Collections.singletonList(321)).get().isPresent());
+    }
+}
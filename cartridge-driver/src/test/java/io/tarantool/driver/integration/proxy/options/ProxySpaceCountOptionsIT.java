@@ -0,0 +1,129 @@
+package io.tarantool.driver.integration.proxy.options;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ReadMode;
+import io.tarantool.driver.api.space.options.proxy.ProxyCountOptions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.integration.SharedCartridgeContainer;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxySpaceCountOptionsIT extends SharedCartridgeContainer {
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+    private static final TarantoolTupleFactory tupleFactory =
+            new DefaultTarantoolTupleFactory(mapperFactory.defaultComplexTypesMapper());
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    private static final String TEST_SPACE_NAME = "test__profile";
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+                .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+                .withConnectTimeout(1000)
+                .withReadTimeout(1000)
+                .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+                config, container.getRouterHost(), container.getRouterPort());
+        client = new ProxyTarantoolTupleClient(clusterClient);
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    @Test
+    public void countTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        assertEquals(0L, profileSpace.count(Conditions.any()).get());
+        assertEquals(0L, profileSpace.len().get());
+        assertFalse(profileSpace.min("profile_id").get().isPresent());
+
+        for (int i = 1; i <= 10; i++) {
+            profileSpace.insert(tupleFactory.create(i, null, "FIO", 50 + i, 100)).get();
+        }
+
+        assertEquals(10L, profileSpace.count(Conditions.any()).get());
+        assertEquals(4L, profileSpace.count(Conditions.greaterOrEquals("profile_id", 7)).get());
+        assertEquals(10L, profileSpace.len().get());
+
+        Optional<TarantoolTuple> min = profileSpace.min("profile_id").get();
+        assertTrue(min.isPresent());
+        assertEquals(1, min.get().getInteger("profile_id"));
+        Optional<TarantoolTuple> max = profileSpace.max("profile_id").get();
+        assertTrue(max.isPresent());
+        assertEquals(10, max.get().getInteger("profile_id"));
+    }
+
+    @Test
+    public void withTimeout() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        int requestConfigTimeout = client.getConfig().getRequestTimeout();
+        int customRequestTimeout = requestConfigTimeout * 2;
+
+        // with config timeout
+        profileSpace.count(Conditions.any()).get();
+        List<?> crudCountOpts = client.eval("return crud_count_opts").get();
+        assertEquals(requestConfigTimeout, ((HashMap) crudCountOpts.get(0)).get("timeout"));
+
+        // with option timeout
+        profileSpace.count(
+                Conditions.any(),
+                ProxyCountOptions.create().withTimeout(customRequestTimeout)
+        ).get();
+        crudCountOpts = client.eval("return crud_count_opts").get();
+        assertEquals(customRequestTimeout, ((HashMap) crudCountOpts.get(0)).get("timeout"));
+    }
+
+    @Test
+    public void withReadRoutingTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.count(
+                Conditions.any(),
+                ProxyCountOptions.create().withMode(ReadMode.READ).withPreferReplica(true).withBalance(true)
+        ).get();
+        List<?> crudCountOpts = client.eval("return crud_count_opts").get();
+        assertEquals("read", ((HashMap) crudCountOpts.get(0)).get("mode"));
+        assertEquals(true, ((HashMap) crudCountOpts.get(0)).get("prefer_replica"));
+        assertEquals(true, ((HashMap) crudCountOpts.get(0)).get("balance"));
+    }
+}
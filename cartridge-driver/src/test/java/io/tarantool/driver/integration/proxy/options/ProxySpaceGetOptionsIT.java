@@ -0,0 +1,118 @@
+package io.tarantool.driver.integration.proxy.options;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ReadMode;
+import io.tarantool.driver.api.space.options.proxy.ProxyGetOptions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.integration.SharedCartridgeContainer;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxySpaceGetOptionsIT extends SharedCartridgeContainer {
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+    private static final TarantoolTupleFactory tupleFactory =
+            new DefaultTarantoolTupleFactory(mapperFactory.defaultComplexTypesMapper());
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    private static final String TEST_SPACE_NAME = "test__profile";
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+                .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+                .withConnectTimeout(1000)
+                .withReadTimeout(1000)
+                .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+                config, container.getRouterHost(), container.getRouterPort());
+        client = new ProxyTarantoolTupleClient(clusterClient);
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    @Test
+    public void getTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.insert(tupleFactory.create(1, null, "FIO", 50, 100)).get();
+
+        Optional<TarantoolTuple> tuple = profileSpace.get(Collections.singletonList(1)).get();
+        assertTrue(tuple.isPresent());
+        assertEquals("FIO", tuple.get().getString("fio"));
+
+        assertFalse(profileSpace.get(Collections.singletonList(2)).get().isPresent());
+    }
+
+    @Test
+    public void withTimeout() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        int requestConfigTimeout = client.getConfig().getRequestTimeout();
+        int customRequestTimeout = requestConfigTimeout * 2;
+
+        // with config timeout
+        profileSpace.get(Collections.singletonList(1)).get();
+        List<?> crudGetOpts = client.eval("return crud_get_opts").get();
+        assertEquals(requestConfigTimeout, ((HashMap) crudGetOpts.get(0)).get("timeout"));
+
+        // with option timeout
+        profileSpace.get(
+                Collections.singletonList(1),
+                ProxyGetOptions.create().withTimeout(customRequestTimeout)
+        ).get();
+        crudGetOpts = client.eval("return crud_get_opts").get();
+        assertEquals(customRequestTimeout, ((HashMap) crudGetOpts.get(0)).get("timeout"));
+    }
+
+    @Test
+    public void withReadRoutingTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.get(
+                Collections.singletonList(1),
+                ProxyGetOptions.create().withMode(ReadMode.READ).withPreferReplica(true).withBalance(true)
+        ).get();
+        List<?> crudGetOpts = client.eval("return crud_get_opts").get();
+        assertEquals("read", ((HashMap) crudGetOpts.get(0)).get("mode"));
+        assertEquals(true, ((HashMap) crudGetOpts.get(0)).get("prefer_replica"));
+        assertEquals(true, ((HashMap) crudGetOpts.get(0)).get("balance"));
+    }
+}
@@ -134,6 +134,34 @@ public class ProxySpaceInsertOptionsIT extends SharedCartridgeContainer {
         assertEquals(1, selectResult.size());
     }
 
+    @Test
+    public void withComputedBucketIdTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        TarantoolTuple tarantoolTuple = tupleFactory.create(1, null, "FIO", 50, 100);
+        Conditions condition = Conditions.equals(PK_FIELD_NAME, 1);
+        Integer expectedBucketId = client.callForSingleResult(
+                "vshard.router.bucket_id_strcrc32",
+                Collections.singletonList(Collections.singletonList(1)),
+                Integer.class).get();
+
+        // the bucket count is requested in background, so the first operations may be sent without bucket id
+        Object bucketId = null;
+        for (int i = 0; i < 10 && bucketId == null; i++) {
+            profileSpace.delete(condition).get();
+            profileSpace.insert(tarantoolTuple).get();
+            List<?> crudInsertOpts = client.eval("return crud_insert_opts").get();
+            bucketId = ((HashMap) crudInsertOpts.get(0)).get("bucket_id");
+            Thread.sleep(100);
+        }
+        assertEquals(expectedBucketId, bucketId);
+
+        TarantoolResult<TarantoolTuple> selectResult = profileSpace.select(condition).get();
+        assertEquals(1, selectResult.size());
+        assertEquals(expectedBucketId, selectResult.get(0).getInteger(1));
+    }
+
     @Test
     public void withBucketIdMoreThanLimitTest() throws ExecutionException, InterruptedException {
         TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
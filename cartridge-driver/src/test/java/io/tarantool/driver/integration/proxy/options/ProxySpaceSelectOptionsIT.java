@@ -4,6 +4,7 @@ import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.options.ReadMode;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -120,4 +122,51 @@ public class ProxySpaceSelectOptionsIT extends SharedCartridgeContainer {
         crudSelectOpts = client.eval("return crud_select_opts").get();
         assertEquals(customRequestTimeout, ((HashMap) crudSelectOpts.get(0)).get("timeout"));
     }
+
+    @Test
+    public void withReadRoutingTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.insert(tupleFactory.create(1, null, "FIO", 50, 100)).get();
+
+        // without read routing options
+        TarantoolResult<TarantoolTuple> selectResult = profileSpace.select(Conditions.any()).get();
+        assertEquals(1, selectResult.size());
+        List<?> crudSelectOpts = client.eval("return crud_select_opts").get();
+        assertEquals(null, ((HashMap) crudSelectOpts.get(0)).get("mode"));
+        assertEquals(null, ((HashMap) crudSelectOpts.get(0)).get("prefer_replica"));
+        assertEquals(null, ((HashMap) crudSelectOpts.get(0)).get("balance"));
+
+        // with read routing options
+        selectResult = profileSpace.select(
+                Conditions.any(),
+                ProxySelectOptions.create().withMode(ReadMode.READ).withPreferReplica(true).withBalance(true)
+        ).get();
+        assertEquals(1, selectResult.size());
+        crudSelectOpts = client.eval("return crud_select_opts").get();
+        assertEquals("read", ((HashMap) crudSelectOpts.get(0)).get("mode"));
+        assertEquals(true, ((HashMap) crudSelectOpts.get(0)).get("prefer_replica"));
+        assertEquals(true, ((HashMap) crudSelectOpts.get(0)).get("balance"));
+    }
+
+    @Test
+    public void withFieldsTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+                client.space(TEST_SPACE_NAME);
+
+        profileSpace.insert(tupleFactory.create(1, null, "FIO", 50, 100)).get();
+
+        TarantoolResult<TarantoolTuple> selectResult = profileSpace.select(
+                Conditions.any(),
+                ProxySelectOptions.create().withFields("age", PK_FIELD_NAME)
+        ).get();
+        assertEquals(1, selectResult.size());
+        TarantoolTuple tuple = selectResult.get(0);
+        assertEquals(2, tuple.size());
+        assertEquals(50, tuple.getInteger("age"));
+        assertEquals(1, tuple.getInteger(PK_FIELD_NAME));
+        List<?> crudSelectOpts = client.eval("return crud_select_opts").get();
+        assertEquals(Arrays.asList("age", PK_FIELD_NAME), ((HashMap) crudSelectOpts.get(0)).get("fields"));
+    }
 }
@@ -4,6 +4,7 @@ import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -58,7 +59,10 @@ public class ProxySpaceUpdateOptionsIT extends SharedCartridgeContainer {
 
         ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
                 config, container.getRouterHost(), container.getRouterPort());
-        client = new ProxyTarantoolTupleClient(clusterClient);
+        // the bucket ID is not computed on the client side for checking that the empty options are passed as is
+        client = new ProxyTarantoolTupleClient(clusterClient, ProxyOperationsMappingConfig.builder()
+                .withBucketCountFunctionName(null)
+                .build());
     }
 
     @BeforeEach
@@ -0,0 +1,102 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.mappers.converters.object.DefaultDurationToExtensionValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultInstantToExtensionValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultOffsetDateTimeToExtensionValueConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToDurationConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToInstantConverter;
+import io.tarantool.driver.mappers.converters.value.DefaultExtensionValueToOffsetDateTimeConverter;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultDateTimeConverterTest {
+
+    private static final Instant INSTANT = Instant.ofEpochSecond(1666180800L, 123456789);
+
+    @Test
+    void datetimeToValue() throws IOException {
+        ExtensionValue value = new DefaultInstantToExtensionValueConverter().toValue(Instant.ofEpochSecond(1));
+        assertEquals(4, value.getType());
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 0, 0, 0, 0}, value.getData());
+
+        OffsetDateTime dateTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(-1, 5), ZoneOffset.ofHours(3));
+        value = new DefaultOffsetDateTimeToExtensionValueConverter().toValue(dateTime);
+        assertArrayEquals(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, 5, 0, 0, 0, (byte) 180, 0, 0, 0},
+                value.getData());
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        new DefaultOffsetDateTimeToExtensionValueConverter().write(packer, dateTime);
+        packer.close();
+        assertEquals(value, MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue());
+
+        assertThrows(MessagePackValueMapperException.class,
+                () -> new DefaultOffsetDateTimeToExtensionValueConverter().toValue(
+                        OffsetDateTime.ofInstant(INSTANT, ZoneOffset.ofTotalSeconds(30))));
+    }
+
+    @Test
+    void datetimeFromValue() {
+        ExtensionValue value = new DefaultOffsetDateTimeToExtensionValueConverter()
+                .toValue(OffsetDateTime.ofInstant(INSTANT, ZoneOffset.ofHoursMinutes(-5, -30)));
+
+        OffsetDateTime dateTime = new DefaultExtensionValueToOffsetDateTimeConverter().fromValue(value);
+        assertEquals(INSTANT, dateTime.toInstant());
+        assertEquals(ZoneOffset.ofHoursMinutes(-5, -30), dateTime.getOffset());
+        assertEquals(INSTANT, new DefaultExtensionValueToInstantConverter().fromValue(value));
+
+        DefaultExtensionValueToInstantConverter converter = new DefaultExtensionValueToInstantConverter();
+        assertTrue(converter.canConvertValue(ValueFactory.newExtension((byte) 4, new byte[8])));
+        assertFalse(converter.canConvertValue(ValueFactory.newExtension((byte) 4, new byte[4])));
+        assertFalse(converter.canConvertValue(ValueFactory.newExtension((byte) 2, new byte[16])));
+    }
+
+    @Test
+    void intervalConversion() {
+        Duration duration = Duration.ofSeconds(-90061, 500);
+        ExtensionValue value = new DefaultDurationToExtensionValueConverter().toValue(duration);
+        assertEquals(6, value.getType());
+
+        DefaultExtensionValueToDurationConverter converter = new DefaultExtensionValueToDurationConverter();
+        assertEquals(duration, converter.fromValue(value));
+        assertEquals(Duration.ZERO,
+                converter.fromValue(new DefaultDurationToExtensionValueConverter().toValue(Duration.ZERO)));
+
+        // {week: 1, day: 1, hour: 1, minute: 1}
+        byte[] data = {4, 2, 1, 3, 1, 4, 1, 5, 1};
+        assertEquals(Duration.ofDays(8).plusHours(1).plusMinutes(1),
+                converter.fromValue(ValueFactory.newExtension((byte) 6, data)));
+
+        // {month: 1}
+        assertFalse(converter.canConvertValue(ValueFactory.newExtension((byte) 6, new byte[]{1, 1, 1})));
+        assertFalse(converter.canConvertValue(ValueFactory.newExtension((byte) 4, data)));
+    }
+
+    @Test
+    void mapperConversion() {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        ZonedDateTime dateTime = ZonedDateTime.ofInstant(INSTANT, ZoneOffset.ofHours(2));
+
+        Value value = mapper.toValue(dateTime);
+        assertEquals(dateTime, mapper.fromValue(value, ZonedDateTime.class));
+        assertEquals(dateTime.toOffsetDateTime(), mapper.fromValue(value));
+        assertEquals(INSTANT, mapper.fromValue(mapper.toValue(INSTANT), Instant.class));
+        assertEquals(Duration.ofMillis(1500), mapper.fromValue(mapper.toValue(Duration.ofMillis(1500))));
+    }
+}
@@ -4,16 +4,23 @@ import io.tarantool.driver.CustomTuple;
 import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
+import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -173,6 +180,70 @@ class DefaultMessagePackMapperTest {
         assertEquals(testValue, mapper.toValue(testTuple).asMapValue().map());
     }
 
+    @Test
+    void registerConverter_shouldReplaceResolvedConverters() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
+        assertEquals(Long.valueOf(111L), mapper.fromValue(ValueFactory.newInteger(111), Long.class));
+        assertEquals(ValueFactory.newString("hello"), mapper.toValue("hello"));
+
+        mapper.registerValueConverter(ValueType.INTEGER, Long.class,
+                (ValueConverter<IntegerValue, Long>) v -> v.asLong() + 1);
+        mapper.registerObjectConverter(String.class, StringValue.class,
+                (ObjectConverter<String, StringValue>) o -> ValueFactory.newString(o.toUpperCase()));
+
+        assertEquals(Long.valueOf(112L), mapper.fromValue(ValueFactory.newInteger(111), Long.class));
+        assertEquals(ValueFactory.newString("HELLO"), mapper.toValue("hello"));
+        assertEquals(Integer.valueOf(111), mapper.fromValue(ValueFactory.newInteger(111), Integer.class));
+    }
+
+    @Test
+    void registerConverter_inCopy_shouldNotAffectSourceMapper() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
+        assertEquals(ValueFactory.newString("hello"), mapper.toValue("hello"));
+
+        DefaultMessagePackMapper copy = new DefaultMessagePackMapper(mapper);
+        copy.registerObjectConverter(String.class, StringValue.class,
+                (ObjectConverter<String, StringValue>) o -> ValueFactory.newString(o.toUpperCase()));
+
+        assertEquals(ValueFactory.newString("HELLO"), copy.toValue("hello"));
+        assertEquals(ValueFactory.newString("hello"), mapper.toValue("hello"));
+    }
+
+    private static byte[] pack(DefaultMessagePackMapper mapper, Object object, boolean write) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        if (write) {
+            mapper.write(packer, object);
+        } else {
+            packer.packValue(mapper.toValue(object));
+        }
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    @Test
+    void write_shouldPackSameDataAsConvertedValue() throws IOException {
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+        TarantoolTuple tuple = tupleFactory.create(1, null, "abc", Arrays.asList(1.5D, 2.5F),
+                ValueFactory.newString("raw"));
+        List<Object> object = Arrays.asList(true, 'c', (short) 1, 100500L, Integer.MAX_VALUE, -1, null,
+                new byte[]{1, 2, 3}, new BigDecimal("-12.345"), UUID.randomUUID(),
+                Arrays.asList(Arrays.asList(1, "a"), Collections.singletonMap("key", Arrays.asList(1, 2))),
+                tuple);
+
+        assertArrayEquals(pack(mapper, object, false), pack(mapper, object, true));
+        assertArrayEquals(pack(mapper, null, false), pack(mapper, null, true));
+    }
+
+    @Test
+    void write_shouldUseRegisteredConverters() throws IOException {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper(mapperFactory.defaultComplexTypesMapper());
+        mapper.registerObjectConverter(String.class, StringValue.class,
+                (ObjectConverter<String, StringValue>) o -> ValueFactory.newString(o.toUpperCase()));
+
+        assertArrayEquals(pack(mapper, "hello", false), pack(mapper, "hello", true));
+        assertArrayEquals(pack(mapperFactory.defaultComplexTypesMapper(), "HELLO", true), pack(mapper, "hello", true));
+    }
+
     //TODO: add this test when will it be resolved https://github.com/tarantool/cartridge-java/issues/118
 //    @Test
 //    void should_getObject_returnShort_ifParameterObjectClassIsShort() {
@@ -0,0 +1,77 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.mappers.converters.value.DefaultStringValueToStringConverter;
+import io.tarantool.driver.mappers.converters.value.StringInternCache;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ValueFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StringInternCacheTest {
+
+    @Test
+    public void test_intern_shouldReturnSameInstanceForEqualBytes() {
+        StringInternCache cache = new StringInternCache(16);
+
+        String first = cache.intern(ValueFactory.newString("RUB"));
+        String second = cache.intern(ValueFactory.newString("RUB".getBytes(StandardCharsets.UTF_8)));
+        String other = cache.intern(ValueFactory.newString("USD"));
+
+        assertEquals("RUB", first);
+        assertSame(first, second);
+        assertEquals("USD", other);
+    }
+
+    @Test
+    public void test_intern_shouldNotCacheLongStrings() {
+        StringInternCache cache = new StringInternCache(16, 4);
+
+        byte[] bytes = "active".getBytes(StandardCharsets.UTF_8);
+        String first = cache.intern(ValueFactory.newString(bytes));
+        String second = cache.intern(ValueFactory.newString(bytes));
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void test_capacity_shouldBeRoundedUpToPowerOfTwo() {
+        assertEquals(1, new StringInternCache(1).getCapacity());
+        assertEquals(2, new StringInternCache(2).getCapacity());
+        assertEquals(1024, new StringInternCache(1000).getCapacity());
+        assertEquals(1024, new StringInternCache(1024).getCapacity());
+    }
+
+    @Test
+    public void test_mapper_shouldDeduplicateStrings() throws IOException, ClassNotFoundException {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper.Builder(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withStringInternCache(128)
+                .build();
+
+        byte[] bytes = "status".getBytes(StandardCharsets.UTF_8);
+        String first = mapper.fromValue(ValueFactory.newString(bytes), String.class);
+        String second = mapper.fromValue(ValueFactory.newString(bytes));
+        assertSame(first, second);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(new DefaultStringValueToStringConverter(new StringInternCache(8)));
+        }
+        DefaultStringValueToStringConverter converter;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            converter = (DefaultStringValueToStringConverter) ois.readObject();
+        }
+        assertSame(converter.fromValue(ValueFactory.newString(bytes)),
+                converter.fromValue(ValueFactory.newString(bytes)));
+    }
+}
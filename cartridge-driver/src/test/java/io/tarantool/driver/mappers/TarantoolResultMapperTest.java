@@ -5,16 +5,21 @@ import io.tarantool.driver.CustomTupleResult;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTupleResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.LazyTarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TarantoolResultMapperTest {
     @Test
@@ -39,6 +44,58 @@ class TarantoolResultMapperTest {
         assertEquals(nestedList2, result.get(1).getList(2));
     }
 
+    @Test
+    void testWithTarantoolTupleFromMessagePack() throws IOException {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        DefaultResultMapperFactoryFactory mapperFactoryFactory = new DefaultResultMapperFactoryFactory();
+        TarantoolResultMapper<TarantoolTuple> mapper = mapperFactoryFactory
+                .defaultTupleResultMapperFactory().withDefaultTupleValueConverter(defaultMapper, null);
+        List<Object> nestedList = Arrays.asList("nested", "array", 1);
+        TarantoolTuple tupleOne = new TarantoolTupleImpl(Arrays.asList("abc", 1234, nestedList), defaultMapper);
+        TarantoolTuple tupleTwo = new TarantoolTupleImpl(Arrays.asList("def", null), defaultMapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packString("prefix");
+        int offset = (int) packer.getTotalWrittenBytes();
+        ArrayValue testTuples = ValueFactory.newArray(
+                tupleOne.toMessagePackValue(defaultMapper), tupleTwo.toMessagePackValue(defaultMapper));
+        packer.packValue(testTuples);
+        int length = (int) packer.getTotalWrittenBytes() - offset;
+        packer.packString("suffix");
+        byte[] data = packer.toByteArray();
+
+        TarantoolResult<TarantoolTuple> result = mapper.fromMessagePack(data, offset, length);
+        TarantoolResult<TarantoolTuple> expected = mapper.fromValue(testTuples, TarantoolTupleResult.class);
+        // the tuples do not share the response buffer
+        Arrays.fill(data, (byte) 0xc0);
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0) instanceof LazyTarantoolTuple);
+        assertTrue(((LazyTarantoolTuple) result.get(0)).isLazy());
+        assertEquals(expected.get(0), result.get(0));
+        assertEquals(expected.get(1), result.get(1));
+        assertEquals(1234, result.get(0).getInteger(1));
+        assertEquals(nestedList, result.get(0).getList(2));
+        assertEquals("def", result.get(1).getString(0));
+    }
+
+    @Test
+    void testWithCustomTupleFromMessagePack() throws IOException {
+        DefaultResultMapperFactoryFactory mapperFactoryFactory = new DefaultResultMapperFactoryFactory();
+        TarantoolResultMapper<CustomTuple> mapper = mapperFactoryFactory.<CustomTuple>tupleResultMapperFactory()
+                .withTupleValueConverter(v -> new CustomTuple(v.get(0).asIntegerValue().asInt(),
+                        v.get(1).asStringValue().asString()), CustomTupleResult.class);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("abcd"))));
+        byte[] data = packer.toByteArray();
+
+        TarantoolResult<CustomTuple> result = mapper.fromMessagePack(data, 0, data.length);
+
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getId());
+        assertEquals("abcd", result.get(0).getName());
+    }
+
     @Test
     void testWithCustomTuple() {
         MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
@@ -0,0 +1,236 @@
+package io.tarantool.driver.mappers.entity;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.TestMetadataContainer;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.TarantoolResultMapper;
+import io.tarantool.driver.mappers.TupleResultMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RuntimeTupleConverterFactoryTest {
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    public static class Person {
+        // the declaration order differs from the tuple positions
+        @TupleField(position = 2)
+        private long age;
+        @TupleField(position = 0)
+        private Integer id;
+        @TupleField(position = 1)
+        private String name;
+        private transient String cached;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getAge() {
+            return age;
+        }
+
+        public void setAge(long age) {
+            this.age = age;
+        }
+    }
+
+    static class Employee extends Person {
+        @TupleField(position = 3)
+        List<String> roles;
+    }
+
+    public static final class Point {
+        @TupleField(position = 1)
+        private final int y;
+        @TupleField(position = 0)
+        private final int x;
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class Row {
+        @TupleField(name = "third")
+        Double value;
+        @TupleField
+        String first;
+        String notMapped;
+    }
+
+    static class NoFields {
+    }
+
+    static class Unannotated {
+        String first;
+        Double second;
+    }
+
+    static final class ImmutableUnannotated {
+        private final String first;
+
+        ImmutableUnannotated(String first) {
+            this.first = first;
+        }
+    }
+
+    @Test
+    public void test_publicClass_shouldMapFieldsByPositions() throws IOException {
+        TupleConverter<Person> converter = RuntimeTupleConverterFactory.forClass(Person.class).create(mapper, null);
+        Person person = converter.fromValue(ValueFactory.newArray(
+                ValueFactory.newInteger(1), ValueFactory.newString("Alice"), ValueFactory.newInteger(30)));
+
+        assertEquals(1, person.getId());
+        assertEquals("Alice", person.getName());
+        assertEquals(30, person.getAge());
+
+        person.setName(null);
+        ArrayValue tuple = converter.toValue(person);
+        assertEquals(ValueFactory.newArray(
+                ValueFactory.newInteger(1), ValueFactory.newNil(), ValueFactory.newInteger(30)), tuple);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        converter.write(packer, person);
+        MessageBufferPacker expected = MessagePack.newDefaultBufferPacker();
+        expected.packValue(tuple);
+        assertArrayEquals(expected.toByteArray(), packer.toByteArray());
+    }
+
+    @Test
+    public void test_nonPublicSubclass_shouldMapInheritedFields() {
+        TupleConverter<Employee> converter =
+                RuntimeTupleConverterFactory.forClass(Employee.class).create(mapper, null);
+        Employee employee = converter.fromValue(ValueFactory.newArray(
+                ValueFactory.newInteger(2), ValueFactory.newString("Bob"), ValueFactory.newNil(),
+                ValueFactory.newArray(ValueFactory.newString("admin"))));
+
+        assertEquals(2, employee.getId());
+        assertEquals("Bob", employee.getName());
+        assertEquals(0, employee.getAge());
+        assertEquals(Arrays.asList("admin"), employee.roles);
+        assertEquals(4, converter.toValue(employee).size());
+    }
+
+    @Test
+    public void test_immutableClass_shouldBeCreatedWithConstructor() {
+        TupleConverter<Point> converter = RuntimeTupleConverterFactory.forClass(Point.class).create(mapper, null);
+        Point point = converter.fromValue(ValueFactory.newArray(ValueFactory.newInteger(3)));
+
+        assertEquals(3, point.x);
+        assertEquals(0, point.y);
+        assertEquals(ValueFactory.newArray(ValueFactory.newInteger(3), ValueFactory.newInteger(0)),
+                converter.toValue(point));
+    }
+
+    @Test
+    public void test_annotatedFields_shouldBeResolvedWithMetadata() {
+        TarantoolSpaceMetadata metadata = new TestMetadataContainer().getSpaceMetadataByName().get("test");
+        TupleConverter<Row> converter = RuntimeTupleConverterFactory.forClass(Row.class).create(mapper, metadata);
+        Row row = converter.fromValue(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newInteger(1), ValueFactory.newFloat(1.5)));
+
+        assertEquals("a", row.first);
+        assertEquals(1.5, row.value);
+        assertNull(row.notMapped);
+    }
+
+    @Test
+    public void test_fieldsWithoutPositions_shouldBeResolvedWithMetadata() {
+        TarantoolSpaceMetadata metadata = new TestMetadataContainer().getSpaceMetadataByName().get("test");
+        RuntimeTupleConverterFactory<Unannotated> factory = RuntimeTupleConverterFactory.forClass(Unannotated.class);
+        Unannotated entity = factory.create(mapper, metadata).fromValue(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newFloat(1.5)));
+
+        assertEquals("a", entity.first);
+        assertEquals(1.5, entity.second);
+        assertThrows(TarantoolClientException.class, () -> factory.create(mapper, null));
+    }
+
+    @Test
+    public void test_immutableClassWithoutPositions_shouldBeRejected() {
+        assertThrows(TarantoolClientException.class,
+                () -> RuntimeTupleConverterFactory.forClass(ImmutableUnannotated.class));
+    }
+
+    @Test
+    public void test_factory_shouldBeCachedPerClass() {
+        assertSame(RuntimeTupleConverterFactory.forClass(Person.class),
+                RuntimeTupleConverterFactory.forClass(Person.class));
+        assertThrows(TarantoolClientException.class, () -> RuntimeTupleConverterFactory.forClass(NoFields.class));
+    }
+
+    @Test
+    public void test_mapperBuilder_shouldRegisterConverter() {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper.Builder(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withRuntimeTupleConverter(Person.class)
+                .build();
+        Person person = new Person();
+        person.setId(5);
+
+        Person converted = mapper.fromValue(mapper.toValue(person), Person.class);
+        assertEquals(5, converted.getId());
+    }
+
+    @Test
+    public void test_mapperBuilder_shouldNotConvertPlainArrays() {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper.Builder(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withRuntimeTupleConverter(Person.class)
+                .build();
+        ArrayValue nested = ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("Alice")),
+                ValueFactory.newArray(ValueFactory.newInteger(2)));
+
+        List<Object> expected = Arrays.asList(Arrays.asList(1, "Alice"), Arrays.asList(2));
+        assertEquals(expected, mapper.fromValue(nested));
+        assertEquals(expected, mapper.fromValue(nested, List.class));
+        assertEquals("Alice", mapper.fromValue(nested.get(0), Person.class).getName());
+    }
+
+    @Test
+    public void test_tupleResultMapperFactory_shouldMapEntities() {
+        TarantoolResultMapper<Person> resultMapper =
+                new TupleResultMapperFactory<Person>(mapper).withTupleEntity(Person.class);
+        ArrayValue tuples = ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("Alice")),
+                ValueFactory.newArray(ValueFactory.newInteger(2), ValueFactory.newString("Bob")));
+
+        TarantoolResult<Person> result = resultMapper.fromValue(tuples, TarantoolResult.class);
+
+        assertEquals(2, result.size());
+        assertEquals("Bob", result.get(1).getName());
+    }
+}
@@ -0,0 +1,93 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TarantoolRequestBodyTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    public void test_toMessagePack_shouldWriteSameBodyAsValue() throws TarantoolProtocolException, IOException {
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(TarantoolRequestFieldType.IPROTO_FUNCTION_NAME.getCode(), "func");
+        values.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), Arrays.asList(1, "two", Arrays.asList(3L, null)));
+        TarantoolRequestBody body = new TarantoolRequestBody(values, mapper);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        body.toMessagePack(packer, mapper);
+        Value written = MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue();
+
+        assertEquals(body.toMessagePackValue(mapper), written);
+    }
+
+    @Test
+    public void test_toMessagePack_shouldUsePassedMapper() throws TarantoolProtocolException, IOException {
+        MessagePackMapper customMapper = mapper.copy();
+        customMapper.registerObjectConverter(Point.class, StringValue.class,
+                point -> ValueFactory.newString(point.x + ":" + point.y));
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), new Point(2, 3));
+        TarantoolRequestBody body = new TarantoolRequestBody(values, customMapper);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        body.toMessagePack(packer, mapper);
+        Value written = MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue();
+
+        assertEquals(ValueFactory.newString("2:3"),
+                written.asMapValue().map().get(
+                        ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_TUPLE.getCode())));
+    }
+
+    @Test
+    public void test_toMessagePack_shouldNotBeAffectedByArgumentChanges()
+            throws TarantoolProtocolException, IOException {
+        List<Object> arguments = new ArrayList<>(Arrays.asList(1, 2));
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), arguments);
+        TarantoolRequestBody body = new TarantoolRequestBody(values, mapper);
+        arguments.add(3);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        body.toMessagePack(packer, mapper);
+        Value written = MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue();
+
+        assertEquals(ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newInteger(2)),
+                written.asMapValue().map().get(
+                        ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_TUPLE.getCode())));
+    }
+
+    @Test
+    public void test_create_shouldThrowIfThereIsNoConverter() {
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), new Object());
+
+        assertThrows(TarantoolProtocolException.class, () -> new TarantoolRequestBody(values, mapper));
+    }
+
+    private static final class Point {
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
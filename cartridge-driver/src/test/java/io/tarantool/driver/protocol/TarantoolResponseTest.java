@@ -0,0 +1,65 @@
+package io.tarantool.driver.protocol;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolResponseTest {
+
+    private static byte[] pack(Value... values) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        for (Value value : values) {
+            packer.packValue(value);
+        }
+        return packer.toByteArray();
+    }
+
+    private static Value header(long sync, long code) {
+        return ValueFactory.newMap(
+                ValueFactory.newInteger(0x00), ValueFactory.newInteger(code),
+                ValueFactory.newInteger(0x01), ValueFactory.newInteger(sync));
+    }
+
+    @Test
+    public void test_fromMessagePack_shouldKeepSerializedData() throws TarantoolProtocolException, IOException {
+        Value tuples = ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("a")),
+                ValueFactory.newArray(ValueFactory.newInteger(2), ValueFactory.newNil()));
+        byte[] data = pack(header(42, 0), ValueFactory.newMap(ValueFactory.newInteger(0x30), tuples));
+
+        TarantoolResponse response = TarantoolResponse.fromMessagePack(data);
+
+        assertEquals(42L, response.getSyncId());
+        assertEquals(TarantoolResponseType.IPROTO_OK, response.getResponseType());
+        assertTrue(response.getBody() instanceof SerializedTarantoolResponseBody);
+        SerializedTarantoolResponseBody body = (SerializedTarantoolResponseBody) response.getBody();
+        assertEquals(TarantoolResponseBodyType.IPROTO_DATA, body.getResponseBodyType());
+        assertArrayEquals(pack(tuples), Arrays.copyOfRange(
+                body.getSerializedData(), body.getOffset(), body.getOffset() + body.getLength()));
+        assertEquals(tuples, body.getData());
+    }
+
+    @Test
+    public void test_fromMessagePack_shouldUnpackErrorsAndEmptyBodies() throws TarantoolProtocolException,
+            IOException {
+        Value error = ValueFactory.newString("Some error");
+        TarantoolResponse errorResponse = TarantoolResponse.fromMessagePack(
+                pack(header(1, 0x8000 + 10), ValueFactory.newMap(ValueFactory.newInteger(0x31), error)));
+        TarantoolResponse emptyResponse =
+                TarantoolResponse.fromMessagePack(pack(header(2, 0), ValueFactory.emptyMap()));
+
+        assertEquals(TarantoolResponseType.IPROTO_NOT_OK, errorResponse.getResponseType());
+        assertTrue(errorResponse.getBody() instanceof NotEmptyTarantoolResponseBody);
+        assertEquals(error, errorResponse.getBody().getData());
+        assertEquals(TarantoolResponseBodyType.EMPTY, emptyResponse.getBody().getResponseBodyType());
+    }
+}
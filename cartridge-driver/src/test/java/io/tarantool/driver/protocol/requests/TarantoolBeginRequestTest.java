@@ -0,0 +1,68 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.TarantoolHeader;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import io.tarantool.driver.protocol.TarantoolTransactionIsolation;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolBeginRequestTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    public void testBeginRequestWithStreamId() throws TarantoolProtocolException, IOException {
+        TarantoolBeginRequest request = new TarantoolBeginRequest.Builder()
+                .withIsolation(TarantoolTransactionIsolation.READ_COMMITTED)
+                .withTimeout(1.5)
+                .build(mapper);
+        request.getHeader().setStreamId(42L);
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(toBytes(request));
+        TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+        Map<Value, Value> body = unpacker.unpackValue().asMapValue().map();
+
+        assertEquals(TarantoolRequestType.IPROTO_BEGIN.getCode(), header.getCode());
+        assertEquals(42L, header.getStreamId());
+        assertEquals(TarantoolTransactionIsolation.READ_COMMITTED.getCode(),
+                body.get(ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_TXN_ISOLATION.getCode()))
+                        .asIntegerValue().asInt());
+        assertEquals(1.5,
+                body.get(ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_TIMEOUT.getCode()))
+                        .asFloatValue().toDouble());
+    }
+
+    @Test
+    public void testCommitRequestWithoutStreamId() throws TarantoolProtocolException, IOException {
+        TarantoolCommitRequest request = new TarantoolCommitRequest();
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(toBytes(request));
+        TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+
+        assertEquals(TarantoolRequestType.IPROTO_COMMIT.getCode(), header.getCode());
+        assertNull(header.getStreamId());
+        assertTrue(unpacker.unpackValue().asMapValue().map().isEmpty());
+    }
+
+    private byte[] toBytes(TarantoolRequest request) throws TarantoolProtocolException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        request.toMessagePack(packer, mapper);
+        return packer.toByteArray();
+    }
+}
@@ -0,0 +1,40 @@
+package io.tarantool.driver.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CRC32CTest {
+
+    @Test
+    public void test_getValue_shouldReturnStandardChecksum() {
+        CRC32C crc = new CRC32C();
+        crc.update("123456789".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(0xE3069283L, crc.getValue());
+    }
+
+    @Test
+    public void test_getTarantoolValue_shouldBeEqualToDigestCrc32() {
+        CRC32C crc = new CRC32C();
+        crc.update("abc".getBytes(StandardCharsets.US_ASCII));
+
+        // digest.crc32('abc')
+        assertEquals(3384066120L, crc.getTarantoolValue());
+    }
+
+    @Test
+    public void test_update_shouldBeIncremental() {
+        CRC32C crc = new CRC32C();
+        crc.update('a');
+        crc.update("xbcx".getBytes(StandardCharsets.US_ASCII), 1, 2);
+
+        assertEquals(3384066120L, crc.getTarantoolValue());
+
+        crc.reset();
+        crc.update("abc".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(3384066120L, crc.getTarantoolValue());
+    }
+}
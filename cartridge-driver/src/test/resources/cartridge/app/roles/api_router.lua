@@ -19,6 +19,8 @@ end
 
 local crud_methods_to_patch = {
     'select',
+    'get',
+    'count',
     'delete',
     'insert',
     'insert_many',
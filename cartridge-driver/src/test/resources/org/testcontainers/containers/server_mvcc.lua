@@ -0,0 +1,25 @@
+box.cfg {
+    listen = 3301,
+    memtx_memory = 128 * 1024 * 1024, -- 128 Mb
+    -- interactive transactions over IPROTO streams require MVCC for memtx spaces
+    memtx_use_mvcc_engine = true,
+    log_level = 6,
+}
+-- API user will be able to login with this password
+box.schema.user.create('api_user', { password = 'secret' })
+-- API user will be able to create spaces, add or remove data, execute functions
+box.schema.user.grant('api_user', 'read,write,execute', 'universe')
+
+-- create test space
+s = box.schema.space.create('test_space')
+s:format({
+    {name = 'id', type = 'unsigned'},
+    {name = 'unique_key', type = 'string'},
+    {name = 'book_name', type = 'string'},
+    {name = 'author', type = 'string'},
+    {name = 'year', type = 'unsigned',is_nullable=true},
+})
+s:create_index('primary', {
+    type = 'tree',
+    parts = {'id'}
+})
@@ -0,0 +1,467 @@
+package io.tarantool.driver.mappers.entity.processor;
+
+import io.tarantool.driver.mappers.entity.TupleConverterFactory;
+import io.tarantool.driver.mappers.entity.TupleEntity;
+import io.tarantool.driver.mappers.entity.TupleField;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor generating {@link io.tarantool.driver.mappers.entity.TupleConverter} implementations for the
+ * classes annotated with {@link TupleEntity}. The generated converters access the entity fields directly and do not
+ * use reflection. The factories of the converters are registered in
+ * {@code META-INF/services/io.tarantool.driver.mappers.entity.TupleConverterFactory}.
+ * <p>
+ * The processor is registered as a service, so it is applied automatically when this artifact is in the annotation
+ * processor path of the compilation.
+ */
+@SupportedAnnotationTypes("io.tarantool.driver.mappers.entity.TupleEntity")
+public class TupleConverterProcessor extends AbstractProcessor {
+
+    private static final String CONVERTER_SUFFIX = "TupleConverter";
+    private static final String FACTORY_SERVICE = "META-INF/services/" + TupleConverterFactory.class.getName();
+    private static final String MAPPERS = "io.tarantool.driver.mappers";
+    private static final String VALUE = "org.msgpack.value.Value";
+    private static final String VALUE_FACTORY = "org.msgpack.value.ValueFactory";
+
+    private final Set<String> factories = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(TupleEntity.class)) {
+            try {
+                generateConverter(element);
+            } catch (InvalidEntityException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate tuple converter: " + e.getMessage(), element);
+            }
+        }
+        if (roundEnv.processingOver() && !factories.isEmpty()) {
+            try {
+                writeServices();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to register tuple converters: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generateConverter(Element element) throws InvalidEntityException, IOException {
+        TypeElement entity = checkEntity(element);
+        List<EntityField> fields = collectFields(entity);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+        String converterName = converterName(entity);
+        String qualifiedName = packageName.isEmpty() ? converterName : packageName + "." + converterName;
+        try (PrintWriter out = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(qualifiedName, entity).openWriter())) {
+            new ConverterWriter(out, packageName, converterName, entity.getQualifiedName().toString(), fields)
+                    .write();
+        }
+        factories.add(qualifiedName + "$Factory");
+    }
+
+    private TypeElement checkEntity(Element element) throws InvalidEntityException {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new InvalidEntityException(element, "@TupleEntity can be applied only to classes");
+        }
+        TypeElement entity = (TypeElement) element;
+        Set<Modifier> modifiers = entity.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            throw new InvalidEntityException(element, "Tuple entity class must not be abstract or private");
+        }
+        if (entity.getNestingKind() != NestingKind.TOP_LEVEL &&
+                (entity.getNestingKind() != NestingKind.MEMBER || !modifiers.contains(Modifier.STATIC))) {
+            throw new InvalidEntityException(element, "Tuple entity class must be a top level or static class");
+        }
+        if (!entity.getTypeParameters().isEmpty()) {
+            throw new InvalidEntityException(element, "Tuple entity class must not be generic");
+        }
+        boolean hasConstructor = ElementFilter.constructorsIn(entity.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasConstructor) {
+            throw new InvalidEntityException(element,
+                    "Tuple entity class must have a non-private constructor without arguments");
+        }
+        return entity;
+    }
+
+    private String converterName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing.getKind().isClass() || enclosing.getKind().isInterface()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(CONVERTER_SUFFIX).toString();
+    }
+
+    private List<EntityField> collectFields(TypeElement entity) throws InvalidEntityException {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(entity));
+        List<EntityField> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            TupleField annotation = field.getAnnotation(TupleField.class);
+            if (annotation == null) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                throw new InvalidEntityException(field, "Tuple entity field must not be static or final");
+            }
+            String name = field.getSimpleName().toString();
+            String formatName = annotation.name().isEmpty() ? name : annotation.name();
+            EntityField entityField = new EntityField(formatName, annotation.position(), field.asType());
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                ExecutableElement getter = findMethod(methods, "get" + suffix, 0);
+                if (getter == null && field.asType().getKind() == TypeKind.BOOLEAN) {
+                    getter = findMethod(methods, "is" + suffix, 0);
+                }
+                ExecutableElement setter = findMethod(methods, "set" + suffix, 1);
+                if (getter == null || setter == null) {
+                    throw new InvalidEntityException(field,
+                            "Private tuple entity field must have a non-private getter and setter");
+                }
+                entityField.getter = "entity." + getter.getSimpleName() + "()";
+                entityField.setter = "entity." + setter.getSimpleName() + "(%s);";
+            } else {
+                entityField.getter = "entity." + name;
+                entityField.setter = "entity." + name + " = %s;";
+            }
+            fields.add(entityField);
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidEntityException(entity, "Tuple entity class must have fields annotated with @TupleField");
+        }
+        return fields;
+    }
+
+    private ExecutableElement findMethod(List<ExecutableElement> methods, String name, int parameters) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameters &&
+                    !method.getModifiers().contains(Modifier.PRIVATE) &&
+                    !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void writeServices() throws IOException {
+        Set<String> services = new TreeSet<>(factories);
+        try {
+            FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", FACTORY_SERVICE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        services.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // the services have not been registered by the previous compilations
+        }
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", FACTORY_SERVICE);
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+            for (String service : services) {
+                writer.write(service);
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Conversion of a field type, the direct conversions are used for the primitive types, their wrappers and strings
+     */
+    private enum FieldType {
+        INT("Integer", "value.asIntegerValue().asInt()", "packInt", "newInteger"),
+        LONG("Long", "value.asIntegerValue().asLong()", "packLong", "newInteger"),
+        SHORT("Short", "value.asIntegerValue().asShort()", "packShort", "newInteger"),
+        BYTE("Byte", "value.asIntegerValue().asByte()", "packByte", "newInteger"),
+        BOOLEAN("Boolean", "value.asBooleanValue().getBoolean()", "packBoolean", "newBoolean"),
+        DOUBLE("Double", "value.asNumberValue().toDouble()", "packDouble", "newFloat"),
+        // float is packed as float64, the same as by the default converter
+        FLOAT("Float", "value.asNumberValue().toFloat()", "packDouble", "newFloat"),
+        STRING("String", "value.asStringValue().asString()", "packString", "newString"),
+        OTHER(null, null, null, null);
+
+        private final String wrapper;
+        private final String read;
+        private final String pack;
+        private final String factoryMethod;
+
+        FieldType(String wrapper, String read, String pack, String factoryMethod) {
+            this.wrapper = wrapper;
+            this.read = read;
+            this.pack = pack;
+            this.factoryMethod = factoryMethod;
+        }
+
+        static FieldType of(TypeMirror type) {
+            for (FieldType fieldType : values()) {
+                if (fieldType.wrapper != null && (type.getKind().name().equals(fieldType.name()) ||
+                        type.toString().equals("java.lang." + fieldType.wrapper))) {
+                    return fieldType;
+                }
+            }
+            return OTHER;
+        }
+    }
+
+    private static final class EntityField {
+        private final String formatName;
+        private final int position;
+        private final TypeMirror type;
+        private final FieldType fieldType;
+        private String getter;
+        private String setter;
+
+        EntityField(String formatName, int position, TypeMirror type) {
+            this.formatName = formatName;
+            this.position = position;
+            this.type = type;
+            this.fieldType = FieldType.of(type);
+        }
+
+        boolean isPrimitive() {
+            return type.getKind().isPrimitive();
+        }
+    }
+
+    private final class ConverterWriter {
+        private final PrintWriter out;
+        private final String packageName;
+        private final String converterName;
+        private final String entityName;
+        private final List<EntityField> fields;
+
+        ConverterWriter(PrintWriter out, String packageName, String converterName, String entityName,
+                        List<EntityField> fields) {
+            this.out = out;
+            this.packageName = packageName;
+            this.converterName = converterName;
+            this.entityName = entityName;
+            this.fields = fields;
+        }
+
+        void write() {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Converter between {@link " + entityName + "} and tuples, generated by " +
+                    TupleConverterProcessor.class.getSimpleName());
+            out.println(" */");
+            out.println("public final class " + converterName + " extends " +
+                    MAPPERS + ".entity.AbstractTupleConverter<" + entityName + "> {");
+            out.println();
+            out.println("    private static final long serialVersionUID = 1L;");
+            out.println();
+            writeMetadata();
+            writeConstructors();
+            out.println("    @Override");
+            out.println("    protected " + entityName + " newEntity() {");
+            out.println("        return new " + entityName + "();");
+            out.println("    }");
+            out.println();
+            writeReadField();
+            writeFieldToValue();
+            writeWriteField();
+            writeFactory();
+            out.println("}");
+        }
+
+        private void writeMetadata() {
+            StringBuilder names = new StringBuilder();
+            StringBuilder positions = new StringBuilder();
+            for (EntityField field : fields) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                    positions.append(", ");
+                }
+                names.append('"').append(field.formatName.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+                positions.append(field.position);
+            }
+            out.println("    private static final String[] FIELD_NAMES = {" + names + "};");
+            out.println("    private static final int[] FIELD_POSITIONS = {" + positions + "};");
+            out.println();
+        }
+
+        private void writeConstructors() {
+            out.println("    public " + converterName + "(" + MAPPERS + ".MessagePackMapper mapper) {");
+            out.println("        this(mapper, null);");
+            out.println("    }");
+            out.println();
+            out.println("    public " + converterName + "(" + MAPPERS + ".MessagePackMapper mapper,");
+            out.println("            io.tarantool.driver.api.metadata.TarantoolSpaceMetadata metadata) {");
+            out.println("        super(" + entityName + ".class, mapper, metadata, FIELD_NAMES, FIELD_POSITIONS);");
+            out.println("    }");
+            out.println();
+        }
+
+        private void writeReadField() {
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    protected void readField(" + entityName + " entity, int field, " + VALUE + " value) {");
+            out.println("        switch (field) {");
+            for (int i = 0; i < fields.size(); i++) {
+                EntityField field = fields.get(i);
+                String read = field.fieldType == FieldType.OTHER ?
+                        "mapper.fromValue(value, " + classLiteral(field) + ")" : field.fieldType.read;
+                out.println("            case " + i + ":");
+                if (field.isPrimitive()) {
+                    out.println("                if (!value.isNilValue()) {");
+                    out.println("                    " + String.format(field.setter, read));
+                    out.println("                }");
+                } else {
+                    String nullable = "value.isNilValue() ? null : " + read;
+                    out.println("                " + String.format(field.setter, nullable));
+                }
+                out.println("                break;");
+            }
+            out.println("            default:");
+            out.println("                throw new IndexOutOfBoundsException(\"Field index: \" + field);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+        }
+
+        private void writeFieldToValue() {
+            out.println("    @Override");
+            out.println("    protected " + VALUE + " fieldToValue(" + entityName + " entity, int field) {");
+            out.println("        switch (field) {");
+            for (int i = 0; i < fields.size(); i++) {
+                EntityField field = fields.get(i);
+                out.println("            case " + i + ": {");
+                if (field.fieldType == FieldType.OTHER) {
+                    out.println("                return mapper.toValue(" + field.getter + ");");
+                } else if (field.isPrimitive()) {
+                    out.println("                return " + VALUE_FACTORY + "." + field.fieldType.factoryMethod +
+                            "(" + field.getter + ");");
+                } else {
+                    out.println("                java.lang." + field.fieldType.wrapper + " fieldValue = " +
+                            field.getter + ";");
+                    out.println("                return fieldValue == null ? " + VALUE_FACTORY + ".newNil() : " +
+                            VALUE_FACTORY + "." + field.fieldType.factoryMethod + "(fieldValue);");
+                }
+                out.println("            }");
+            }
+            out.println("            default:");
+            out.println("                throw new IndexOutOfBoundsException(\"Field index: \" + field);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+        }
+
+        private void writeWriteField() {
+            out.println("    @Override");
+            out.println("    protected void writeField(org.msgpack.core.MessagePacker packer, " + entityName +
+                    " entity, int field) throws java.io.IOException {");
+            out.println("        switch (field) {");
+            for (int i = 0; i < fields.size(); i++) {
+                EntityField field = fields.get(i);
+                out.println("            case " + i + ": {");
+                if (field.fieldType == FieldType.OTHER) {
+                    out.println("                mapper.write(packer, " + field.getter + ");");
+                } else if (field.isPrimitive()) {
+                    out.println("                packer." + field.fieldType.pack + "(" + field.getter + ");");
+                } else {
+                    out.println("                java.lang." + field.fieldType.wrapper + " fieldValue = " +
+                            field.getter + ";");
+                    out.println("                if (fieldValue == null) {");
+                    out.println("                    packer.packNil();");
+                    out.println("                } else {");
+                    out.println("                    packer." + field.fieldType.pack + "(fieldValue);");
+                    out.println("                }");
+                }
+                out.println("                break;");
+                out.println("            }");
+            }
+            out.println("            default:");
+            out.println("                throw new IndexOutOfBoundsException(\"Field index: \" + field);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+        }
+
+        private void writeFactory() {
+            out.println("    /**");
+            out.println("     * Factory of the converter instances, registered as a service");
+            out.println("     */");
+            out.println("    public static final class Factory");
+            out.println("            implements " + MAPPERS + ".entity.TupleConverterFactory<" + entityName + "> {");
+            out.println();
+            out.println("        @Override");
+            out.println("        public Class<" + entityName + "> getEntityClass() {");
+            out.println("            return " + entityName + ".class;");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public " + converterName + " create(" + MAPPERS + ".MessagePackMapper mapper,");
+            out.println("                io.tarantool.driver.api.metadata.TarantoolSpaceMetadata metadata) {");
+            out.println("            return new " + converterName + "(mapper, metadata);");
+            out.println("        }");
+            out.println("    }");
+        }
+
+        private String classLiteral(EntityField field) {
+            TypeMirror type = field.type;
+            if (type.getKind().isPrimitive()) {
+                type = processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType();
+            }
+            return processingEnv.getTypeUtils().erasure(type) + ".class";
+        }
+    }
+
+    private static final class InvalidEntityException extends Exception {
+        private static final long serialVersionUID = 20221019L;
+
+        private final transient Element element;
+
+        InvalidEntityException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
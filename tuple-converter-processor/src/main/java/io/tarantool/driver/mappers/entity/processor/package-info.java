@@ -0,0 +1,4 @@
+/**
+ * Contains the annotation processor generating tuple converters
+ */
+package io.tarantool.driver.mappers.entity.processor;
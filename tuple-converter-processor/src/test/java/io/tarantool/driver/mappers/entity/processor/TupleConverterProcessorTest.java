@@ -0,0 +1,200 @@
+package io.tarantool.driver.mappers.entity.processor;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.TarantoolSpaceMetadataConverter;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.entity.AbstractTupleConverter;
+import io.tarantool.driver.mappers.entity.TupleConverter;
+import io.tarantool.driver.mappers.entity.TupleEntity;
+import io.tarantool.driver.mappers.entity.TupleField;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TupleConverterProcessorTest {
+
+    private final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @TupleEntity
+    static class Book {
+        @TupleField(position = 0)
+        Integer id;
+        @TupleField(position = 2)
+        String name;
+        @TupleField(position = 3)
+        long year;
+        @TupleField(position = 4)
+        private boolean available;
+        @TupleField(position = 5)
+        List<String> tags;
+        @TupleField(position = 6)
+        Double price;
+
+        int notMapped;
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public void setAvailable(boolean available) {
+            this.available = available;
+        }
+    }
+
+    @TupleEntity
+    static class Row {
+        @TupleField(name = "third")
+        Double value;
+        @TupleField
+        String first;
+    }
+
+    private static Value field(String name, String type) {
+        return ValueFactory.newMap(
+                ValueFactory.newString("name"), ValueFactory.newString(name),
+                ValueFactory.newString("type"), ValueFactory.newString(type));
+    }
+
+    private byte[] write(TupleConverter<Book> converter, Book book) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        converter.write(packer, book);
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    private byte[] pack(ArrayValue value) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        packer.close();
+        return packer.toByteArray();
+    }
+
+    @Test
+    public void test_fromValue_shouldSetMappedFields() {
+        TupleConverter<Book> converter = new TupleConverterProcessorTest_BookTupleConverter(mapper);
+        ArrayValue tuple = ValueFactory.newArray(
+                ValueFactory.newInteger(1),
+                ValueFactory.newString("unused"),
+                ValueFactory.newString("Dune"),
+                ValueFactory.newInteger(1965),
+                ValueFactory.newBoolean(true),
+                ValueFactory.newArray(ValueFactory.newString("sf"), ValueFactory.newString("classic")),
+                ValueFactory.newNil());
+
+        Book book = converter.fromValue(tuple);
+
+        assertEquals(1, book.id);
+        assertEquals("Dune", book.name);
+        assertEquals(1965L, book.year);
+        assertEquals(true, book.isAvailable());
+        assertEquals(Arrays.asList("sf", "classic"), book.tags);
+        assertNull(book.price);
+    }
+
+    @Test
+    public void test_fromValue_shortTuple_shouldKeepDefaults() {
+        TupleConverter<Book> converter = new TupleConverterProcessorTest_BookTupleConverter(mapper);
+
+        Book book = converter.fromValue(ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newNil(),
+                ValueFactory.newNil(), ValueFactory.newNil()));
+
+        assertEquals(1, book.id);
+        assertNull(book.name);
+        assertEquals(0L, book.year);
+        assertFalse(book.isAvailable());
+    }
+
+    @Test
+    public void test_toValue_shouldFillGapsWithNil() throws IOException {
+        TupleConverter<Book> converter = new TupleConverterProcessorTest_BookTupleConverter(mapper);
+        Book book = new Book();
+        book.id = 2;
+        book.year = 2000;
+        book.setAvailable(true);
+        book.tags = Arrays.asList("a", "b");
+        book.price = 9.5;
+
+        ArrayValue tuple = converter.toValue(book);
+
+        assertEquals(ValueFactory.newArray(
+                ValueFactory.newInteger(2),
+                ValueFactory.newNil(),
+                ValueFactory.newNil(),
+                ValueFactory.newInteger(2000),
+                ValueFactory.newBoolean(true),
+                ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newString("b")),
+                ValueFactory.newFloat(9.5)), tuple);
+        assertArrayEquals(pack(tuple), write(converter, book));
+    }
+
+    @Test
+    public void test_fieldNames_shouldBeResolvedWithMetadata() {
+        TarantoolSpaceMetadata metadata = new TarantoolSpaceMetadataConverter(mapper).fromValue(ValueFactory.newArray(
+                ValueFactory.newInteger(512), ValueFactory.newInteger(1), ValueFactory.newString("test"),
+                ValueFactory.newArray(field("first", "string"), field("second", "number"), field("third", "number"))));
+        AbstractTupleConverter<Row> converter = new TupleConverterProcessorTest_RowTupleConverter(mapper, metadata);
+        assertEquals(2, converter.getFieldPosition(0));
+        assertEquals(0, converter.getFieldPosition(1));
+
+        Row row = converter.fromValue(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newInteger(1), ValueFactory.newFloat(1.5)));
+        assertEquals("a", row.first);
+        assertEquals(1.5, row.value);
+
+        AbstractTupleConverter<Row> withoutMetadata = new TupleConverterProcessorTest_RowTupleConverter(mapper);
+        assertEquals(0, withoutMetadata.getFieldPosition(0));
+        assertEquals(1, withoutMetadata.getFieldPosition(1));
+    }
+
+    @Test
+    public void test_withGeneratedTupleConverters_shouldRegisterConverters() {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper.Builder(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withGeneratedTupleConverters()
+                .build();
+        Book book = new Book();
+        book.id = 3;
+        book.name = "Solaris";
+
+        ArrayValue tuple = mapper.toValue(book);
+        Book converted = mapper.fromValue(tuple, Book.class);
+
+        assertEquals(ValueFactory.newString("Solaris"), tuple.get(2));
+        assertEquals(3, converted.id);
+        assertEquals("Solaris", converted.name);
+    }
+
+    @Test
+    public void test_withGeneratedTupleConverters_shouldNotConvertPlainArrays() {
+        DefaultMessagePackMapper mapper = new DefaultMessagePackMapper.Builder(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withGeneratedTupleConverters()
+                .build();
+        ArrayValue nested = ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("a")),
+                ValueFactory.newArray());
+
+        List<Object> list = mapper.fromValue(nested);
+        List<?> targeted = mapper.fromValue(nested, List.class);
+
+        List<Object> expected = Arrays.asList(Arrays.asList(1, "a"), Collections.emptyList());
+        assertEquals(expected, list);
+        assertEquals(expected, targeted);
+    }
+}